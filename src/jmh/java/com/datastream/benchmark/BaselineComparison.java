@@ -0,0 +1,121 @@
+package com.datastream.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files, typically the committed baseline and a fresh run.
+ *
+ * <p>Usage: {@code BaselineComparison <baseline.json> <current.json> [threshold-percent]}.
+ * Prints one line per benchmark and parameter combination with the primary score, its
+ * 99.9% error, and the normalized allocation rate ({@code gc.alloc.rate.norm}, bytes per
+ * operation) of both runs, followed by the benchmarks of the baseline the current run lacks.
+ * Exits with status 1 if any allocation rate grew by more than the threshold (default 10%),
+ * or any score got worse by more than the threshold and by more than the two runs' errors
+ * combined, so that a noisy benchmark does not fail on run-to-run variance. Time-based
+ * scores get worse when they grow, throughput when it shrinks.
+ */
+public final class BaselineComparison {
+
+    private static final String ALLOC_NORM = "gc.alloc.rate.norm";
+
+    private BaselineComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: BaselineComparison <baseline.json> <current.json> [threshold-percent]");
+            System.exit(2);
+        }
+        Map<String, Result> baseline = read(Path.of(args[0]));
+        Map<String, Result> current = read(Path.of(args[1]));
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+
+        boolean regressed = false;
+        System.out.printf("%-70s %22s %22s %8s %12s %12s%n",
+                "benchmark", "baseline", "current", "delta", "B/op base", "B/op now");
+        for (Map.Entry<String, Result> entry : new TreeMap<>(current).entrySet()) {
+            Result now = entry.getValue();
+            Result base = baseline.get(entry.getKey());
+            if (base == null) {
+                System.out.printf("%-70s %22s %22s %8s %12s %12.1f  (new)%n",
+                        entry.getKey(), "-", now.formatted(), "-", "-", now.allocNorm);
+                continue;
+            }
+            double delta = percent(base.score, now.score);
+            boolean slower = (now.higherIsBetter() ? -delta > threshold : delta > threshold)
+                    && !overlaps(base, now);
+            boolean allocates = percent(base.allocNorm, now.allocNorm) > threshold && now.allocNorm - base.allocNorm >= 1;
+            regressed |= slower || allocates;
+            System.out.printf("%-70s %22s %22s %7.1f%% %12.1f %12.1f %s%n",
+                    entry.getKey(), base.formatted(), now.formatted(), delta, base.allocNorm, now.allocNorm,
+                    slower || allocates ? " REGRESSION" : "");
+        }
+        for (String missing : new TreeMap<>(baseline).keySet()) {
+            if (!current.containsKey(missing)) {
+                System.out.printf("%-70s %22s %22s  (missing from current run)%n",
+                        missing, baseline.get(missing).formatted(), "-");
+            }
+        }
+        System.exit(regressed ? 1 : 0);
+    }
+
+    private static Map<String, Result> read(Path file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file.toFile())) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText().replace("com.datastream.benchmark.", ""));
+            run.path("params").fields().forEachRemaining(p -> key.append(' ').append(p.getKey()).append('=')
+                    .append(p.getValue().asText()));
+            JsonNode primary = run.path("primaryMetric");
+            results.put(key.toString(), new Result(
+                    run.path("mode").asText(),
+                    primary.path("score").asDouble(),
+                    errorOf(primary),
+                    allocNorm(run.path("secondaryMetrics"))));
+        }
+        return results;
+    }
+
+    private static double allocNorm(JsonNode secondary) {
+        // The key carries a leading separator character whose encoding varies between JMH versions.
+        var fields = secondary.fields();
+        while (fields.hasNext()) {
+            var field = fields.next();
+            if (field.getKey().endsWith(ALLOC_NORM)) {
+                return field.getValue().path("score").asDouble();
+            }
+        }
+        return Double.NaN;
+    }
+
+    /** JMH reports {@code NaN} as the error of a single measurement; it counts as none. */
+    private static double errorOf(JsonNode metric) {
+        double error = metric.path("scoreError").asDouble(0);
+        return Double.isNaN(error) ? 0 : error;
+    }
+
+    private static boolean overlaps(Result base, Result now) {
+        return Math.abs(now.score - base.score) <= base.error + now.error;
+    }
+
+    private static double percent(double base, double now) {
+        return base == 0 ? 0 : (now - base) / base * 100;
+    }
+
+    private record Result(String mode, double score, double error, double allocNorm) {
+
+        boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+
+        String formatted() {
+            return String.format("%.3f ± %.3f", score, error);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.datastream.benchmark;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.valueobjects.EventPayload;
+import com.datastream.domain.valueobjects.StreamId;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Fixed inputs shared by the benchmarks, so that every run maps the same bytes.
+ */
+final class BenchmarkData {
+
+    static final StreamId STREAM_ID = StreamId.of(UUID.fromString("6f1c1d5e-8f33-4d6a-9a2e-3b7d0c4e9a10"));
+    static final Instant TIMESTAMP = Instant.parse("2026-01-01T00:00:00.123456Z");
+    static final Map<String, String> METADATA = Map.of("source", "sensor-17", "region", "eu-west-1", "schema", "v2");
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Returns deterministic pseudo-random bytes.
+     *
+     * @param size number of bytes
+     * @return the bytes
+     */
+    static byte[] bytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * Returns an event with the shared stream, metadata and timestamp.
+     *
+     * @param payloadSize payload size in bytes
+     * @return the event
+     */
+    static DataEvent event(int payloadSize) {
+        return DataEvent.reconstitute(new UUID(1, payloadSize), STREAM_ID, EventPayload.of(bytes(payloadSize)),
+                METADATA, TIMESTAMP);
+    }
+}
@@ -0,0 +1,61 @@
+package com.datastream.benchmark;
+
+import com.datastream.application.dto.DataEventResponse;
+import com.datastream.application.mapper.DataEventResponseMapper;
+import com.datastream.domain.model.DataEvent;
+import com.datastream.infrastructure.persistence.blob.PayloadBlobStore;
+import com.datastream.infrastructure.persistence.entity.DataEventJpaEntity;
+import com.datastream.infrastructure.persistence.mapper.DataEventEntityMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Domain mapping on the publish and query paths: domain to JPA entity and back, and
+ * domain to the application-layer response DTO. Payloads stay inline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class DataEventMapperBenchmark {
+
+    @Param({"64", "4096", "65536"})
+    int payloadSize;
+
+    private DataEvent event;
+    private DataEventJpaEntity entity;
+
+    @Setup
+    public void setUp() {
+        event = BenchmarkData.event(payloadSize);
+        entity = DataEventEntityMapper.toJpaEntity(event, PayloadBlobStore.INLINE);
+    }
+
+    @Benchmark
+    public DataEventJpaEntity toJpaEntity() {
+        return DataEventEntityMapper.toJpaEntity(event, PayloadBlobStore.INLINE);
+    }
+
+    @Benchmark
+    public DataEvent toDomain() {
+        return DataEventEntityMapper.toDomain(entity, PayloadBlobStore.INLINE);
+    }
+
+    @Benchmark
+    public DataEventResponse toResponse() {
+        return DataEventResponseMapper.toResponse(event);
+    }
+}
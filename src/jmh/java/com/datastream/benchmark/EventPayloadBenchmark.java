@@ -0,0 +1,51 @@
+package com.datastream.benchmark;
+
+import com.datastream.domain.valueobjects.EventPayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the defensive copies made by {@link EventPayload}: one on construction and one
+ * on every {@link EventPayload#value()} call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class EventPayloadBenchmark {
+
+    @Param({"64", "4096", "65536"})
+    int payloadSize;
+
+    private byte[] bytes;
+    private EventPayload payload;
+
+    @Setup
+    public void setUp() {
+        bytes = BenchmarkData.bytes(payloadSize);
+        payload = EventPayload.of(bytes);
+    }
+
+    @Benchmark
+    public EventPayload construct() {
+        return EventPayload.of(bytes);
+    }
+
+    @Benchmark
+    public byte[] value() {
+        return payload.value();
+    }
+}
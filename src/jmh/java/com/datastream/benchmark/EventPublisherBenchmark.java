@@ -0,0 +1,75 @@
+package com.datastream.benchmark;
+
+import com.datastream.application.dto.DataEventResponse;
+import com.datastream.application.mapper.DataEventResponseMapper;
+import com.datastream.infrastructure.streaming.InMemoryStreamEventPublisher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fan-out cost of {@link InMemoryStreamEventPublisher#publish} for one event and a growing
+ * number of subscribers to its stream.
+ *
+ * <p>Each subscriber queue is drained as soon as it accepts an event, as if its consumer kept
+ * up, so every iteration measures successful offers rather than the drop path of full queues.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class EventPublisherBenchmark {
+
+    @Param({"1", "10", "100", "1000", "10000"})
+    int subscribers;
+
+    private InMemoryStreamEventPublisher publisher;
+    private DataEventResponse event;
+
+    @Setup
+    public void setUp() {
+        publisher = new InMemoryStreamEventPublisher();
+        event = DataEventResponseMapper.toResponse(BenchmarkData.event(256));
+        for (int i = 0; i < subscribers; i++) {
+            publisher.subscribe(event.streamId(), new DrainingQueue());
+        }
+        // A second stream, so the lookup is not against a single-entry map.
+        publisher.subscribe("other-stream", new DrainingQueue());
+    }
+
+    @Benchmark
+    public void publish() {
+        publisher.publish(event);
+    }
+
+    /**
+     * Bounded queue that removes every element it accepts, keeping the real
+     * {@link ArrayBlockingQueue} locking on the offer path.
+     */
+    private static final class DrainingQueue extends ArrayBlockingQueue<DataEventResponse> {
+
+        DrainingQueue() {
+            super(16);
+        }
+
+        @Override
+        public boolean offer(DataEventResponse e) {
+            boolean accepted = super.offer(e);
+            poll();
+            return accepted;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.datastream.benchmark;
+
+import com.datastream.application.dto.DataEventResponse;
+import com.datastream.application.dto.StreamResponse;
+import com.datastream.application.mapper.DataEventResponseMapper;
+import com.datastream.interfaces.grpc.StreamProtoMapper;
+import com.datastream.interfaces.grpc.proto.DataEvent;
+import com.datastream.interfaces.grpc.proto.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DTO to protobuf mapping done for every event delivered to a subscriber and for every
+ * stream returned by the stream RPCs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class ProtoMapperBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class EventState {
+
+        @Param({"64", "4096", "65536"})
+        int payloadSize;
+
+        DataEventResponse response;
+
+        @Setup
+        public void setUp() {
+            response = DataEventResponseMapper.toResponse(BenchmarkData.event(payloadSize));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class StreamState {
+
+        final StreamResponse response = new StreamResponse(
+                BenchmarkData.STREAM_ID.value().toString(),
+                "sensor-readings",
+                "Temperature readings from the EU fleet",
+                "0b9e7c4a-1f3d-4a8e-9c61-5d2f7e8a4b90",
+                "METRIC",
+                "ACTIVE",
+                "2026-01-01T00:00:00Z",
+                "2026-01-02T12:30:00.5Z");
+    }
+
+    @Benchmark
+    public DataEvent toProtoDataEvent(EventState state) {
+        return StreamProtoMapper.toProtoDataEvent(state.response);
+    }
+
+    @Benchmark
+    public Stream toProtoStream(StreamState state) {
+        return StreamProtoMapper.toProtoStream(state.response);
+    }
+}
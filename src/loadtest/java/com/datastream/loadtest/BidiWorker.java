@@ -0,0 +1,117 @@
+package com.datastream.loadtest;
+
+import com.datastream.interfaces.grpc.proto.DataEvent;
+import com.datastream.interfaces.grpc.proto.StreamServiceGrpc;
+import com.google.protobuf.ByteString;
+import io.grpc.stub.StreamObserver;
+
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes through one long-lived {@code StreamBidirectional} call, rotating events over the
+ * streams. Each event is timed until the server echoes it back.
+ *
+ * <p>At most {@code maxInFlight} events are unacknowledged at a time; when the call fails, its
+ * unacknowledged events are counted as failed and a new call is opened.
+ */
+final class BidiWorker implements Runnable {
+
+    private static final long ACK_POLL_MILLIS = 100;
+    private static final long DRAIN_TIMEOUT_SECONDS = 30;
+
+    private final StreamServiceGrpc.StreamServiceStub stub;
+    private final List<String> streamIds;
+    private final int maxInFlight;
+    private final ByteString payload;
+    private final Pacer pacer;
+    private final LoadMetrics metrics;
+    private int nextStream;
+
+    BidiWorker(StreamServiceGrpc.StreamServiceStub stub, List<String> streamIds, int firstStream,
+               int maxInFlight, ByteString payload, Pacer pacer, LoadMetrics metrics) {
+        this.stub = stub;
+        this.streamIds = streamIds;
+        this.nextStream = firstStream;
+        this.maxInFlight = maxInFlight;
+        this.payload = payload;
+        this.pacer = pacer;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (metrics.sending()) {
+                runCall();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runCall() throws InterruptedException {
+        Call call = new Call();
+        while (metrics.sending()) {
+            long stamp = pacer.next();
+            if (!metrics.sending()) {
+                break;
+            }
+            while (!call.inFlight.tryAcquire(ACK_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (call.failed) {
+                    return;
+                }
+            }
+            if (call.failed) {
+                // Nothing was sent for this stamp; it was never in flight
+                return;
+            }
+            call.requests.onNext(DataEvent.newBuilder()
+                    .setStreamId(streamIds.get(nextStream++ % streamIds.size()))
+                    .setPayload(payload)
+                    .putMetadata(LoadMetrics.SENT_NANOS, Long.toString(stamp))
+                    .build());
+        }
+        call.requests.onCompleted();
+        if (!call.inFlight.tryAcquire(maxInFlight, DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            call.requests.onError(new IllegalStateException("acknowledgements timed out"));
+        }
+    }
+
+    /** One {@code StreamBidirectional} call and its acknowledgement window. */
+    private final class Call implements StreamObserver<DataEvent> {
+
+        final Semaphore inFlight = new Semaphore(maxInFlight);
+        final StreamObserver<DataEvent> requests;
+        volatile boolean failed;
+
+        Call() {
+            this.requests = stub.streamBidirectional(this);
+        }
+
+        @Override
+        public void onNext(DataEvent echoed) {
+            metrics.acknowledged(LoadMetrics.sentNanos(echoed.getMetadataMap()), System.nanoTime());
+            inFlight.release();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            // Unacknowledged events are lost. Their send times are not kept, so they count as
+            // failed once the measurement window has opened.
+            int lost = maxInFlight - inFlight.availablePermits();
+            if (System.nanoTime() >= metrics.windowStart()) {
+                metrics.failed.add(lost);
+                metrics.sent.add(lost);
+            }
+            failed = true;
+            inFlight.release(lost);
+        }
+
+        @Override
+        public void onCompleted() {
+            // Every event has been echoed
+        }
+    }
+}
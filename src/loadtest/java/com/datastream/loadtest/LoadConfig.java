@@ -0,0 +1,96 @@
+package com.datastream.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Load generator settings, parsed from {@code --name=value} arguments.
+ *
+ * @param target            {@code in-process} to start the server in this JVM with the {@code memory}
+ *                          profile, or {@code host:port} of a running server (plaintext)
+ * @param streams           number of streams to create and spread the load over
+ * @param publishers        concurrent {@code PublishToStream} (client-streaming) callers
+ * @param bidiPublishers    concurrent {@code StreamBidirectional} callers
+ * @param subscribers       {@code SubscribeToStream} calls per stream
+ * @param rate              target events per second across all publishers; 0 means as fast as possible
+ * @param payloadBytes      payload size of each event
+ * @param batchSize         events sent per {@code PublishToStream} call
+ * @param maxInFlight       unacknowledged events allowed per {@code StreamBidirectional} call
+ * @param warmup            period whose measurements are discarded
+ * @param duration          measured period
+ * @param drain             time allowed after publishing stops for deliveries to arrive
+ * @param output            file the JSON report is written to
+ */
+record LoadConfig(
+        String target,
+        int streams,
+        int publishers,
+        int bidiPublishers,
+        int subscribers,
+        int rate,
+        int payloadBytes,
+        int batchSize,
+        int maxInFlight,
+        Duration warmup,
+        Duration duration,
+        Duration drain,
+        Path output) {
+
+    static final String IN_PROCESS = "in-process";
+
+    LoadConfig {
+        if (streams <= 0) throw new IllegalArgumentException("--streams must be > 0");
+        if (publishers < 0 || bidiPublishers < 0 || publishers + bidiPublishers == 0) {
+            throw new IllegalArgumentException("--publishers and --bidi-publishers must be >= 0 and not both 0");
+        }
+        if (subscribers < 0) throw new IllegalArgumentException("--subscribers must be >= 0");
+        if (rate < 0) throw new IllegalArgumentException("--rate must be >= 0");
+        if (payloadBytes < 0) throw new IllegalArgumentException("--payload-bytes must be >= 0");
+        if (batchSize <= 0) throw new IllegalArgumentException("--batch-size must be > 0");
+        if (maxInFlight <= 0) throw new IllegalArgumentException("--max-in-flight must be > 0");
+        if (duration.isZero() || duration.isNegative()) throw new IllegalArgumentException("--duration must be > 0");
+    }
+
+    /**
+     * Parses {@code --name=value} arguments; every setting has a default.
+     *
+     * @param args command-line arguments
+     * @return the configuration
+     * @throws IllegalArgumentException on an unknown or invalid argument
+     */
+    static LoadConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        LoadConfig config = new LoadConfig(
+                take(values, "target", IN_PROCESS),
+                Integer.parseInt(take(values, "streams", "10")),
+                Integer.parseInt(take(values, "publishers", "4")),
+                Integer.parseInt(take(values, "bidi-publishers", "4")),
+                Integer.parseInt(take(values, "subscribers", "2")),
+                Integer.parseInt(take(values, "rate", "0")),
+                Integer.parseInt(take(values, "payload-bytes", "256")),
+                Integer.parseInt(take(values, "batch-size", "100")),
+                Integer.parseInt(take(values, "max-in-flight", "256")),
+                Duration.parse(take(values, "warmup", "PT5S")),
+                Duration.parse(take(values, "duration", "PT30S")),
+                Duration.parse(take(values, "drain", "PT2S")),
+                Path.of(take(values, "output", "target/loadtest-result.json")));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown argument(s): " + values.keySet());
+        }
+        return config;
+    }
+
+    private static String take(Map<String, String> values, String name, String defaultValue) {
+        String value = values.remove(name);
+        return value == null ? defaultValue : value;
+    }
+}
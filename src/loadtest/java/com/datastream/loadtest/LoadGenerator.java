@@ -0,0 +1,186 @@
+package com.datastream.loadtest;
+
+import com.datastream.DatastreamApiApplication;
+import com.datastream.interfaces.grpc.proto.CreateStreamRequest;
+import com.datastream.interfaces.grpc.proto.StreamServiceGrpc;
+import com.datastream.interfaces.grpc.proto.StreamStatus;
+import com.datastream.interfaces.grpc.proto.StreamType;
+import com.datastream.interfaces.grpc.proto.UpdateStreamRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.protobuf.ByteString;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end load generator for the gRPC API.
+ *
+ * <p>Creates and activates {@code --streams} streams, opens {@code --subscribers}
+ * {@code SubscribeToStream} calls on each, and then drives {@code --publishers}
+ * {@code PublishToStream} and {@code --bidi-publishers} {@code StreamBidirectional} workers over
+ * them for the warmup and the measured duration. After a drain period it writes a
+ * {@link LoadReport} with throughput, dropped deliveries and HdrHistogram latency percentiles.
+ *
+ * <p>With the default {@code --target=in-process}, the application is started in this JVM with
+ * the {@code memory} profile and reached over the in-process transport, so no database or
+ * network is involved; client and server then share the CPUs. Any other target is a
+ * {@code host:port} reached over plaintext, normally a server on the loopback interface.
+ *
+ * <p>Run with {@code mvn -Ploadtest -DskipTests integration-test -Dloadtest.args="..."};
+ * see {@code docs/loadtest.md}.
+ */
+public final class LoadGenerator {
+
+    private static final String IN_PROCESS_NAME = "loadtest";
+    private static final long SHUTDOWN_SECONDS = 10;
+
+    private LoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadConfig config = LoadConfig.parse(args);
+        LoadReport report;
+        try (ConfigurableApplicationContext server = startServer(config)) {
+            ManagedChannel channel = openChannel(config);
+            try {
+                report = run(config, channel);
+            } finally {
+                channel.shutdownNow().awaitTermination(SHUTDOWN_SECONDS, TimeUnit.SECONDS);
+            }
+        }
+        write(config, report);
+    }
+
+    static LoadReport run(LoadConfig config, ManagedChannel channel) throws InterruptedException {
+        StreamServiceGrpc.StreamServiceBlockingStub blocking = StreamServiceGrpc.newBlockingStub(channel);
+        StreamServiceGrpc.StreamServiceStub async = StreamServiceGrpc.newStub(channel);
+        List<String> streamIds = createStreams(blocking, config.streams());
+
+        long start = System.nanoTime();
+        long windowStart = start + config.warmup().toNanos();
+        LoadMetrics metrics = new LoadMetrics(windowStart, windowStart + config.duration().toNanos());
+
+        List<Subscription> subscriptions = new ArrayList<>();
+        for (String streamId : streamIds) {
+            for (int i = 0; i < config.subscribers(); i++) {
+                subscriptions.add(Subscription.open(async, streamId, metrics));
+            }
+        }
+
+        ByteString payload = randomPayload(config.payloadBytes());
+        int workers = config.publishers() + config.bidiPublishers();
+        double ratePerWorker = (double) config.rate() / workers;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.publishers(); i++) {
+                executor.execute(new PublishWorker(async, streamIds, i, config.batchSize(), payload,
+                        new Pacer(ratePerWorker), metrics));
+            }
+            for (int i = 0; i < config.bidiPublishers(); i++) {
+                executor.execute(new BidiWorker(async, streamIds, config.publishers() + i, config.maxInFlight(),
+                        payload, new Pacer(ratePerWorker), metrics));
+            }
+        }
+
+        // Wait for deliveries still queued on the server before counting the rest as dropped
+        long expectedPerEvent = config.subscribers();
+        long drainEnd = System.nanoTime() + config.drain().toNanos();
+        while (metrics.delivered.sum() < metrics.accepted.sum() * expectedPerEvent && System.nanoTime() < drainEnd) {
+            Thread.sleep(50);
+        }
+        subscriptions.forEach(Subscription::close);
+
+        return report(config, metrics, subscriptions.size());
+    }
+
+    private static LoadReport report(LoadConfig config, LoadMetrics metrics, int subscriptions) {
+        double seconds = config.duration().toNanos() / 1e9;
+        long accepted = metrics.accepted.sum();
+        long expected = accepted * config.subscribers();
+        long received = metrics.delivered.sum();
+        return new LoadReport(
+                LoadReport.Settings.of(config),
+                seconds,
+                new LoadReport.Publish(metrics.sent.sum(), accepted, metrics.failed.sum(), accepted / seconds),
+                new LoadReport.Delivery(subscriptions, expected, received, Math.max(0, expected - received),
+                        metrics.subscriptionErrors.sum(), received / seconds),
+                new LoadReport.Latencies(
+                        LoadReport.Latency.of(metrics.deliveryLatency),
+                        LoadReport.Latency.of(metrics.bidiAckLatency),
+                        LoadReport.Latency.of(metrics.publishCallLatency)));
+    }
+
+    // -------------------------------------------------------------------------
+    // Setup
+    // -------------------------------------------------------------------------
+
+    private static ConfigurableApplicationContext startServer(LoadConfig config) {
+        if (!LoadConfig.IN_PROCESS.equals(config.target())) {
+            return null;
+        }
+        // Passed as arguments so they take precedence over application.yml
+        return new SpringApplicationBuilder(DatastreamApiApplication.class).run(
+                "--spring.profiles.active=memory",
+                "--grpc.server.port=-1",
+                "--grpc.server.in-process-name=" + IN_PROCESS_NAME,
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--logging.level.com.datastream=WARN");
+    }
+
+    private static ManagedChannel openChannel(LoadConfig config) {
+        if (LoadConfig.IN_PROCESS.equals(config.target())) {
+            return InProcessChannelBuilder.forName(IN_PROCESS_NAME).directExecutor().build();
+        }
+        return ManagedChannelBuilder.forTarget(config.target()).usePlaintext().build();
+    }
+
+    private static List<String> createStreams(StreamServiceGrpc.StreamServiceBlockingStub stub, int count) {
+        String owner = UUID.randomUUID().toString();
+        String run = owner.substring(0, 8);
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String id = stub.createStream(CreateStreamRequest.newBuilder()
+                            .setName("loadtest-" + run + "-" + i)
+                            .setDescription("Created by the load generator")
+                            .setOwnerId(owner)
+                            .setStreamType(StreamType.STREAM_TYPE_EVENT)
+                            .build())
+                    .getStream().getId();
+            stub.updateStream(UpdateStreamRequest.newBuilder()
+                    .setId(id)
+                    .setStatus(StreamStatus.STREAM_STATUS_ACTIVE)
+                    .build());
+            ids.add(id);
+        }
+        return List.copyOf(ids);
+    }
+
+    private static ByteString randomPayload(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return ByteString.copyFrom(bytes);
+    }
+
+    private static void write(LoadConfig config, LoadReport report) throws IOException {
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        if (config.output().getParent() != null) {
+            Files.createDirectories(config.output().getParent());
+        }
+        mapper.writeValue(config.output().toFile(), report);
+        System.out.println(mapper.writeValueAsString(report));
+        System.out.println("Report written to " + config.output().toAbsolutePath());
+    }
+}
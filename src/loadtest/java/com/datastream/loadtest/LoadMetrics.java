@@ -0,0 +1,110 @@
+package com.datastream.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histograms shared by all workers of one run.
+ *
+ * <p>Every event carries the {@link System#nanoTime()} at which it was scheduled to be sent
+ * in its {@value #SENT_NANOS} metadata entry. Only events scheduled inside the measurement
+ * window, which starts after the warmup, are counted and recorded; deliveries of those events
+ * that arrive after the window closes still count. Latencies are taken from the scheduled send
+ * time rather than the actual one, so a stalled publisher does not hide the events it failed
+ * to send on time (coordinated omission).
+ *
+ * <p>Recording is wait-free: counters are {@link LongAdder}s and histograms are
+ * {@link ConcurrentHistogram}s, which resize themselves instead of capping the range.
+ */
+final class LoadMetrics {
+
+    /** Metadata key carrying the scheduled send time of an event, in {@link System#nanoTime()} units. */
+    static final String SENT_NANOS = "lt-sent-nanos";
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final long windowStart;
+    private final long windowEnd;
+
+    final LongAdder sent = new LongAdder();
+    final LongAdder accepted = new LongAdder();
+    final LongAdder failed = new LongAdder();
+    final LongAdder delivered = new LongAdder();
+    final LongAdder subscriptionErrors = new LongAdder();
+
+    final Histogram deliveryLatency = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    final Histogram bidiAckLatency = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    final Histogram publishCallLatency = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+
+    LoadMetrics(long windowStart, long windowEnd) {
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+    }
+
+    /** Returns {@code true} while events may still be scheduled. */
+    boolean sending() {
+        return System.nanoTime() < windowEnd;
+    }
+
+    /** Returns {@code true} if an event scheduled at {@code sentNanos} is measured. */
+    boolean inWindow(long sentNanos) {
+        return sentNanos >= windowStart && sentNanos < windowEnd;
+    }
+
+    long windowStart() {
+        return windowStart;
+    }
+
+    long windowEnd() {
+        return windowEnd;
+    }
+
+    /**
+     * Counts a published event whose outcome is known.
+     *
+     * @param sentNanos scheduled send time
+     * @param ok        {@code true} if the server accepted it
+     */
+    void published(long sentNanos, boolean ok) {
+        if (inWindow(sentNanos)) {
+            sent.increment();
+            (ok ? accepted : failed).increment();
+        }
+    }
+
+    /** Records an event echoed back on a {@code StreamBidirectional} call. */
+    void acknowledged(long sentNanos, long receivedNanos) {
+        published(sentNanos, true);
+        if (inWindow(sentNanos)) {
+            bidiAckLatency.recordValue(Math.max(0, receivedNanos - sentNanos));
+        }
+    }
+
+    /** Records a completed {@code PublishToStream} call, timed from its first scheduled event. */
+    void publishCall(long firstSentNanos, long completedNanos) {
+        if (inWindow(firstSentNanos)) {
+            publishCallLatency.recordValue(Math.max(0, completedNanos - firstSentNanos));
+        }
+    }
+
+    /** Records an event received by a subscriber; events without a send time are ignored. */
+    void delivered(Map<String, String> metadata, long receivedNanos) {
+        String stamp = metadata.get(SENT_NANOS);
+        if (stamp == null) {
+            return;
+        }
+        long sentNanos = Long.parseLong(stamp);
+        if (inWindow(sentNanos)) {
+            delivered.increment();
+            deliveryLatency.recordValue(Math.max(0, receivedNanos - sentNanos));
+        }
+    }
+
+    /** Extracts the scheduled send time of an echoed event. */
+    static long sentNanos(Map<String, String> metadata) {
+        return Long.parseLong(metadata.getOrDefault(SENT_NANOS, "0"));
+    }
+}
@@ -0,0 +1,76 @@
+package com.datastream.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Result of one run, written as JSON. Counts cover only events scheduled inside the
+ * measurement window; latencies are in microseconds.
+ *
+ * @param settings        the configuration the run used
+ * @param measuredSeconds length of the measurement window
+ * @param publish         publishing outcome across both publish RPCs
+ * @param delivery        subscriber outcome
+ * @param latency         latency distributions
+ */
+record LoadReport(Settings settings, double measuredSeconds, Publish publish, Delivery delivery, Latencies latency) {
+
+    /** The run configuration, flattened to plain values. */
+    record Settings(String target, int streams, int publishers, int bidiPublishers, int subscribers, int rate,
+                    int payloadBytes, int batchSize, int maxInFlight, String warmup, String duration, String drain) {
+
+        static Settings of(LoadConfig config) {
+            return new Settings(config.target(), config.streams(), config.publishers(), config.bidiPublishers(),
+                    config.subscribers(), config.rate(), config.payloadBytes(), config.batchSize(),
+                    config.maxInFlight(), config.warmup().toString(), config.duration().toString(),
+                    config.drain().toString());
+        }
+    }
+
+    /**
+     * @param sent            events scheduled in the window whose outcome is known
+     * @param accepted        events the server stored
+     * @param failed          events rejected or lost with their call
+     * @param eventsPerSecond accepted events per second
+     */
+    record Publish(long sent, long accepted, long failed, double eventsPerSecond) {
+    }
+
+    /**
+     * @param subscriptions      open subscriptions across all streams
+     * @param expected           accepted events times subscriptions per stream
+     * @param received           measured events received by subscribers
+     * @param dropped            expected events that never arrived, e.g. dropped on a full
+     *                           subscriber queue; never negative
+     * @param subscriptionErrors subscriptions the server ended with an error
+     * @param eventsPerSecond    received events per second
+     */
+    record Delivery(int subscriptions, long expected, long received, long dropped, long subscriptionErrors,
+                    double eventsPerSecond) {
+    }
+
+    /**
+     * @param delivery    scheduled send to receipt by a subscriber
+     * @param bidiAck     scheduled send to echo on {@code StreamBidirectional}
+     * @param publishCall first scheduled event to response on {@code PublishToStream}
+     */
+    record Latencies(Latency delivery, Latency bidiAck, Latency publishCall) {
+    }
+
+    /** Percentiles of one histogram recorded in nanoseconds, in microseconds. */
+    record Latency(long count, double mean, double p50, double p90, double p99, double p999, double max) {
+
+        static Latency of(Histogram nanos) {
+            return new Latency(nanos.getTotalCount(),
+                    micros(nanos.getMean()),
+                    micros(nanos.getValueAtPercentile(50)),
+                    micros(nanos.getValueAtPercentile(90)),
+                    micros(nanos.getValueAtPercentile(99)),
+                    micros(nanos.getValueAtPercentile(99.9)),
+                    micros(nanos.getMaxValue()));
+        }
+
+        private static double micros(double nanos) {
+            return Math.round(nanos / 100.0) / 10.0;
+        }
+    }
+}
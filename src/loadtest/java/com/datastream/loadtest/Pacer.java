@@ -0,0 +1,42 @@
+package com.datastream.loadtest;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Schedules the send times of one publisher.
+ *
+ * <p>With a rate, send times are fixed in advance at equal intervals and {@link #next()} waits
+ * for each one; a publisher that falls behind gets past send times back and catches up without
+ * waiting, so its latencies include the delay. Without a rate, every event is due immediately.
+ */
+final class Pacer {
+
+    private final long intervalNanos;
+    private long next;
+
+    /**
+     * @param eventsPerSecond this publisher's share of the target rate; 0 for unbounded
+     */
+    Pacer(double eventsPerSecond) {
+        this.intervalNanos = eventsPerSecond > 0 ? Math.max(1, (long) (1_000_000_000L / eventsPerSecond)) : 0;
+        this.next = System.nanoTime();
+    }
+
+    /**
+     * Waits until the next event is due.
+     *
+     * @return the scheduled send time, in {@link System#nanoTime()} units
+     */
+    long next() {
+        if (intervalNanos == 0) {
+            return System.nanoTime();
+        }
+        long due = next;
+        next += intervalNanos;
+        long wait;
+        while ((wait = due - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(wait);
+        }
+        return due;
+    }
+}
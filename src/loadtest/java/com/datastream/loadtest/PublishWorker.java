@@ -0,0 +1,119 @@
+package com.datastream.loadtest;
+
+import com.datastream.interfaces.grpc.proto.PublishToStreamRequest;
+import com.datastream.interfaces.grpc.proto.PublishToStreamResponse;
+import com.datastream.interfaces.grpc.proto.StreamServiceGrpc;
+import com.google.protobuf.ByteString;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Publishes through {@code PublishToStream}: each call sends up to {@code batchSize} events to
+ * one stream, then closes and waits for the accepted count. Calls rotate over the streams.
+ *
+ * <p>The worker only writes while the call is ready, so the client never buffers more than the
+ * transport's flow-control window. The call is timed from its first scheduled event to the
+ * server's response.
+ */
+final class PublishWorker implements Runnable {
+
+    private static final long RESPONSE_TIMEOUT_SECONDS = 30;
+
+    private final StreamServiceGrpc.StreamServiceStub stub;
+    private final List<String> streamIds;
+    private final int batchSize;
+    private final ByteString payload;
+    private final Pacer pacer;
+    private final LoadMetrics metrics;
+    private final long[] stamps;
+    private int nextStream;
+
+    PublishWorker(StreamServiceGrpc.StreamServiceStub stub, List<String> streamIds, int firstStream,
+                  int batchSize, ByteString payload, Pacer pacer, LoadMetrics metrics) {
+        this.stub = stub;
+        this.streamIds = streamIds;
+        this.nextStream = firstStream;
+        this.batchSize = batchSize;
+        this.payload = payload;
+        this.pacer = pacer;
+        this.metrics = metrics;
+        this.stamps = new long[batchSize];
+    }
+
+    @Override
+    public void run() {
+        while (metrics.sending()) {
+            String streamId = streamIds.get(nextStream++ % streamIds.size());
+            CompletableFuture<PublishToStreamResponse> response = new CompletableFuture<>();
+            ClientCallStreamObserver<PublishToStreamRequest> call =
+                    (ClientCallStreamObserver<PublishToStreamRequest>) stub.publishToStream(completing(response));
+
+            int count = 0;
+            while (count < batchSize) {
+                long stamp = pacer.next();
+                if (!metrics.sending() || response.isDone()) {
+                    break;
+                }
+                while (!call.isReady() && !response.isDone()) {
+                    LockSupport.parkNanos(20_000);
+                }
+                call.onNext(PublishToStreamRequest.newBuilder()
+                        .setStreamId(streamId)
+                        .setPayload(payload)
+                        .putMetadata(LoadMetrics.SENT_NANOS, Long.toString(stamp))
+                        .build());
+                stamps[count++] = stamp;
+            }
+            if (count == 0) {
+                call.cancel("load test finished", null);
+                return;
+            }
+            call.onCompleted();
+            complete(response, count);
+        }
+    }
+
+    private void complete(CompletableFuture<PublishToStreamResponse> response, int count) {
+        boolean ok;
+        try {
+            ok = response.get(RESPONSE_TIMEOUT_SECONDS, TimeUnit.SECONDS).getEventsAccepted() == count;
+            metrics.publishCall(stamps[0], System.nanoTime());
+        } catch (ExecutionException | TimeoutException e) {
+            ok = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ok = false;
+        }
+        // A failed call may have stored some of its events; they all count as failed.
+        for (int i = 0; i < count; i++) {
+            metrics.published(stamps[i], ok);
+        }
+    }
+
+    private static StreamObserver<PublishToStreamResponse> completing(
+            CompletableFuture<PublishToStreamResponse> response) {
+        return new StreamObserver<>() {
+            @Override
+            public void onNext(PublishToStreamResponse value) {
+                response.complete(value);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                response.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                // The response was already taken in onNext
+            }
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.datastream.loadtest;
+
+import com.datastream.interfaces.grpc.proto.DataEvent;
+import com.datastream.interfaces.grpc.proto.StreamServiceGrpc;
+import com.datastream.interfaces.grpc.proto.SubscribeToStreamRequest;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+
+/**
+ * One {@code SubscribeToStream} call, recording the delivery latency of every measured event.
+ */
+final class Subscription implements ClientResponseObserver<SubscribeToStreamRequest, DataEvent> {
+
+    private final LoadMetrics metrics;
+    private volatile ClientCallStreamObserver<SubscribeToStreamRequest> call;
+    private volatile boolean closing;
+
+    private Subscription(LoadMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    static Subscription open(StreamServiceGrpc.StreamServiceStub stub, String streamId, LoadMetrics metrics) {
+        Subscription subscription = new Subscription(metrics);
+        stub.subscribeToStream(SubscribeToStreamRequest.newBuilder().setStreamId(streamId).build(), subscription);
+        return subscription;
+    }
+
+    @Override
+    public void beforeStart(ClientCallStreamObserver<SubscribeToStreamRequest> requestStream) {
+        this.call = requestStream;
+    }
+
+    @Override
+    public void onNext(DataEvent event) {
+        metrics.delivered(event.getMetadataMap(), System.nanoTime());
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (!closing) {
+            metrics.subscriptionErrors.increment();
+        }
+    }
+
+    @Override
+    public void onCompleted() {
+        // The server ended the subscription
+    }
+
+    void close() {
+        closing = true;
+        call.cancel("load test finished", null);
+    }
+}
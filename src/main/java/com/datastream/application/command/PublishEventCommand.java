@@ -5,12 +5,26 @@ import java.util.Map;
 /**
  * Command to publish a data event to a stream.
  *
- * @param streamId UUID string of the target stream; must not be null
- * @param payload  raw binary payload; must not be null, max 1 MB
- * @param metadata arbitrary string key/value metadata; must not be null
+ * @param streamId      UUID string of the target stream; must not be null
+ * @param payload       raw binary payload; must not be null, max 1 MB
+ * @param metadata      arbitrary string key/value metadata; must not be null
+ * @param receivedNanos {@link System#nanoTime()} when the server received the event; the start
+ *                      of its end-to-end latency
  */
 public record PublishEventCommand(
         String streamId,
         byte[] payload,
-        Map<String, String> metadata) {
+        Map<String, String> metadata,
+        long receivedNanos) {
+
+    /**
+     * Creates a command received now.
+     *
+     * @param streamId UUID string of the target stream; must not be null
+     * @param payload  raw binary payload; must not be null, max 1 MB
+     * @param metadata arbitrary string key/value metadata; must not be null
+     */
+    public PublishEventCommand(String streamId, byte[] payload, Map<String, String> metadata) {
+        this(streamId, payload, metadata, System.nanoTime());
+    }
 }
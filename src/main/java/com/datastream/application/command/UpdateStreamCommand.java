@@ -1,14 +1,30 @@
 package com.datastream.application.command;
 
 /**
- * Command to update the name and description of an existing stream.
+ * Command to update an existing stream: its lifecycle status, its configuration, or both.
+ *
+ * <p>Every field left {@code null} is left unchanged. When both are given, the status
+ * change is applied first and both are written together or not at all.
  *
  * @param streamId    UUID string of the stream to update; must not be null
- * @param name        the new stream name; must not be blank
- * @param description the new description; may be null
+ * @param status      the target {@link com.datastream.domain.model.StreamStatus} name; {@code null} keeps the status
+ * @param name        the new stream name; {@code null} keeps the configuration
+ * @param description the new description; may be null, ignored when {@code name} is null
  */
 public record UpdateStreamCommand(
         String streamId,
+        String status,
         String name,
         String description) {
+
+    /**
+     * Creates a configuration-only update that leaves the status unchanged.
+     *
+     * @param streamId    UUID string of the stream to update; must not be null
+     * @param name        the new stream name; must not be blank
+     * @param description the new description; may be null
+     */
+    public UpdateStreamCommand(String streamId, String name, String description) {
+        this(streamId, null, name, description);
+    }
 }
@@ -5,16 +5,49 @@ import java.util.Map;
 /**
  * DTO representing a data event returned from the application layer.
  *
- * @param eventId   UUID string of the event
- * @param streamId  UUID string of the owning stream
- * @param payload   raw binary payload bytes
- * @param metadata  arbitrary string key/value metadata
- * @param timestamp ISO-8601 event timestamp
+ * <p>Events handed to subscribers carry the {@link System#nanoTime()} stamps of the
+ * stages they passed on the way, so delivery can attribute their latency. The stamps
+ * are 0 for events that were not published on this node, such as query results.
+ *
+ * @param eventId        UUID string of the event
+ * @param streamId       UUID string of the owning stream
+ * @param payload        raw binary payload bytes
+ * @param metadata       arbitrary string key/value metadata
+ * @param timestamp      ISO-8601 event timestamp
+ * @param receivedNanos  when the server received the event
+ * @param persistedNanos when the repository write returned
+ * @param publishedNanos when the event was handed to the subscriber fan-out
  */
 public record DataEventResponse(
         String eventId,
         String streamId,
         byte[] payload,
         Map<String, String> metadata,
-        String timestamp) {
+        String timestamp,
+        long receivedNanos,
+        long persistedNanos,
+        long publishedNanos) {
+
+    /**
+     * Creates a response without stage stamps.
+     *
+     * @param eventId   UUID string of the event
+     * @param streamId  UUID string of the owning stream
+     * @param payload   raw binary payload bytes
+     * @param metadata  arbitrary string key/value metadata
+     * @param timestamp ISO-8601 event timestamp
+     */
+    public DataEventResponse(String eventId, String streamId, byte[] payload, Map<String, String> metadata,
+                             String timestamp) {
+        this(eventId, streamId, payload, metadata, timestamp, 0, 0, 0);
+    }
+
+    /**
+     * Returns {@code true} if the event carries stage stamps.
+     *
+     * @return whether the stamps were recorded
+     */
+    public boolean isTimed() {
+        return publishedNanos != 0;
+    }
 }
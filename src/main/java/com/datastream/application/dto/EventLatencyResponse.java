@@ -0,0 +1,51 @@
+package com.datastream.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO representing the latency distributions of a stream's events, per pipeline stage.
+ *
+ * @param streamId UUID string of the stream
+ * @param stages   one entry per {@link Stage}, in declaration order
+ */
+public record EventLatencyResponse(String streamId, List<StageLatency> stages) {
+
+    /**
+     * A span of an event's path through the server, bounded by two of its time stamps.
+     */
+    public enum Stage {
+        /** From receipt of the request to the end of the repository write. */
+        PERSIST,
+        /** From the end of the repository write to the hand-off to subscriber queues. */
+        PUBLISH,
+        /** Time spent in a subscriber's queue. */
+        QUEUE,
+        /** From leaving the subscriber's queue to the hand-off to the transport. */
+        SEND,
+        /** From receipt of the request to the hand-off to the transport. */
+        END_TO_END
+    }
+
+    /**
+     * Latency distribution of one stage, in microseconds.
+     *
+     * @param stage      the stage
+     * @param count      number of recorded values
+     * @param meanMicros mean latency
+     * @param p50Micros  median latency
+     * @param p90Micros  90th percentile latency
+     * @param p99Micros  99th percentile latency
+     * @param p999Micros 99.9th percentile latency
+     * @param maxMicros  highest recorded latency
+     */
+    public record StageLatency(
+            Stage stage,
+            long count,
+            double meanMicros,
+            long p50Micros,
+            long p90Micros,
+            long p99Micros,
+            long p999Micros,
+            long maxMicros) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.datastream.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO returned from a multi-get of streams.
+ *
+ * @param streams    the streams that were found, in the order their IDs were first requested
+ * @param missingIds requested IDs with no matching stream, in request order
+ */
+public record StreamBatchResponse(
+        List<StreamResponse> streams,
+        List<String> missingIds) {
+}
@@ -0,0 +1,20 @@
+package com.datastream.application.dto;
+
+/**
+ * DTO representing the ingest statistics of a stream.
+ *
+ * @param streamId          UUID string of the stream
+ * @param eventCount        number of events published to the stream
+ * @param totalPayloadBytes sum of event payload sizes in bytes
+ * @param firstEventAt      ISO-8601 timestamp of the earliest event; {@code null} if there are none
+ * @param lastEventAt       ISO-8601 timestamp of the latest event; {@code null} if there are none
+ * @param eventsPerMinute   average ingest rate between the first and last event
+ */
+public record StreamStatsResponse(
+        String streamId,
+        long eventCount,
+        long totalPayloadBytes,
+        String firstEventAt,
+        String lastEventAt,
+        double eventsPerMinute) {
+}
@@ -4,6 +4,7 @@ import com.datastream.application.command.ActivateStreamCommand;
 import com.datastream.application.dto.StreamResponse;
 import com.datastream.application.mapper.StreamResponseMapper;
 import com.datastream.domain.model.Stream;
+import com.datastream.domain.model.StreamTransition;
 import com.datastream.domain.repository.StreamRepository;
 import com.datastream.domain.service.StreamDomainService;
 import com.datastream.domain.valueobjects.StreamId;
@@ -14,8 +15,9 @@ import java.util.UUID;
 /**
  * Handles the {@link ActivateStreamCommand} use case.
  *
- * <p>Loads the stream, transitions it to {@code ACTIVE}, persists the change,
- * and returns the updated {@link StreamResponse}.
+ * <p>Transitions the stream to {@code ACTIVE} with a single conditional update and
+ * returns the updated {@link StreamResponse}. The stream is only loaded when the
+ * update matches nothing, to report why.
  */
 public class ActivateStreamHandler {
 
@@ -25,8 +27,8 @@ public class ActivateStreamHandler {
     /**
      * Creates the handler with its required dependencies.
      *
-     * @param streamDomainService domain service for loading the stream; must not be null
-     * @param streamRepository    repository for persisting the activated stream; must not be null
+     * @param streamDomainService domain service for loading the stream on failure; must not be null
+     * @param streamRepository    repository applying the transition; must not be null
      */
     public ActivateStreamHandler(StreamDomainService streamDomainService, StreamRepository streamRepository) {
         this.streamDomainService = Objects.requireNonNull(streamDomainService, "streamDomainService must not be null");
@@ -45,10 +47,9 @@ public class ActivateStreamHandler {
         Objects.requireNonNull(command, "command must not be null");
 
         StreamId streamId = StreamId.of(UUID.fromString(command.streamId()));
-        Stream stream = streamDomainService.getStreamOrThrow(streamId);
-        stream.activate();
-
-        Stream saved = streamRepository.save(stream);
-        return StreamResponseMapper.toResponse(saved);
+        Stream activated = streamRepository.transition(streamId, StreamTransition.ACTIVATE)
+                .orElseThrow(() -> StreamTransition.ACTIVATE.rejection(
+                        streamDomainService.getStreamOrThrow(streamId).getStatus()));
+        return StreamResponseMapper.toResponse(activated);
     }
 }
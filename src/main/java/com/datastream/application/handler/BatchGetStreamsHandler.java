@@ -0,0 +1,81 @@
+package com.datastream.application.handler;
+
+import com.datastream.application.dto.StreamBatchResponse;
+import com.datastream.application.dto.StreamResponse;
+import com.datastream.application.mapper.StreamResponseMapper;
+import com.datastream.application.query.BatchGetStreamsQuery;
+import com.datastream.domain.model.Stream;
+import com.datastream.domain.repository.StreamRepository;
+import com.datastream.domain.valueobjects.StreamId;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Handles the {@link BatchGetStreamsQuery} use case.
+ *
+ * <p>Resolves all requested IDs with a single repository call and splits the
+ * result into found streams and missing IDs, both in request order.
+ */
+public class BatchGetStreamsHandler {
+
+    /** Maximum number of distinct IDs accepted per request. */
+    public static final int MAX_IDS = 100;
+
+    private final StreamRepository streamRepository;
+
+    /**
+     * Creates the handler with its required dependencies.
+     *
+     * @param streamRepository repository for reading stream data; must not be null
+     */
+    public BatchGetStreamsHandler(StreamRepository streamRepository) {
+        this.streamRepository = Objects.requireNonNull(streamRepository, "streamRepository must not be null");
+    }
+
+    /**
+     * Executes the batch-get-streams query.
+     *
+     * @param query the query carrying the stream IDs; must not be null
+     * @return a {@link StreamBatchResponse} with the found streams and the missing IDs
+     * @throws IllegalArgumentException if an ID is not a valid UUID or more than
+     *                                  {@value #MAX_IDS} distinct IDs are requested
+     */
+    public StreamBatchResponse handle(BatchGetStreamsQuery query) {
+        Objects.requireNonNull(query, "query must not be null");
+
+        Set<StreamId> requested = new LinkedHashSet<>();
+        for (String id : query.streamIds()) {
+            requested.add(StreamId.of(UUID.fromString(id)));
+        }
+        if (requested.size() > MAX_IDS) {
+            throw new IllegalArgumentException(
+                    "At most " + MAX_IDS + " stream IDs may be requested, got " + requested.size());
+        }
+        if (requested.isEmpty()) {
+            return new StreamBatchResponse(List.of(), List.of());
+        }
+
+        Map<StreamId, Stream> found = streamRepository.findAllById(requested).stream()
+                .collect(Collectors.toMap(Stream::getId, Function.identity(), (a, b) -> a));
+
+        List<StreamResponse> streams = new ArrayList<>(found.size());
+        List<String> missingIds = new ArrayList<>();
+        for (StreamId id : requested) {
+            Stream stream = found.get(id);
+            if (stream != null) {
+                streams.add(StreamResponseMapper.toResponse(stream));
+            } else {
+                missingIds.add(id.value().toString());
+            }
+        }
+        return new StreamBatchResponse(streams, missingIds);
+    }
+}
@@ -6,7 +6,6 @@ import com.datastream.application.mapper.StreamResponseMapper;
 import com.datastream.domain.model.Stream;
 import com.datastream.domain.model.StreamType;
 import com.datastream.domain.repository.StreamRepository;
-import com.datastream.domain.service.StreamDomainService;
 import com.datastream.domain.valueobjects.StreamName;
 import com.datastream.domain.valueobjects.UserId;
 
@@ -16,22 +15,20 @@ import java.util.UUID;
 /**
  * Handles the {@link CreateStreamCommand} use case.
  *
- * <p>Validates name uniqueness, constructs the domain aggregate,
- * persists it, and returns a {@link StreamResponse}.
+ * <p>Constructs the domain aggregate, persists it, and returns a {@link StreamResponse}.
+ * Name uniqueness is not checked up front: the insert is authoritative and the
+ * repository reports a taken name, which also covers concurrent creates.
  */
 public class CreateStreamHandler {
 
-    private final StreamDomainService streamDomainService;
     private final StreamRepository streamRepository;
 
     /**
-     * Creates the handler with its required dependencies.
+     * Creates the handler with its required dependency.
      *
-     * @param streamDomainService domain service for cross-aggregate validation; must not be null
-     * @param streamRepository    repository for persisting the new stream; must not be null
+     * @param streamRepository repository for persisting the new stream; must not be null
      */
-    public CreateStreamHandler(StreamDomainService streamDomainService, StreamRepository streamRepository) {
-        this.streamDomainService = Objects.requireNonNull(streamDomainService, "streamDomainService must not be null");
+    public CreateStreamHandler(StreamRepository streamRepository) {
         this.streamRepository = Objects.requireNonNull(streamRepository, "streamRepository must not be null");
     }
 
@@ -47,13 +44,11 @@ public class CreateStreamHandler {
         Objects.requireNonNull(command, "command must not be null");
 
         StreamName name = StreamName.of(command.name());
-        streamDomainService.validateStreamNameUnique(name);
-
         UserId ownerId = UserId.of(UUID.fromString(command.ownerId()));
         StreamType streamType = StreamType.valueOf(command.streamType());
 
         Stream stream = Stream.create(name, command.description(), ownerId, streamType);
-        Stream saved = streamRepository.save(stream);
+        Stream saved = streamRepository.insert(stream);
         return StreamResponseMapper.toResponse(saved);
     }
 }
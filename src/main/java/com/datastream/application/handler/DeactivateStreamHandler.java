@@ -1,7 +1,10 @@
 package com.datastream.application.handler;
 
 import com.datastream.application.command.DeactivateStreamCommand;
+import com.datastream.application.dto.StreamResponse;
+import com.datastream.application.mapper.StreamResponseMapper;
 import com.datastream.domain.model.Stream;
+import com.datastream.domain.model.StreamTransition;
 import com.datastream.domain.repository.StreamRepository;
 import com.datastream.domain.service.StreamDomainService;
 import com.datastream.domain.valueobjects.StreamId;
@@ -12,7 +15,9 @@ import java.util.UUID;
 /**
  * Handles the {@link DeactivateStreamCommand} use case.
  *
- * <p>Loads the stream, transitions it to {@code INACTIVE}, and persists the change.
+ * <p>Transitions the stream to {@code INACTIVE} with a single conditional update and
+ * returns the updated {@link StreamResponse}. The stream is only loaded when the
+ * update matches nothing, to report why.
  */
 public class DeactivateStreamHandler {
 
@@ -22,8 +27,8 @@ public class DeactivateStreamHandler {
     /**
      * Creates the handler with its required dependencies.
      *
-     * @param streamDomainService domain service for loading the stream; must not be null
-     * @param streamRepository    repository for persisting the deactivated stream; must not be null
+     * @param streamDomainService domain service for loading the stream on failure; must not be null
+     * @param streamRepository    repository applying the transition; must not be null
      */
     public DeactivateStreamHandler(StreamDomainService streamDomainService, StreamRepository streamRepository) {
         this.streamDomainService = Objects.requireNonNull(streamDomainService, "streamDomainService must not be null");
@@ -34,15 +39,17 @@ public class DeactivateStreamHandler {
      * Executes the deactivate-stream use case.
      *
      * @param command the command identifying the stream to deactivate; must not be null
+     * @return a {@link StreamResponse} reflecting the {@code INACTIVE} status
      * @throws com.datastream.domain.exception.StreamNotFoundException     if no stream with the given ID exists
      * @throws com.datastream.domain.exception.InvalidStreamStateException if the stream is not currently {@code ACTIVE}
      */
-    public void handle(DeactivateStreamCommand command) {
+    public StreamResponse handle(DeactivateStreamCommand command) {
         Objects.requireNonNull(command, "command must not be null");
 
         StreamId streamId = StreamId.of(UUID.fromString(command.streamId()));
-        Stream stream = streamDomainService.getStreamOrThrow(streamId);
-        stream.deactivate();
-        streamRepository.save(stream);
+        Stream deactivated = streamRepository.transition(streamId, StreamTransition.DEACTIVATE)
+                .orElseThrow(() -> StreamTransition.DEACTIVATE.rejection(
+                        streamDomainService.getStreamOrThrow(streamId).getStatus()));
+        return StreamResponseMapper.toResponse(deactivated);
     }
 }
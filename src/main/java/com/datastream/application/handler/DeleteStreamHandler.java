@@ -1,7 +1,7 @@
 package com.datastream.application.handler;
 
 import com.datastream.application.command.DeleteStreamCommand;
-import com.datastream.domain.model.Stream;
+import com.datastream.domain.model.StreamTransition;
 import com.datastream.domain.repository.StreamRepository;
 import com.datastream.domain.service.StreamDomainService;
 import com.datastream.domain.valueobjects.StreamId;
@@ -12,8 +12,8 @@ import java.util.UUID;
 /**
  * Handles the {@link DeleteStreamCommand} use case.
  *
- * <p>Loads the stream via the domain service, soft-deletes it by calling
- * {@link Stream#softDelete()}, and persists the updated state.
+ * <p>Soft-deletes the stream with a single conditional update to {@code DELETED}. The
+ * stream is only loaded when the update matches nothing, to report why.
  */
 public class DeleteStreamHandler {
 
@@ -23,8 +23,8 @@ public class DeleteStreamHandler {
     /**
      * Creates the handler with its required dependencies.
      *
-     * @param streamDomainService domain service for loading the stream; must not be null
-     * @param streamRepository    repository for persisting the deleted stream; must not be null
+     * @param streamDomainService domain service for loading the stream on failure; must not be null
+     * @param streamRepository    repository applying the transition; must not be null
      */
     public DeleteStreamHandler(StreamDomainService streamDomainService, StreamRepository streamRepository) {
         this.streamDomainService = Objects.requireNonNull(streamDomainService, "streamDomainService must not be null");
@@ -42,8 +42,8 @@ public class DeleteStreamHandler {
         Objects.requireNonNull(command, "command must not be null");
 
         StreamId streamId = StreamId.of(UUID.fromString(command.streamId()));
-        Stream stream = streamDomainService.getStreamOrThrow(streamId);
-        stream.softDelete();
-        streamRepository.save(stream);
+        streamRepository.transition(streamId, StreamTransition.DELETE)
+                .orElseThrow(() -> StreamTransition.DELETE.rejection(
+                        streamDomainService.getStreamOrThrow(streamId).getStatus()));
     }
 }
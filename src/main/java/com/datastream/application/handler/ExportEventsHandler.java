@@ -0,0 +1,82 @@
+package com.datastream.application.handler;
+
+import com.datastream.application.dto.DataEventResponse;
+import com.datastream.application.mapper.DataEventResponseMapper;
+import com.datastream.application.query.ExportEventsQuery;
+import com.datastream.domain.repository.DataEventRepository;
+import com.datastream.domain.valueobjects.StreamId;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Handles the {@link ExportEventsQuery} use case.
+ *
+ * <p>Streams the stream's events, oldest first, from the repository straight
+ * into the supplied sink one at a time; the history is never held in memory.
+ * Stream existence is expected to be checked by the caller before the export
+ * starts, and the query itself can be checked with {@link #validate}, so that a
+ * bad request is reported before any data is sent.
+ */
+public class ExportEventsHandler {
+
+    private final DataEventRepository dataEventRepository;
+
+    /**
+     * Creates the handler with its required dependencies.
+     *
+     * @param dataEventRepository repository providing the forward-only event read; must not be null
+     */
+    public ExportEventsHandler(DataEventRepository dataEventRepository) {
+        this.dataEventRepository = Objects.requireNonNull(dataEventRepository, "dataEventRepository must not be null");
+    }
+
+    /**
+     * Checks the stream ID and time range of an export without reading any events.
+     *
+     * @param query the query to check; must not be null
+     * @throws IllegalArgumentException                if the stream ID is malformed or {@code from} is after {@code to}
+     * @throws java.time.format.DateTimeParseException if a time bound is not ISO-8601
+     */
+    public void validate(ExportEventsQuery query) {
+        Objects.requireNonNull(query, "query must not be null");
+        Range.of(query);
+    }
+
+    /**
+     * Executes the export-events query.
+     *
+     * @param query the query carrying the stream ID and optional time range; must not be null
+     * @param sink  receives each exported event in ascending timestamp order; must not be null
+     * @return the number of events passed to {@code sink}
+     * @throws IllegalArgumentException                if the stream ID is malformed or {@code from} is after {@code to}
+     * @throws java.time.format.DateTimeParseException if a time bound is not ISO-8601
+     */
+    public long handle(ExportEventsQuery query, Consumer<DataEventResponse> sink) {
+        Objects.requireNonNull(query, "query must not be null");
+        Objects.requireNonNull(sink, "sink must not be null");
+
+        Range range = Range.of(query);
+        long[] exported = {0};
+        dataEventRepository.forEachByStreamId(range.streamId(), range.from(), range.to(), event -> {
+            sink.accept(DataEventResponseMapper.toResponse(event));
+            exported[0]++;
+        });
+        return exported[0];
+    }
+
+    private record Range(StreamId streamId, Instant from, Instant to) {
+
+        static Range of(ExportEventsQuery query) {
+            StreamId streamId = StreamId.of(UUID.fromString(query.streamId()));
+            Instant from = query.from() != null ? Instant.parse(query.from()) : null;
+            Instant to = query.to() != null ? Instant.parse(query.to()) : null;
+            if (from != null && to != null && from.isAfter(to)) {
+                throw new IllegalArgumentException("from must not be after to");
+            }
+            return new Range(streamId, from, to);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.datastream.application.handler;
+
+import com.datastream.application.dto.EventLatencyResponse;
+import com.datastream.application.port.EventLatencyRecorder;
+import com.datastream.application.query.GetEventLatencyQuery;
+import com.datastream.domain.service.StreamDomainService;
+import com.datastream.domain.valueobjects.StreamId;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Handles the {@link GetEventLatencyQuery} use case.
+ *
+ * <p>Latencies are aggregated in memory by this process since it started or
+ * since the last reset; they are not persisted.
+ */
+public class GetEventLatencyHandler {
+
+    private final StreamDomainService streamDomainService;
+    private final EventLatencyRecorder latencyRecorder;
+
+    /**
+     * Creates the handler with its required dependencies.
+     *
+     * @param streamDomainService domain service for validating the stream exists; must not be null
+     * @param latencyRecorder     recorder holding the latency distributions; must not be null
+     */
+    public GetEventLatencyHandler(StreamDomainService streamDomainService, EventLatencyRecorder latencyRecorder) {
+        this.streamDomainService = Objects.requireNonNull(streamDomainService, "streamDomainService must not be null");
+        this.latencyRecorder = Objects.requireNonNull(latencyRecorder, "latencyRecorder must not be null");
+    }
+
+    /**
+     * Executes the get-event-latency query.
+     *
+     * @param query the query carrying the stream ID; must not be null
+     * @return an {@link EventLatencyResponse} with one entry per stage
+     * @throws com.datastream.domain.exception.StreamNotFoundException if no stream with the given ID exists
+     */
+    public EventLatencyResponse handle(GetEventLatencyQuery query) {
+        Objects.requireNonNull(query, "query must not be null");
+
+        StreamId streamId = StreamId.of(UUID.fromString(query.streamId()));
+        streamDomainService.getStreamOrThrow(streamId);
+
+        return latencyRecorder.snapshot(streamId.value().toString(), query.reset());
+    }
+}
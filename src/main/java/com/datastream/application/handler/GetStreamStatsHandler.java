@@ -0,0 +1,72 @@
+package com.datastream.application.handler;
+
+import com.datastream.application.dto.StreamStatsResponse;
+import com.datastream.application.port.StreamStatsRecorder;
+import com.datastream.application.query.GetStreamStatsQuery;
+import com.datastream.domain.model.StreamStats;
+import com.datastream.domain.repository.StreamStatsRepository;
+import com.datastream.domain.service.StreamDomainService;
+import com.datastream.domain.valueobjects.StreamId;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Handles the {@link GetStreamStatsQuery} use case.
+ *
+ * <p>Combines the persisted statistics with the increment recorded in memory
+ * since the last flush, so the result reflects every event published so far.
+ */
+public class GetStreamStatsHandler {
+
+    private final StreamDomainService streamDomainService;
+    private final StreamStatsRepository streamStatsRepository;
+    private final StreamStatsRecorder streamStatsRecorder;
+
+    /**
+     * Creates the handler with its required dependencies.
+     *
+     * @param streamDomainService   domain service for validating the stream exists; must not be null
+     * @param streamStatsRepository repository holding the persisted statistics; must not be null
+     * @param streamStatsRecorder   recorder holding the not-yet-persisted increment; must not be null
+     */
+    public GetStreamStatsHandler(
+            StreamDomainService streamDomainService,
+            StreamStatsRepository streamStatsRepository,
+            StreamStatsRecorder streamStatsRecorder) {
+        this.streamDomainService = Objects.requireNonNull(streamDomainService, "streamDomainService must not be null");
+        this.streamStatsRepository = Objects.requireNonNull(streamStatsRepository, "streamStatsRepository must not be null");
+        this.streamStatsRecorder = Objects.requireNonNull(streamStatsRecorder, "streamStatsRecorder must not be null");
+    }
+
+    /**
+     * Executes the get-stream-stats query.
+     *
+     * @param query the query carrying the stream ID; must not be null
+     * @return a {@link StreamStatsResponse}; zeroed if the stream has no events
+     * @throws com.datastream.domain.exception.StreamNotFoundException if no stream with the given ID exists
+     */
+    public StreamStatsResponse handle(GetStreamStatsQuery query) {
+        Objects.requireNonNull(query, "query must not be null");
+
+        StreamId streamId = StreamId.of(UUID.fromString(query.streamId()));
+        streamDomainService.getStreamOrThrow(streamId);
+
+        StreamStats stats = streamStatsRepository.findByStreamId(streamId)
+                .orElseGet(() -> StreamStats.empty(streamId))
+                .merge(streamStatsRecorder.pending(streamId));
+
+        return new StreamStatsResponse(
+                streamId.value().toString(),
+                stats.eventCount(),
+                stats.totalPayloadBytes(),
+                toIso(stats.firstEventAt()),
+                toIso(stats.lastEventAt()),
+                stats.eventsPerMinute());
+    }
+
+    private static String toIso(Instant instant) {
+        return instant != null ? instant.toString() : null;
+    }
+}
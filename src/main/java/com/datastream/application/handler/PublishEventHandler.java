@@ -3,14 +3,22 @@ package com.datastream.application.handler;
 import com.datastream.application.command.PublishEventCommand;
 import com.datastream.application.dto.DataEventResponse;
 import com.datastream.application.mapper.DataEventResponseMapper;
+import com.datastream.application.port.EventLatencyRecorder;
+import com.datastream.application.port.EventMetrics;
+import com.datastream.application.port.EventTracer;
 import com.datastream.application.port.StreamEventPublisher;
+import com.datastream.application.port.StreamStatsRecorder;
 import com.datastream.domain.model.DataEvent;
 import com.datastream.domain.repository.DataEventRepository;
 import com.datastream.domain.service.StreamDomainService;
 import com.datastream.domain.valueobjects.EventPayload;
 import com.datastream.domain.valueobjects.StreamId;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -18,13 +26,24 @@ import java.util.UUID;
  *
  * <p>Validates the target stream is active, creates and persists a
  * {@link DataEvent}, and optionally notifies registered subscribers
- * via the {@link StreamEventPublisher} port.
+ * via the {@link StreamEventPublisher} port and accounts for the event
+ * in the stream's statistics via the {@link StreamStatsRecorder} port.
+ * Repository write times and published events are reported to the
+ * optional {@link EventMetrics} port. Published events carry the times
+ * they were received, persisted and handed to subscribers, and their
+ * persist and publish stages are recorded by the optional
+ * {@link EventLatencyRecorder} port. Validation and repository writes
+ * are traced as spans through the optional {@link EventTracer} port.
  */
 public class PublishEventHandler {
 
     private final StreamDomainService streamDomainService;
     private final DataEventRepository dataEventRepository;
     private final StreamEventPublisher eventPublisher;
+    private final StreamStatsRecorder statsRecorder;
+    private final EventMetrics metrics;
+    private final EventLatencyRecorder latencyRecorder;
+    private final EventTracer tracer;
 
     /**
      * Creates the handler with its required dependencies.
@@ -33,14 +52,29 @@ public class PublishEventHandler {
      * @param dataEventRepository  repository for persisting the event; must not be null
      * @param eventPublisher       optional publisher for notifying subscribers; may be {@code null}
      *                             if no subscriber notification is required
+     * @param statsRecorder        optional recorder for per-stream statistics; may be {@code null}
+     *                             if statistics are not maintained
+     * @param metrics              optional hot-path metrics; may be {@code null} if none are recorded
+     * @param latencyRecorder      optional per-stage latency recorder; may be {@code null} if
+     *                             latencies are not recorded
+     * @param tracer               optional tracer of validation and repository writes; may be
+     *                             {@code null} if the stages are not traced
      */
     public PublishEventHandler(
             StreamDomainService streamDomainService,
             DataEventRepository dataEventRepository,
-            StreamEventPublisher eventPublisher) {
+            StreamEventPublisher eventPublisher,
+            StreamStatsRecorder statsRecorder,
+            EventMetrics metrics,
+            EventLatencyRecorder latencyRecorder,
+            EventTracer tracer) {
         this.streamDomainService = Objects.requireNonNull(streamDomainService, "streamDomainService must not be null");
         this.dataEventRepository = Objects.requireNonNull(dataEventRepository, "dataEventRepository must not be null");
         this.eventPublisher = eventPublisher;
+        this.statsRecorder = statsRecorder;
+        this.metrics = metrics;
+        this.latencyRecorder = latencyRecorder;
+        this.tracer = tracer != null ? tracer : EventTracer.NONE;
     }
 
     /**
@@ -55,18 +89,104 @@ public class PublishEventHandler {
         Objects.requireNonNull(command, "command must not be null");
 
         StreamId streamId = StreamId.of(UUID.fromString(command.streamId()));
+        EventTracer.Span validating = tracer.validating(command.streamId(), command.payload().length);
         streamDomainService.validateStreamIsActive(streamId);
+        validating.commit();
 
         EventPayload payload = EventPayload.of(command.payload());
         DataEvent event = DataEvent.create(streamId, payload, command.metadata());
+        EventTracer.Span persisting = tracer.persisting(command.streamId(), 1, command.payload().length);
+        long start = System.nanoTime();
         DataEvent saved = dataEventRepository.save(event);
+        long persisted = System.nanoTime();
+        persisting.commit();
+        if (metrics != null) {
+            metrics.persisted(1, persisted - start);
+        }
 
-        DataEventResponse response = DataEventResponseMapper.toResponse(saved);
+        if (statsRecorder != null) {
+            statsRecorder.record(saved);
+        }
+
+        DataEventResponse response = DataEventResponseMapper.toResponse(
+                saved, command.receivedNanos(), persisted, System.nanoTime());
+        if (metrics != null) {
+            metrics.published(response.streamId(), response.payload().length);
+        }
 
         if (eventPublisher != null) {
             eventPublisher.publish(response);
         }
+        if (latencyRecorder != null) {
+            latencyRecorder.published(response);
+        }
 
         return response;
     }
+
+    /**
+     * Executes the publish-event use case for several events at once.
+     *
+     * <p>Each distinct target stream is validated once, then all events are persisted
+     * with a single {@link DataEventRepository#saveAll} call, which lets the repository
+     * use its bulk-load path for large batches. Nothing is persisted if any target
+     * stream fails validation.
+     *
+     * @param commands the commands carrying the event data, in order; must not be null
+     * @return the persisted events, in command order
+     * @throws com.datastream.domain.exception.StreamNotFoundException     if a target stream does not exist
+     * @throws com.datastream.domain.exception.InvalidStreamStateException if a target stream is not {@code ACTIVE}
+     */
+    public List<DataEventResponse> handleAll(List<PublishEventCommand> commands) {
+        Objects.requireNonNull(commands, "commands must not be null");
+
+        Set<StreamId> validated = new HashSet<>();
+        List<DataEvent> events = new ArrayList<>(commands.size());
+        long payloadBytes = 0;
+        for (PublishEventCommand command : commands) {
+            StreamId streamId = StreamId.of(UUID.fromString(command.streamId()));
+            if (validated.add(streamId)) {
+                EventTracer.Span validating = tracer.validating(command.streamId(), command.payload().length);
+                streamDomainService.validateStreamIsActive(streamId);
+                validating.commit();
+            }
+            events.add(DataEvent.create(streamId, EventPayload.of(command.payload()), command.metadata()));
+            payloadBytes += command.payload().length;
+        }
+
+        List<DataEvent> saved = List.of();
+        long persisted = 0;
+        if (!events.isEmpty()) {
+            String tracedStreamId = validated.size() == 1 ? commands.get(0).streamId() : null;
+            EventTracer.Span persisting = tracer.persisting(tracedStreamId, events.size(), payloadBytes);
+            long start = System.nanoTime();
+            saved = dataEventRepository.saveAll(events);
+            persisted = System.nanoTime();
+            persisting.commit();
+            if (metrics != null) {
+                metrics.persisted(saved.size(), persisted - start);
+            }
+        }
+
+        List<DataEventResponse> responses = new ArrayList<>(saved.size());
+        for (int i = 0; i < saved.size(); i++) {
+            DataEvent event = saved.get(i);
+            if (statsRecorder != null) {
+                statsRecorder.record(event);
+            }
+            DataEventResponse response = DataEventResponseMapper.toResponse(
+                    event, commands.get(i).receivedNanos(), persisted, System.nanoTime());
+            if (metrics != null) {
+                metrics.published(response.streamId(), response.payload().length);
+            }
+            if (eventPublisher != null) {
+                eventPublisher.publish(response);
+            }
+            if (latencyRecorder != null) {
+                latencyRecorder.published(response);
+            }
+            responses.add(response);
+        }
+        return responses;
+    }
 }
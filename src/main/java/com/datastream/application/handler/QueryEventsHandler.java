@@ -0,0 +1,65 @@
+package com.datastream.application.handler;
+
+import com.datastream.application.dto.DataEventResponse;
+import com.datastream.application.dto.PagedResponse;
+import com.datastream.application.mapper.DataEventResponseMapper;
+import com.datastream.application.query.QueryEventsQuery;
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.model.DataEventFilter;
+import com.datastream.domain.model.Page;
+import com.datastream.domain.repository.DataEventRepository;
+import com.datastream.domain.valueobjects.StreamId;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Handles the {@link QueryEventsQuery} use case.
+ *
+ * <p>Translates the string criteria to a {@link DataEventFilter}, delegates the
+ * query to the repository, and maps results to a {@link PagedResponse}. Stream
+ * existence is expected to be checked by the caller.
+ */
+public class QueryEventsHandler {
+
+    private final DataEventRepository dataEventRepository;
+
+    /**
+     * Creates the handler with its required dependencies.
+     *
+     * @param dataEventRepository repository for reading event data; must not be null
+     */
+    public QueryEventsHandler(DataEventRepository dataEventRepository) {
+        this.dataEventRepository = Objects.requireNonNull(dataEventRepository, "dataEventRepository must not be null");
+    }
+
+    /**
+     * Executes the query-events query.
+     *
+     * @param query the query carrying the stream ID, filters and pagination parameters; must not be null
+     * @return a {@link PagedResponse} of matching events, newest first
+     * @throws IllegalArgumentException                if the stream ID is malformed or {@code from} is after {@code to}
+     * @throws java.time.format.DateTimeParseException if a time bound is not ISO-8601
+     */
+    public PagedResponse<DataEventResponse> handle(QueryEventsQuery query) {
+        Objects.requireNonNull(query, "query must not be null");
+
+        StreamId streamId = StreamId.of(UUID.fromString(query.streamId()));
+        DataEventFilter filter = new DataEventFilter(
+                query.metadata(),
+                query.from() != null ? Instant.parse(query.from()) : null,
+                query.to() != null ? Instant.parse(query.to()) : null);
+
+        Page<DataEvent> page = dataEventRepository.findByStreamId(streamId, filter, query.page(), query.size());
+
+        List<DataEventResponse> content = page.content().stream()
+                .map(DataEventResponseMapper::toResponse)
+                .collect(Collectors.toList());
+
+        return new PagedResponse<>(content, page.pageNumber(), page.pageSize(),
+                page.totalElements(), page.totalPages());
+    }
+}
@@ -4,6 +4,8 @@ import com.datastream.application.command.UpdateStreamCommand;
 import com.datastream.application.dto.StreamResponse;
 import com.datastream.application.mapper.StreamResponseMapper;
 import com.datastream.domain.model.Stream;
+import com.datastream.domain.model.StreamStatus;
+import com.datastream.domain.model.StreamTransition;
 import com.datastream.domain.repository.StreamRepository;
 import com.datastream.domain.service.StreamDomainService;
 import com.datastream.domain.valueobjects.StreamId;
@@ -15,8 +17,10 @@ import java.util.UUID;
 /**
  * Handles the {@link UpdateStreamCommand} use case.
  *
- * <p>Loads the stream via the domain service, applies the configuration update,
- * persists the change, and returns the updated {@link StreamResponse}.
+ * <p>Loads the stream once, applies the requested status transition and configuration
+ * change to the aggregate, and writes the result with a single versioned update, so
+ * either all requested changes are stored or none are. A concurrent modification
+ * between the load and the write is reported rather than overwritten.
  */
 public class UpdateStreamHandler {
 
@@ -27,7 +31,7 @@ public class UpdateStreamHandler {
      * Creates the handler with its required dependencies.
      *
      * @param streamDomainService domain service for loading the stream; must not be null
-     * @param streamRepository    repository for persisting the updated stream; must not be null
+     * @param streamRepository    repository for the versioned write; must not be null
      */
     public UpdateStreamHandler(StreamDomainService streamDomainService, StreamRepository streamRepository) {
         this.streamDomainService = Objects.requireNonNull(streamDomainService, "streamDomainService must not be null");
@@ -39,17 +43,29 @@ public class UpdateStreamHandler {
      *
      * @param command the command carrying the update parameters; must not be null
      * @return a {@link StreamResponse} reflecting the updated state
-     * @throws com.datastream.domain.exception.StreamNotFoundException        if no stream with the given ID exists
-     * @throws com.datastream.domain.exception.InvalidStreamOperationException if the stream is deleted
+     * @throws com.datastream.domain.exception.StreamNotFoundException               if no stream with the given ID exists
+     * @throws com.datastream.domain.exception.InvalidStreamStateException            if the status transition is not allowed
+     * @throws com.datastream.domain.exception.InvalidStreamOperationException        if the configuration of a deleted stream is changed
+     * @throws com.datastream.domain.exception.ConcurrentStreamModificationException if the stream changed since it was loaded
+     * @throws IllegalArgumentException                                               if the target status cannot be transitioned to
      */
     public StreamResponse handle(UpdateStreamCommand command) {
         Objects.requireNonNull(command, "command must not be null");
 
         StreamId streamId = StreamId.of(UUID.fromString(command.streamId()));
         Stream stream = streamDomainService.getStreamOrThrow(streamId);
-        stream.updateConfig(StreamName.of(command.name()), command.description());
+        if (command.status() == null && command.name() == null) {
+            return StreamResponseMapper.toResponse(stream);
+        }
 
-        Stream saved = streamRepository.save(stream);
+        if (command.status() != null) {
+            stream.apply(StreamTransition.to(StreamStatus.valueOf(command.status())));
+        }
+        if (command.name() != null) {
+            stream.updateConfig(StreamName.of(command.name()), command.description());
+        }
+
+        Stream saved = streamRepository.update(stream);
         return StreamResponseMapper.toResponse(saved);
     }
 }
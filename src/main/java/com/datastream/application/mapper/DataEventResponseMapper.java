@@ -28,4 +28,28 @@ public final class DataEventResponseMapper {
                 event.getTimestamp().toString()
         );
     }
+
+    /**
+     * Maps a {@link DataEvent} entity to a {@link DataEventResponse} DTO carrying the stamps
+     * of the stages it has passed.
+     *
+     * @param event          the domain event to map; must not be null
+     * @param receivedNanos  {@link System#nanoTime()} when the server received the event
+     * @param persistedNanos {@link System#nanoTime()} when the repository write returned
+     * @param publishedNanos {@link System#nanoTime()} when the event is handed to subscribers
+     * @return a {@link DataEventResponse} with all scalar fields serialised to strings
+     */
+    public static DataEventResponse toResponse(DataEvent event, long receivedNanos, long persistedNanos,
+                                               long publishedNanos) {
+        return new DataEventResponse(
+                event.getEventId().toString(),
+                event.getStreamId().value().toString(),
+                event.getPayload().value(),
+                event.getMetadata(),
+                event.getTimestamp().toString(),
+                receivedNanos,
+                persistedNanos,
+                publishedNanos
+        );
+    }
 }
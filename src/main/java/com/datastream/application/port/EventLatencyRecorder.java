@@ -0,0 +1,41 @@
+package com.datastream.application.port;
+
+import com.datastream.application.dto.DataEventResponse;
+import com.datastream.application.dto.EventLatencyResponse;
+
+/**
+ * Output port aggregating the per-stage latency of published events.
+ *
+ * <p>Defined in the application layer; implemented in the infrastructure layer.
+ * Stage boundaries are the {@link System#nanoTime()} stamps an event carries,
+ * see {@link EventLatencyResponse.Stage}. {@link #published} and {@link #delivered}
+ * are called once per event and once per delivery, so implementations must record
+ * without locking and without allocating.
+ */
+public interface EventLatencyRecorder {
+
+    /**
+     * Records the persist and publish stages of an event handed to subscribers.
+     *
+     * @param event the published event, carrying its receive, persist and publish stamps; must not be null
+     */
+    void published(DataEventResponse event);
+
+    /**
+     * Records the queue, send and end-to-end stages of an event sent to one subscriber.
+     *
+     * @param event          the delivered event; must not be null
+     * @param dequeuedNanos  {@link System#nanoTime()} when the subscriber took the event off its queue
+     * @param deliveredNanos {@link System#nanoTime()} when the event was handed to the transport
+     */
+    void delivered(DataEventResponse event, long dequeuedNanos, long deliveredNanos);
+
+    /**
+     * Returns the latency distributions recorded for a stream.
+     *
+     * @param streamId UUID string of the stream; must not be null
+     * @param reset    whether to clear the distributions after reading them
+     * @return one entry per stage, with zero counts if nothing was recorded
+     */
+    EventLatencyResponse snapshot(String streamId, boolean reset);
+}
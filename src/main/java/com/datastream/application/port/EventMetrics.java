@@ -0,0 +1,56 @@
+package com.datastream.application.port;
+
+import java.util.Collection;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Output port for hot-path metrics of the publish and fan-out path.
+ *
+ * <p>Defined in the application layer; implemented in the infrastructure layer.
+ * Every method except {@link #observeSubscribers} is called once per event, so
+ * implementations must record without locking and without allocating.
+ */
+public interface EventMetrics {
+
+    /**
+     * Accounts for an event accepted and persisted for a stream.
+     *
+     * @param streamId     UUID string of the stream; must not be null
+     * @param payloadBytes payload size of the event
+     */
+    void published(String streamId, int payloadBytes);
+
+    /**
+     * Records the time one repository write took.
+     *
+     * @param events       number of events written
+     * @param elapsedNanos wall-clock duration of the write
+     */
+    void persisted(int events, long elapsedNanos);
+
+    /**
+     * Accounts for an event sent to one subscriber.
+     *
+     * @param streamId     UUID string of the stream; must not be null
+     * @param payloadBytes payload size of the event
+     */
+    void delivered(String streamId, int payloadBytes);
+
+    /**
+     * Accounts for an event dropped because a subscriber's queue was full.
+     *
+     * @param streamId UUID string of the stream; must not be null
+     */
+    void dropped(String streamId);
+
+    /**
+     * Exposes the live subscriber queues of a stream, read only when metrics are collected.
+     *
+     * <p>Called once per stream, when its first subscriber registers; the collection is
+     * expected to change afterwards.
+     *
+     * @param streamId UUID string of the stream; must not be null
+     * @param queues   the stream's subscriber queues; must not be null
+     */
+    void observeSubscribers(String streamId, Collection<? extends BlockingQueue<?>> queues);
+}
@@ -0,0 +1,60 @@
+package com.datastream.application.port;
+
+/**
+ * Output port for tracing stages of the publish path as profiler-visible spans.
+ *
+ * <p>Defined in the application layer; implemented in the infrastructure layer.
+ * A span is opened before a stage and committed when it finishes; a span of a
+ * stage that failed is simply not committed. Implementations must be cheap
+ * when tracing is switched off, typically by returning {@link Span#NONE}.
+ */
+public interface EventTracer {
+
+    /** A tracer that records nothing. */
+    EventTracer NONE = new EventTracer() {
+        @Override
+        public Span validating(String streamId, int payloadBytes) {
+            return Span.NONE;
+        }
+
+        @Override
+        public Span persisting(String streamId, int events, long payloadBytes) {
+            return Span.NONE;
+        }
+    };
+
+    /**
+     * Opens a span for validating that an event's target stream accepts events.
+     *
+     * @param streamId     UUID string of the stream; must not be null
+     * @param payloadBytes payload size of the event
+     * @return the open span; never null
+     */
+    Span validating(String streamId, int payloadBytes);
+
+    /**
+     * Opens a span for one repository write.
+     *
+     * @param streamId     UUID string of the stream written to; {@code null} if the events
+     *                     belong to several streams
+     * @param events       number of events written
+     * @param payloadBytes total payload size of the events
+     * @return the open span; never null
+     */
+    Span persisting(String streamId, int events, long payloadBytes);
+
+    /**
+     * A stage in progress.
+     */
+    interface Span {
+
+        /** A span that records nothing. */
+        Span NONE = () -> {
+        };
+
+        /**
+         * Ends the stage and records it.
+         */
+        void commit();
+    }
+}
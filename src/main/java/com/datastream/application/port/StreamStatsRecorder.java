@@ -0,0 +1,30 @@
+package com.datastream.application.port;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.model.StreamStats;
+import com.datastream.domain.valueobjects.StreamId;
+
+/**
+ * Output port for maintaining per-stream ingest statistics.
+ *
+ * <p>Defined in the application layer; implemented in the infrastructure layer.
+ * Implementations are expected to aggregate in memory and persist periodically,
+ * so {@link #record} must be cheap enough to call on every published event.
+ */
+public interface StreamStatsRecorder {
+
+    /**
+     * Accounts for a newly persisted event.
+     *
+     * @param event the persisted event; must not be null
+     */
+    void record(DataEvent event);
+
+    /**
+     * Returns the statistics recorded for a stream but not yet persisted.
+     *
+     * @param streamId the stream to look up; must not be null
+     * @return the pending increment, {@link StreamStats#empty} if there is none
+     */
+    StreamStats pending(StreamId streamId);
+}
@@ -0,0 +1,11 @@
+package com.datastream.application.query;
+
+import java.util.List;
+
+/**
+ * Query to retrieve several streams by their unique identifiers in one call.
+ *
+ * @param streamIds UUID strings of the streams to retrieve; must not be null, duplicates are ignored
+ */
+public record BatchGetStreamsQuery(List<String> streamIds) {
+}
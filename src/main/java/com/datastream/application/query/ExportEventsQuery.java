@@ -0,0 +1,14 @@
+package com.datastream.application.query;
+
+/**
+ * Query to export the event history of a stream, optionally restricted to a time range.
+ *
+ * @param streamId UUID string of the stream to export; must not be null
+ * @param from     ISO-8601 inclusive lower bound; {@code null} means from the first event
+ * @param to       ISO-8601 exclusive upper bound; {@code null} means up to the latest event
+ */
+public record ExportEventsQuery(
+        String streamId,
+        String from,
+        String to) {
+}
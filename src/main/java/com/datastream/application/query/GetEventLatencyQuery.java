@@ -0,0 +1,10 @@
+package com.datastream.application.query;
+
+/**
+ * Query to retrieve the per-stage event latency of a stream.
+ *
+ * @param streamId UUID string of the stream; must not be null
+ * @param reset    whether to clear the recorded distributions after reading them
+ */
+public record GetEventLatencyQuery(String streamId, boolean reset) {
+}
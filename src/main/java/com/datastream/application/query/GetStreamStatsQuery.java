@@ -0,0 +1,9 @@
+package com.datastream.application.query;
+
+/**
+ * Query to retrieve the ingest statistics of a stream.
+ *
+ * @param streamId UUID string of the stream; must not be null
+ */
+public record GetStreamStatsQuery(String streamId) {
+}
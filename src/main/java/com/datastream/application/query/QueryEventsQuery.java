@@ -0,0 +1,22 @@
+package com.datastream.application.query;
+
+import java.util.Map;
+
+/**
+ * Query to retrieve a paginated list of a stream's events filtered by metadata and time range.
+ *
+ * @param streamId UUID string of the stream to query; must not be null
+ * @param metadata key/value pairs the event metadata must contain; {@code null} or empty means any
+ * @param from     ISO-8601 inclusive lower bound; {@code null} means unbounded
+ * @param to       ISO-8601 exclusive upper bound; {@code null} means unbounded
+ * @param page     zero-based page index; must be >= 0
+ * @param size     maximum results per page; must be > 0
+ */
+public record QueryEventsQuery(
+        String streamId,
+        Map<String, String> metadata,
+        String from,
+        String to,
+        int page,
+        int size) {
+}
@@ -0,0 +1,21 @@
+package com.datastream.domain.exception;
+
+import com.datastream.domain.valueobjects.StreamId;
+
+/**
+ * Thrown when a stream was changed by someone else between being loaded and
+ * being written back, so the write was rejected.
+ */
+public class ConcurrentStreamModificationException extends DomainException {
+
+    private static final String ERROR_CODE = "CONCURRENT_STREAM_MODIFICATION";
+
+    /**
+     * Creates the exception for a stream whose stored version no longer matches.
+     *
+     * @param streamId the ID of the stream that was modified concurrently
+     */
+    public ConcurrentStreamModificationException(StreamId streamId) {
+        super(ERROR_CODE, "Stream " + streamId.value() + " was modified concurrently; reload and retry");
+    }
+}
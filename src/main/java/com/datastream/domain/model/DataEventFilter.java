@@ -0,0 +1,54 @@
+package com.datastream.domain.model;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Encapsulates optional filter criteria for querying the events of a stream.
+ *
+ * <p>An event matches when its metadata contains every entry of {@code metadata}
+ * (a single entry expresses key equality) and its timestamp falls within
+ * {@code [from, to)}. A {@code null} bound means "unbounded on this side".
+ *
+ * @param metadata key/value pairs the event metadata must contain; never null, empty means any metadata
+ * @param from     inclusive lower timestamp bound; {@code null} means unbounded
+ * @param to       exclusive upper timestamp bound; {@code null} means unbounded
+ */
+public record DataEventFilter(
+        Map<String, String> metadata,
+        Instant from,
+        Instant to) {
+
+    /**
+     * Compact constructor — normalises {@code metadata} to an immutable copy and validates the range.
+     *
+     * @param metadata required metadata entries; {@code null} is treated as empty
+     * @param from     inclusive lower bound
+     * @param to       exclusive upper bound
+     * @throws IllegalArgumentException if both bounds are set and {@code from} is after {@code to}
+     */
+    public DataEventFilter {
+        metadata = metadata == null ? Map.of() : Map.copyOf(metadata);
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+    }
+
+    /**
+     * Returns an empty filter that matches all events of a stream.
+     *
+     * @return a {@code DataEventFilter} with no criteria
+     */
+    public static DataEventFilter empty() {
+        return new DataEventFilter(Map.of(), null, null);
+    }
+
+    /**
+     * Returns {@code true} if this filter restricts events by metadata.
+     *
+     * @return whether at least one metadata entry is required
+     */
+    public boolean hasMetadata() {
+        return !metadata.isEmpty();
+    }
+}
@@ -27,6 +27,7 @@ public final class Stream {
     private StreamStatus status;
     private final Instant createdAt;
     private Instant updatedAt;
+    private final long version;
 
     private Stream(
             StreamId id,
@@ -36,7 +37,8 @@ public final class Stream {
             StreamType streamType,
             StreamStatus status,
             Instant createdAt,
-            Instant updatedAt) {
+            Instant updatedAt,
+            long version) {
         this.id = Objects.requireNonNull(id, "id must not be null");
         this.name = Objects.requireNonNull(name, "name must not be null");
         this.description = description;
@@ -45,6 +47,7 @@ public final class Stream {
         this.status = Objects.requireNonNull(status, "status must not be null");
         this.createdAt = Objects.requireNonNull(createdAt, "createdAt must not be null");
         this.updatedAt = Objects.requireNonNull(updatedAt, "updatedAt must not be null");
+        this.version = version;
     }
 
     /**
@@ -58,7 +61,7 @@ public final class Stream {
      */
     public static Stream create(StreamName name, String description, UserId ownerId, StreamType streamType) {
         Instant now = Instant.now();
-        return new Stream(StreamId.generate(), name, description, ownerId, streamType, StreamStatus.DRAFT, now, now);
+        return new Stream(StreamId.generate(), name, description, ownerId, streamType, StreamStatus.DRAFT, now, now, 0);
     }
 
     /**
@@ -72,7 +75,7 @@ public final class Stream {
      * @param status      the persisted status
      * @param createdAt   the original creation timestamp
      * @param updatedAt   the last-updated timestamp
-     * @return a {@code Stream} reflecting the persisted state
+     * @return a {@code Stream} reflecting the persisted state, at version {@code 0}
      */
     public static Stream reconstitute(
             StreamId id,
@@ -83,7 +86,34 @@ public final class Stream {
             StreamStatus status,
             Instant createdAt,
             Instant updatedAt) {
-        return new Stream(id, name, description, ownerId, streamType, status, createdAt, updatedAt);
+        return new Stream(id, name, description, ownerId, streamType, status, createdAt, updatedAt, 0);
+    }
+
+    /**
+     * Reconstitutes a {@code Stream} from persisted state, including its optimistic-lock version.
+     *
+     * @param id          the persisted stream ID
+     * @param name        the persisted name
+     * @param description the persisted description
+     * @param ownerId     the persisted owner ID
+     * @param streamType  the persisted stream type
+     * @param status      the persisted status
+     * @param createdAt   the original creation timestamp
+     * @param updatedAt   the last-updated timestamp
+     * @param version     the persisted version
+     * @return a {@code Stream} reflecting the persisted state
+     */
+    public static Stream reconstitute(
+            StreamId id,
+            StreamName name,
+            String description,
+            UserId ownerId,
+            StreamType streamType,
+            StreamStatus status,
+            Instant createdAt,
+            Instant updatedAt,
+            long version) {
+        return new Stream(id, name, description, ownerId, streamType, status, createdAt, updatedAt, version);
     }
 
     // -------------------------------------------------------------------------
@@ -97,12 +127,7 @@ public final class Stream {
      *         {@code DRAFT} or {@code INACTIVE}
      */
     public void activate() {
-        if (status != StreamStatus.DRAFT && status != StreamStatus.INACTIVE) {
-            throw new InvalidStreamStateException(
-                    "Cannot activate stream from status " + status + ". Allowed from: DRAFT, INACTIVE");
-        }
-        this.status = StreamStatus.ACTIVE;
-        this.updatedAt = Instant.now();
+        apply(StreamTransition.ACTIVATE);
     }
 
     /**
@@ -111,12 +136,7 @@ public final class Stream {
      * @throws InvalidStreamStateException if the current status is not {@code ACTIVE}
      */
     public void deactivate() {
-        if (status != StreamStatus.ACTIVE) {
-            throw new InvalidStreamStateException(
-                    "Cannot deactivate stream from status " + status + ". Allowed from: ACTIVE");
-        }
-        this.status = StreamStatus.INACTIVE;
-        this.updatedAt = Instant.now();
+        apply(StreamTransition.DEACTIVATE);
     }
 
     /**
@@ -125,10 +145,21 @@ public final class Stream {
      * @throws InvalidStreamStateException if the stream is already deleted
      */
     public void softDelete() {
-        if (status == StreamStatus.DELETED) {
-            throw new InvalidStreamStateException("Stream is already in DELETED status");
+        apply(StreamTransition.DELETE);
+    }
+
+    /**
+     * Applies a lifecycle transition.
+     *
+     * @param transition the transition to apply; must not be null
+     * @throws InvalidStreamStateException if the transition is not allowed from the current status
+     */
+    public void apply(StreamTransition transition) {
+        Objects.requireNonNull(transition, "transition must not be null");
+        if (!transition.isAllowedFrom(status)) {
+            throw transition.rejection(status);
         }
-        this.status = StreamStatus.DELETED;
+        this.status = transition.target();
         this.updatedAt = Instant.now();
     }
 
@@ -175,4 +206,7 @@ public final class Stream {
 
     /** @return the timestamp of the most recent state change */
     public Instant getUpdatedAt() { return updatedAt; }
+
+    /** @return the persisted version this aggregate was loaded at; {@code 0} for a new stream */
+    public long getVersion() { return version; }
 }
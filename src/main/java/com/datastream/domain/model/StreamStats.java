@@ -0,0 +1,100 @@
+package com.datastream.domain.model;
+
+import com.datastream.domain.valueobjects.StreamId;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Aggregate ingest statistics for a single stream.
+ *
+ * <p>The same shape is used both for the running totals of a stream and for an
+ * increment to be added to them; {@link #merge} combines the two.
+ *
+ * @param streamId          the stream these statistics describe; must not be null
+ * @param eventCount        number of events; must be >= 0
+ * @param totalPayloadBytes sum of event payload sizes in bytes; must be >= 0
+ * @param firstEventAt      timestamp of the earliest event; {@code null} if there are none
+ * @param lastEventAt       timestamp of the latest event; {@code null} if there are none
+ */
+public record StreamStats(
+        StreamId streamId,
+        long eventCount,
+        long totalPayloadBytes,
+        Instant firstEventAt,
+        Instant lastEventAt) {
+
+    /**
+     * Compact constructor — validates inputs.
+     *
+     * @param streamId          the stream ID
+     * @param eventCount        the event count
+     * @param totalPayloadBytes the payload byte total
+     * @param firstEventAt      the earliest event timestamp
+     * @param lastEventAt       the latest event timestamp
+     */
+    public StreamStats {
+        Objects.requireNonNull(streamId, "streamId must not be null");
+        if (eventCount < 0) throw new IllegalArgumentException("eventCount must be >= 0");
+        if (totalPayloadBytes < 0) throw new IllegalArgumentException("totalPayloadBytes must be >= 0");
+    }
+
+    /**
+     * Returns statistics for a stream with no events.
+     *
+     * @param streamId the stream ID; must not be null
+     * @return zeroed {@code StreamStats}
+     */
+    public static StreamStats empty(StreamId streamId) {
+        return new StreamStats(streamId, 0, 0, null, null);
+    }
+
+    /**
+     * Adds another set of statistics for the same stream to this one.
+     *
+     * @param other the statistics to add; must not be null and must describe the same stream
+     * @return the combined statistics
+     * @throws IllegalArgumentException if {@code other} belongs to a different stream
+     */
+    public StreamStats merge(StreamStats other) {
+        Objects.requireNonNull(other, "other must not be null");
+        if (!streamId.equals(other.streamId)) {
+            throw new IllegalArgumentException("Cannot merge statistics of different streams");
+        }
+        return new StreamStats(
+                streamId,
+                eventCount + other.eventCount,
+                totalPayloadBytes + other.totalPayloadBytes,
+                earliest(firstEventAt, other.firstEventAt),
+                latest(lastEventAt, other.lastEventAt));
+    }
+
+    /**
+     * Returns the average ingest rate between the first and last event.
+     *
+     * <p>Spans shorter than one minute are treated as one minute, so a burst of
+     * events is reported as that many events per minute rather than an inflated rate.
+     *
+     * @return events per minute, or {@code 0} if there are no events
+     */
+    public double eventsPerMinute() {
+        if (eventCount == 0 || firstEventAt == null || lastEventAt == null) {
+            return 0;
+        }
+        double minutes = Math.max(1.0, Duration.between(firstEventAt, lastEventAt).toMillis() / 60_000.0);
+        return eventCount / minutes;
+    }
+
+    private static Instant earliest(Instant a, Instant b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static Instant latest(Instant a, Instant b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isAfter(b) ? a : b;
+    }
+}
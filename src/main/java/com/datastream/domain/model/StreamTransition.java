@@ -0,0 +1,88 @@
+package com.datastream.domain.model;
+
+import com.datastream.domain.exception.InvalidStreamStateException;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The lifecycle transitions of a {@link Stream}, each with its target status and the
+ * statuses it may be applied from.
+ *
+ * <p>This is the single source of the rules in {@link StreamStatus}: the aggregate
+ * methods ({@link Stream#activate()}, {@link Stream#deactivate()},
+ * {@link Stream#softDelete()}) check against it, and repositories use
+ * {@link #allowedFrom()} to apply a transition as one conditional update.
+ */
+public enum StreamTransition {
+
+    /** {@code DRAFT} or {@code INACTIVE} to {@code ACTIVE}. */
+    ACTIVATE(StreamStatus.ACTIVE, EnumSet.of(StreamStatus.DRAFT, StreamStatus.INACTIVE)),
+
+    /** {@code ACTIVE} to {@code INACTIVE}. */
+    DEACTIVATE(StreamStatus.INACTIVE, EnumSet.of(StreamStatus.ACTIVE)),
+
+    /** Any status except {@code DELETED} to {@code DELETED}. */
+    DELETE(StreamStatus.DELETED, EnumSet.complementOf(EnumSet.of(StreamStatus.DELETED)));
+
+    private final StreamStatus target;
+    private final Set<StreamStatus> allowedFrom;
+
+    StreamTransition(StreamStatus target, EnumSet<StreamStatus> allowedFrom) {
+        this.target = target;
+        this.allowedFrom = Collections.unmodifiableSet(allowedFrom);
+    }
+
+    /**
+     * Returns the transition that leads to the given status.
+     *
+     * @param target the requested status; must not be null
+     * @return the transition whose {@link #target()} is {@code target}
+     * @throws IllegalArgumentException if no transition leads to {@code target} (i.e. {@code DRAFT})
+     */
+    public static StreamTransition to(StreamStatus target) {
+        for (StreamTransition transition : values()) {
+            if (transition.target == target) {
+                return transition;
+            }
+        }
+        throw new IllegalArgumentException("Cannot transition to status: " + target);
+    }
+
+    /** @return the status a stream has after this transition */
+    public StreamStatus target() {
+        return target;
+    }
+
+    /** @return the statuses this transition may be applied from, in declaration order */
+    public Set<StreamStatus> allowedFrom() {
+        return allowedFrom;
+    }
+
+    /**
+     * Returns {@code true} if this transition may be applied to a stream in the given status.
+     *
+     * @param current the stream's current status; must not be null
+     * @return whether the transition is allowed
+     */
+    public boolean isAllowedFrom(StreamStatus current) {
+        return allowedFrom.contains(current);
+    }
+
+    /**
+     * Creates the exception reporting that this transition is not allowed from {@code current}.
+     *
+     * @param current the stream's current status; must not be null
+     * @return the exception to throw
+     */
+    public InvalidStreamStateException rejection(StreamStatus current) {
+        return switch (this) {
+            case ACTIVATE -> new InvalidStreamStateException(
+                    "Cannot activate stream from status " + current + ". Allowed from: DRAFT, INACTIVE");
+            case DEACTIVATE -> new InvalidStreamStateException(
+                    "Cannot deactivate stream from status " + current + ". Allowed from: ACTIVE");
+            case DELETE -> new InvalidStreamStateException("Stream is already in DELETED status");
+        };
+    }
+}
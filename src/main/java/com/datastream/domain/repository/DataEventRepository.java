@@ -1,9 +1,14 @@
 package com.datastream.domain.repository;
 
 import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.model.DataEventFilter;
 import com.datastream.domain.model.Page;
 import com.datastream.domain.valueobjects.StreamId;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * Repository interface for {@link DataEvent} entities.
  *
@@ -19,6 +24,14 @@ public interface DataEventRepository {
      */
     DataEvent save(DataEvent dataEvent);
 
+    /**
+     * Persists several data events, in as few round trips as the implementation allows.
+     *
+     * @param dataEvents the events to persist, in order; must not be null
+     * @return the saved events, in the same order
+     */
+    List<DataEvent> saveAll(List<DataEvent> dataEvents);
+
     /**
      * Returns a paginated list of events belonging to the given stream,
      * ordered by timestamp ascending.
@@ -29,4 +42,32 @@ public interface DataEventRepository {
      * @return a {@link Page} of {@link DataEvent} for the given stream
      */
     Page<DataEvent> findByStreamId(StreamId streamId, int page, int size);
+
+    /**
+     * Returns a paginated list of events belonging to the given stream that
+     * match {@code filter}, ordered by timestamp descending.
+     *
+     * @param streamId the stream to query; must not be null
+     * @param filter   metadata and time-range criteria; must not be null
+     * @param page     zero-based page index; must be >= 0
+     * @param size     maximum number of results per page; must be > 0
+     * @return a {@link Page} of matching {@link DataEvent}
+     */
+    Page<DataEvent> findByStreamId(StreamId streamId, DataEventFilter filter, int page, int size);
+
+    /**
+     * Streams every event of the given stream whose timestamp falls within
+     * {@code [from, to)} to {@code consumer}, ordered by timestamp ascending.
+     *
+     * <p>Implementations must read forward-only and must not materialise the
+     * full result, so that arbitrarily large histories can be exported with
+     * constant memory. An exception thrown by {@code consumer} aborts the read
+     * and is propagated to the caller.
+     *
+     * @param streamId the stream to read; must not be null
+     * @param from     inclusive lower bound; {@code null} means unbounded
+     * @param to       exclusive upper bound; {@code null} means unbounded
+     * @param consumer receives each event in order; must not be null
+     */
+    void forEachByStreamId(StreamId streamId, Instant from, Instant to, Consumer<DataEvent> consumer);
 }
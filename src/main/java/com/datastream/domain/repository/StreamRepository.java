@@ -3,9 +3,11 @@ package com.datastream.domain.repository;
 import com.datastream.domain.model.Page;
 import com.datastream.domain.model.Stream;
 import com.datastream.domain.model.StreamFilter;
+import com.datastream.domain.model.StreamTransition;
 import com.datastream.domain.valueobjects.StreamId;
-import com.datastream.domain.valueobjects.StreamName;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -25,6 +27,46 @@ public interface StreamRepository {
      */
     Stream save(Stream stream);
 
+    /**
+     * Persists a newly created stream that has never been saved before.
+     *
+     * <p>Unlike {@link #save}, implementations may assume no row with the stream's ID
+     * exists and skip any existence check.
+     *
+     * @param stream the new stream to persist; must not be null
+     * @return the saved stream
+     */
+    Stream insert(Stream stream);
+
+    /**
+     * Writes the mutable state of an existing stream (name, description, status and
+     * {@code updatedAt}) in a single statement, guarded by its version.
+     *
+     * <p>The write only succeeds if the stored version still equals
+     * {@link Stream#getVersion()}; it then increments the version.
+     *
+     * @param stream the modified stream, as loaded from this repository; must not be null
+     * @return the saved stream, carrying its new version
+     * @throws com.datastream.domain.exception.ConcurrentStreamModificationException
+     *         if the stream was modified or removed since it was loaded
+     */
+    Stream update(Stream stream);
+
+    /**
+     * Applies a lifecycle transition atomically, without loading the stream first.
+     *
+     * <p>The stream's status is set to {@link StreamTransition#target()} and its
+     * {@code updatedAt} to now only if its current status is one of
+     * {@link StreamTransition#allowedFrom()}; the check and the update happen in a
+     * single statement, so concurrent transitions cannot overwrite each other.
+     *
+     * @param streamId   the stream to transition; must not be null
+     * @param transition the transition to apply; must not be null
+     * @return the updated stream, or empty if the stream does not exist or its
+     *         current status does not allow the transition
+     */
+    Optional<Stream> transition(StreamId streamId, StreamTransition transition);
+
     /**
      * Finds a stream by its unique identifier.
      *
@@ -33,6 +75,17 @@ public interface StreamRepository {
      */
     Optional<Stream> findById(StreamId streamId);
 
+    /**
+     * Finds every stream whose ID is in the given collection, in a single query.
+     *
+     * <p>IDs with no matching stream are omitted from the result; the order of
+     * the returned list is unspecified.
+     *
+     * @param streamIds the IDs to look up; must not be null
+     * @return the streams that exist, at most one per distinct ID
+     */
+    List<Stream> findAllById(Collection<StreamId> streamIds);
+
     /**
      * Returns a paginated list of streams matching the given filter criteria.
      *
@@ -43,14 +96,6 @@ public interface StreamRepository {
      */
     Page<Stream> findAll(StreamFilter filter, int page, int size);
 
-    /**
-     * Returns {@code true} if a stream with the given name already exists.
-     *
-     * @param streamName the name to check; must not be null
-     * @return {@code true} if the name is taken, {@code false} otherwise
-     */
-    boolean existsByName(StreamName streamName);
-
     /**
      * Removes the stream with the given ID from the repository.
      *
@@ -0,0 +1,33 @@
+package com.datastream.domain.repository;
+
+import com.datastream.domain.model.StreamStats;
+import com.datastream.domain.valueobjects.StreamId;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Repository interface for per-stream {@link StreamStats}.
+ *
+ * <p>Defined in the domain layer and implemented in the infrastructure layer.
+ */
+public interface StreamStatsRepository {
+
+    /**
+     * Returns the persisted statistics of a stream.
+     *
+     * @param streamId the stream to look up; must not be null
+     * @return the statistics, or empty if nothing has been recorded for the stream yet
+     */
+    Optional<StreamStats> findByStreamId(StreamId streamId);
+
+    /**
+     * Adds each increment to the persisted totals of its stream, creating the row
+     * when the stream has none yet.
+     *
+     * <p>Implementations must apply the whole collection in one batched round trip.
+     *
+     * @param increments one increment per stream; must not be null
+     */
+    void mergeAll(Collection<StreamStats> increments);
+}
@@ -1,13 +1,11 @@
 package com.datastream.domain.service;
 
-import com.datastream.domain.exception.StreamAlreadyExistsException;
 import com.datastream.domain.exception.StreamNotFoundException;
 import com.datastream.domain.exception.InvalidStreamStateException;
 import com.datastream.domain.model.Stream;
 import com.datastream.domain.model.StreamStatus;
 import com.datastream.domain.repository.StreamRepository;
 import com.datastream.domain.valueobjects.StreamId;
-import com.datastream.domain.valueobjects.StreamName;
 
 import java.util.Objects;
 
@@ -30,19 +28,6 @@ public class StreamDomainService {
         this.streamRepository = Objects.requireNonNull(streamRepository, "streamRepository must not be null");
     }
 
-    /**
-     * Validates that no stream with the given name already exists.
-     *
-     * @param streamName the name to check; must not be null
-     * @throws StreamAlreadyExistsException if a stream with this name already exists
-     */
-    public void validateStreamNameUnique(StreamName streamName) {
-        Objects.requireNonNull(streamName, "streamName must not be null");
-        if (streamRepository.existsByName(streamName)) {
-            throw new StreamAlreadyExistsException(streamName);
-        }
-    }
-
     /**
      * Validates that the stream identified by the given ID is currently {@code ACTIVE}.
      *
@@ -42,6 +42,15 @@ public record EventPayload(byte[] value) {
         return Arrays.copyOf(value, value.length);
     }
 
+    /**
+     * Returns the payload size without copying the bytes.
+     *
+     * @return number of payload bytes
+     */
+    public int size() {
+        return value.length;
+    }
+
     /**
      * Creates an {@code EventPayload} from the given byte array.
      *
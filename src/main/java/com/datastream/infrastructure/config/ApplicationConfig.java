@@ -1,16 +1,26 @@
 package com.datastream.infrastructure.config;
 
 import com.datastream.application.handler.ActivateStreamHandler;
+import com.datastream.application.handler.BatchGetStreamsHandler;
 import com.datastream.application.handler.CreateStreamHandler;
 import com.datastream.application.handler.DeactivateStreamHandler;
 import com.datastream.application.handler.DeleteStreamHandler;
+import com.datastream.application.handler.ExportEventsHandler;
 import com.datastream.application.handler.GetStreamHandler;
+import com.datastream.application.handler.GetEventLatencyHandler;
+import com.datastream.application.handler.GetStreamStatsHandler;
 import com.datastream.application.handler.ListStreamsHandler;
 import com.datastream.application.handler.PublishEventHandler;
+import com.datastream.application.handler.QueryEventsHandler;
 import com.datastream.application.handler.UpdateStreamHandler;
+import com.datastream.application.port.EventLatencyRecorder;
+import com.datastream.application.port.EventMetrics;
+import com.datastream.application.port.EventTracer;
 import com.datastream.application.port.StreamEventPublisher;
+import com.datastream.application.port.StreamStatsRecorder;
 import com.datastream.domain.repository.DataEventRepository;
 import com.datastream.domain.repository.StreamRepository;
+import com.datastream.domain.repository.StreamStatsRepository;
 import com.datastream.domain.service.StreamDomainService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -39,22 +49,19 @@ public class ApplicationConfig {
     /**
      * Provides the {@link CreateStreamHandler} bean.
      *
-     * @param streamDomainService domain service for name uniqueness validation
-     * @param streamRepository    repository for persisting the new stream
+     * @param streamRepository repository for persisting the new stream
      * @return the configured handler
      */
     @Bean
-    public CreateStreamHandler createStreamHandler(
-            StreamDomainService streamDomainService,
-            StreamRepository streamRepository) {
-        return new CreateStreamHandler(streamDomainService, streamRepository);
+    public CreateStreamHandler createStreamHandler(StreamRepository streamRepository) {
+        return new CreateStreamHandler(streamRepository);
     }
 
     /**
      * Provides the {@link ActivateStreamHandler} bean.
      *
-     * @param streamDomainService domain service for loading the stream
-     * @param streamRepository    repository for persisting the activated stream
+     * @param streamDomainService domain service for loading the stream on failure
+     * @param streamRepository    repository applying the transition
      * @return the configured handler
      */
     @Bean
@@ -67,8 +74,8 @@ public class ApplicationConfig {
     /**
      * Provides the {@link DeactivateStreamHandler} bean.
      *
-     * @param streamDomainService domain service for loading the stream
-     * @param streamRepository    repository for persisting the deactivated stream
+     * @param streamDomainService domain service for loading the stream on failure
+     * @param streamRepository    repository applying the transition
      * @return the configured handler
      */
     @Bean
@@ -82,7 +89,7 @@ public class ApplicationConfig {
      * Provides the {@link UpdateStreamHandler} bean.
      *
      * @param streamDomainService domain service for loading the stream
-     * @param streamRepository    repository for persisting the updated stream
+     * @param streamRepository    repository for the versioned write
      * @return the configured handler
      */
     @Bean
@@ -95,8 +102,8 @@ public class ApplicationConfig {
     /**
      * Provides the {@link DeleteStreamHandler} bean.
      *
-     * @param streamDomainService domain service for loading the stream
-     * @param streamRepository    repository for persisting the deleted stream
+     * @param streamDomainService domain service for loading the stream on failure
+     * @param streamRepository    repository applying the transition
      * @return the configured handler
      */
     @Bean
@@ -112,14 +119,53 @@ public class ApplicationConfig {
      * @param streamDomainService    domain service for validating stream state
      * @param dataEventRepository    repository for persisting events
      * @param streamEventPublisher   publisher for notifying live subscribers
+     * @param streamStatsRecorder    recorder maintaining per-stream statistics
+     * @param eventMetrics           hot-path metrics for repository writes and published events
+     * @param eventLatencyRecorder   recorder for the persist and publish stage latencies
+     * @param eventTracer            tracer of validation and repository writes
      * @return the configured handler
      */
     @Bean
     public PublishEventHandler publishEventHandler(
             StreamDomainService streamDomainService,
             DataEventRepository dataEventRepository,
-            StreamEventPublisher streamEventPublisher) {
-        return new PublishEventHandler(streamDomainService, dataEventRepository, streamEventPublisher);
+            StreamEventPublisher streamEventPublisher,
+            StreamStatsRecorder streamStatsRecorder,
+            EventMetrics eventMetrics,
+            EventLatencyRecorder eventLatencyRecorder,
+            EventTracer eventTracer) {
+        return new PublishEventHandler(streamDomainService, dataEventRepository, streamEventPublisher,
+                streamStatsRecorder, eventMetrics, eventLatencyRecorder, eventTracer);
+    }
+
+    /**
+     * Provides the {@link GetStreamStatsHandler} bean.
+     *
+     * @param streamDomainService   domain service for validating the stream exists
+     * @param streamStatsRepository repository holding persisted statistics
+     * @param streamStatsRecorder   recorder holding not-yet-persisted statistics
+     * @return the configured handler
+     */
+    @Bean
+    public GetStreamStatsHandler getStreamStatsHandler(
+            StreamDomainService streamDomainService,
+            StreamStatsRepository streamStatsRepository,
+            StreamStatsRecorder streamStatsRecorder) {
+        return new GetStreamStatsHandler(streamDomainService, streamStatsRepository, streamStatsRecorder);
+    }
+
+    /**
+     * Provides the {@link GetEventLatencyHandler} bean.
+     *
+     * @param streamDomainService  domain service for validating the stream exists
+     * @param eventLatencyRecorder recorder holding the stage latency distributions
+     * @return the configured handler
+     */
+    @Bean
+    public GetEventLatencyHandler getEventLatencyHandler(
+            StreamDomainService streamDomainService,
+            EventLatencyRecorder eventLatencyRecorder) {
+        return new GetEventLatencyHandler(streamDomainService, eventLatencyRecorder);
     }
 
     /**
@@ -133,6 +179,17 @@ public class ApplicationConfig {
         return new GetStreamHandler(streamRepository);
     }
 
+    /**
+     * Provides the {@link BatchGetStreamsHandler} bean.
+     *
+     * @param streamRepository repository for multi-get reads
+     * @return the configured handler
+     */
+    @Bean
+    public BatchGetStreamsHandler batchGetStreamsHandler(StreamRepository streamRepository) {
+        return new BatchGetStreamsHandler(streamRepository);
+    }
+
     /**
      * Provides the {@link ListStreamsHandler} bean.
      *
@@ -143,4 +200,26 @@ public class ApplicationConfig {
     public ListStreamsHandler listStreamsHandler(StreamRepository streamRepository) {
         return new ListStreamsHandler(streamRepository);
     }
+
+    /**
+     * Provides the {@link ExportEventsHandler} bean.
+     *
+     * @param dataEventRepository repository providing the forward-only event read
+     * @return the configured handler
+     */
+    @Bean
+    public ExportEventsHandler exportEventsHandler(DataEventRepository dataEventRepository) {
+        return new ExportEventsHandler(dataEventRepository);
+    }
+
+    /**
+     * Provides the {@link QueryEventsHandler} bean.
+     *
+     * @param dataEventRepository repository for reading event data
+     * @return the configured handler
+     */
+    @Bean
+    public QueryEventsHandler queryEventsHandler(DataEventRepository dataEventRepository) {
+        return new QueryEventsHandler(dataEventRepository);
+    }
 }
@@ -0,0 +1,27 @@
+package com.datastream.infrastructure.config;
+
+import com.datastream.infrastructure.persistence.blob.PayloadBlobStore;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the content-addressed payload blob store used by the {@code data_events} stores.
+ */
+@Configuration
+public class BlobStoreConfig {
+
+    /**
+     * Provides the payload blob store. When offloading is disabled the store keeps every new
+     * payload inline but still resolves references written while it was enabled.
+     *
+     * @param blobStoreProperties the blob store settings
+     * @return the payload blob store
+     */
+    @Bean
+    public PayloadBlobStore payloadBlobStore(BlobStoreProperties blobStoreProperties) {
+        int threshold = blobStoreProperties.enabled()
+                ? (int) Math.min(Integer.MAX_VALUE, blobStoreProperties.threshold().toBytes())
+                : Integer.MAX_VALUE;
+        return new PayloadBlobStore(blobStoreProperties.directory(), threshold);
+    }
+}
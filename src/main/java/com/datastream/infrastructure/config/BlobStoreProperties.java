@@ -0,0 +1,47 @@
+package com.datastream.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Payload blob store settings, bound from {@code datastream.blob-store.*}.
+ *
+ * @param enabled   whether new payloads above {@code threshold} are offloaded; references already
+ *                  stored are resolved from {@code directory} either way
+ * @param directory root directory of the content-addressed blob files
+ * @param threshold payloads larger than this are stored as blobs; must be at least 1 KB
+ * @param sweepInterval delay between two sweeps that delete blobs no {@code data_events} row
+ *                      refers to any more
+ * @param sweepGrace    blobs written or reused more recently than this are never swept; must be
+ *                      longer than the longest publish transaction
+ */
+@ConfigurationProperties(prefix = "datastream.blob-store")
+public record BlobStoreProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/blobs") Path directory,
+        @DefaultValue("64KB") DataSize threshold,
+        @DefaultValue("PT1H") Duration sweepInterval,
+        @DefaultValue("PT1H") Duration sweepGrace) {
+
+    /**
+     * Compact constructor — validates the configured values.
+     *
+     * @param enabled   offloading switch
+     * @param directory blob root directory
+     * @param threshold offload threshold
+     * @param sweepInterval sweep schedule
+     * @param sweepGrace    minimum blob age before a sweep may delete it
+     */
+    public BlobStoreProperties {
+        if (threshold.toKilobytes() < 1) {
+            throw new IllegalArgumentException("datastream.blob-store.threshold must be at least 1KB");
+        }
+        if (sweepGrace.isNegative() || sweepGrace.isZero()) {
+            throw new IllegalArgumentException("datastream.blob-store.sweep-grace must be positive");
+        }
+    }
+}
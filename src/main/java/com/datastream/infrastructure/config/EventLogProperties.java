@@ -0,0 +1,57 @@
+package com.datastream.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Embedded event log settings, bound from {@code datastream.event-log.*}. Only used with
+ * {@code datastream.persistence.event-store=log}.
+ *
+ * @param directory              root directory; each stream gets a subdirectory of segment files
+ * @param segmentSize            size at which the active segment is sealed and a new one started;
+ *                               must be between 1 KB and 1 GB
+ * @param indexInterval          bytes of records between two sparse index entries; must be > 0
+ * @param fsync                  whether appends wait for the segment to be forced to disk;
+ *                               concurrent appenders share one {@code fsync}
+ * @param retention              sealed segments whose newest event is older than this are deleted;
+ *                               zero keeps everything
+ * @param retentionCheckInterval how often retention is applied
+ */
+@ConfigurationProperties(prefix = "datastream.event-log")
+public record EventLogProperties(
+        @DefaultValue("data/event-log") Path directory,
+        @DefaultValue("64MB") DataSize segmentSize,
+        @DefaultValue("4KB") DataSize indexInterval,
+        @DefaultValue("true") boolean fsync,
+        @DefaultValue("PT0S") Duration retention,
+        @DefaultValue("PT1M") Duration retentionCheckInterval) {
+
+    private static final DataSize MIN_SEGMENT_SIZE = DataSize.ofKilobytes(1);
+    private static final DataSize MAX_SEGMENT_SIZE = DataSize.ofGigabytes(1);
+
+    /**
+     * Compact constructor — validates the configured values.
+     *
+     * @param directory              log root directory
+     * @param segmentSize            segment roll size
+     * @param indexInterval          bytes between index entries
+     * @param fsync                  durable-append switch
+     * @param retention              age after which sealed segments are deleted
+     * @param retentionCheckInterval retention schedule
+     */
+    public EventLogProperties {
+        if (segmentSize.compareTo(MIN_SEGMENT_SIZE) < 0 || segmentSize.compareTo(MAX_SEGMENT_SIZE) > 0) {
+            throw new IllegalArgumentException("datastream.event-log.segment-size must be between 1KB and 1GB");
+        }
+        if (indexInterval.toBytes() <= 0) {
+            throw new IllegalArgumentException("datastream.event-log.index-interval must be > 0");
+        }
+        if (retention.isNegative()) {
+            throw new IllegalArgumentException("datastream.event-log.retention must not be negative");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.datastream.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Tuning for the {@code ExportEvents} bulk-export RPC, bound from {@code datastream.export.*}.
+ *
+ * @param fetchSize     rows fetched per round trip by the forward-only JDBC cursor; must be > 0
+ * @param maxBatchBytes upper bound on the serialized size of one streamed response batch; must be > 0
+ */
+@ConfigurationProperties(prefix = "datastream.export")
+public record ExportProperties(
+        @DefaultValue("1000") int fetchSize,
+        @DefaultValue("1048576") int maxBatchBytes) {
+
+    /**
+     * Compact constructor — validates the configured values.
+     *
+     * @param fetchSize     rows per cursor fetch
+     * @param maxBatchBytes maximum bytes per response batch
+     */
+    public ExportProperties {
+        if (fetchSize <= 0) throw new IllegalArgumentException("datastream.export.fetch-size must be > 0");
+        if (maxBatchBytes <= 0) throw new IllegalArgumentException("datastream.export.max-batch-bytes must be > 0");
+    }
+}
@@ -0,0 +1,39 @@
+package com.datastream.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Off-heap event store settings, bound from {@code datastream.off-heap.*}. Only used with
+ * {@code datastream.persistence.event-store=off-heap}.
+ *
+ * @param chunkSize size of each direct buffer events are appended to; also the largest
+ *                  encoded event accepted. Must be between 64 KB and 1 GB
+ * @param maxBytes  total size of all chunks; once reached, the oldest chunk is reused and
+ *                  its events are lost. Must hold at least two chunks and fit within
+ *                  {@code -XX:MaxDirectMemorySize}
+ */
+@ConfigurationProperties(prefix = "datastream.off-heap")
+public record OffHeapProperties(
+        @DefaultValue("4MB") DataSize chunkSize,
+        @DefaultValue("1GB") DataSize maxBytes) {
+
+    private static final DataSize MIN_CHUNK_SIZE = DataSize.ofKilobytes(64);
+    private static final DataSize MAX_CHUNK_SIZE = DataSize.ofGigabytes(1);
+
+    /**
+     * Compact constructor — validates the configured values.
+     *
+     * @param chunkSize direct buffer size
+     * @param maxBytes  byte budget across all streams
+     */
+    public OffHeapProperties {
+        if (chunkSize.compareTo(MIN_CHUNK_SIZE) < 0 || chunkSize.compareTo(MAX_CHUNK_SIZE) > 0) {
+            throw new IllegalArgumentException("datastream.off-heap.chunk-size must be between 64KB and 1GB");
+        }
+        if (maxBytes.toBytes() < 2 * chunkSize.toBytes()) {
+            throw new IllegalArgumentException("datastream.off-heap.max-bytes must be at least twice chunk-size");
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.datastream.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Set;
+
+/**
+ * Event persistence settings, bound from {@code datastream.persistence.*}.
+ *
+ * @param eventStore    the {@code DataEventRepository} implementation: {@code jpa} (Hibernate),
+ *                      {@code jdbc} (hand-written JDBC), {@code log} (embedded segment log, see
+ *                      {@link EventLogProperties}) or {@code off-heap} (bounded direct buffers, see
+ *                      {@link OffHeapProperties})
+ * @param batchSize     maximum number of rows sent in one JDBC batch by {@code saveAll}; must be > 0
+ * @param copyThreshold minimum number of events for {@code saveAll} to load them with
+ *                      {@code COPY ... FROM STDIN (FORMAT BINARY)} instead of batched inserts; must be > 0
+ */
+@ConfigurationProperties(prefix = "datastream.persistence")
+public record PersistenceProperties(
+        @DefaultValue("jpa") String eventStore,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("1000") int copyThreshold) {
+
+    private static final Set<String> EVENT_STORES = Set.of("jpa", "jdbc", "log", "off-heap");
+
+    /**
+     * Compact constructor — validates the configured values.
+     *
+     * @param eventStore    the event store implementation name
+     * @param batchSize     rows per JDBC batch
+     * @param copyThreshold events from which {@code saveAll} switches to {@code COPY}
+     */
+    public PersistenceProperties {
+        if (!EVENT_STORES.contains(eventStore)) {
+            throw new IllegalArgumentException("datastream.persistence.event-store must be one of " + EVENT_STORES);
+        }
+        if (batchSize <= 0) throw new IllegalArgumentException("datastream.persistence.batch-size must be > 0");
+        if (copyThreshold <= 0) throw new IllegalArgumentException("datastream.persistence.copy-threshold must be > 0");
+    }
+}
@@ -0,0 +1,93 @@
+package com.datastream.infrastructure.config;
+
+import com.datastream.infrastructure.interceptor.ClientIdInterceptor;
+import com.datastream.infrastructure.persistence.routing.ReadYourWritesTracker;
+import com.datastream.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured {@link DataSource} with one that routes read-only
+ * transactions to read replicas.
+ *
+ * <p>The primary pool is still built from {@code spring.datasource.*}; one pool per
+ * entry of {@code datastream.replicas.urls} is added next to it. Active only with
+ * {@code datastream.replicas.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datastream.replicas", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    /**
+     * Provides the primary connection pool, configured like the auto-configured one.
+     *
+     * @param dataSourceProperties the {@code spring.datasource.*} settings
+     * @return the primary pool
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Provides the routing data source over the primary and one read-only pool per replica.
+     *
+     * @param primaryDataSource    the primary pool
+     * @param dataSourceProperties the primary settings, used for default replica credentials
+     * @param replicaProperties    the replica settings
+     * @return the routing data source
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties dataSourceProperties,
+            ReplicaProperties replicaProperties) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaProperties.urls().size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(replicaProperties.urls().get(i));
+            replica.setUsername(replicaProperties.username() != null
+                    ? replicaProperties.username() : dataSourceProperties.determineUsername());
+            replica.setPassword(replicaProperties.password() != null
+                    ? replicaProperties.password() : dataSourceProperties.determinePassword());
+            replica.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            replica.setMaximumPoolSize(replicaProperties.maximumPoolSize());
+            replica.setReadOnly(true);
+            // Do not fail startup on an unreachable replica; the health check handles it
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(
+                primaryDataSource,
+                replicas,
+                new ReadYourWritesTracker(replicaProperties.readYourWritesWindow()),
+                ClientIdInterceptor::currentClientId);
+    }
+
+    /**
+     * Provides the data source used by JPA, JDBC and Liquibase.
+     *
+     * <p>Connections are acquired lazily so that the routing decision sees the
+     * transaction's read-only flag.
+     *
+     * @param replicaRoutingDataSource the routing data source
+     * @return a lazy proxy over the routing data source
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
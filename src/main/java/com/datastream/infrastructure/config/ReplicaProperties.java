@@ -0,0 +1,53 @@
+package com.datastream.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read-replica routing, bound from {@code datastream.replicas.*}.
+ *
+ * @param enabled              whether read-only transactions are routed to replicas
+ * @param urls                 JDBC URLs of the replicas; must not be empty when enabled
+ * @param username             replica user; {@code null} means the primary's user
+ * @param password             replica password; {@code null} means the primary's password
+ * @param maximumPoolSize      connection pool size per replica; must be > 0
+ * @param healthCheckInterval  how often replicas are probed; an unhealthy replica is retried
+ *                             no earlier than the next probe
+ * @param readYourWritesWindow how long after a client's write its reads stay on the primary;
+ *                             zero disables the window
+ */
+@ConfigurationProperties(prefix = "datastream.replicas")
+public record ReplicaProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue List<String> urls,
+        String username,
+        String password,
+        @DefaultValue("10") int maximumPoolSize,
+        @DefaultValue("PT5S") Duration healthCheckInterval,
+        @DefaultValue("PT0S") Duration readYourWritesWindow) {
+
+    /**
+     * Compact constructor — validates the configured values.
+     *
+     * @param enabled              routing switch
+     * @param urls                 replica JDBC URLs
+     * @param username             replica user
+     * @param password             replica password
+     * @param maximumPoolSize      pool size per replica
+     * @param healthCheckInterval  probe interval
+     * @param readYourWritesWindow primary-pinning window after a write
+     */
+    public ReplicaProperties {
+        urls = urls == null ? List.of() : List.copyOf(urls);
+        if (enabled && urls.isEmpty()) {
+            throw new IllegalArgumentException("datastream.replicas.urls must not be empty when replicas are enabled");
+        }
+        if (maximumPoolSize <= 0) throw new IllegalArgumentException("datastream.replicas.maximum-pool-size must be > 0");
+        if (readYourWritesWindow.isNegative()) {
+            throw new IllegalArgumentException("datastream.replicas.read-your-writes-window must not be negative");
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.datastream.infrastructure.config;
+
+import com.datastream.infrastructure.persistence.diagnostics.SqlStatementDiagnostics;
+import com.datastream.infrastructure.persistence.diagnostics.StatementTimingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wires SQL statement diagnostics: the data source used by JPA, JDBC and Liquibase is
+ * wrapped in a {@link StatementTimingDataSource}. Active only with
+ * {@code datastream.sql-diagnostics.enabled=true}; otherwise statements run on the
+ * unwrapped data source at no cost.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datastream.sql-diagnostics", name = "enabled", havingValue = "true")
+public class SqlDiagnosticsConfig {
+
+    /** Name of the data source bean, auto-configured or from {@link ReplicaDataSourceConfig}. */
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    /**
+     * Provides the statement diagnostics.
+     *
+     * @param registry   registry the statement timers are registered with
+     * @param properties the diagnostics settings
+     * @return the diagnostics
+     */
+    @Bean
+    public SqlStatementDiagnostics sqlStatementDiagnostics(MeterRegistry registry, SqlDiagnosticsProperties properties) {
+        return new SqlStatementDiagnostics(
+                registry, properties.slowThreshold(), properties.sampleRate(), properties.maxStatements());
+    }
+
+    /**
+     * Wraps the {@code dataSource} bean once it is initialized. Other data source beans,
+     * such as the replica pools, are left alone so they keep their type.
+     *
+     * <p>Static, and resolving the diagnostics lazily, so that the post-processor does not
+     * pull the meter registry into early initialization.
+     *
+     * @param diagnostics the statement diagnostics, resolved on first use
+     * @return the post-processor
+     */
+    @Bean
+    public static BeanPostProcessor statementTimingDataSourcePostProcessor(
+            ObjectProvider<SqlStatementDiagnostics> diagnostics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)) {
+                    return new StatementTimingDataSource(dataSource, diagnostics.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
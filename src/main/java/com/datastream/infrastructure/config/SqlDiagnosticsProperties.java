@@ -0,0 +1,48 @@
+package com.datastream.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * SQL statement diagnostics, bound from {@code datastream.sql-diagnostics.*}.
+ *
+ * <p>When enabled, every JDBC statement is timed; slow and sampled statements are also
+ * logged and timed per statement, with normalized SQL. See
+ * {@link com.datastream.infrastructure.persistence.diagnostics.SqlStatementDiagnostics}.
+ *
+ * @param enabled       whether statements are timed; disabled, the default, leaves the data
+ *                      source unwrapped
+ * @param slowThreshold duration from which a statement is logged as slow
+ * @param sampleRate    fraction of statements logged and timed per statement regardless of
+ *                      their duration, between 0 and 1
+ * @param maxStatements distinct normalized statements with their own timers; must be > 0
+ */
+@ConfigurationProperties(prefix = "datastream.sql-diagnostics")
+public record SqlDiagnosticsProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("PT0.2S") Duration slowThreshold,
+        @DefaultValue("0") double sampleRate,
+        @DefaultValue("200") int maxStatements) {
+
+    /**
+     * Compact constructor — validates the configured values.
+     *
+     * @param enabled       diagnostics switch
+     * @param slowThreshold slow statement threshold
+     * @param sampleRate    statement sample rate
+     * @param maxStatements distinct statements with timers
+     */
+    public SqlDiagnosticsProperties {
+        if (slowThreshold.isNegative()) {
+            throw new IllegalArgumentException("datastream.sql-diagnostics.slow-threshold must not be negative");
+        }
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("datastream.sql-diagnostics.sample-rate must be between 0 and 1");
+        }
+        if (maxStatements <= 0) {
+            throw new IllegalArgumentException("datastream.sql-diagnostics.max-statements must be > 0");
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.datastream.infrastructure.config;
+
+import com.datastream.infrastructure.persistence.tiering.ColdSegmentIndex;
+import com.datastream.infrastructure.persistence.tiering.ColdSegmentStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Wires the cold-storage tier: the segment file store and its {@code cold_segments} index.
+ * Active only with {@code datastream.tiering.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datastream.tiering", name = "enabled", havingValue = "true")
+public class TieringConfig {
+
+    /**
+     * Provides the store of compressed segment files.
+     *
+     * @param tieringProperties the tiering settings
+     * @return the segment store rooted at {@code datastream.tiering.directory}
+     */
+    @Bean
+    public ColdSegmentStore coldSegmentStore(TieringProperties tieringProperties) {
+        return new ColdSegmentStore(tieringProperties.directory());
+    }
+
+    /**
+     * Provides access to the {@code cold_segments} table.
+     *
+     * @param jdbcTemplate JDBC access
+     * @return the segment index
+     */
+    @Bean
+    public ColdSegmentIndex coldSegmentIndex(JdbcTemplate jdbcTemplate) {
+        return new ColdSegmentIndex(jdbcTemplate);
+    }
+}
@@ -0,0 +1,77 @@
+package com.datastream.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Cold-storage tiering settings, bound from {@code datastream.tiering.*}.
+ *
+ * <p>When enabled, events older than their stream's threshold are periodically moved out of
+ * {@code data_events} into compressed segment files under {@code directory}, indexed by the
+ * {@code cold_segments} table, and event reads merge both tiers.
+ *
+ * @param enabled       whether the tiering job runs and reads consult cold segments
+ * @param directory     root directory of the segment files; one subdirectory per stream
+ * @param defaultAge    age after which events of streams without an entry in {@code streamAges}
+ *                      are moved; zero leaves those streams entirely hot
+ * @param streamAges    per-stream overrides of {@code defaultAge}, keyed by stream ID
+ * @param segmentEvents maximum number of events per segment file, and per move transaction;
+ *                      must be > 0
+ * @param segmentSize   maximum uncompressed payload and metadata bytes per segment file, and per
+ *                      move transaction; a segment ends with the event that reaches it. Between
+ *                      1KB and 1GB
+ * @param interval      delay between two runs of the tiering job
+ */
+@ConfigurationProperties(prefix = "datastream.tiering")
+public record TieringProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/cold-segments") Path directory,
+        @DefaultValue("PT0S") Duration defaultAge,
+        Map<UUID, Duration> streamAges,
+        @DefaultValue("50000") int segmentEvents,
+        @DefaultValue("64MB") DataSize segmentSize,
+        @DefaultValue("PT1H") Duration interval) {
+
+    private static final DataSize MIN_SEGMENT_SIZE = DataSize.ofKilobytes(1);
+    private static final DataSize MAX_SEGMENT_SIZE = DataSize.ofGigabytes(1);
+
+    /**
+     * Compact constructor — normalises {@code streamAges} and validates the configured values.
+     *
+     * @param enabled       tiering switch
+     * @param directory     segment file root
+     * @param defaultAge    default tiering age
+     * @param streamAges    per-stream tiering ages; {@code null} is treated as empty
+     * @param segmentEvents events per segment file
+     * @param segmentSize   bytes per segment file
+     * @param interval      job schedule
+     */
+    public TieringProperties {
+        streamAges = streamAges == null ? Map.of() : Map.copyOf(streamAges);
+        if (defaultAge.isNegative() || streamAges.values().stream().anyMatch(Duration::isNegative)) {
+            throw new IllegalArgumentException("datastream.tiering ages must not be negative");
+        }
+        if (segmentEvents <= 0) {
+            throw new IllegalArgumentException("datastream.tiering.segment-events must be > 0");
+        }
+        if (segmentSize.compareTo(MIN_SEGMENT_SIZE) < 0 || segmentSize.compareTo(MAX_SEGMENT_SIZE) > 0) {
+            throw new IllegalArgumentException("datastream.tiering.segment-size must be between 1KB and 1GB");
+        }
+    }
+
+    /**
+     * Returns the age after which events of the given stream are moved to cold storage.
+     *
+     * @param streamId the stream ID
+     * @return the stream's tiering age; zero means never
+     */
+    public Duration ageFor(UUID streamId) {
+        return streamAges.getOrDefault(streamId, defaultAge);
+    }
+}
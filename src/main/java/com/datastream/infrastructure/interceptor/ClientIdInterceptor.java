@@ -0,0 +1,63 @@
+package com.datastream.infrastructure.interceptor;
+
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+
+/**
+ * Identifies the calling client and exposes it to the call's handlers through the
+ * gRPC {@link Context}.
+ *
+ * <p>The client is the value of the {@code x-client-id} request header if present,
+ * otherwise the remote host address. Used by read-replica routing to keep a client's
+ * reads on the primary right after it wrote, so it is only registered when
+ * {@code datastream.replicas.enabled=true}.
+ */
+@GrpcGlobalServerInterceptor
+@ConditionalOnProperty(prefix = "datastream.replicas", name = "enabled", havingValue = "true")
+public class ClientIdInterceptor implements ServerInterceptor {
+
+    /** Request header carrying an explicit client identifier. */
+    public static final Metadata.Key<String> CLIENT_ID_HEADER =
+            Metadata.Key.of("x-client-id", Metadata.ASCII_STRING_MARSHALLER);
+
+    private static final Context.Key<String> CLIENT_ID = Context.key("datastream-client-id");
+
+    /**
+     * Returns the client of the gRPC call being handled on this thread.
+     *
+     * @return the client identifier, or {@code null} outside a gRPC call
+     */
+    public static String currentClientId() {
+        return CLIENT_ID.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+        String clientId = headers.get(CLIENT_ID_HEADER);
+        if (clientId == null) {
+            clientId = remoteHost(call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR));
+        }
+        return Contexts.interceptCall(Context.current().withValue(CLIENT_ID, clientId), call, headers, next);
+    }
+
+    private static String remoteHost(SocketAddress address) {
+        if (address instanceof InetSocketAddress inet) {
+            return inet.getAddress() != null ? inet.getAddress().getHostAddress() : inet.getHostString();
+        }
+        return address != null ? address.toString() : null;
+    }
+}
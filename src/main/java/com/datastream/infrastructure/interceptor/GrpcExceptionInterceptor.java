@@ -1,13 +1,18 @@
 package com.datastream.infrastructure.interceptor;
 
+import com.datastream.domain.exception.ConcurrentStreamModificationException;
 import com.datastream.domain.exception.InvalidStreamOperationException;
 import com.datastream.domain.exception.InvalidStreamStateException;
 import com.datastream.domain.exception.StreamAlreadyExistsException;
 import com.datastream.domain.exception.StreamNotFoundException;
 import io.grpc.Status;
+import io.grpc.StatusException;
 import io.grpc.StatusRuntimeException;
 import net.devh.boot.grpc.server.advice.GrpcAdvice;
 import net.devh.boot.grpc.server.advice.GrpcExceptionHandler;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.DateTimeException;
 
 /**
  * Global gRPC exception handler that maps domain exceptions to appropriate
@@ -16,6 +21,8 @@ import net.devh.boot.grpc.server.advice.GrpcExceptionHandler;
  * <p>Annotated with {@link GrpcAdvice} so that the
  * {@code grpc-spring-boot-starter} registers it for all gRPC service calls.
  * This keeps exception-to-status mapping out of individual service methods.
+ * Failures raised where the advice does not reach, such as on a thread an RPC
+ * hands its work to, are translated with {@link #toStatus} instead.
  */
 @GrpcAdvice
 public class GrpcExceptionInterceptor {
@@ -28,9 +35,7 @@ public class GrpcExceptionInterceptor {
      */
     @GrpcExceptionHandler(StreamNotFoundException.class)
     public StatusRuntimeException handleStreamNotFound(StreamNotFoundException e) {
-        return Status.NOT_FOUND
-                .withDescription(e.getMessage())
-                .asRuntimeException();
+        return toStatus(e).asRuntimeException();
     }
 
     /**
@@ -41,9 +46,7 @@ public class GrpcExceptionInterceptor {
      */
     @GrpcExceptionHandler(StreamAlreadyExistsException.class)
     public StatusRuntimeException handleStreamAlreadyExists(StreamAlreadyExistsException e) {
-        return Status.ALREADY_EXISTS
-                .withDescription(e.getMessage())
-                .asRuntimeException();
+        return toStatus(e).asRuntimeException();
     }
 
     /**
@@ -54,9 +57,7 @@ public class GrpcExceptionInterceptor {
      */
     @GrpcExceptionHandler(InvalidStreamStateException.class)
     public StatusRuntimeException handleInvalidStreamState(InvalidStreamStateException e) {
-        return Status.FAILED_PRECONDITION
-                .withDescription(e.getMessage())
-                .asRuntimeException();
+        return toStatus(e).asRuntimeException();
     }
 
     /**
@@ -67,9 +68,31 @@ public class GrpcExceptionInterceptor {
      */
     @GrpcExceptionHandler(InvalidStreamOperationException.class)
     public StatusRuntimeException handleInvalidStreamOperation(InvalidStreamOperationException e) {
-        return Status.FAILED_PRECONDITION
-                .withDescription(e.getMessage())
-                .asRuntimeException();
+        return toStatus(e).asRuntimeException();
+    }
+
+    /**
+     * Maps {@link ConcurrentStreamModificationException} to {@link Status#ABORTED}.
+     *
+     * @param e the exception thrown by the persistence layer
+     * @return a {@link StatusRuntimeException} with {@code ABORTED} status
+     */
+    @GrpcExceptionHandler(ConcurrentStreamModificationException.class)
+    public StatusRuntimeException handleConcurrentStreamModification(ConcurrentStreamModificationException e) {
+        return toStatus(e).asRuntimeException();
+    }
+
+    /**
+     * Maps {@link OptimisticLockingFailureException} to {@link Status#ABORTED}.
+     *
+     * <p>Raised when a JPA write finds a newer {@code version} than the entity it started from.
+     *
+     * @param e the exception thrown by Spring Data
+     * @return a {@link StatusRuntimeException} with {@code ABORTED} status
+     */
+    @GrpcExceptionHandler(OptimisticLockingFailureException.class)
+    public StatusRuntimeException handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        return toStatus(e).asRuntimeException();
     }
 
     /**
@@ -83,8 +106,44 @@ public class GrpcExceptionInterceptor {
      */
     @GrpcExceptionHandler(IllegalArgumentException.class)
     public StatusRuntimeException handleIllegalArgument(IllegalArgumentException e) {
-        return Status.INVALID_ARGUMENT
-                .withDescription(e.getMessage())
-                .asRuntimeException();
+        return toStatus(e).asRuntimeException();
+    }
+
+    /**
+     * Maps {@link DateTimeException} to {@link Status#INVALID_ARGUMENT}.
+     *
+     * <p>Raised for request timestamps outside the supported range or not in ISO-8601.
+     *
+     * @param e the exception thrown during argument parsing
+     * @return a {@link StatusRuntimeException} with {@code INVALID_ARGUMENT} status
+     */
+    @GrpcExceptionHandler(DateTimeException.class)
+    public StatusRuntimeException handleDateTime(DateTimeException e) {
+        return toStatus(e).asRuntimeException();
+    }
+
+    /**
+     * Translates an exception to the status the handlers of this class return for it.
+     * Status exceptions keep their own status; any other exception becomes
+     * {@link Status#INTERNAL} without its message, which is not meant for clients.
+     *
+     * @param e the exception to translate; must not be null
+     * @return the status to close the call with
+     */
+    public static Status toStatus(Throwable e) {
+        return switch (e) {
+            case StatusRuntimeException s -> s.getStatus();
+            case StatusException s -> s.getStatus();
+            case StreamNotFoundException n -> Status.NOT_FOUND.withDescription(e.getMessage());
+            case StreamAlreadyExistsException a -> Status.ALREADY_EXISTS.withDescription(e.getMessage());
+            case InvalidStreamStateException i -> Status.FAILED_PRECONDITION.withDescription(e.getMessage());
+            case InvalidStreamOperationException i -> Status.FAILED_PRECONDITION.withDescription(e.getMessage());
+            case ConcurrentStreamModificationException c -> Status.ABORTED.withDescription(e.getMessage());
+            case OptimisticLockingFailureException o ->
+                    Status.ABORTED.withDescription("Stream was modified concurrently; reload and retry");
+            case IllegalArgumentException i -> Status.INVALID_ARGUMENT.withDescription(e.getMessage());
+            case DateTimeException d -> Status.INVALID_ARGUMENT.withDescription(e.getMessage());
+            default -> Status.INTERNAL.withDescription("Internal error");
+        };
     }
 }
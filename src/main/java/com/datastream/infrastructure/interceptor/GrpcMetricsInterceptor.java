@@ -0,0 +1,155 @@
+package com.datastream.infrastructure.interceptor;
+
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.devh.boot.grpc.common.util.InterceptorOrder;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import org.springframework.core.annotation.Order;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Records the duration of every gRPC call and the messages it exchanged.
+ *
+ * <p>Meters, tagged with the full {@code method} name:
+ * <ul>
+ *   <li>{@code datastream.grpc.server.calls}: timer with histogram from the call's start to its
+ *       close, also tagged with the final {@code status} code</li>
+ *   <li>{@code datastream.grpc.server.messages.received} and {@code .sent}: message counters</li>
+ * </ul>
+ *
+ * <p>Meters are resolved once per method and status, so a call costs two wrapper objects and
+ * each message a counter increment. Calls cancelled by the client are recorded with status
+ * {@code CANCELLED}. Ordered before the {@code @GrpcAdvice} exception handling so that calls
+ * failed by a mapped exception are recorded with their mapped status.
+ */
+@GrpcGlobalServerInterceptor
+@Order(InterceptorOrder.ORDER_GLOBAL_EXCEPTION_HANDLING - 1)
+public class GrpcMetricsInterceptor implements ServerInterceptor {
+
+    private static final Status.Code[] CODES = Status.Code.values();
+
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<String, MethodMeters> methods = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the interceptor.
+     *
+     * @param registry registry the meters are registered with; must not be null
+     */
+    public GrpcMetricsInterceptor(MeterRegistry registry) {
+        this.registry = Objects.requireNonNull(registry, "registry must not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+        TimedCall<ReqT, RespT> timed = new TimedCall<>(call, meters(call.getMethodDescriptor()));
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(next.startCall(timed, headers)) {
+            @Override
+            public void onMessage(ReqT message) {
+                timed.meters.received.increment();
+                super.onMessage(message);
+            }
+
+            @Override
+            public void onCancel() {
+                timed.record(Status.Code.CANCELLED);
+                super.onCancel();
+            }
+        };
+    }
+
+    private MethodMeters meters(MethodDescriptor<?, ?> method) {
+        String name = method.getFullMethodName();
+        MethodMeters meters = methods.get(name);
+        return meters != null ? meters : methods.computeIfAbsent(name, MethodMeters::new);
+    }
+
+    /**
+     * A call that counts sent messages and records its duration once, when closed by the
+     * server or cancelled by the client.
+     */
+    private static final class TimedCall<ReqT, RespT>
+            extends ForwardingServerCall.SimpleForwardingServerCall<ReqT, RespT> {
+
+        final MethodMeters meters;
+        private final long start = System.nanoTime();
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        TimedCall(ServerCall<ReqT, RespT> delegate, MethodMeters meters) {
+            super(delegate);
+            this.meters = meters;
+        }
+
+        @Override
+        public void sendMessage(RespT message) {
+            meters.sent.increment();
+            super.sendMessage(message);
+        }
+
+        @Override
+        public void close(Status status, Metadata trailers) {
+            record(status.getCode());
+            super.close(status, trailers);
+        }
+
+        void record(Status.Code code) {
+            // close and a client cancel may race on different threads; only the first records
+            if (recorded.compareAndSet(false, true)) {
+                meters.timer(code).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * The meters of one method; call timers are registered on first use of each status.
+     */
+    private final class MethodMeters {
+
+        final String method;
+        final Counter received;
+        final Counter sent;
+        final AtomicReferenceArray<Timer> timers = new AtomicReferenceArray<>(CODES.length);
+
+        MethodMeters(String method) {
+            this.method = method;
+            this.received = Counter.builder("datastream.grpc.server.messages.received")
+                    .tag("method", method)
+                    .register(registry);
+            this.sent = Counter.builder("datastream.grpc.server.messages.sent")
+                    .tag("method", method)
+                    .register(registry);
+        }
+
+        Timer timer(Status.Code code) {
+            Timer timer = timers.get(code.ordinal());
+            if (timer == null) {
+                // The registry returns the existing timer if another call registered it first
+                timer = Timer.builder("datastream.grpc.server.calls")
+                        .tag("method", method)
+                        .tag("status", code.name())
+                        .publishPercentileHistogram()
+                        .register(registry);
+                timers.set(code.ordinal(), timer);
+            }
+            return timer;
+        }
+    }
+}
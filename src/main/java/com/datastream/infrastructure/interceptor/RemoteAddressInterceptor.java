@@ -0,0 +1,57 @@
+package com.datastream.infrastructure.interceptor;
+
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+
+/**
+ * Exposes the remote address of server-streaming calls to their handlers through the
+ * gRPC {@link Context}.
+ *
+ * <p>Used to label live subscriptions with the client they belong to. Unary and
+ * client-streaming calls are passed through untouched, so they pay nothing for it.
+ */
+@GrpcGlobalServerInterceptor
+public class RemoteAddressInterceptor implements ServerInterceptor {
+
+    private static final Context.Key<String> REMOTE_ADDRESS = Context.key("datastream-remote-address");
+
+    /**
+     * Returns the remote address of the server-streaming gRPC call being handled on this thread.
+     *
+     * @return {@code host:port} of the client, or {@code null} outside such a call
+     */
+    public static String currentRemoteAddress() {
+        return REMOTE_ADDRESS.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+        if (call.getMethodDescriptor().getType() != MethodDescriptor.MethodType.SERVER_STREAMING) {
+            return next.startCall(call, headers);
+        }
+        String address = format(call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR));
+        return Contexts.interceptCall(Context.current().withValue(REMOTE_ADDRESS, address), call, headers, next);
+    }
+
+    private static String format(SocketAddress address) {
+        if (address instanceof InetSocketAddress inet) {
+            String host = inet.getAddress() != null ? inet.getAddress().getHostAddress() : inet.getHostString();
+            return host + ":" + inet.getPort();
+        }
+        return address != null ? address.toString() : null;
+    }
+}
@@ -0,0 +1,42 @@
+package com.datastream.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * An event taken off a subscriber queue was handed to the gRPC transport.
+ */
+@Name("datastream.EventDelivered")
+@Label("Event Delivered")
+@Description("Encoding and sending of an event to one subscriber")
+@Category({"Datastream", "Event Pipeline"})
+@StackTrace(false)
+@Threshold("1 ms")
+public class EventDelivered extends jdk.jfr.Event {
+
+    @Label("Stream ID")
+    String streamId;
+
+    @Label("Payload Size")
+    @DataAmount
+    int payloadBytes;
+
+    /**
+     * Ends the event and records it if it is enabled and above its threshold.
+     *
+     * @param streamId     UUID string of the stream
+     * @param payloadBytes payload size of the event
+     */
+    public void commit(String streamId, int payloadBytes) {
+        if (shouldCommit()) {
+            this.streamId = streamId;
+            this.payloadBytes = payloadBytes;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.datastream.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A published event was offered to every subscriber queue of its stream.
+ */
+@Name("datastream.EventFannedOut")
+@Label("Event Fanned Out")
+@Description("Offer of a published event to the subscriber queues of its stream")
+@Category({"Datastream", "Event Pipeline"})
+@StackTrace(false)
+@Threshold("1 ms")
+public class EventFannedOut extends jdk.jfr.Event {
+
+    @Label("Stream ID")
+    String streamId;
+
+    @Label("Payload Size")
+    @DataAmount
+    int payloadBytes;
+
+    @Label("Subscribers")
+    int subscribers;
+
+    @Label("Dropped")
+    @Description("Subscribers whose queue was full")
+    int dropped;
+
+    /**
+     * Ends the event and records it if it is enabled and above its threshold.
+     *
+     * @param streamId     UUID string of the stream
+     * @param payloadBytes payload size of the event
+     * @param subscribers  number of queues the event was offered to
+     * @param dropped      number of queues that rejected the event
+     */
+    public void commit(String streamId, int payloadBytes, int subscribers, int dropped) {
+        if (shouldCommit()) {
+            this.streamId = streamId;
+            this.payloadBytes = payloadBytes;
+            this.subscribers = subscribers;
+            this.dropped = dropped;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.datastream.infrastructure.jfr;
+
+import com.datastream.application.port.EventTracer;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Events were written to the repository in one call.
+ */
+@Name("datastream.EventPersisted")
+@Label("Event Persisted")
+@Description("Repository write of one or more published events")
+@Category({"Datastream", "Event Pipeline"})
+@StackTrace(false)
+@Threshold("10 ms")
+class EventPersisted extends jdk.jfr.Event implements EventTracer.Span {
+
+    @Label("Stream ID")
+    @Description("Stream written to; absent if the events belong to several streams")
+    String streamId;
+
+    @Label("Events")
+    int events;
+
+    @Label("Payload Size")
+    @Description("Total payload size of the events")
+    @DataAmount
+    long payloadBytes;
+}
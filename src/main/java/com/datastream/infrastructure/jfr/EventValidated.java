@@ -0,0 +1,29 @@
+package com.datastream.infrastructure.jfr;
+
+import com.datastream.application.port.EventTracer;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * The target stream of a published event was checked to accept events.
+ */
+@Name("datastream.EventValidated")
+@Label("Event Validated")
+@Description("Check that the target stream of a published event is active")
+@Category({"Datastream", "Event Pipeline"})
+@StackTrace(false)
+@Threshold("1 ms")
+class EventValidated extends jdk.jfr.Event implements EventTracer.Span {
+
+    @Label("Stream ID")
+    String streamId;
+
+    @Label("Payload Size")
+    @DataAmount
+    int payloadBytes;
+}
@@ -0,0 +1,51 @@
+package com.datastream.infrastructure.jfr;
+
+import com.datastream.application.port.EventTracer;
+import jdk.jfr.EventType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Java Flight Recorder implementation of {@link EventTracer}.
+ *
+ * <p>Spans are the JFR events themselves, {@link EventValidated} and {@link EventPersisted},
+ * whose duration runs from the call that opens them to {@link EventTracer.Span#commit()}.
+ * While no recording enables an event type, {@link EventTracer.Span#NONE} is returned and
+ * nothing is allocated.
+ */
+@Component
+public class JfrEventTracer implements EventTracer {
+
+    private static final EventType VALIDATED = EventType.getEventType(EventValidated.class);
+    private static final EventType PERSISTED = EventType.getEventType(EventPersisted.class);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Span validating(String streamId, int payloadBytes) {
+        if (!VALIDATED.isEnabled()) {
+            return Span.NONE;
+        }
+        EventValidated event = new EventValidated();
+        event.streamId = streamId;
+        event.payloadBytes = payloadBytes;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Span persisting(String streamId, int events, long payloadBytes) {
+        if (!PERSISTED.isEnabled()) {
+            return Span.NONE;
+        }
+        EventPersisted event = new EventPersisted();
+        event.streamId = streamId;
+        event.events = events;
+        event.payloadBytes = payloadBytes;
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,48 @@
+package com.datastream.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A subscriber queue was full and dropped a published event.
+ *
+ * <p>An instant event: it has no threshold, since every drop is worth recording.
+ */
+@Name("datastream.SubscriberQueueOverflow")
+@Label("Subscriber Queue Overflow")
+@Description("A published event dropped because a subscriber queue was full")
+@Category({"Datastream", "Event Pipeline"})
+@StackTrace(false)
+public class SubscriberQueueOverflow extends jdk.jfr.Event {
+
+    @Label("Stream ID")
+    String streamId;
+
+    @Label("Payload Size")
+    @DataAmount
+    int payloadBytes;
+
+    @Label("Queue Capacity")
+    int capacity;
+
+    /**
+     * Records a drop if the event is enabled.
+     *
+     * @param streamId     UUID string of the stream
+     * @param payloadBytes payload size of the dropped event
+     * @param capacity     capacity of the full queue
+     */
+    public static void record(String streamId, int payloadBytes, int capacity) {
+        SubscriberQueueOverflow event = new SubscriberQueueOverflow();
+        if (event.isEnabled()) {
+            event.streamId = streamId;
+            event.payloadBytes = payloadBytes;
+            event.capacity = capacity;
+            event.commit();
+        }
+    }
+}
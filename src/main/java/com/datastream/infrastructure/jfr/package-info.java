@@ -0,0 +1,10 @@
+/**
+ * Java Flight Recorder events for the stages of the publish and fan-out path.
+ *
+ * <p>Every event carries the stream ID and payload size, and its JFR duration covers
+ * the stage. Events are enabled by default but have thresholds, so a recording only
+ * keeps slow stages unless its settings lower them, e.g.
+ * {@code jfr configure +datastream.EventPersisted#threshold=0ms}. While no recording
+ * enables an event, creating and committing it is skipped or compiled away.
+ */
+package com.datastream.infrastructure.jfr;
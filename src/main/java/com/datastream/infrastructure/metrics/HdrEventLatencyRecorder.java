@@ -0,0 +1,128 @@
+package com.datastream.infrastructure.metrics;
+
+import com.datastream.application.dto.DataEventResponse;
+import com.datastream.application.dto.EventLatencyResponse;
+import com.datastream.application.dto.EventLatencyResponse.Stage;
+import com.datastream.application.dto.EventLatencyResponse.StageLatency;
+import com.datastream.application.port.EventLatencyRecorder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * HdrHistogram implementation of {@link EventLatencyRecorder}.
+ *
+ * <p>Each stream has one {@link Recorder} per stage, recording microseconds with two
+ * significant digits. Recording is wait-free and allocation-free once a stream's
+ * recorders exist; readers swap out the interval histogram and fold it into a running
+ * total, so a read never blocks the publish or delivery path. Events without stage
+ * stamps are ignored. A stream's histograms are kept for the lifetime of the process,
+ * like its statistics accumulator.
+ */
+@Component
+public class HdrEventLatencyRecorder implements EventLatencyRecorder {
+
+    private static final Stage[] STAGES = Stage.values();
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final ConcurrentHashMap<String, StreamLatency> streams = new ConcurrentHashMap<>();
+    private final Function<String, StreamLatency> newStreamLatency = streamId -> new StreamLatency();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void published(DataEventResponse event) {
+        if (!event.isTimed()) {
+            return;
+        }
+        StreamLatency latency = latency(event.streamId());
+        latency.record(Stage.PERSIST, event.receivedNanos(), event.persistedNanos());
+        latency.record(Stage.PUBLISH, event.persistedNanos(), event.publishedNanos());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void delivered(DataEventResponse event, long dequeuedNanos, long deliveredNanos) {
+        if (!event.isTimed()) {
+            return;
+        }
+        StreamLatency latency = latency(event.streamId());
+        latency.record(Stage.QUEUE, event.publishedNanos(), dequeuedNanos);
+        latency.record(Stage.SEND, dequeuedNanos, deliveredNanos);
+        latency.record(Stage.END_TO_END, event.receivedNanos(), deliveredNanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EventLatencyResponse snapshot(String streamId, boolean reset) {
+        Objects.requireNonNull(streamId, "streamId must not be null");
+        StreamLatency latency = streams.get(streamId);
+        List<StageLatency> stages = new ArrayList<>(STAGES.length);
+        for (Stage stage : STAGES) {
+            stages.add(latency != null
+                    ? latency.read(stage, reset)
+                    : new StageLatency(stage, 0, 0, 0, 0, 0, 0, 0));
+        }
+        return new EventLatencyResponse(streamId, List.copyOf(stages));
+    }
+
+    private StreamLatency latency(String streamId) {
+        // get() first: computeIfAbsent locks the bin even when the key is present
+        StreamLatency latency = streams.get(streamId);
+        return latency != null ? latency : streams.computeIfAbsent(streamId, newStreamLatency);
+    }
+
+    /**
+     * The histograms of one stream: a recorder per stage for writers, and a running
+     * total per stage guarded by the instance lock for readers.
+     */
+    private static final class StreamLatency {
+
+        private final Recorder[] recorders = new Recorder[STAGES.length];
+        private final Histogram[] totals = new Histogram[STAGES.length];
+        private final Histogram[] intervals = new Histogram[STAGES.length];
+
+        StreamLatency() {
+            for (int i = 0; i < STAGES.length; i++) {
+                recorders[i] = new Recorder(SIGNIFICANT_DIGITS);
+                totals[i] = new Histogram(SIGNIFICANT_DIGITS);
+            }
+        }
+
+        void record(Stage stage, long fromNanos, long toNanos) {
+            // nanoTime is monotonic per node; clamp in case a stamp came from elsewhere
+            recorders[stage.ordinal()].recordValue(Math.max(0, (toNanos - fromNanos) / 1_000));
+        }
+
+        synchronized StageLatency read(Stage stage, boolean reset) {
+            int i = stage.ordinal();
+            intervals[i] = recorders[i].getIntervalHistogram(intervals[i]);
+            Histogram total = totals[i];
+            total.add(intervals[i]);
+            StageLatency latency = new StageLatency(
+                    stage,
+                    total.getTotalCount(),
+                    total.getTotalCount() > 0 ? total.getMean() : 0,
+                    total.getValueAtPercentile(50),
+                    total.getValueAtPercentile(90),
+                    total.getValueAtPercentile(99),
+                    total.getValueAtPercentile(99.9),
+                    total.getMaxValue());
+            if (reset) {
+                total.reset();
+            }
+            return latency;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.datastream.infrastructure.metrics;
+
+import com.datastream.application.port.EventMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Micrometer implementation of {@link EventMetrics}.
+ *
+ * <p>Meters are registered once per stream and cached by stream ID, so recording an event
+ * is a map lookup and a counter increment. The subscriber gauges read the publisher's live
+ * queues only when the registry is scraped. A stream's meters are kept for the lifetime of
+ * the process, like its statistics accumulator.
+ *
+ * <p>Meters, all tagged with {@code stream} except the persistence ones:
+ * <ul>
+ *   <li>{@code datastream.events.published}, {@code datastream.events.published.bytes}</li>
+ *   <li>{@code datastream.events.delivered}, {@code datastream.events.delivered.bytes}: once per subscriber</li>
+ *   <li>{@code datastream.events.dropped}: events a full subscriber queue rejected</li>
+ *   <li>{@code datastream.subscribers}: gauge of open subscriptions</li>
+ *   <li>{@code datastream.subscriber.queue.size}: gauge of events queued over all subscribers</li>
+ *   <li>{@code datastream.subscriber.queue.fill}: gauge of the fullest queue's fill ratio</li>
+ *   <li>{@code datastream.persistence.write}: timer with histogram of repository writes</li>
+ *   <li>{@code datastream.persistence.write.events}: events per repository write</li>
+ * </ul>
+ */
+@Component
+public class MicrometerEventMetrics implements EventMetrics {
+
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<String, StreamMeters> streams = new ConcurrentHashMap<>();
+    private final Function<String, StreamMeters> newStreamMeters;
+    private final Timer writeTimer;
+    private final DistributionSummary writeEvents;
+
+    /**
+     * Creates the metrics and registers the stream-independent meters.
+     *
+     * @param registry registry the meters are registered with; must not be null
+     */
+    public MicrometerEventMetrics(MeterRegistry registry) {
+        this.registry = Objects.requireNonNull(registry, "registry must not be null");
+        this.newStreamMeters = streamId -> new StreamMeters(registry, streamId);
+        this.writeTimer = Timer.builder("datastream.persistence.write")
+                .description("Time spent in DataEventRepository save and saveAll")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.writeEvents = DistributionSummary.builder("datastream.persistence.write.events")
+                .description("Events per repository write")
+                .baseUnit("events")
+                .register(registry);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void published(String streamId, int payloadBytes) {
+        StreamMeters meters = meters(streamId);
+        meters.published.increment();
+        meters.publishedBytes.increment(payloadBytes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void persisted(int events, long elapsedNanos) {
+        writeTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        writeEvents.record(events);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void delivered(String streamId, int payloadBytes) {
+        StreamMeters meters = meters(streamId);
+        meters.delivered.increment();
+        meters.deliveredBytes.increment(payloadBytes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void dropped(String streamId) {
+        meters(streamId).dropped.increment();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void observeSubscribers(String streamId, Collection<? extends BlockingQueue<?>> queues) {
+        Gauge.builder("datastream.subscribers", queues, Collection::size)
+                .description("Open subscriptions")
+                .tag("stream", streamId)
+                .strongReference(true)
+                .register(registry);
+        Gauge.builder("datastream.subscriber.queue.size", queues, MicrometerEventMetrics::queued)
+                .description("Events waiting in subscriber queues")
+                .tag("stream", streamId)
+                .baseUnit("events")
+                .strongReference(true)
+                .register(registry);
+        Gauge.builder("datastream.subscriber.queue.fill", queues, MicrometerEventMetrics::maxFill)
+                .description("Fill ratio of the fullest subscriber queue")
+                .tag("stream", streamId)
+                .strongReference(true)
+                .register(registry);
+    }
+
+    private StreamMeters meters(String streamId) {
+        // get() first: computeIfAbsent locks the bin even when the key is present
+        StreamMeters meters = streams.get(streamId);
+        return meters != null ? meters : streams.computeIfAbsent(streamId, newStreamMeters);
+    }
+
+    private static double queued(Collection<? extends BlockingQueue<?>> queues) {
+        long total = 0;
+        for (BlockingQueue<?> queue : queues) {
+            total += queue.size();
+        }
+        return total;
+    }
+
+    private static double maxFill(Collection<? extends BlockingQueue<?>> queues) {
+        double max = 0;
+        for (BlockingQueue<?> queue : queues) {
+            int size = queue.size();
+            int capacity = size + queue.remainingCapacity();
+            if (capacity > 0) {
+                max = Math.max(max, (double) size / capacity);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * The counters of one stream, resolved once.
+     */
+    private static final class StreamMeters {
+
+        final Counter published;
+        final Counter publishedBytes;
+        final Counter delivered;
+        final Counter deliveredBytes;
+        final Counter dropped;
+
+        StreamMeters(MeterRegistry registry, String streamId) {
+            published = counter(registry, "datastream.events.published", "events", streamId);
+            publishedBytes = counter(registry, "datastream.events.published.bytes", "bytes", streamId);
+            delivered = counter(registry, "datastream.events.delivered", "events", streamId);
+            deliveredBytes = counter(registry, "datastream.events.delivered.bytes", "bytes", streamId);
+            dropped = counter(registry, "datastream.events.dropped", "events", streamId);
+        }
+
+        private static Counter counter(MeterRegistry registry, String name, String unit, String streamId) {
+            return Counter.builder(name).baseUnit(unit).tag("stream", streamId).register(registry);
+        }
+    }
+}
@@ -1,18 +1,32 @@
 package com.datastream.infrastructure.persistence.adapter;
 
 import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.model.DataEventFilter;
 import com.datastream.domain.model.Page;
 import com.datastream.domain.repository.DataEventRepository;
 import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.infrastructure.config.ExportProperties;
+import com.datastream.infrastructure.config.PersistenceProperties;
+import com.datastream.infrastructure.persistence.blob.PayloadBlobStore;
 import com.datastream.infrastructure.persistence.entity.DataEventJpaEntity;
+import com.datastream.infrastructure.persistence.jdbc.DataEventCopyLoader;
+import com.datastream.infrastructure.persistence.jdbc.DataEventJdbcQueries;
+import com.datastream.infrastructure.persistence.jdbc.DataEventRowMapper;
 import com.datastream.infrastructure.persistence.jpa.DataEventJpaRepository;
 import com.datastream.infrastructure.persistence.mapper.DataEventEntityMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -20,21 +34,52 @@ import java.util.stream.Collectors;
  *
  * <p>Translates between the domain {@link DataEvent} entity and the
  * {@link DataEventJpaEntity} JPA entity using {@link DataEventEntityMapper}.
+ *
+ * <p>Bulk reads ({@link #forEachByStreamId}) bypass Hibernate and run as a single
+ * forward-only JDBC cursor so that no persistence context grows with the result.
+ * Filtered reads are issued as plain JDBC too, since their {@code jsonb}
+ * containment predicate has no JPQL equivalent.
+ *
+ * <p>This is the default event store; {@code datastream.persistence.event-store=jdbc}
+ * replaces it with {@link JdbcDataEventRepositoryAdapter}.
  */
 @Repository
+@Profile("!memory")
 @Transactional
+@ConditionalOnProperty(prefix = "datastream.persistence", name = "event-store", havingValue = "jpa", matchIfMissing = true)
 public class DataEventRepositoryAdapter implements DataEventRepository {
 
     private final DataEventJpaRepository dataEventJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final DataEventJdbcQueries queries;
+    private final DataEventCopyLoader copyLoader;
+    private final PayloadBlobStore blobStore;
+    private final int copyThreshold;
 
     /**
-     * Creates the adapter with its required JPA repository dependency.
+     * Creates the adapter with its required dependencies.
      *
      * @param dataEventJpaRepository the underlying Spring Data repository; must not be null
+     * @param jdbcTemplate           JDBC access for cursor-based bulk reads; must not be null
+     * @param exportProperties       export tuning providing the cursor fetch size; must not be null
+     * @param persistenceProperties  persistence tuning providing the COPY threshold; must not be null
+     * @param blobStore              store for payloads above its threshold; must not be null
      */
-    public DataEventRepositoryAdapter(DataEventJpaRepository dataEventJpaRepository) {
+    public DataEventRepositoryAdapter(DataEventJpaRepository dataEventJpaRepository,
+                                      JdbcTemplate jdbcTemplate,
+                                      ExportProperties exportProperties,
+                                      PersistenceProperties persistenceProperties,
+                                      PayloadBlobStore blobStore) {
         this.dataEventJpaRepository = Objects.requireNonNull(
                 dataEventJpaRepository, "dataEventJpaRepository must not be null");
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+        this.blobStore = Objects.requireNonNull(blobStore, "blobStore must not be null");
+        this.queries = new DataEventJdbcQueries(jdbcTemplate,
+                Objects.requireNonNull(exportProperties, "exportProperties must not be null").fetchSize(),
+                new DataEventRowMapper(blobStore));
+        this.copyLoader = new DataEventCopyLoader(blobStore);
+        this.copyThreshold = Objects.requireNonNull(persistenceProperties, "persistenceProperties must not be null")
+                .copyThreshold();
     }
 
     /**
@@ -42,9 +87,33 @@ public class DataEventRepositoryAdapter implements DataEventRepository {
      */
     @Override
     public DataEvent save(DataEvent dataEvent) {
-        DataEventJpaEntity entity = DataEventEntityMapper.toJpaEntity(dataEvent);
+        DataEventJpaEntity entity = DataEventEntityMapper.toJpaEntity(dataEvent, blobStore);
         DataEventJpaEntity saved = dataEventJpaRepository.save(entity);
-        return DataEventEntityMapper.toDomain(saved);
+        return DataEventEntityMapper.toDomain(saved, blobStore);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>From {@code datastream.persistence.copy-threshold} events on, rows bypass Hibernate
+     * and are streamed with binary {@code COPY}; smaller lists go through {@code saveAll}
+     * of Spring Data, which Hibernate groups into JDBC batches of
+     * {@code hibernate.jdbc.batch_size} inserts.
+     */
+    @Override
+    public List<DataEvent> saveAll(List<DataEvent> dataEvents) {
+        if (dataEvents.size() >= copyThreshold) {
+            // Keep pending inserts of this transaction ahead of the copied rows
+            dataEventJpaRepository.flush();
+            jdbcTemplate.execute((ConnectionCallback<Long>) con -> copyLoader.copyIn(con, dataEvents));
+            return dataEvents;
+        }
+        List<DataEventJpaEntity> entities = dataEvents.stream()
+                .map(event -> DataEventEntityMapper.toJpaEntity(event, blobStore))
+                .collect(Collectors.toList());
+        return dataEventJpaRepository.saveAll(entities).stream()
+                .map(entity -> DataEventEntityMapper.toDomain(entity, blobStore))
+                .collect(Collectors.toList());
     }
 
     /**
@@ -58,9 +127,51 @@ public class DataEventRepositoryAdapter implements DataEventRepository {
                         streamId.value(), PageRequest.of(page, size));
 
         List<DataEvent> content = result.getContent().stream()
-                .map(DataEventEntityMapper::toDomain)
+                .map(entity -> DataEventEntityMapper.toDomain(entity, blobStore))
                 .collect(Collectors.toList());
 
         return new Page<>(content, page, size, result.getTotalElements());
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Issued as plain JDBC via {@link DataEventJdbcQueries#page}.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<DataEvent> findByStreamId(StreamId streamId, DataEventFilter filter, int page, int size) {
+        Objects.requireNonNull(streamId, "streamId must not be null");
+        Objects.requireNonNull(filter, "filter must not be null");
+
+        return jdbcQueries().page(streamId, filter, page, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Runs inside a read-only transaction so that the PostgreSQL driver honours
+     * the configured fetch size and streams rows through a server-side cursor
+     * instead of buffering the whole result set.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachByStreamId(StreamId streamId, Instant from, Instant to, Consumer<DataEvent> consumer) {
+        Objects.requireNonNull(streamId, "streamId must not be null");
+        Objects.requireNonNull(consumer, "consumer must not be null");
+
+        jdbcQueries().forEach(streamId, from, to, consumer);
+    }
+
+    /**
+     * Returns the plain JDBC queries, first flushing events saved through JPA earlier in a
+     * surrounding read-write transaction so that the queries see them. A read-only
+     * transaction has no pending writes, so it reads without a flush.
+     */
+    private DataEventJdbcQueries jdbcQueries() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            dataEventJpaRepository.flush();
+        }
+        return queries;
+    }
 }
@@ -0,0 +1,152 @@
+package com.datastream.infrastructure.persistence.adapter;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.model.DataEventFilter;
+import com.datastream.domain.model.Page;
+import com.datastream.domain.repository.DataEventRepository;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.infrastructure.config.ExportProperties;
+import com.datastream.infrastructure.config.PersistenceProperties;
+import com.datastream.infrastructure.persistence.blob.PayloadBlobStore;
+import com.datastream.infrastructure.persistence.jdbc.DataEventCopyLoader;
+import com.datastream.infrastructure.persistence.jdbc.DataEventJdbcQueries;
+import com.datastream.infrastructure.persistence.jdbc.DataEventRowMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Infrastructure adapter implementing {@link DataEventRepository} with plain JDBC,
+ * bypassing Hibernate entirely.
+ *
+ * <p>{@code data_events} is append-only, so a persistence context, dirty checking
+ * and entity instances buy nothing on this path. Every statement uses a constant
+ * SQL text, which lets the PostgreSQL driver's per-connection statement cache
+ * promote it to a server-side prepared statement after a few executions. Payloads
+ * are bound directly as {@code bytea}, metadata as JSON text cast to {@code jsonb},
+ * and {@link #saveAll} sends its inserts as JDBC batches of
+ * {@code datastream.persistence.batch-size} rows, or streams them with binary
+ * {@code COPY} once there are at least {@code datastream.persistence.copy-threshold}.
+ * Payloads above the blob store threshold are stored by reference in {@code payload_ref}.
+ *
+ * <p>Enabled with {@code datastream.persistence.event-store=jdbc}.
+ */
+@Repository
+@Profile("!memory")
+@Transactional
+@ConditionalOnProperty(prefix = "datastream.persistence", name = "event-store", havingValue = "jdbc")
+public class JdbcDataEventRepositoryAdapter implements DataEventRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO data_events (event_id, stream_id, payload, payload_ref, metadata, timestamp)
+            VALUES (?, ?, ?, ?, ?::jsonb, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataEventJdbcQueries queries;
+    private final DataEventCopyLoader copyLoader;
+    private final PayloadBlobStore blobStore;
+    private final int batchSize;
+    private final int copyThreshold;
+
+    /**
+     * Creates the adapter with its required dependencies.
+     *
+     * @param jdbcTemplate          JDBC access; must not be null
+     * @param exportProperties      export tuning providing the cursor fetch size; must not be null
+     * @param persistenceProperties persistence tuning providing the batch size; must not be null
+     * @param blobStore             store for payloads above its threshold; must not be null
+     */
+    public JdbcDataEventRepositoryAdapter(JdbcTemplate jdbcTemplate,
+                                          ExportProperties exportProperties,
+                                          PersistenceProperties persistenceProperties,
+                                          PayloadBlobStore blobStore) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+        this.blobStore = Objects.requireNonNull(blobStore, "blobStore must not be null");
+        this.queries = new DataEventJdbcQueries(jdbcTemplate,
+                Objects.requireNonNull(exportProperties, "exportProperties must not be null").fetchSize(),
+                new DataEventRowMapper(blobStore));
+        this.copyLoader = new DataEventCopyLoader(blobStore);
+        Objects.requireNonNull(persistenceProperties, "persistenceProperties must not be null");
+        this.batchSize = persistenceProperties.batchSize();
+        this.copyThreshold = persistenceProperties.copyThreshold();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataEvent save(DataEvent dataEvent) {
+        jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, dataEvent, blobStore));
+        return dataEvent;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<DataEvent> saveAll(List<DataEvent> dataEvents) {
+        if (dataEvents.size() >= copyThreshold) {
+            jdbcTemplate.execute((ConnectionCallback<Long>) con -> copyLoader.copyIn(con, dataEvents));
+        } else if (!dataEvents.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, dataEvents, batchSize, (ps, event) -> bind(ps, event, blobStore));
+        }
+        return dataEvents;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<DataEvent> findByStreamId(StreamId streamId, int page, int size) {
+        Objects.requireNonNull(streamId, "streamId must not be null");
+        return queries.page(streamId, DataEventFilter.empty(), page, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<DataEvent> findByStreamId(StreamId streamId, DataEventFilter filter, int page, int size) {
+        Objects.requireNonNull(streamId, "streamId must not be null");
+        Objects.requireNonNull(filter, "filter must not be null");
+        return queries.page(streamId, filter, page, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Runs inside a read-only transaction so that the PostgreSQL driver honours
+     * the configured fetch size and streams rows through a server-side cursor.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachByStreamId(StreamId streamId, Instant from, Instant to, Consumer<DataEvent> consumer) {
+        Objects.requireNonNull(streamId, "streamId must not be null");
+        Objects.requireNonNull(consumer, "consumer must not be null");
+        queries.forEach(streamId, from, to, consumer);
+    }
+
+    private static void bind(PreparedStatement ps, DataEvent event, PayloadBlobStore blobStore) throws SQLException {
+        PayloadBlobStore.Stored payload = blobStore.store(event.getPayload());
+        ps.setObject(1, event.getEventId());
+        ps.setObject(2, event.getStreamId().value());
+        ps.setBytes(3, payload.inline());
+        ps.setString(4, payload.reference());
+        ps.setString(5, DataEventRowMapper.writeMetadata(event.getMetadata()));
+        ps.setObject(6, OffsetDateTime.ofInstant(event.getTimestamp(), ZoneOffset.UTC));
+    }
+}
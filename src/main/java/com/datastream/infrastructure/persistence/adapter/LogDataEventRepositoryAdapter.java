@@ -0,0 +1,201 @@
+package com.datastream.infrastructure.persistence.adapter;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.model.DataEventFilter;
+import com.datastream.domain.model.Page;
+import com.datastream.domain.repository.DataEventRepository;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.infrastructure.config.EventLogProperties;
+import com.datastream.infrastructure.persistence.log.EventLog;
+import com.datastream.infrastructure.persistence.log.StreamLog;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Infrastructure adapter implementing {@link DataEventRepository} on the embedded
+ * {@link EventLog}: one append-only, segmented log file set per stream, instead of
+ * {@code data_events} rows.
+ *
+ * <p>Events are read back in append order, which is the order their timestamps were
+ * assigned in. Unfiltered pages are addressed directly by offset; filtered pages scan the
+ * stream forward from the first segment that can hold a match and keep only the events
+ * needed for the requested page. Sealed segments whose newest event is older than
+ * {@code datastream.event-log.retention} are deleted on a schedule.
+ *
+ * <p>Not transactional: an append is visible to readers as soon as it returns.
+ * Enabled with {@code datastream.persistence.event-store=log}.
+ */
+@Repository
+@Profile("!memory")
+@ConditionalOnProperty(prefix = "datastream.persistence", name = "event-store", havingValue = "log")
+public class LogDataEventRepositoryAdapter implements DataEventRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(LogDataEventRepositoryAdapter.class);
+
+    private final EventLog eventLog;
+    private final Duration retention;
+    private final Clock clock;
+
+    /**
+     * Creates the adapter with its required dependencies.
+     *
+     * @param properties event log settings; must not be null
+     */
+    @Autowired
+    public LogDataEventRepositoryAdapter(EventLogProperties properties) {
+        this(new EventLog(properties), properties.retention(), Clock.systemUTC());
+    }
+
+    LogDataEventRepositoryAdapter(EventLog eventLog, Duration retention, Clock clock) {
+        this.eventLog = Objects.requireNonNull(eventLog, "eventLog must not be null");
+        this.retention = Objects.requireNonNull(retention, "retention must not be null");
+        this.clock = Objects.requireNonNull(clock, "clock must not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataEvent save(DataEvent dataEvent) {
+        Objects.requireNonNull(dataEvent, "dataEvent must not be null");
+        eventLog.forWrite(dataEvent.getStreamId()).append(List.of(dataEvent));
+        return dataEvent;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Events are grouped by stream and each group is appended, and synced, as one write.
+     */
+    @Override
+    public List<DataEvent> saveAll(List<DataEvent> dataEvents) {
+        Objects.requireNonNull(dataEvents, "dataEvents must not be null");
+        Map<StreamId, List<DataEvent>> byStream = new LinkedHashMap<>();
+        for (DataEvent event : dataEvents) {
+            byStream.computeIfAbsent(event.getStreamId(), k -> new ArrayList<>()).add(event);
+        }
+        byStream.forEach((streamId, events) -> eventLog.forWrite(streamId).append(events));
+        return dataEvents;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Events are returned newest first, like the other adapters: page {@code n} is the
+     * offset range ending {@code n * size} records before the end of the log, read forward
+     * and reversed.
+     */
+    @Override
+    public Page<DataEvent> findByStreamId(StreamId streamId, int page, int size) {
+        Objects.requireNonNull(streamId, "streamId must not be null");
+        Optional<StreamLog> streamLog = eventLog.forRead(streamId);
+        if (streamLog.isEmpty()) {
+            return new Page<>(List.of(), page, size, 0);
+        }
+        long start = streamLog.get().startOffset();
+        long end = streamLog.get().endOffset();
+        long to = end - (long) page * size;
+        if (to <= start) {
+            return new Page<>(List.of(), page, size, end - start);
+        }
+        long from = Math.max(start, to - size);
+        List<DataEvent> content = new ArrayList<>(streamLog.get().read(from, (int) (to - from)));
+        Collections.reverse(content);
+        return new Page<>(content, page, size, end - start);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Holds at most {@code (page + 1) * size} matching events in memory while scanning.
+     */
+    @Override
+    public Page<DataEvent> findByStreamId(StreamId streamId, DataEventFilter filter, int page, int size) {
+        Objects.requireNonNull(streamId, "streamId must not be null");
+        Objects.requireNonNull(filter, "filter must not be null");
+        Optional<StreamLog> streamLog = eventLog.forRead(streamId);
+        if (streamLog.isEmpty()) {
+            return new Page<>(List.of(), page, size, 0);
+        }
+        int window = (int) Math.min(Integer.MAX_VALUE, ((long) page + 1) * size);
+        Deque<DataEvent> newest = new ArrayDeque<>(Math.min(window, 1024));
+        long[] total = {0};
+        streamLog.get().scan(filter.from(), filter.to(), event -> {
+            if (matches(event, filter)) {
+                total[0]++;
+                if (newest.size() == window) {
+                    newest.removeFirst();
+                }
+                newest.addLast(event);
+            }
+        });
+
+        List<DataEvent> content = new ArrayList<>(Math.min(size, newest.size()));
+        long skip = (long) page * size;
+        var descending = newest.descendingIterator();
+        for (long i = 0; descending.hasNext() && content.size() < size; i++) {
+            DataEvent event = descending.next();
+            if (i >= skip) {
+                content.add(event);
+            }
+        }
+        return new Page<>(content, page, size, total[0]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachByStreamId(StreamId streamId, Instant from, Instant to, Consumer<DataEvent> consumer) {
+        Objects.requireNonNull(streamId, "streamId must not be null");
+        Objects.requireNonNull(consumer, "consumer must not be null");
+        eventLog.forRead(streamId).ifPresent(streamLog -> streamLog.scan(from, to, consumer));
+    }
+
+    /**
+     * Deletes sealed segments older than the configured retention. Does nothing when
+     * retention is zero.
+     */
+    @Scheduled(fixedDelayString = "${datastream.event-log.retention-check-interval:PT1M}")
+    public void applyRetention() {
+        if (retention.isZero()) {
+            return;
+        }
+        int deleted = eventLog.deleteBefore(clock.instant().minus(retention));
+        if (deleted > 0) {
+            log.info("Event log retention deleted {} segment(s)", deleted);
+        }
+    }
+
+    /**
+     * Flushes and closes every open stream log.
+     */
+    @PreDestroy
+    public void close() {
+        eventLog.close();
+    }
+
+    private static boolean matches(DataEvent event, DataEventFilter filter) {
+        return !filter.hasMetadata() || event.getMetadata().entrySet().containsAll(filter.metadata().entrySet());
+    }
+}
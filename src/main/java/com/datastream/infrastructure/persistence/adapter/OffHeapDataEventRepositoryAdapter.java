@@ -0,0 +1,143 @@
+package com.datastream.infrastructure.persistence.adapter;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.model.DataEventFilter;
+import com.datastream.domain.model.Page;
+import com.datastream.domain.repository.DataEventRepository;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.infrastructure.config.OffHeapProperties;
+import com.datastream.infrastructure.persistence.offheap.OffHeapEventStore;
+import com.datastream.infrastructure.persistence.offheap.OffHeapStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Infrastructure adapter implementing {@link DataEventRepository} on the {@link OffHeapEventStore}:
+ * events are kept as encoded records in direct buffers, outside the Java heap, within a fixed
+ * byte budget.
+ *
+ * <p>Retained volume does not change the heap footprint beyond three {@code long}s per event,
+ * so collection pauses stay flat however much is held. Once the budget is spent the oldest
+ * chunk is reused and the events in it are lost: this store is for load tests and
+ * short-lived data, not durable storage.
+ *
+ * <p>Pages are returned newest first, like the Postgres adapters, ordered by append order.
+ * Works with or without the {@code memory} profile. Enabled with
+ * {@code datastream.persistence.event-store=off-heap}.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "datastream.persistence", name = "event-store", havingValue = "off-heap")
+public class OffHeapDataEventRepositoryAdapter implements DataEventRepository {
+
+    private final OffHeapEventStore store;
+
+    /**
+     * Creates the adapter with its required dependencies.
+     *
+     * @param properties off-heap settings; must not be null
+     */
+    @Autowired
+    public OffHeapDataEventRepositoryAdapter(OffHeapProperties properties) {
+        this(new OffHeapEventStore(properties));
+    }
+
+    OffHeapDataEventRepositoryAdapter(OffHeapEventStore store) {
+        this.store = Objects.requireNonNull(store, "store must not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataEvent save(DataEvent dataEvent) {
+        Objects.requireNonNull(dataEvent, "dataEvent must not be null");
+        store.forWrite(dataEvent.getStreamId()).append(List.of(dataEvent));
+        return dataEvent;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Events are grouped by stream and each group is appended under one lock acquisition.
+     */
+    @Override
+    public List<DataEvent> saveAll(List<DataEvent> dataEvents) {
+        Objects.requireNonNull(dataEvents, "dataEvents must not be null");
+        Map<StreamId, List<DataEvent>> byStream = new LinkedHashMap<>();
+        for (DataEvent event : dataEvents) {
+            byStream.computeIfAbsent(event.getStreamId(), k -> new ArrayList<>()).add(event);
+        }
+        byStream.forEach((streamId, events) -> store.forWrite(streamId).append(events));
+        return dataEvents;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Events are returned newest first, matching the Postgres adapters.
+     */
+    @Override
+    public Page<DataEvent> findByStreamId(StreamId streamId, int page, int size) {
+        return findByStreamId(streamId, DataEventFilter.empty(), page, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Without a metadata filter, the total and the skipped events are resolved from the
+     * on-heap index and only the returned events are read. With one, every event in the time
+     * range is read so that the total is exact.
+     */
+    @Override
+    public Page<DataEvent> findByStreamId(StreamId streamId, DataEventFilter filter, int page, int size) {
+        Objects.requireNonNull(streamId, "streamId must not be null");
+        Objects.requireNonNull(filter, "filter must not be null");
+        Optional<OffHeapStream> stream = store.forRead(streamId);
+        if (stream.isEmpty()) {
+            return new Page<>(List.of(), page, size, 0);
+        }
+        long skip = (long) page * size;
+        List<DataEvent> content = new ArrayList<>(Math.min(size, 64));
+
+        if (!filter.hasMetadata()) {
+            long total = stream.get().count(filter.from(), filter.to());
+            stream.get().scanDescending(filter.from(), filter.to(), skip, event -> {
+                content.add(event);
+                return content.size() < size;
+            });
+            return new Page<>(content, page, size, total);
+        }
+
+        long[] total = {0};
+        stream.get().scanDescending(filter.from(), filter.to(), 0, event -> {
+            if (event.getMetadata().entrySet().containsAll(filter.metadata().entrySet())) {
+                if (total[0] >= skip && content.size() < size) {
+                    content.add(event);
+                }
+                total[0]++;
+            }
+            return true;
+        });
+        return new Page<>(content, page, size, total[0]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachByStreamId(StreamId streamId, Instant from, Instant to, Consumer<DataEvent> consumer) {
+        Objects.requireNonNull(streamId, "streamId must not be null");
+        Objects.requireNonNull(consumer, "consumer must not be null");
+        store.forRead(streamId).ifPresent(stream -> stream.scan(from, to, consumer));
+    }
+}
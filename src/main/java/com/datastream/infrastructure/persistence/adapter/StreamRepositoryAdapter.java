@@ -1,45 +1,80 @@
 package com.datastream.infrastructure.persistence.adapter;
 
+import com.datastream.domain.exception.ConcurrentStreamModificationException;
+import com.datastream.domain.exception.StreamAlreadyExistsException;
 import com.datastream.domain.model.Page;
 import com.datastream.domain.model.Stream;
 import com.datastream.domain.model.StreamFilter;
+import com.datastream.domain.model.StreamStatus;
+import com.datastream.domain.model.StreamTransition;
 import com.datastream.domain.repository.StreamRepository;
 import com.datastream.domain.valueobjects.StreamId;
 import com.datastream.domain.valueobjects.StreamName;
 import com.datastream.infrastructure.persistence.entity.StreamJpaEntity;
+import com.datastream.infrastructure.persistence.jdbc.StreamRowMapper;
 import com.datastream.infrastructure.persistence.jpa.StreamJpaRepository;
 import com.datastream.infrastructure.persistence.mapper.StreamEntityMapper;
 import com.datastream.infrastructure.persistence.specification.StreamSpecifications;
+import org.hibernate.exception.ConstraintViolationException;
+import org.postgresql.util.PSQLException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
  * Infrastructure adapter implementing {@link StreamRepository} via Spring Data JPA.
  *
  * <p>Translates between the domain {@link Stream} aggregate and the
- * {@link StreamJpaEntity} JPA entity using {@link StreamEntityMapper}.
+ * {@link StreamJpaEntity} JPA entity using {@link StreamEntityMapper}. Versioned
+ * updates and lifecycle transitions bypass Hibernate and each run as one conditional
+ * {@code UPDATE ... RETURNING}.
  */
 @Repository
+@Profile("!memory")
 @Transactional
 public class StreamRepositoryAdapter implements StreamRepository {
 
+    /** Unique constraint on {@code streams.name}, declared in the create-streams changelog. */
+    static final String NAME_CONSTRAINT = "uq_streams_name";
+
+    private static final String UPDATE_SQL = """
+            UPDATE streams
+               SET name = ?, description = ?, status = ?, updated_at = ?, version = version + 1
+             WHERE id = ? AND version = ?
+            RETURNING\s""" + StreamRowMapper.COLUMNS;
+
+    private static final Map<StreamTransition, String> TRANSITION_SQL = transitionSql();
+
     private final StreamJpaRepository streamJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     /**
-     * Creates the adapter with its required JPA repository dependency.
+     * Creates the adapter with its required dependencies.
      *
      * @param streamJpaRepository the underlying Spring Data repository; must not be null
+     * @param jdbcTemplate        JDBC access for conditional transitions; must not be null
      */
-    public StreamRepositoryAdapter(StreamJpaRepository streamJpaRepository) {
+    public StreamRepositoryAdapter(StreamJpaRepository streamJpaRepository, JdbcTemplate jdbcTemplate) {
         this.streamJpaRepository = Objects.requireNonNull(
                 streamJpaRepository, "streamJpaRepository must not be null");
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
     }
 
     /**
@@ -52,6 +87,73 @@ public class StreamRepositoryAdapter implements StreamRepository {
         return StreamEntityMapper.toDomain(saved);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Persists the entity directly instead of merging it, avoiding a lookup by primary key,
+     * and flushes at once so that a violation of {@value #NAME_CONSTRAINT} surfaces here as
+     * {@link StreamAlreadyExistsException}. No existence check is made beforehand.
+     */
+    @Override
+    public Stream insert(Stream stream) {
+        StreamJpaEntity entity = StreamEntityMapper.toJpaEntity(stream).markNew();
+        try {
+            StreamJpaEntity saved = streamJpaRepository.saveAndFlush(entity);
+            return StreamEntityMapper.toDomain(saved);
+        } catch (DataIntegrityViolationException e) {
+            throw translateNameViolation(e, stream.getName());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Runs as a single {@code UPDATE ... WHERE id = ? AND version = ? RETURNING}
+     * statement outside the persistence context; pending changes are flushed first.
+     */
+    @Override
+    public Stream update(Stream stream) {
+        streamJpaRepository.flush();
+        List<Stream> updated;
+        try {
+            updated = jdbcTemplate.query(UPDATE_SQL, StreamRowMapper.INSTANCE,
+                    stream.getName().value(),
+                    stream.getDescription(),
+                    stream.getStatus().name(),
+                    Timestamp.from(stream.getUpdatedAt()),
+                    stream.getId().value(),
+                    stream.getVersion());
+        } catch (DataIntegrityViolationException e) {
+            throw translateNameViolation(e, stream.getName());
+        }
+        return updated.stream()
+                .findFirst()
+                .orElseThrow(() -> new ConcurrentStreamModificationException(stream.getId()));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Runs as a single {@code UPDATE ... WHERE id = ? AND status IN (...) RETURNING}
+     * statement outside the persistence context. Pending changes are flushed first so
+     * the statement sees them; a {@link StreamJpaEntity} already loaded in the same
+     * transaction is not refreshed.
+     */
+    @Override
+    public Optional<Stream> transition(StreamId streamId, StreamTransition transition) {
+        streamJpaRepository.flush();
+        List<Object> args = new ArrayList<>(3 + transition.allowedFrom().size());
+        args.add(transition.target().name());
+        args.add(Timestamp.from(Instant.now()));
+        args.add(streamId.value());
+        for (StreamStatus from : transition.allowedFrom()) {
+            args.add(from.name());
+        }
+        return jdbcTemplate.query(TRANSITION_SQL.get(transition), StreamRowMapper.INSTANCE, args.toArray())
+                .stream()
+                .findFirst();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -62,6 +164,21 @@ public class StreamRepositoryAdapter implements StreamRepository {
                 .map(StreamEntityMapper::toDomain);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Stream> findAllById(Collection<StreamId> streamIds) {
+        if (streamIds.isEmpty()) {
+            return List.of();
+        }
+        UUID[] ids = streamIds.stream().map(StreamId::value).distinct().toArray(UUID[]::new);
+        return streamJpaRepository.findAllByIdIn(ids).stream()
+                .map(StreamEntityMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -80,12 +197,18 @@ public class StreamRepositoryAdapter implements StreamRepository {
     }
 
     /**
-     * {@inheritDoc}
+     * Loads every stream, regardless of status, in a single query.
+     *
+     * <p>Not part of {@link StreamRepository}: used to warm the in-memory stream
+     * catalog at startup, which relies on the {@code streams} table being small.
+     *
+     * @return all persisted streams
      */
-    @Override
     @Transactional(readOnly = true)
-    public boolean existsByName(StreamName streamName) {
-        return streamJpaRepository.existsByName(streamName.value());
+    public List<Stream> loadAll() {
+        return streamJpaRepository.findAll().stream()
+                .map(StreamEntityMapper::toDomain)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -95,4 +218,39 @@ public class StreamRepositoryAdapter implements StreamRepository {
     public void delete(StreamId streamId) {
         streamJpaRepository.deleteById(streamId.value());
     }
+
+    // -------------------------------------------------------------------------
+    // Internals
+    // -------------------------------------------------------------------------
+
+    private static Map<StreamTransition, String> transitionSql() {
+        Map<StreamTransition, String> sql = new EnumMap<>(StreamTransition.class);
+        for (StreamTransition transition : StreamTransition.values()) {
+            String placeholders = String.join(", ",
+                    Collections.nCopies(transition.allowedFrom().size(), "?"));
+            sql.put(transition, "UPDATE streams SET status = ?, updated_at = ?, version = version + 1"
+                    + " WHERE id = ? AND status IN ("
+                    + placeholders + ") RETURNING " + StreamRowMapper.COLUMNS);
+        }
+        return sql;
+    }
+
+    /**
+     * Returns {@link StreamAlreadyExistsException} if {@code e} was caused by
+     * {@value #NAME_CONSTRAINT}, or {@code e} itself otherwise.
+     */
+    private static RuntimeException translateNameViolation(DataIntegrityViolationException e, StreamName name) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException cve
+                    && NAME_CONSTRAINT.equalsIgnoreCase(cve.getConstraintName())) {
+                return new StreamAlreadyExistsException(name);
+            }
+            if (cause instanceof PSQLException pe
+                    && pe.getServerErrorMessage() != null
+                    && NAME_CONSTRAINT.equals(pe.getServerErrorMessage().getConstraint())) {
+                return new StreamAlreadyExistsException(name);
+            }
+        }
+        return e;
+    }
 }
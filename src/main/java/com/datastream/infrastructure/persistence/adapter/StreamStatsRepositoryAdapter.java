@@ -0,0 +1,108 @@
+package com.datastream.infrastructure.persistence.adapter;
+
+import com.datastream.domain.model.StreamStats;
+import com.datastream.domain.repository.StreamStatsRepository;
+import com.datastream.domain.valueobjects.StreamId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Infrastructure adapter implementing {@link StreamStatsRepository} with plain JDBC.
+ *
+ * <p>Increments are applied with a batched {@code INSERT ... ON CONFLICT DO UPDATE}
+ * that adds to the stored counters in the database, so concurrent flushes never
+ * overwrite each other and no read-modify-write round trip is needed.
+ */
+@Repository
+@Profile("!memory")
+@Transactional
+public class StreamStatsRepositoryAdapter implements StreamStatsRepository {
+
+    private static final String MERGE_SQL = """
+            INSERT INTO stream_stats (stream_id, event_count, total_payload_bytes, first_event_at, last_event_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, now())
+            ON CONFLICT (stream_id) DO UPDATE SET
+                event_count         = stream_stats.event_count + EXCLUDED.event_count,
+                total_payload_bytes = stream_stats.total_payload_bytes + EXCLUDED.total_payload_bytes,
+                first_event_at      = LEAST(stream_stats.first_event_at, EXCLUDED.first_event_at),
+                last_event_at       = GREATEST(stream_stats.last_event_at, EXCLUDED.last_event_at),
+                updated_at          = now()
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creates the adapter.
+     *
+     * @param jdbcTemplate JDBC access; must not be null
+     */
+    public StreamStatsRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<StreamStats> findByStreamId(StreamId streamId) {
+        return jdbcTemplate.query(
+                "SELECT event_count, total_payload_bytes, first_event_at, last_event_at "
+                        + "FROM stream_stats WHERE stream_id = ?",
+                (rs, rowNum) -> new StreamStats(
+                        streamId,
+                        rs.getLong("event_count"),
+                        rs.getLong("total_payload_bytes"),
+                        instant(rs, "first_event_at"),
+                        instant(rs, "last_event_at")),
+                streamId.value()).stream().findFirst();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Sends all rows as one JDBC batch. Increments are sorted by stream ID so that
+     * concurrent flushes lock rows in the same order and cannot deadlock.
+     */
+    @Override
+    public void mergeAll(Collection<StreamStats> increments) {
+        if (increments.isEmpty()) {
+            return;
+        }
+        List<StreamStats> ordered = new ArrayList<>(increments);
+        ordered.sort((a, b) -> a.streamId().value().compareTo(b.streamId().value()));
+
+        List<Object[]> rows = new ArrayList<>(ordered.size());
+        for (StreamStats increment : ordered) {
+            rows.add(new Object[]{
+                    increment.streamId().value(),
+                    increment.eventCount(),
+                    increment.totalPayloadBytes(),
+                    timestamp(increment.firstEventAt()),
+                    timestamp(increment.lastEventAt())});
+        }
+        jdbcTemplate.batchUpdate(MERGE_SQL, rows);
+    }
+
+    private static Timestamp timestamp(Instant instant) {
+        return instant != null ? Timestamp.from(instant) : null;
+    }
+
+    private static Instant instant(ResultSet rs, String column) throws SQLException {
+        OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+        return value != null ? value.toInstant() : null;
+    }
+}
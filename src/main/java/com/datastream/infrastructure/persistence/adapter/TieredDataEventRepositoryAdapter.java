@@ -0,0 +1,193 @@
+package com.datastream.infrastructure.persistence.adapter;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.model.DataEventFilter;
+import com.datastream.domain.model.Page;
+import com.datastream.domain.repository.DataEventRepository;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.infrastructure.persistence.tiering.ColdSegment;
+import com.datastream.infrastructure.persistence.tiering.ColdSegmentIndex;
+import com.datastream.infrastructure.persistence.tiering.ColdSegmentStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link DataEventRepository} that merges the hot {@code data_events} table, served by the
+ * configured event store, with the cold segment files written by the tiering job.
+ *
+ * <p>Writes always go to the hot store. Cold events are always older than hot ones, so
+ * newest-first pages are filled from the hot store and continued from the cold segments, and
+ * range scans read the cold segments before the hot store. Only segments whose time span
+ * overlaps the requested range are read; when no metadata criteria apply, segments entirely
+ * inside the range are counted from the index without being read.
+ *
+ * <p>Reads run in one {@code REPEATABLE READ} transaction, so that a move committed by the
+ * tiering job mid-read can neither hide events nor show them twice.
+ * Enabled with {@code datastream.tiering.enabled=true}.
+ */
+@Repository
+@Profile("!memory")
+@Primary
+@ConditionalOnProperty(prefix = "datastream.tiering", name = "enabled", havingValue = "true")
+public class TieredDataEventRepositoryAdapter implements DataEventRepository {
+
+    private final DataEventRepository delegate;
+    private final ColdSegmentIndex index;
+    private final ColdSegmentStore store;
+
+    /**
+     * Creates the adapter around the hot event store.
+     *
+     * @param delegate the event store selected by {@code datastream.persistence.event-store}; must not be null
+     * @param index    the cold segment index; must not be null
+     * @param store    the cold segment files; must not be null
+     */
+    public TieredDataEventRepositoryAdapter(DataEventRepository delegate, ColdSegmentIndex index,
+                                            ColdSegmentStore store) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.index = Objects.requireNonNull(index, "index must not be null");
+        this.store = Objects.requireNonNull(store, "store must not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataEvent save(DataEvent dataEvent) {
+        return delegate.save(dataEvent);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<DataEvent> saveAll(List<DataEvent> dataEvents) {
+        return delegate.saveAll(dataEvents);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Follows the newest-first order of the hot stores it wraps.
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public Page<DataEvent> findByStreamId(StreamId streamId, int page, int size) {
+        Objects.requireNonNull(streamId, "streamId must not be null");
+        return withCold(delegate.findByStreamId(streamId, page, size), streamId, DataEventFilter.empty(), page, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public Page<DataEvent> findByStreamId(StreamId streamId, DataEventFilter filter, int page, int size) {
+        Objects.requireNonNull(streamId, "streamId must not be null");
+        Objects.requireNonNull(filter, "filter must not be null");
+        return withCold(delegate.findByStreamId(streamId, filter, page, size), streamId, filter, page, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void forEachByStreamId(StreamId streamId, Instant from, Instant to, Consumer<DataEvent> consumer) {
+        Objects.requireNonNull(streamId, "streamId must not be null");
+        Objects.requireNonNull(consumer, "consumer must not be null");
+        DataEventFilter range = new DataEventFilter(null, from, to);
+        for (ColdSegment segment : index.findByStreamId(streamId)) {
+            if (segment.overlaps(from, to)) {
+                store.forEach(segment, event -> {
+                    if (matches(event, range)) {
+                        consumer.accept(event);
+                    }
+                });
+            }
+        }
+        delegate.forEachByStreamId(streamId, from, to, consumer);
+    }
+
+    // -------------------------------------------------------------------------
+    // Internals
+    // -------------------------------------------------------------------------
+
+    /**
+     * Completes a newest-first hot page with cold events and adds the cold matches to its total.
+     *
+     * <p>A segment that is matched as a whole is read only up to the events the page needs;
+     * any other segment is streamed once, keeping only its newest matches that the page can
+     * still reach.
+     */
+    private Page<DataEvent> withCold(Page<DataEvent> hot, StreamId streamId, DataEventFilter filter,
+                                     int page, int size) {
+        List<ColdSegment> segments = index.findByStreamId(streamId);
+        if (segments.isEmpty()) {
+            return hot;
+        }
+        List<DataEvent> content = new ArrayList<>(hot.content());
+        long skip = Math.max(0, (long) page * size - hot.totalElements());
+        long coldTotal = 0;
+
+        for (int s = segments.size() - 1; s >= 0; s--) {
+            ColdSegment segment = segments.get(s);
+            if (!segment.overlaps(filter.from(), filter.to())) {
+                continue;
+            }
+            boolean countable = !filter.hasMetadata() && segment.within(filter.from(), filter.to());
+            if (countable) {
+                if (content.size() < size && coldTotal + segment.eventCount() > skip) {
+                    long newer = Math.max(0, skip - coldTotal);
+                    int take = (int) Math.min(size - content.size(), segment.eventCount() - newer);
+                    content.addAll(store.read(segment, segment.eventCount() - newer - take, take).reversed());
+                }
+                coldTotal += segment.eventCount();
+                continue;
+            }
+            long skipped = Math.max(0, skip - coldTotal);
+            int window = (int) Math.min(Integer.MAX_VALUE, skipped + size - content.size());
+            Deque<DataEvent> newest = new ArrayDeque<>(Math.min(window, 1024));
+            long[] matched = {0};
+            store.forEach(segment, event -> {
+                if (matches(event, filter)) {
+                    matched[0]++;
+                    if (newest.size() == window) {
+                        newest.pollFirst();
+                    }
+                    if (window > 0) {
+                        newest.addLast(event);
+                    }
+                }
+            });
+            var descending = newest.descendingIterator();
+            for (long i = 0; descending.hasNext() && content.size() < size; i++) {
+                DataEvent event = descending.next();
+                if (i >= skipped) {
+                    content.add(event);
+                }
+            }
+            coldTotal += matched[0];
+        }
+        return new Page<>(content, page, size, hot.totalElements() + coldTotal);
+    }
+
+    private static boolean matches(DataEvent event, DataEventFilter filter) {
+        Instant timestamp = event.getTimestamp();
+        return (filter.from() == null || !timestamp.isBefore(filter.from()))
+                && (filter.to() == null || timestamp.isBefore(filter.to()))
+                && event.getMetadata().entrySet().containsAll(filter.metadata().entrySet());
+    }
+}
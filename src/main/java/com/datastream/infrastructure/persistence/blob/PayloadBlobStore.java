@@ -0,0 +1,310 @@
+package com.datastream.infrastructure.persistence.blob;
+
+import com.datastream.domain.valueobjects.EventPayload;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed store for event payloads too large to keep inline in {@code data_events}.
+ *
+ * <p>A payload larger than the threshold is written once to {@code <root>/<aa>/<sha256>}, where
+ * {@code aa} is the first byte of the hash in hex. The row then stores only the 64-character hex
+ * reference in {@code payload_ref} and leaves {@code payload} null. Identical payloads hash to
+ * the same file and are stored once. Blob files are forced to disk before the row that refers to
+ * them is inserted.
+ *
+ * <p>Blobs are reclaimed by {@link #deleteUnreferenced}, a sweep over the blob files that asks the
+ * caller which references rows still hold. A blob is only swept once it has been neither written
+ * nor reused by {@link #put} for a grace period, so a row that is still being inserted keeps its
+ * blob; {@code put} and the sweep take the same per-reference lock, so a blob that is reused while
+ * it is being swept survives.
+ *
+ * <p>References are resolved when a row is mapped to a {@link com.datastream.domain.model.DataEvent},
+ * so counts, metadata filters and time-range scans never read blob files.
+ *
+ * <p>This class is thread-safe.
+ */
+public final class PayloadBlobStore {
+
+    /** Store that never offloads and cannot resolve references; for tests and tools without one. */
+    public static final PayloadBlobStore INLINE = new PayloadBlobStore(null, Integer.MAX_VALUE);
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    /** Lock stripes, indexed by the first byte of the reference. */
+    private static final int LOCK_STRIPES = 256;
+
+    /** References handed to the caller per {@link #deleteUnreferenced} lookup. */
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    private final Path root;
+    private final int threshold;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    /**
+     * Creates a store.
+     *
+     * @param root      directory holding the blob files; {@code null} only for {@link #INLINE}
+     * @param threshold payloads larger than this many bytes are offloaded
+     */
+    public PayloadBlobStore(Path root, int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("threshold must be >= 0");
+        }
+        this.root = root;
+        this.threshold = threshold;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Decides where a payload is stored, writing it to the blob store if it is above the threshold.
+     *
+     * @param payload the payload to store; must not be null
+     * @return the column values to persist
+     */
+    public Stored store(EventPayload payload) {
+        byte[] bytes = payload.value();
+        if (bytes.length <= threshold) {
+            return new Stored(bytes, null);
+        }
+        return new Stored(null, put(bytes));
+    }
+
+    /**
+     * Resolves the payload of a row.
+     *
+     * @param inline    the {@code payload} column; {@code null} when the payload is offloaded
+     * @param reference the {@code payload_ref} column; {@code null} when the payload is inline
+     * @return the payload
+     */
+    public EventPayload load(byte[] inline, String reference) {
+        return EventPayload.of(inline != null ? inline : get(reference));
+    }
+
+    /**
+     * Writes bytes under their SHA-256, unless a blob with that hash already exists, in which
+     * case its modification time is refreshed so that a sweep keeps it for another grace period.
+     *
+     * @param bytes the content to store; must not be null
+     * @return the lowercase hex SHA-256 of {@code bytes}
+     */
+    public String put(byte[] bytes) {
+        String reference = HEX.formatHex(sha256(bytes));
+        Path file = pathOf(reference);
+        synchronized (lockFor(reference)) {
+            if (touch(file)) {
+                return reference;
+            }
+        }
+        Path tmp = file.resolveSibling(reference + "." + UUID.randomUUID() + ".tmp");
+        try {
+            Files.createDirectories(file.getParent());
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            // a concurrent writer of the same payload may win the rename; the content is identical
+            synchronized (lockFor(reference)) {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (FileAlreadyExistsException e) {
+            deleteQuietly(tmp);
+        } catch (IOException e) {
+            deleteQuietly(tmp);
+            throw new UncheckedIOException("Cannot write payload blob " + reference, e);
+        }
+        return reference;
+    }
+
+    /**
+     * Reads the blob with the given reference.
+     *
+     * @param reference the hex SHA-256 returned by {@link #put}
+     * @return the blob content
+     * @throws IllegalStateException if the blob does not exist
+     */
+    public byte[] get(String reference) {
+        Path file = pathOf(reference);
+        try {
+            return Files.readAllBytes(file);
+        } catch (NoSuchFileException e) {
+            throw new IllegalStateException("Payload blob " + reference + " not found", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read payload blob " + reference, e);
+        }
+    }
+
+    /**
+     * Deletes the blobs no row refers to any more.
+     *
+     * <p>Only blobs last written or reused by {@link #put} before {@code olderThan} are considered;
+     * their references are passed to {@code referenced} in batches, and every reference it does
+     * not return is deleted unless {@code put} reused it in the meantime. Temporary files left
+     * behind by interrupted writes are deleted as well.
+     *
+     * @param olderThan  blobs written or reused at or after this instant are kept; must not be null
+     * @param referenced given a batch of references, returns those that rows still hold; must not be null
+     * @return the number of blobs deleted
+     */
+    public int deleteUnreferenced(Instant olderThan, Function<List<String>, Set<String>> referenced) {
+        if (root == null || !Files.isDirectory(root)) {
+            return 0;
+        }
+        FileTime cutoff = FileTime.from(olderThan);
+        List<String> candidates = new ArrayList<>(SWEEP_BATCH_SIZE);
+        int deleted = 0;
+        try (Stream<Path> prefixes = Files.list(root)) {
+            for (Path prefix : (Iterable<Path>) prefixes::iterator) {
+                if (!Files.isDirectory(prefix)) {
+                    continue;
+                }
+                try (Stream<Path> files = Files.list(prefix)) {
+                    for (Path file : (Iterable<Path>) files::iterator) {
+                        String name = file.getFileName().toString();
+                        if (!isOlder(file, cutoff)) {
+                            continue;
+                        }
+                        if (name.endsWith(".tmp")) {
+                            deleteQuietly(file);
+                        } else if (isReference(name)) {
+                            candidates.add(name);
+                            if (candidates.size() == SWEEP_BATCH_SIZE) {
+                                deleted += deleteBatch(candidates, cutoff, referenced);
+                                candidates.clear();
+                            }
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list payload blobs under " + root, e);
+        }
+        if (!candidates.isEmpty()) {
+            deleted += deleteBatch(candidates, cutoff, referenced);
+        }
+        return deleted;
+    }
+
+    // -------------------------------------------------------------------------
+    // Internals
+    // -------------------------------------------------------------------------
+
+    private int deleteBatch(List<String> candidates, FileTime cutoff,
+                            Function<List<String>, Set<String>> referenced) {
+        Set<String> kept = referenced.apply(List.copyOf(candidates));
+        int deleted = 0;
+        for (String reference : candidates) {
+            if (kept.contains(reference)) {
+                continue;
+            }
+            Path file = pathOf(reference);
+            synchronized (lockFor(reference)) {
+                // put may have reused the blob since it was listed
+                if (isOlder(file, cutoff)) {
+                    try {
+                        if (Files.deleteIfExists(file)) {
+                            deleted++;
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Cannot delete payload blob " + reference, e);
+                    }
+                }
+            }
+        }
+        return deleted;
+    }
+
+    private Object lockFor(String reference) {
+        return locks[HexFormat.fromHexDigits(reference, 0, 2) % LOCK_STRIPES];
+    }
+
+    /**
+     * Sets the modification time of an existing blob to now.
+     *
+     * @return {@code false} if the blob does not exist
+     */
+    private static boolean touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot refresh payload blob " + file.getFileName(), e);
+        }
+    }
+
+    private static boolean isOlder(Path file, FileTime cutoff) {
+        try {
+            return Files.getLastModifiedTime(file).compareTo(cutoff) < 0;
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read the modification time of " + file, e);
+        }
+    }
+
+    private static boolean isReference(String name) {
+        return name.length() == 64 && name.chars().allMatch(HexFormat::isHexDigit);
+    }
+
+    private Path pathOf(String reference) {
+        if (root == null) {
+            throw new IllegalStateException("No payload blob store is configured");
+        }
+        if (!isReference(reference)) {
+            throw new IllegalArgumentException("Not a payload blob reference: " + reference);
+        }
+        return root.resolve(reference.substring(0, 2)).resolve(reference);
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // best effort; a stray temporary file is harmless
+        }
+    }
+
+    /**
+     * Column values of a stored payload: exactly one of the two is set.
+     *
+     * @param inline    the bytes for the {@code payload} column, or {@code null}
+     * @param reference the hex SHA-256 for the {@code payload_ref} column, or {@code null}
+     */
+    public record Stored(byte[] inline, String reference) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.datastream.infrastructure.persistence.blob;
+
+import com.datastream.infrastructure.config.BlobStoreProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.time.Clock;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Periodically deletes payload blobs that no {@code data_events} row refers to any more, such as
+ * the blobs of events moved to cold storage or deleted with their stream, and blobs left behind
+ * by rolled-back inserts.
+ *
+ * <p>References are looked up in batches against the partial index on {@code payload_ref}.
+ * Blobs younger than {@code sweep-grace} are kept, so a blob whose row has not been committed
+ * yet is never deleted.
+ */
+@Component
+@Profile("!memory")
+@ConditionalOnProperty(prefix = "datastream.blob-store", name = "enabled", havingValue = "true")
+public class PayloadBlobSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(PayloadBlobSweeper.class);
+
+    private static final String REFERENCED_SQL =
+            "SELECT DISTINCT payload_ref FROM data_events WHERE payload_ref = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PayloadBlobStore blobStore;
+    private final BlobStoreProperties properties;
+    private final Clock clock;
+
+    /**
+     * Creates the sweeper with its required dependencies.
+     *
+     * @param jdbcTemplate JDBC access; must not be null
+     * @param blobStore    the blob store to sweep; must not be null
+     * @param properties   blob store settings; must not be null
+     */
+    @Autowired
+    public PayloadBlobSweeper(JdbcTemplate jdbcTemplate, PayloadBlobStore blobStore, BlobStoreProperties properties) {
+        this(jdbcTemplate, blobStore, properties, Clock.systemUTC());
+    }
+
+    PayloadBlobSweeper(JdbcTemplate jdbcTemplate, PayloadBlobStore blobStore, BlobStoreProperties properties,
+                       Clock clock) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+        this.blobStore = Objects.requireNonNull(blobStore, "blobStore must not be null");
+        this.properties = Objects.requireNonNull(properties, "properties must not be null");
+        this.clock = Objects.requireNonNull(clock, "clock must not be null");
+    }
+
+    /**
+     * Deletes every blob older than the grace period that no row refers to.
+     *
+     * @return the number of blobs deleted
+     */
+    @Scheduled(fixedDelayString = "${datastream.blob-store.sweep-interval:PT1H}")
+    public int run() {
+        int deleted = blobStore.deleteUnreferenced(clock.instant().minus(properties.sweepGrace()), this::referenced);
+        if (deleted > 0) {
+            log.info("Deleted {} unreferenced payload blob(s)", deleted);
+        }
+        return deleted;
+    }
+
+    private Set<String> referenced(List<String> references) {
+        List<String> found = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(REFERENCED_SQL);
+            ps.setArray(1, con.createArrayOf("text", references.toArray()));
+            return ps;
+        }, (rs, rowNum) -> rs.getString(1));
+        return new HashSet<>(found);
+    }
+}
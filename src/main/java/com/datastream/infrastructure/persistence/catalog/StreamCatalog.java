@@ -0,0 +1,248 @@
+package com.datastream.infrastructure.persistence.catalog;
+
+import com.datastream.domain.model.Page;
+import com.datastream.domain.model.Stream;
+import com.datastream.domain.model.StreamFilter;
+import com.datastream.domain.model.StreamStatus;
+import com.datastream.domain.model.StreamType;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.domain.valueobjects.UserId;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory read model of every stream, with secondary indexes by owner, status and type.
+ *
+ * <p>Entries are private snapshots: {@link #put} stores a copy and every read returns
+ * fresh copies, so callers may mutate the returned aggregates freely. Index sets are
+ * ordered by creation time (then ID), which gives listings a stable page order.
+ * A filtered listing walks the smallest index set matching the filter and applies the
+ * remaining criteria to each entry.
+ *
+ * <p>This class is thread-safe: reads share a read lock and writes take the write lock.
+ */
+public final class StreamCatalog {
+
+    private static final Comparator<Stream> ORDER = Comparator
+            .comparing(Stream::getCreatedAt)
+            .thenComparing(s -> s.getId().value());
+
+    private final Map<StreamId, Stream> byId = new HashMap<>();
+    private final NavigableSet<Stream> all = new TreeSet<>(ORDER);
+    private final Map<UserId, NavigableSet<Stream>> byOwner = new HashMap<>();
+    private final Map<StreamStatus, NavigableSet<Stream>> byStatus = new EnumMap<>(StreamStatus.class);
+    private final Map<StreamType, NavigableSet<Stream>> byType = new EnumMap<>(StreamType.class);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Inserts or replaces the entry for the given stream.
+     *
+     * <p>A stream whose {@code updatedAt} is older than the stored entry is ignored,
+     * so that a slow bulk load cannot overwrite a newer write-through update.
+     *
+     * @param stream the stream to store; must not be null
+     */
+    public void put(Stream stream) {
+        Stream snapshot = copyOf(stream);
+        lock.writeLock().lock();
+        try {
+            Stream existing = byId.get(snapshot.getId());
+            if (existing != null) {
+                if (snapshot.getUpdatedAt().isBefore(existing.getUpdatedAt())) {
+                    return;
+                }
+                unindex(existing);
+            }
+            byId.put(snapshot.getId(), snapshot);
+            all.add(snapshot);
+            byOwner.computeIfAbsent(snapshot.getOwnerId(), k -> new TreeSet<>(ORDER)).add(snapshot);
+            byStatus.computeIfAbsent(snapshot.getStatus(), k -> new TreeSet<>(ORDER)).add(snapshot);
+            byType.computeIfAbsent(snapshot.getStreamType(), k -> new TreeSet<>(ORDER)).add(snapshot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the entry for the given stream ID, if present.
+     *
+     * @param streamId the ID to remove; must not be null
+     */
+    public void remove(StreamId streamId) {
+        lock.writeLock().lock();
+        try {
+            Stream existing = byId.remove(streamId);
+            if (existing != null) {
+                unindex(existing);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Looks up a stream by ID.
+     *
+     * @param streamId the ID to look up; must not be null
+     * @return a copy of the stored stream, or empty if absent
+     */
+    public Optional<Stream> find(StreamId streamId) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(byId.get(streamId)).map(StreamCatalog::copyOf);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Looks up several streams by ID under a single read lock.
+     *
+     * @param streamIds the IDs to look up; must not be null
+     * @return copies of the stored streams, at most one per distinct ID, absent IDs omitted
+     */
+    public List<Stream> findAll(Collection<StreamId> streamIds) {
+        List<Stream> found = new ArrayList<>(streamIds.size());
+        lock.readLock().lock();
+        try {
+            streamIds.stream().distinct().forEach(id -> {
+                Stream stream = byId.get(id);
+                if (stream != null) {
+                    found.add(copyOf(stream));
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        return found;
+    }
+
+    /**
+     * Returns a page of streams matching the filter, ordered by creation time ascending.
+     *
+     * @param filter the filter criteria; must not be null
+     * @param page   zero-based page index; must be >= 0
+     * @param size   maximum number of results per page; must be > 0
+     * @return a {@link Page} of copies of the matching streams
+     */
+    public Page<Stream> findAll(StreamFilter filter, int page, int size) {
+        long offset = (long) page * size;
+        List<Stream> content = new ArrayList<>(Math.min(size, 64));
+        long total = 0;
+
+        lock.readLock().lock();
+        try {
+            for (Stream stream : candidates(filter)) {
+                if (!matches(stream, filter)) {
+                    continue;
+                }
+                if (total >= offset && content.size() < size) {
+                    content.add(copyOf(stream));
+                }
+                total++;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new Page<>(content, page, size, total);
+    }
+
+    /**
+     * Returns the number of streams held.
+     *
+     * @return the catalog size
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Internals
+    // -------------------------------------------------------------------------
+
+    /**
+     * Picks the smallest index set that every match must belong to. Caller holds the read lock.
+     */
+    private NavigableSet<Stream> candidates(StreamFilter filter) {
+        NavigableSet<Stream> best = all;
+        if (filter.ownerId() != null) {
+            best = smaller(best, byOwner.get(filter.ownerId()));
+        }
+        if (filter.status() != null) {
+            best = smaller(best, byStatus.get(filter.status()));
+        }
+        if (filter.streamType() != null) {
+            best = smaller(best, byType.get(filter.streamType()));
+        }
+        return best;
+    }
+
+    private static NavigableSet<Stream> smaller(NavigableSet<Stream> current, NavigableSet<Stream> index) {
+        if (index == null) {
+            return Collections.emptyNavigableSet();
+        }
+        return index.size() < current.size() ? index : current;
+    }
+
+    private static boolean matches(Stream stream, StreamFilter filter) {
+        return (filter.ownerId() == null || filter.ownerId().equals(stream.getOwnerId()))
+                && (filter.status() == null || filter.status() == stream.getStatus())
+                && (filter.streamType() == null || filter.streamType() == stream.getStreamType());
+    }
+
+    /**
+     * Removes an entry from every ordered set. Caller holds the write lock.
+     */
+    private void unindex(Stream stream) {
+        all.remove(stream);
+        removeFrom(byOwner, stream.getOwnerId(), stream);
+        removeFrom(byStatus, stream.getStatus(), stream);
+        removeFrom(byType, stream.getStreamType(), stream);
+    }
+
+    private static <K> void removeFrom(Map<K, NavigableSet<Stream>> index, K key, Stream stream) {
+        NavigableSet<Stream> set = index.get(key);
+        if (set != null) {
+            set.remove(stream);
+            if (set.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Returns a detached copy of a stream so that catalog entries are never shared
+     * with callers.
+     *
+     * @param stream the stream to copy; must not be null
+     * @return an equal-valued, independent {@link Stream}
+     */
+    static Stream copyOf(Stream stream) {
+        return Stream.reconstitute(
+                stream.getId(),
+                stream.getName(),
+                stream.getDescription(),
+                stream.getOwnerId(),
+                stream.getStreamType(),
+                stream.getStatus(),
+                stream.getCreatedAt(),
+                stream.getUpdatedAt(),
+                stream.getVersion());
+    }
+}
@@ -0,0 +1,169 @@
+package com.datastream.infrastructure.persistence.catalog;
+
+import com.datastream.domain.model.Page;
+import com.datastream.domain.model.Stream;
+import com.datastream.domain.model.StreamFilter;
+import com.datastream.domain.model.StreamTransition;
+import com.datastream.domain.repository.StreamRepository;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.infrastructure.persistence.adapter.StreamRepositoryAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * {@link StreamRepository} that serves reads from an in-memory {@link StreamCatalog}
+ * and writes through to the JPA-backed {@link StreamRepositoryAdapter}.
+ *
+ * <p>The catalog is loaded once the application is ready; until then all calls go to
+ * the database. Writes are applied to the catalog after the surrounding transaction
+ * commits (immediately when there is none), so it never exposes uncommitted state.
+ * Reads made inside an active transaction go to the database so that a transaction
+ * always sees its own writes.
+ *
+ * <p>Assumes this process is the only writer of the {@code streams} table, like the
+ * in-memory subscriber registry. Disable with {@code datastream.catalog.enabled=false}.
+ */
+@Repository
+@Profile("!memory")
+@Primary
+@ConditionalOnProperty(prefix = "datastream.catalog", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class StreamCatalogRepositoryAdapter implements StreamRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamCatalogRepositoryAdapter.class);
+
+    private final StreamRepositoryAdapter delegate;
+    private final StreamCatalog catalog = new StreamCatalog();
+    private volatile boolean loaded;
+
+    /**
+     * Creates the adapter around the JPA-backed repository.
+     *
+     * @param delegate the repository that owns persistence; must not be null
+     */
+    public StreamCatalogRepositoryAdapter(StreamRepositoryAdapter delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+    }
+
+    /**
+     * Loads every persisted stream into the catalog and starts serving reads from it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Stream> streams = delegate.loadAll();
+        streams.forEach(catalog::put);
+        loaded = true;
+        log.info("Stream catalog loaded with {} stream(s)", streams.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream save(Stream stream) {
+        Stream saved = delegate.save(stream);
+        Stream snapshot = StreamCatalog.copyOf(saved);
+        afterCommit(() -> catalog.put(snapshot));
+        return saved;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream insert(Stream stream) {
+        Stream saved = delegate.insert(stream);
+        Stream snapshot = StreamCatalog.copyOf(saved);
+        afterCommit(() -> catalog.put(snapshot));
+        return saved;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream update(Stream stream) {
+        Stream saved = delegate.update(stream);
+        Stream snapshot = StreamCatalog.copyOf(saved);
+        afterCommit(() -> catalog.put(snapshot));
+        return saved;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Stream> transition(StreamId streamId, StreamTransition transition) {
+        Optional<Stream> transitioned = delegate.transition(streamId, transition);
+        transitioned.map(StreamCatalog::copyOf).ifPresent(snapshot -> afterCommit(() -> catalog.put(snapshot)));
+        return transitioned;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Stream> findById(StreamId streamId) {
+        return servable() ? catalog.find(streamId) : delegate.findById(streamId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Stream> findAllById(Collection<StreamId> streamIds) {
+        return servable() ? catalog.findAll(streamIds) : delegate.findAllById(streamIds);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Catalog results are ordered by creation time ascending.
+     */
+    @Override
+    public Page<Stream> findAll(StreamFilter filter, int page, int size) {
+        return servable() ? catalog.findAll(filter, page, size) : delegate.findAll(filter, page, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void delete(StreamId streamId) {
+        delegate.delete(streamId);
+        afterCommit(() -> catalog.remove(streamId));
+    }
+
+    // -------------------------------------------------------------------------
+    // Internals
+    // -------------------------------------------------------------------------
+
+    private boolean servable() {
+        return loaded && !TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.datastream.infrastructure.persistence.diagnostics;
+
+import java.util.regex.Pattern;
+
+/**
+ * Reduces SQL statements to a normalized form that groups executions of the same
+ * statement regardless of their literal values.
+ *
+ * <p>Normalization replaces string and numeric literals with {@code ?}, drops comments,
+ * collapses whitespace and folds parameter lists, so {@code IN (?, ?, ?)} and a multi-row
+ * {@code VALUES (?, ?), (?, ?)} become {@code IN (?)} and {@code VALUES (?)}. Quoted
+ * identifiers and keyword case are kept. The normalized form never contains a bound value,
+ * so it is safe to log.
+ */
+public final class SqlNormalizer {
+
+    /** Operation of statements that are not a plain SELECT, INSERT, UPDATE or DELETE. */
+    public static final String OTHER = "other";
+
+    private static final String[] OPERATIONS = {"select", "insert", "update", "delete"};
+
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\?(?:, ?\\?)+\\)");
+    private static final Pattern ROW_LIST = Pattern.compile("\\(\\?\\)(?:, ?\\(\\?\\))+");
+
+    private SqlNormalizer() {
+    }
+
+    /**
+     * Returns the lower-case verb of a statement.
+     *
+     * <p>Only leading whitespace is skipped, so this costs a few character comparisons.
+     *
+     * @param sql the statement; may be {@code null}
+     * @return {@code select}, {@code insert}, {@code update}, {@code delete} or {@link #OTHER}
+     */
+    public static String operation(String sql) {
+        if (sql == null) {
+            return OTHER;
+        }
+        int start = 0;
+        while (start < sql.length() && Character.isWhitespace(sql.charAt(start))) {
+            start++;
+        }
+        for (String operation : OPERATIONS) {
+            if (sql.regionMatches(true, start, operation, 0, operation.length())) {
+                return operation;
+            }
+        }
+        return OTHER;
+    }
+
+    /**
+     * Returns the normalized form of a statement.
+     *
+     * @param sql the statement; must not be null
+     * @return the statement with literals replaced, comments removed and lists folded
+     */
+    public static String normalize(String sql) {
+        StringBuilder out = new StringBuilder(sql.length());
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                i = skipQuoted(sql, i, '\'');
+                out.append('?');
+            } else if (c == '"') {
+                int end = skipQuoted(sql, i, '"');
+                out.append(sql, i, end);
+                i = end;
+            } else if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+                while (i < length && sql.charAt(i) != '\n') {
+                    i++;
+                }
+            } else if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+            } else if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (!out.isEmpty() && out.charAt(out.length() - 1) != ' ') {
+                    out.append(' ');
+                }
+            } else if (Character.isDigit(c) && !continuesIdentifier(out)) {
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                out.append('?');
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+        int end = out.length();
+        while (end > 0 && (out.charAt(end - 1) == ' ' || out.charAt(end - 1) == ';')) {
+            end--;
+        }
+        out.setLength(end);
+        String folded = PARAMETER_LIST.matcher(out).replaceAll("(?)");
+        return ROW_LIST.matcher(folded).replaceAll("(?)");
+    }
+
+    /** Returns the index after the quoted section starting at {@code start}; doubled quotes are escapes. */
+    private static int skipQuoted(String sql, int start, char quote) {
+        int i = start + 1;
+        while (i < sql.length()) {
+            if (sql.charAt(i) == quote) {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == quote) {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return sql.length();
+    }
+
+    /** Whether a digit at this point is part of an identifier such as {@code data_events0_} rather than a literal. */
+    private static boolean continuesIdentifier(StringBuilder out) {
+        if (out.isEmpty()) {
+            return false;
+        }
+        char previous = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '$';
+    }
+}
@@ -0,0 +1,178 @@
+package com.datastream.infrastructure.persistence.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+
+/**
+ * Records the execution time of SQL statements and keeps details only for the slow and
+ * sampled ones.
+ *
+ * <p>Every statement is timed into a per-operation histogram, which costs a verb check, a
+ * map lookup and a timer update. A statement is then looked at in detail only if it took at
+ * least the slow threshold, or if it is picked by the sample rate independently of its
+ * duration: its SQL is normalized by {@link SqlNormalizer}, timed into a per-statement
+ * histogram, and logged without bound values, at WARN when slow and at DEBUG when sampled.
+ * Sampled histograms therefore show a statement's whole distribution, slow ones its tail.
+ *
+ * <p>Meters:
+ * <ul>
+ *   <li>{@code datastream.sql.statements}: timer with histogram of every statement, tagged
+ *       with its {@code operation}</li>
+ *   <li>{@code datastream.sql.statement}: timer with histogram of slow and sampled statements,
+ *       tagged with the normalized {@code statement} and the {@code reason}, {@code slow} or
+ *       {@code sampled}</li>
+ * </ul>
+ * At most {@code maxStatements} distinct normalized statements get their own timers; later
+ * ones are recorded under the statement {@code other}.
+ */
+public class SqlStatementDiagnostics {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementDiagnostics.class);
+
+    private static final String OTHER_STATEMENT = "other";
+
+    private final MeterRegistry registry;
+    private final long slowThresholdNanos;
+    private final double sampleRate;
+    private final int maxStatements;
+    private final DoubleSupplier random;
+    private final ConcurrentHashMap<String, Timer> operations = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> normalized = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, StatementMeters> statements = new ConcurrentHashMap<>();
+    private final Function<String, Timer> newOperationTimer;
+    private final Function<String, StatementMeters> newStatementMeters;
+
+    /**
+     * Creates the diagnostics, sampling with {@link ThreadLocalRandom}.
+     *
+     * @param registry      registry the meters are registered with; must not be null
+     * @param slowThreshold duration from which a statement is slow; must not be negative
+     * @param sampleRate    fraction of statements looked at regardless of duration, 0 to 1
+     * @param maxStatements distinct normalized statements with their own timers; must be > 0
+     */
+    public SqlStatementDiagnostics(MeterRegistry registry, Duration slowThreshold, double sampleRate, int maxStatements) {
+        this(registry, slowThreshold, sampleRate, maxStatements, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * Creates the diagnostics with the given sample source.
+     *
+     * @param registry      registry the meters are registered with; must not be null
+     * @param slowThreshold duration from which a statement is slow; must not be negative
+     * @param sampleRate    fraction of statements looked at regardless of duration, 0 to 1
+     * @param maxStatements distinct normalized statements with their own timers; must be > 0
+     * @param random        source of uniform values in [0, 1) for sampling; must not be null
+     */
+    SqlStatementDiagnostics(MeterRegistry registry, Duration slowThreshold, double sampleRate, int maxStatements,
+                            DoubleSupplier random) {
+        this.registry = Objects.requireNonNull(registry, "registry must not be null");
+        Objects.requireNonNull(slowThreshold, "slowThreshold must not be null");
+        if (slowThreshold.isNegative()) {
+            throw new IllegalArgumentException("slowThreshold must not be negative");
+        }
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("sampleRate must be between 0 and 1");
+        }
+        if (maxStatements <= 0) {
+            throw new IllegalArgumentException("maxStatements must be > 0");
+        }
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.sampleRate = sampleRate;
+        this.maxStatements = maxStatements;
+        this.random = Objects.requireNonNull(random, "random must not be null");
+        this.newOperationTimer = operation -> Timer.builder("datastream.sql.statements")
+                .description("Execution time of JDBC statements")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(registry);
+        this.newStatementMeters = StatementMeters::new;
+    }
+
+    /**
+     * Records one statement execution.
+     *
+     * @param sql           the executed statement; {@code null} if unknown
+     * @param durationNanos how long the execution took
+     */
+    public void record(String sql, long durationNanos) {
+        String operation = SqlNormalizer.operation(sql);
+        Timer timer = operations.get(operation);
+        if (timer == null) {
+            timer = operations.computeIfAbsent(operation, newOperationTimer);
+        }
+        timer.record(durationNanos, TimeUnit.NANOSECONDS);
+
+        boolean slow = durationNanos >= slowThresholdNanos;
+        boolean sampled = sampleRate > 0 && random.getAsDouble() < sampleRate;
+        if (!slow && !sampled) {
+            return;
+        }
+        String statement = sql == null ? OTHER_STATEMENT : normalize(sql);
+        StatementMeters meters = meters(statement);
+        if (slow) {
+            meters.slow.record(durationNanos, TimeUnit.NANOSECONDS);
+            log.warn("Slow SQL statement ({} ms): {}", TimeUnit.NANOSECONDS.toMillis(durationNanos), statement);
+        }
+        if (sampled) {
+            meters.sampled.record(durationNanos, TimeUnit.NANOSECONDS);
+            if (log.isDebugEnabled()) {
+                log.debug("Sampled SQL statement ({} µs): {}", TimeUnit.NANOSECONDS.toMicros(durationNanos), statement);
+            }
+        }
+    }
+
+    private String normalize(String sql) {
+        String statement = normalized.get(sql);
+        if (statement == null) {
+            statement = SqlNormalizer.normalize(sql);
+            // Statements with inlined literals would grow the cache without bound
+            if (normalized.size() < maxStatements) {
+                normalized.putIfAbsent(sql, statement);
+            }
+        }
+        return statement;
+    }
+
+    private StatementMeters meters(String statement) {
+        StatementMeters meters = statements.get(statement);
+        if (meters != null) {
+            return meters;
+        }
+        // The bound may be overshot by concurrent first recordings, never by more than the thread count
+        String key = statements.size() < maxStatements ? statement : OTHER_STATEMENT;
+        return statements.computeIfAbsent(key, newStatementMeters);
+    }
+
+    /**
+     * The slow and sampled timers of one normalized statement.
+     */
+    private final class StatementMeters {
+
+        final Timer slow;
+        final Timer sampled;
+
+        StatementMeters(String statement) {
+            this.slow = timer(statement, "slow");
+            this.sampled = timer(statement, "sampled");
+        }
+
+        private Timer timer(String statement, String reason) {
+            return Timer.builder("datastream.sql.statement")
+                    .description("Execution time of slow and sampled JDBC statements")
+                    .tag("statement", statement)
+                    .tag("reason", reason)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.datastream.infrastructure.persistence.diagnostics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * {@link DataSource} that times every statement executed on its connections and reports
+ * it to {@link SqlStatementDiagnostics}.
+ *
+ * <p>Connections and the statements they create are wrapped in plain delegating classes,
+ * {@link TimedConnection} and the {@link TimedStatement} family, that pass every call
+ * straight to the driver and read the clock only around the {@code execute*} methods.
+ * Parameter setters and result handling cost one extra virtual call and no allocation;
+ * each connection and statement costs one wrapper object. The timed span is the database
+ * round trip of the execution; rows a query fetches later, while its result set is
+ * iterated, are not included. {@code unwrap} reaches the driver's objects as before, so
+ * driver-specific APIs such as the PostgreSQL COPY manager keep working, but their work
+ * is not timed. {@code getConnection} on a statement returns the wrapped connection, so
+ * statements created from it are timed too.
+ */
+public class StatementTimingDataSource extends DelegatingDataSource {
+
+    private final SqlStatementDiagnostics diagnostics;
+
+    /**
+     * Creates the data source.
+     *
+     * @param target      the data source connections are obtained from; must not be null
+     * @param diagnostics receives the statement timings; must not be null
+     */
+    public StatementTimingDataSource(DataSource target, SqlStatementDiagnostics diagnostics) {
+        super(Objects.requireNonNull(target, "target must not be null"));
+        this.diagnostics = Objects.requireNonNull(diagnostics, "diagnostics must not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        return new TimedConnection(super.getConnection(), diagnostics);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return new TimedConnection(super.getConnection(username, password), diagnostics);
+    }
+}
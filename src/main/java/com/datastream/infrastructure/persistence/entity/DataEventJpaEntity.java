@@ -3,9 +3,13 @@ package com.datastream.infrastructure.persistence.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Instant;
 import java.util.Map;
@@ -16,11 +20,18 @@ import java.util.UUID;
  *
  * <p>The {@code metadata} column is stored as PostgreSQL {@code JSONB} using
  * Hibernate 6's {@link JdbcTypeCode} with {@link SqlTypes#JSON}.
- * The {@code payload} column uses PostgreSQL {@code BYTEA} for efficient binary storage.
+ * The {@code payload} column uses PostgreSQL {@code BYTEA} for efficient binary storage;
+ * payloads kept in the blob store leave it null and set {@code payload_ref} instead.
+ *
+ * <p>Events are append-only and their IDs are assigned by the domain, so the entity
+ * implements {@link Persistable}: an instance built with the all-args constructor
+ * reports itself as new and {@code save} issues a plain {@code INSERT} instead of
+ * the {@code SELECT}-then-{@code INSERT} of a merge. Loaded or persisted instances
+ * are not new.
  */
 @Entity
 @Table(name = "data_events")
-public class DataEventJpaEntity {
+public class DataEventJpaEntity implements Persistable<UUID> {
 
     @Id
     @Column(name = "event_id", updatable = false, nullable = false)
@@ -34,9 +45,13 @@ public class DataEventJpaEntity {
      * Using {@code columnDefinition = "BYTEA"} instead of {@code @Lob} for
      * correct behaviour with Hibernate 6 + PostgreSQL (avoids OID/LOB API).
      */
-    @Column(name = "payload", nullable = false, columnDefinition = "BYTEA")
+    @Column(name = "payload", columnDefinition = "BYTEA")
     private byte[] payload;
 
+    /** SHA-256 of a payload kept in the blob store, or null when the payload is inline. */
+    @Column(name = "payload_ref", length = 64)
+    private String payloadRef;
+
     /** Arbitrary string key/value pairs stored as PostgreSQL {@code JSONB}. */
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "metadata", columnDefinition = "jsonb")
@@ -45,6 +60,9 @@ public class DataEventJpaEntity {
     @Column(name = "timestamp", nullable = false, columnDefinition = "TIMESTAMPTZ")
     private Instant timestamp;
 
+    @Transient
+    private boolean isNew;
+
     /** No-arg constructor required by JPA. */
     protected DataEventJpaEntity() {
     }
@@ -52,30 +70,48 @@ public class DataEventJpaEntity {
     /**
      * All-args constructor for creating a fully populated entity.
      *
-     * @param eventId   the event UUID (primary key)
-     * @param streamId  UUID of the owning stream
-     * @param payload   raw binary payload
-     * @param metadata  arbitrary key/value metadata; may be null
-     * @param timestamp event creation timestamp
+     * @param eventId    the event UUID (primary key)
+     * @param streamId   UUID of the owning stream
+     * @param payload    raw binary payload, or null when it is in the blob store
+     * @param payloadRef blob store reference, or null when the payload is inline
+     * @param metadata   arbitrary key/value metadata; may be null
+     * @param timestamp  event creation timestamp
      */
-    public DataEventJpaEntity(UUID eventId, UUID streamId, byte[] payload,
+    public DataEventJpaEntity(UUID eventId, UUID streamId, byte[] payload, String payloadRef,
                                Map<String, String> metadata, Instant timestamp) {
         this.eventId = eventId;
         this.streamId = streamId;
         this.payload = payload;
+        this.payloadRef = payloadRef;
         this.metadata = metadata;
         this.timestamp = timestamp;
+        this.isNew = true;
     }
 
+    /** @return the event UUID (primary key) */
+    @Override
+    public UUID getId() { return eventId; }
+
+    /** @return {@code true} until the entity has been persisted or if it was never loaded */
+    @Override
+    public boolean isNew() { return isNew; }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() { this.isNew = false; }
+
     /** @return the event UUID (primary key) */
     public UUID getEventId() { return eventId; }
 
     /** @return UUID of the stream this event belongs to */
     public UUID getStreamId() { return streamId; }
 
-    /** @return the raw binary payload */
+    /** @return the raw binary payload, or null when it is in the blob store */
     public byte[] getPayload() { return payload; }
 
+    /** @return the blob store reference, or null when the payload is inline */
+    public String getPayloadRef() { return payloadRef; }
+
     /** @return the metadata map, may be null */
     public Map<String, String> getMetadata() { return metadata; }
 
@@ -3,7 +3,12 @@ package com.datastream.infrastructure.persistence.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -14,10 +19,15 @@ import java.util.UUID;
  * <p>This class is an infrastructure concern only. Domain logic must never
  * depend on it directly — use the mapper to convert to/from the domain
  * {@link com.datastream.domain.model.Stream} aggregate.
+ *
+ * <p>Stream IDs are assigned by the domain, so newness cannot be inferred from the ID.
+ * The entity implements {@link Persistable} and is only reported as new after
+ * {@link #markNew()}, which lets the insert path skip the {@code SELECT} a merge would
+ * issue; every other instance is saved through a merge as before.
  */
 @Entity
 @Table(name = "streams")
-public class StreamJpaEntity {
+public class StreamJpaEntity implements Persistable<UUID> {
 
     @Id
     @Column(name = "id", updatable = false, nullable = false)
@@ -44,6 +54,13 @@ public class StreamJpaEntity {
     @Column(name = "updated_at", nullable = false, columnDefinition = "TIMESTAMPTZ")
     private Instant updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Transient
+    private boolean isNew;
+
     /** No-arg constructor required by JPA. */
     protected StreamJpaEntity() {
     }
@@ -59,9 +76,11 @@ public class StreamJpaEntity {
      * @param status      string representation of {@link com.datastream.domain.model.StreamStatus}
      * @param createdAt   creation timestamp
      * @param updatedAt   last-updated timestamp
+     * @param version     optimistic-lock version
      */
     public StreamJpaEntity(UUID id, String name, String description, UUID ownerId,
-                           String streamType, String status, Instant createdAt, Instant updatedAt) {
+                           String streamType, String status, Instant createdAt, Instant updatedAt,
+                           long version) {
         this.id = id;
         this.name = name;
         this.description = description;
@@ -70,11 +89,32 @@ public class StreamJpaEntity {
         this.status = status;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.version = version;
     }
 
     /** @return the stream UUID (primary key) */
+    @Override
     public UUID getId() { return id; }
 
+    /** @return {@code true} if this instance was marked new and has not been persisted yet */
+    @Override
+    public boolean isNew() { return isNew; }
+
+    /**
+     * Marks this instance as a row that does not exist yet, so that it is persisted
+     * with a plain {@code INSERT}.
+     *
+     * @return this entity
+     */
+    public StreamJpaEntity markNew() {
+        this.isNew = true;
+        return this;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() { this.isNew = false; }
+
     /** @return the stream name */
     public String getName() { return name; }
 
@@ -96,6 +136,9 @@ public class StreamJpaEntity {
     /** @return last-updated timestamp */
     public Instant getUpdatedAt() { return updatedAt; }
 
+    /** @return optimistic-lock version, incremented by every update */
+    public long getVersion() { return version; }
+
     /** @param status the new status to persist */
     public void setStatus(String status) { this.status = status; }
 
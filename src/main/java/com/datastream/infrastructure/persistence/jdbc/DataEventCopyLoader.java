@@ -0,0 +1,181 @@
+package com.datastream.infrastructure.persistence.jdbc;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.infrastructure.persistence.blob.PayloadBlobStore;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Bulk-loads {@link DataEvent}s into {@code data_events} with
+ * {@code COPY ... FROM STDIN (FORMAT BINARY)}.
+ *
+ * <p>Rows are encoded in PostgreSQL's binary copy format in-process: {@code uuid} as
+ * 16 raw bytes, {@code bytea} as raw bytes, {@code jsonb} as a version byte followed by
+ * the UTF-8 JSON text, and {@code timestamptz} as microseconds since 2000-01-01 UTC.
+ * Encoded rows are sent to the server in chunks of about {@value #CHUNK_BYTES} bytes,
+ * so memory use does not grow with the number of rows. Payloads above the blob store
+ * threshold are written to the {@link PayloadBlobStore} and copied as a {@code payload_ref}.
+ *
+ * <p>This class is thread-safe.
+ */
+public final class DataEventCopyLoader {
+
+    static final String COPY_SQL =
+            "COPY data_events (event_id, stream_id, payload, metadata, timestamp, payload_ref) FROM STDIN (FORMAT BINARY)";
+
+    private static final int CHUNK_BYTES = 64 * 1024;
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+    private static final short FIELD_COUNT = 6;
+    private static final byte JSONB_VERSION = 1;
+    /** Seconds between the Unix epoch and the PostgreSQL epoch (2000-01-01T00:00:00Z). */
+    private static final long PG_EPOCH_SECONDS = 946_684_800L;
+
+    private final PayloadBlobStore blobStore;
+
+    /**
+     * Creates a loader that offloads large payloads to the given store.
+     *
+     * @param blobStore the payload blob store; must not be null
+     */
+    public DataEventCopyLoader(PayloadBlobStore blobStore) {
+        this.blobStore = Objects.requireNonNull(blobStore, "blobStore must not be null");
+    }
+
+    /**
+     * Copies the given events into {@code data_events} on the given connection.
+     *
+     * <p>The connection's current transaction is used; the caller commits or rolls back.
+     * If encoding or sending fails, the copy is cancelled and no row is loaded.
+     *
+     * @param connection a PostgreSQL connection, possibly wrapped by a pool; must not be null
+     * @param events     the events to load; must not be null
+     * @return the number of rows loaded
+     * @throws SQLException if the server rejects the copy
+     */
+    public long copyIn(Connection connection, List<DataEvent> events) throws SQLException {
+        CopyIn copy = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+        try {
+            Chunk chunk = new Chunk();
+            DataOutputStream out = new DataOutputStream(chunk);
+            writeHeader(out);
+            for (DataEvent event : events) {
+                writeRow(out, event, blobStore);
+                if (chunk.size() >= CHUNK_BYTES) {
+                    chunk.sendTo(copy);
+                }
+            }
+            out.writeShort(-1);
+            chunk.sendTo(copy);
+            return copy.endCopy();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode events for COPY", e);
+        } finally {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        }
+    }
+
+    /**
+     * Encodes the given events into a complete binary copy stream.
+     *
+     * @param events    the events to encode; must not be null
+     * @param blobStore the store deciding which payloads are offloaded; must not be null
+     * @return header, one tuple per event and trailer
+     */
+    static byte[] encode(List<DataEvent> events, PayloadBlobStore blobStore) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            writeHeader(out);
+            for (DataEvent event : events) {
+                writeRow(out, event, blobStore);
+            }
+            out.writeShort(-1);
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeHeader(DataOutputStream out) throws IOException {
+        out.write(SIGNATURE);
+        out.writeInt(0);    // flags
+        out.writeInt(0);    // header extension length
+    }
+
+    private static void writeRow(DataOutputStream out, DataEvent event, PayloadBlobStore blobStore)
+            throws IOException {
+        out.writeShort(FIELD_COUNT);
+        writeUuid(out, event.getEventId());
+        writeUuid(out, event.getStreamId().value());
+
+        PayloadBlobStore.Stored payload = blobStore.store(event.getPayload());
+        writeBytes(out, payload.inline());
+
+        String metadata = DataEventRowMapper.writeMetadata(event.getMetadata());
+        if (metadata == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] json = metadata.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(json.length + 1);
+            out.writeByte(JSONB_VERSION);
+            out.write(json);
+        }
+
+        out.writeInt(8);
+        out.writeLong(toPgMicros(event.getTimestamp()));
+
+        writeBytes(out, payload.reference() == null ? null : payload.reference().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(value.length);
+            out.write(value);
+        }
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeInt(16);
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    static long toPgMicros(Instant instant) {
+        return Math.addExact(
+                Math.multiplyExact(instant.getEpochSecond() - PG_EPOCH_SECONDS, 1_000_000L),
+                instant.getNano() / 1_000);
+    }
+
+    /**
+     * Output buffer that hands its backing array to the copy without copying it.
+     */
+    private static final class Chunk extends ByteArrayOutputStream {
+
+        Chunk() {
+            super(CHUNK_BYTES + 1024);
+        }
+
+        void sendTo(CopyIn copy) throws SQLException {
+            if (count > 0) {
+                copy.writeToCopy(buf, 0, count);
+                reset();
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.datastream.infrastructure.persistence.jdbc;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.model.DataEventFilter;
+import com.datastream.domain.model.Page;
+import com.datastream.domain.valueobjects.StreamId;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Plain-JDBC read queries over the {@code data_events} table, shared by every
+ * {@link com.datastream.domain.repository.DataEventRepository} implementation.
+ *
+ * <p>Callers are responsible for transaction boundaries and, when writes may be
+ * pending in a JPA persistence context, for flushing before calling in.
+ */
+public final class DataEventJdbcQueries {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+    private final DataEventRowMapper rowMapper;
+
+    /**
+     * Creates the query helper.
+     *
+     * @param jdbcTemplate JDBC access; must not be null
+     * @param fetchSize    rows per round trip for forward-only cursors; must be > 0
+     * @param rowMapper    maps selected rows, resolving offloaded payloads; must not be null
+     */
+    public DataEventJdbcQueries(JdbcTemplate jdbcTemplate, int fetchSize, DataEventRowMapper rowMapper) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+        this.fetchSize = fetchSize;
+        this.rowMapper = Objects.requireNonNull(rowMapper, "rowMapper must not be null");
+    }
+
+    /**
+     * Returns a page of a stream's events matching {@code filter}, newest first.
+     *
+     * <p>Metadata criteria are expressed as a single {@code metadata @> ?::jsonb}
+     * containment predicate so that the {@code jsonb_path_ops} GIN index
+     * ({@code idx_data_events_metadata}) can serve them.
+     *
+     * @param streamId the stream to query; must not be null
+     * @param filter   metadata and time-range criteria; must not be null
+     * @param page     zero-based page index
+     * @param size     maximum number of results per page
+     * @return the requested page
+     */
+    public Page<DataEvent> page(StreamId streamId, DataEventFilter filter, int page, int size) {
+        StringBuilder where = new StringBuilder(" FROM data_events WHERE stream_id = ?");
+        List<Object> args = new ArrayList<>(4);
+        args.add(streamId.value());
+        if (filter.hasMetadata()) {
+            where.append(" AND metadata @> ?::jsonb");
+            args.add(DataEventRowMapper.writeMetadata(filter.metadata()));
+        }
+        appendTimeRange(where, args, filter.from(), filter.to());
+
+        Long total = jdbcTemplate.queryForObject("SELECT count(*)" + where, Long.class, args.toArray());
+
+        List<Object> pageArgs = new ArrayList<>(args);
+        pageArgs.add(size);
+        pageArgs.add((long) page * size);
+        List<DataEvent> content = jdbcTemplate.query(
+                "SELECT " + DataEventRowMapper.COLUMNS + where + " ORDER BY timestamp DESC LIMIT ? OFFSET ?",
+                rowMapper, pageArgs.toArray());
+
+        return new Page<>(content, page, size, total != null ? total : 0L);
+    }
+
+    /**
+     * Streams a stream's events within {@code [from, to)} to {@code consumer}, oldest first,
+     * through a forward-only cursor.
+     *
+     * <p>Must run inside a transaction for the PostgreSQL driver to honour the fetch size
+     * instead of buffering the whole result set.
+     *
+     * @param streamId the stream to read; must not be null
+     * @param from     inclusive lower bound; {@code null} means unbounded
+     * @param to       exclusive upper bound; {@code null} means unbounded
+     * @param consumer receives each event in order; must not be null
+     */
+    public void forEach(StreamId streamId, Instant from, Instant to, Consumer<DataEvent> consumer) {
+        StringBuilder sql = new StringBuilder("SELECT ")
+                .append(DataEventRowMapper.COLUMNS)
+                .append(" FROM data_events WHERE stream_id = ?");
+        List<Object> args = new ArrayList<>(3);
+        args.add(streamId.value());
+        appendTimeRange(sql, args, from, to);
+        sql.append(" ORDER BY timestamp ASC");
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < args.size(); i++) {
+                ps.setObject(i + 1, args.get(i));
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(rowMapper.mapRow(rs, 0)));
+    }
+
+    private static void appendTimeRange(StringBuilder sql, List<Object> args, Instant from, Instant to) {
+        if (from != null) {
+            sql.append(" AND timestamp >= ?");
+            args.add(Timestamp.from(from));
+        }
+        if (to != null) {
+            sql.append(" AND timestamp < ?");
+            args.add(Timestamp.from(to));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.datastream.infrastructure.persistence.jdbc;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.infrastructure.persistence.blob.PayloadBlobStore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Maps rows of the {@code data_events} table directly to {@link DataEvent} domain entities.
+ *
+ * <p>Used by read paths that bypass Hibernate (e.g. forward-only export cursors),
+ * so rows are never hydrated into a persistence context. Expects the columns
+ * {@link #COLUMNS} to be selected. Payloads kept in the blob store are read from
+ * the mapper's {@link PayloadBlobStore}.
+ */
+public final class DataEventRowMapper implements RowMapper<DataEvent> {
+
+    /** Column list every query mapped by this class must select. */
+    public static final String COLUMNS = "event_id, stream_id, payload, payload_ref, metadata, timestamp";
+
+    /** Shared instance for rows that are known to hold their payload inline. */
+    public static final DataEventRowMapper INSTANCE = new DataEventRowMapper(PayloadBlobStore.INLINE);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, String>> METADATA_TYPE = new TypeReference<>() {
+    };
+
+    private final PayloadBlobStore blobStore;
+
+    /**
+     * Creates a mapper that resolves offloaded payloads from the given store.
+     *
+     * @param blobStore the payload blob store; must not be null
+     */
+    public DataEventRowMapper(PayloadBlobStore blobStore) {
+        this.blobStore = Objects.requireNonNull(blobStore, "blobStore must not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataEvent mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return DataEvent.reconstitute(
+                rs.getObject("event_id", UUID.class),
+                StreamId.of(rs.getObject("stream_id", UUID.class)),
+                blobStore.load(rs.getBytes("payload"), rs.getString("payload_ref")),
+                readMetadata(rs.getString("metadata")),
+                rs.getObject("timestamp", OffsetDateTime.class).toInstant()
+        );
+    }
+
+    /**
+     * Encodes metadata as a JSON object string suitable for a {@code jsonb} parameter.
+     *
+     * @param metadata the metadata map; {@code null} or empty yields {@code null}
+     * @return the JSON text, or {@code null} when there is no metadata
+     */
+    public static String writeMetadata(Map<String, String> metadata) {
+        if (metadata == null || metadata.isEmpty()) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(metadata);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode event metadata", e);
+        }
+    }
+
+    /**
+     * Decodes a {@code jsonb} metadata column value.
+     *
+     * @param json the JSON text; may be null
+     * @return the decoded map, or an empty map when {@code json} is null
+     */
+    public static Map<String, String> readMetadata(String json) {
+        if (json == null) {
+            return Collections.emptyMap();
+        }
+        try {
+            return OBJECT_MAPPER.readValue(json, METADATA_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to decode event metadata", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.datastream.infrastructure.persistence.jdbc;
+
+import com.datastream.domain.model.Stream;
+import com.datastream.domain.model.StreamStatus;
+import com.datastream.domain.model.StreamType;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.domain.valueobjects.StreamName;
+import com.datastream.domain.valueobjects.UserId;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Maps rows of the {@code streams} table directly to {@link Stream} aggregates.
+ *
+ * <p>Used by statements that bypass Hibernate, such as conditional
+ * {@code UPDATE ... RETURNING} transitions and versioned updates. Expects the columns {@link #COLUMNS}
+ * to be selected.
+ */
+public final class StreamRowMapper implements RowMapper<Stream> {
+
+    /** Column list every query mapped by this class must select. */
+    public static final String COLUMNS = "id, name, description, owner_id, stream_type, status, created_at, updated_at, version";
+
+    /** Shared stateless instance. */
+    public static final StreamRowMapper INSTANCE = new StreamRowMapper();
+
+    private StreamRowMapper() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return Stream.reconstitute(
+                StreamId.of(rs.getObject("id", UUID.class)),
+                StreamName.of(rs.getString("name")),
+                rs.getString("description"),
+                UserId.of(rs.getObject("owner_id", UUID.class)),
+                StreamType.valueOf(rs.getString("stream_type")),
+                StreamStatus.valueOf(rs.getString("status")),
+                rs.getObject("created_at", OffsetDateTime.class).toInstant(),
+                rs.getObject("updated_at", OffsetDateTime.class).toInstant(),
+                rs.getLong("version")
+        );
+    }
+}
@@ -3,7 +3,10 @@ package com.datastream.infrastructure.persistence.jpa;
 import com.datastream.infrastructure.persistence.entity.StreamJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -17,10 +20,15 @@ public interface StreamJpaRepository
                 JpaSpecificationExecutor<StreamJpaEntity> {
 
     /**
-     * Returns whether a stream with the given name exists.
+     * Returns the streams whose IDs are in the given array.
      *
-     * @param name the stream name to check
-     * @return {@code true} if a stream with this name exists
+     * <p>Binds the IDs as a single {@code uuid[]} parameter ({@code = ANY(?)}) rather
+     * than an expanded {@code IN (?, ?, ...)} list, so every batch size shares one
+     * prepared statement.
+     *
+     * @param ids the stream UUIDs to fetch
+     * @return the matching entities, in no particular order
      */
-    boolean existsByName(String name);
+    @Query(value = "SELECT * FROM streams WHERE id = ANY(:ids)", nativeQuery = true)
+    List<StreamJpaEntity> findAllByIdIn(@Param("ids") UUID[] ids);
 }
@@ -0,0 +1,129 @@
+package com.datastream.infrastructure.persistence.log;
+
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.infrastructure.config.EventLogProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Registry of per-stream {@link StreamLog}s under the configured {@code datastream.event-log}
+ * directory. A stream's log is opened on first use and kept open until {@link #close()}.
+ *
+ * <p>This class is thread-safe.
+ */
+public final class EventLog implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(EventLog.class);
+
+    private final Path root;
+    private final long segmentSize;
+    private final int indexInterval;
+    private final boolean fsync;
+    private final Map<StreamId, StreamLog> logs = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the registry.
+     *
+     * @param properties log settings; must not be null
+     */
+    public EventLog(EventLogProperties properties) {
+        Objects.requireNonNull(properties, "properties must not be null");
+        this.root = properties.directory();
+        this.segmentSize = properties.segmentSize().toBytes();
+        this.indexInterval = (int) Math.min(Integer.MAX_VALUE, properties.indexInterval().toBytes());
+        this.fsync = properties.fsync();
+    }
+
+    /**
+     * Returns the log of the given stream, creating it if it does not exist yet.
+     *
+     * @param streamId the stream; must not be null
+     * @return the stream's log
+     */
+    public StreamLog forWrite(StreamId streamId) {
+        return logs.computeIfAbsent(streamId, this::open);
+    }
+
+    /**
+     * Returns the log of the given stream if anything was ever written to it.
+     *
+     * @param streamId the stream; must not be null
+     * @return the stream's log, or empty if it has none
+     */
+    public Optional<StreamLog> forRead(StreamId streamId) {
+        StreamLog existing = logs.get(streamId);
+        if (existing != null) {
+            return Optional.of(existing);
+        }
+        if (!Files.isDirectory(directoryOf(streamId))) {
+            return Optional.empty();
+        }
+        return Optional.of(forWrite(streamId));
+    }
+
+    /**
+     * Deletes, in every log under the root directory, sealed segments whose newest event is
+     * before {@code cutoff}. Logs that have not been used since startup are opened first.
+     *
+     * @param cutoff events before this instant may be dropped; must not be null
+     * @return the number of segments deleted
+     */
+    public int deleteBefore(Instant cutoff) {
+        int deleted = 0;
+        for (StreamId streamId : storedStreams()) {
+            deleted += forWrite(streamId).deleteBefore(cutoff);
+        }
+        return deleted;
+    }
+
+    @Override
+    public void close() {
+        logs.values().forEach(StreamLog::close);
+        logs.clear();
+    }
+
+    private StreamLog open(StreamId streamId) {
+        StreamLog opened = StreamLog.open(streamId, directoryOf(streamId), segmentSize, indexInterval, fsync);
+        log.debug("Opened event log for stream {} with {} segment(s)", streamId.value(), opened.segmentCount());
+        return opened;
+    }
+
+    private List<StreamId> storedStreams() {
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+        try (Stream<Path> listing = Files.list(root)) {
+            return listing.filter(Files::isDirectory)
+                    .map(p -> parseStreamId(p.getFileName().toString()))
+                    .flatMap(Optional::stream)
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list event log directory " + root, e);
+        }
+    }
+
+    private static Optional<StreamId> parseStreamId(String name) {
+        try {
+            return Optional.of(new StreamId(UUID.fromString(name)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Path directoryOf(StreamId streamId) {
+        return root.resolve(streamId.value().toString());
+    }
+}
@@ -0,0 +1,154 @@
+package com.datastream.infrastructure.persistence.log;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.valueobjects.EventPayload;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.infrastructure.persistence.jdbc.DataEventRowMapper;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary encoding of one {@link DataEvent} in a segment file.
+ *
+ * <p>Layout, big-endian:
+ * <pre>
+ *   int   bodyLength      bytes following the CRC
+ *   int   crc32c          over the body
+ *   --- body ---
+ *   long  offset          position of the event in its stream log
+ *   long  epochSecond     timestamp
+ *   int   nano
+ *   long  eventId (most significant bits)
+ *   long  eventId (least significant bits)
+ *   int   payloadLength,  payload bytes
+ *   int   metadataLength, metadata as UTF-8 JSON (0 when empty)
+ * </pre>
+ * The stream ID is implied by the log the record belongs to.
+ */
+final class LogRecords {
+
+    /** Size of the length and CRC fields that precede every body. */
+    static final int HEADER_BYTES = 8;
+
+    private static final int FIXED_BODY_BYTES = 8 + 8 + 4 + 16 + 4 + 4;
+
+    private LogRecords() {
+    }
+
+    /**
+     * Encodes an event as a complete record, ready to be written.
+     *
+     * @param event  the event to encode; must not be null
+     * @param offset the offset assigned to the event
+     * @return a buffer positioned at 0 whose remaining bytes are the record
+     */
+    static ByteBuffer encode(DataEvent event, long offset) {
+        byte[] payload = event.getPayload().value();
+        String json = DataEventRowMapper.writeMetadata(event.getMetadata());
+        byte[] metadata = json == null ? new byte[0] : json.getBytes(StandardCharsets.UTF_8);
+
+        int bodyLength = FIXED_BODY_BYTES + payload.length + metadata.length;
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + bodyLength);
+        buffer.putInt(bodyLength).putInt(0);
+        buffer.putLong(offset)
+                .putLong(event.getTimestamp().getEpochSecond())
+                .putInt(event.getTimestamp().getNano())
+                .putLong(event.getEventId().getMostSignificantBits())
+                .putLong(event.getEventId().getLeastSignificantBits())
+                .putInt(payload.length).put(payload)
+                .putInt(metadata.length).put(metadata);
+
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), HEADER_BYTES, bodyLength);
+        buffer.putInt(4, (int) crc.getValue());
+        return buffer.flip();
+    }
+
+    /**
+     * Returns the total size of the record starting at {@code position}, or {@code -1} if no
+     * complete, intact record starts there (end of data or a torn write).
+     *
+     * @param buffer   the segment contents; its limit marks the end of written data
+     * @param position where the record starts
+     * @return the record size including its header, or {@code -1}
+     */
+    static int validLength(ByteBuffer buffer, int position) {
+        if (buffer.limit() - position < HEADER_BYTES) {
+            return -1;
+        }
+        int bodyLength = buffer.getInt(position);
+        if (bodyLength < FIXED_BODY_BYTES || bodyLength > buffer.limit() - position - HEADER_BYTES) {
+            return -1;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(position + HEADER_BYTES, bodyLength));
+        if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+            return -1;
+        }
+        return HEADER_BYTES + bodyLength;
+    }
+
+    /**
+     * Reads the offset of the record at {@code position}.
+     *
+     * @param buffer   the segment contents
+     * @param position where the record starts
+     * @return the record's offset
+     */
+    static long offset(ByteBuffer buffer, int position) {
+        return buffer.getLong(position + HEADER_BYTES);
+    }
+
+    /**
+     * Reads the timestamp of the record at {@code position}.
+     *
+     * @param buffer   the segment contents
+     * @param position where the record starts
+     * @return the record's timestamp
+     */
+    static Instant timestamp(ByteBuffer buffer, int position) {
+        return Instant.ofEpochSecond(buffer.getLong(position + HEADER_BYTES + 8),
+                buffer.getInt(position + HEADER_BYTES + 16));
+    }
+
+    /**
+     * Decodes the record at {@code position}, which must have been validated.
+     *
+     * @param buffer   the segment contents
+     * @param position where the record starts
+     * @param streamId the stream the log belongs to
+     * @return the decoded event
+     */
+    static DataEvent decode(ByteBuffer buffer, int position, StreamId streamId) {
+        int p = position + HEADER_BYTES + 8;
+        Instant timestamp = Instant.ofEpochSecond(buffer.getLong(p), buffer.getInt(p + 8));
+        UUID eventId = new UUID(buffer.getLong(p + 12), buffer.getLong(p + 20));
+        p += 28;
+        byte[] payload = new byte[buffer.getInt(p)];
+        buffer.get(p + 4, payload);
+        p += 4 + payload.length;
+        int metadataLength = buffer.getInt(p);
+        String json = null;
+        if (metadataLength > 0) {
+            byte[] metadata = new byte[metadataLength];
+            buffer.get(p + 4, metadata);
+            json = new String(metadata, StandardCharsets.UTF_8);
+        }
+        return DataEvent.reconstitute(eventId, streamId, EventPayload.of(payload),
+                DataEventRowMapper.readMetadata(json), timestamp);
+    }
+
+    /**
+     * Converts a timestamp to epoch microseconds, the unit used by segment indexes.
+     *
+     * @param instant the timestamp
+     * @return microseconds since the epoch
+     */
+    static long toMicros(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+    }
+}
@@ -0,0 +1,469 @@
+package com.datastream.infrastructure.persistence.log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * One file of a {@link StreamLog}: a contiguous run of records starting at {@link #baseOffset()}.
+ *
+ * <p>The active segment's file is extended to its expected size up front and mapped once,
+ * read-write; records are written into that mapping and reads take views of it, so neither
+ * appends nor tail reads map the file again. When the segment is sealed the file is truncated
+ * to its records, mapped read-only once for all later reads and its channel is closed, so a
+ * log holds one open file per stream, not one per segment. Every {@code indexInterval} bytes the segment records a sparse index entry
+ * {@code (offset, position, maxTimestampBefore)}, which lets offset and timestamp reads seek
+ * close to their start and scan forward from there. When the segment is sealed the index is
+ * written to a sibling {@code .index} file, so that reopening a sealed segment does not need
+ * to scan it; the active segment's index is rebuilt by scanning on open.
+ *
+ * <p>Appends are made by a single writer at a time (the owning log's append lock). Reads are
+ * lock-free and may run concurrently with appends: they only look at bytes below the
+ * {@code volatile} size, which is published after the record is written.
+ */
+final class Segment implements AutoCloseable {
+
+    static final String LOG_SUFFIX = ".log";
+    static final String INDEX_SUFFIX = ".index";
+
+    private static final int INDEX_HEADER_BYTES = 16;
+    private static final int INDEX_ENTRY_BYTES = 24;
+
+    private final Path file;
+    private final Path indexFile;
+    private final long baseOffset;
+    private final int indexInterval;
+    private final FileChannel channel;
+
+    private volatile int size;
+    private volatile long nextOffset;
+    private volatile long minTimestamp = Long.MAX_VALUE;
+    private volatile long maxTimestamp = Long.MIN_VALUE;
+    private volatile SparseIndex index = SparseIndex.EMPTY;
+    private volatile MappedByteBuffer activeView;
+    private volatile MappedByteBuffer sealedView;
+    private int bytesSinceIndex;
+
+    private Segment(Path file, long baseOffset, int indexInterval, FileChannel channel) {
+        this.file = file;
+        this.indexFile = sibling(file, INDEX_SUFFIX);
+        this.baseOffset = baseOffset;
+        this.indexInterval = indexInterval;
+        this.channel = channel;
+        this.nextOffset = baseOffset;
+    }
+
+    /**
+     * Creates a new, empty segment file.
+     *
+     * @param directory     the stream's log directory
+     * @param baseOffset    offset of the first record the segment will hold
+     * @param indexInterval bytes between sparse index entries
+     * @param capacity      bytes the segment is expected to reach; the file is mapped to this size
+     * @return the writable segment
+     */
+    static Segment create(Path directory, long baseOffset, int indexInterval, int capacity) {
+        Path file = directory.resolve(fileName(baseOffset));
+        try {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            Segment segment = new Segment(file, baseOffset, indexInterval, channel);
+            segment.activeView = segment.mapActive(capacity);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create segment " + file, e);
+        }
+    }
+
+    /**
+     * Opens an existing segment file.
+     *
+     * <p>A sealed segment loads its {@code .index} file when present and valid. Otherwise the
+     * segment is scanned up to the first record that is incomplete or fails its checksum; an
+     * active segment is then truncated there, discarding a write torn by a crash.
+     *
+     * @param file          the segment file
+     * @param active        whether this is the last segment of its log and will receive appends
+     * @param indexInterval bytes between sparse index entries
+     * @param capacity      bytes an active segment is expected to reach
+     * @return the opened segment
+     */
+    static Segment open(Path file, boolean active, int indexInterval, int capacity) {
+        try {
+            FileChannel channel = active
+                    ? FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                    : FileChannel.open(file, StandardOpenOption.READ);
+            Segment segment = new Segment(file, baseOffsetOf(file), indexInterval, channel);
+            if (active || !segment.loadIndex()) {
+                segment.recover(active);
+            }
+            if (active) {
+                segment.activeView = segment.mapActive(Math.max(capacity, segment.size));
+            } else {
+                segment.sealedView = segment.map();
+                channel.close();
+            }
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open segment " + file, e);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Writes
+    // -------------------------------------------------------------------------
+
+    /**
+     * Appends one encoded record. Caller holds the owning log's append lock.
+     *
+     * @param record          the record produced by {@link LogRecords#encode}
+     * @param timestampMicros the record's timestamp in epoch microseconds
+     */
+    void append(ByteBuffer record, long timestampMicros) {
+        int position = size;
+        int length = record.remaining();
+        MappedByteBuffer view = activeView;
+        if (position + (long) length > view.capacity()) {
+            // A record larger than the remaining capacity; rare, since the log rolls at capacity
+            view = mapActive((int) Math.min(Integer.MAX_VALUE, Math.max(2L * view.capacity(), position + (long) length)));
+            activeView = view;
+        }
+        view.put(position, record, record.position(), length);
+        recordAppended(nextOffset, position, length, timestampMicros);
+    }
+
+    /**
+     * Forces written records to the storage device.
+     */
+    void flush() {
+        MappedByteBuffer view = activeView;
+        if (view != null) {
+            view.force(0, size);
+        }
+    }
+
+    /**
+     * Makes the segment read-only: forces it to disk, truncates the file to its records,
+     * writes its index file, maps it once for all later reads and closes its channel.
+     * Caller holds the owning log's append lock.
+     */
+    void seal() {
+        flush();
+        try {
+            channel.truncate(size);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot truncate segment " + file, e);
+        }
+        writeIndex();
+        sealedView = map();
+        activeView = null;
+        close();
+    }
+
+    // -------------------------------------------------------------------------
+    // Reads
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns a read-only view of the written records; its limit is the segment size at
+     * the time of the call.
+     *
+     * @return a buffer over {@code [0, size)}
+     */
+    ByteBuffer view() {
+        int limit = size;
+        MappedByteBuffer active = activeView;
+        if (active != null) {
+            return active.asReadOnlyBuffer().limit(limit);
+        }
+        // Sealed, possibly between the two reads above; sealedView is set before activeView is cleared
+        return sealedView.duplicate();
+    }
+
+    /**
+     * Returns the position of the record with the given offset.
+     *
+     * @param view   a buffer obtained from {@link #view()}
+     * @param offset the offset to find; must be within {@code [baseOffset, nextOffset)}
+     * @return the record's position, or {@code -1} if it is not within the view
+     */
+    int positionOf(ByteBuffer view, long offset) {
+        SparseIndex snapshot = index;
+        int entry = snapshot.floorByOffset(offset);
+        int position = entry < 0 ? 0 : (int) snapshot.positions[entry];
+        while (position < view.limit()) {
+            long current = LogRecords.offset(view, position);
+            if (current == offset) {
+                return position;
+            }
+            position += LogRecords.HEADER_BYTES + view.getInt(position);
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a position from which a forward scan sees every record with a timestamp at or
+     * after {@code fromMicros}: the last index entry before which all timestamps are earlier.
+     *
+     * @param fromMicros the inclusive lower bound in epoch microseconds
+     * @return the position to start scanning from
+     */
+    int seekTimestamp(long fromMicros) {
+        SparseIndex snapshot = index;
+        int position = 0;
+        for (int i = 0; i < snapshot.count && snapshot.maxTimestampsBefore[i] < fromMicros; i++) {
+            position = (int) snapshot.positions[i];
+        }
+        return position;
+    }
+
+    long baseOffset() {
+        return baseOffset;
+    }
+
+    long nextOffset() {
+        return nextOffset;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the earliest record timestamp in epoch microseconds, or {@code Long.MAX_VALUE}
+     * when the segment is empty.
+     */
+    long minTimestamp() {
+        return minTimestamp;
+    }
+
+    /**
+     * Returns the latest record timestamp in epoch microseconds, or {@code Long.MIN_VALUE}
+     * when the segment is empty.
+     */
+    long maxTimestamp() {
+        return maxTimestamp;
+    }
+
+    int indexEntries() {
+        return index.count;
+    }
+
+    // -------------------------------------------------------------------------
+    // Lifecycle
+    // -------------------------------------------------------------------------
+
+    /**
+     * Closes the segment's channel. An active segment's file is first truncated to its
+     * records, dropping the unused part of its mapped capacity.
+     */
+    @Override
+    public void close() {
+        try {
+            if (activeView != null && channel.isOpen()) {
+                channel.truncate(size);
+            }
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close segment " + file, e);
+        }
+    }
+
+    /**
+     * Closes the segment and deletes its files. Readers already holding a view keep a valid
+     * mapping until they drop it.
+     */
+    void delete() {
+        close();
+        try {
+            Files.deleteIfExists(indexFile);
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete segment " + file, e);
+        }
+    }
+
+    static String fileName(long baseOffset) {
+        return String.format("%020d%s", baseOffset, LOG_SUFFIX);
+    }
+
+    static long baseOffsetOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - LOG_SUFFIX.length()));
+    }
+
+    // -------------------------------------------------------------------------
+    // Internals
+    // -------------------------------------------------------------------------
+
+    private void recordAppended(long offset, int position, int length, long timestampMicros) {
+        if (position == 0 || bytesSinceIndex >= indexInterval) {
+            index = index.plus(offset, position, maxTimestamp);
+            bytesSinceIndex = 0;
+        }
+        bytesSinceIndex += length;
+        if (timestampMicros < minTimestamp) {
+            minTimestamp = timestampMicros;
+        }
+        if (timestampMicros > maxTimestamp) {
+            maxTimestamp = timestampMicros;
+        }
+        nextOffset = offset + 1;
+        size = position + length;
+    }
+
+    private void recover(boolean truncate) throws IOException {
+        long fileSize = channel.size();
+        ByteBuffer view = fileSize == 0 ? ByteBuffer.allocate(0)
+                : channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+        int position = 0;
+        int length;
+        while ((length = LogRecords.validLength(view, position)) > 0) {
+            recordAppended(LogRecords.offset(view, position), position, length,
+                    LogRecords.toMicros(LogRecords.timestamp(view, position)));
+            position += length;
+        }
+        if (truncate && position < fileSize) {
+            channel.truncate(position);
+            channel.force(true);
+        }
+    }
+
+    private boolean loadIndex() throws IOException {
+        if (!Files.exists(indexFile)) {
+            return false;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(indexFile));
+        int entries = (buffer.remaining() - INDEX_HEADER_BYTES) / INDEX_ENTRY_BYTES;
+        if (entries < 1 || buffer.remaining() != INDEX_HEADER_BYTES + entries * INDEX_ENTRY_BYTES) {
+            return false;
+        }
+        long min = buffer.getLong();
+        long max = buffer.getLong();
+        SparseIndex loaded = SparseIndex.EMPTY;
+        for (int i = 0; i < entries; i++) {
+            loaded = loaded.plus(buffer.getLong(), buffer.getLong(), buffer.getLong());
+        }
+        // the last entry is a terminal one written by seal(): (nextOffset, size, maxTimestamp)
+        int last = entries - 1;
+        if (loaded.positions[last] != channel.size()) {
+            return false;
+        }
+        this.nextOffset = loaded.offsets[last];
+        this.size = (int) loaded.positions[last];
+        this.minTimestamp = min;
+        this.maxTimestamp = max;
+        this.index = loaded.withCount(last);
+        return true;
+    }
+
+    private void writeIndex() {
+        SparseIndex snapshot = index;
+        ByteBuffer buffer = ByteBuffer.allocate(INDEX_HEADER_BYTES + (snapshot.count + 1) * INDEX_ENTRY_BYTES);
+        buffer.putLong(minTimestamp).putLong(maxTimestamp);
+        for (int i = 0; i < snapshot.count; i++) {
+            buffer.putLong(snapshot.offsets[i]).putLong(snapshot.positions[i]).putLong(snapshot.maxTimestampsBefore[i]);
+        }
+        buffer.putLong(nextOffset).putLong(size).putLong(maxTimestamp);
+        Path tmp = sibling(file, INDEX_SUFFIX + ".tmp");
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write index for segment " + file, e);
+        }
+        try {
+            Files.move(tmp, indexFile, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write index for segment " + file, e);
+        }
+    }
+
+    /**
+     * Maps the file read-write over {@code [0, capacity)}, extending it with zeros as needed.
+     * Recovery stops at the zeros, so an unclean shutdown leaves no trace of the extension.
+     */
+    private MappedByteBuffer mapActive(int capacity) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map segment " + file, e);
+        }
+    }
+
+    private MappedByteBuffer map() {
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map segment " + file, e);
+        }
+    }
+
+    private static Path sibling(Path file, String suffix) {
+        String name = file.getFileName().toString();
+        return file.resolveSibling(name.substring(0, name.length() - LOG_SUFFIX.length()) + suffix);
+    }
+
+    /**
+     * Immutable snapshot of the sparse index. {@link #plus} may share arrays with the
+     * previous snapshot, but never writes below that snapshot's {@code count}, so readers
+     * holding an older snapshot are unaffected.
+     */
+    private static final class SparseIndex {
+
+        static final SparseIndex EMPTY = new SparseIndex(new long[0], new long[0], new long[0], 0);
+
+        final long[] offsets;
+        final long[] positions;
+        final long[] maxTimestampsBefore;
+        final int count;
+
+        private SparseIndex(long[] offsets, long[] positions, long[] maxTimestampsBefore, int count) {
+            this.offsets = offsets;
+            this.positions = positions;
+            this.maxTimestampsBefore = maxTimestampsBefore;
+            this.count = count;
+        }
+
+        SparseIndex plus(long offset, long position, long maxTimestampBefore) {
+            long[] o = offsets;
+            long[] p = positions;
+            long[] t = maxTimestampsBefore;
+            if (count == o.length) {
+                int capacity = Math.max(16, count * 2);
+                o = Arrays.copyOf(o, capacity);
+                p = Arrays.copyOf(p, capacity);
+                t = Arrays.copyOf(t, capacity);
+            }
+            o[count] = offset;
+            p[count] = position;
+            t[count] = maxTimestampBefore;
+            return new SparseIndex(o, p, t, count + 1);
+        }
+
+        SparseIndex withCount(int newCount) {
+            return new SparseIndex(offsets, positions, maxTimestampsBefore, newCount);
+        }
+
+        int floorByOffset(long offset) {
+            int index = Arrays.binarySearch(offsets, 0, count, offset);
+            return index >= 0 ? index : -index - 2;
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package com.datastream.infrastructure.persistence.log;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.valueobjects.StreamId;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Append-only log of one stream's events, stored as a sequence of {@link Segment} files
+ * in the stream's directory.
+ *
+ * <p>Every event is assigned the next offset of the log. When an append would take the active
+ * segment past {@code segmentSize} the segment is sealed and a new one is started whose file
+ * name is its base offset. Reads never take a lock: they work on a snapshot of the segment list.
+ *
+ * <p>With {@code fsync} enabled, {@link #append} returns only once the appended records are on
+ * the storage device. Concurrent appenders share the work: the first one to find the log
+ * unsynced forces the active segment, and everyone whose records were covered by that force
+ * returns without issuing another.
+ */
+public final class StreamLog implements AutoCloseable {
+
+    private final StreamId streamId;
+    private final Path directory;
+    private final long segmentSize;
+    private final int indexInterval;
+    private final boolean fsync;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private volatile List<Segment> segments;
+
+    private final Object syncMonitor = new Object();
+    private long durableOffset = -1;
+    private boolean syncing;
+
+    private StreamLog(StreamId streamId, Path directory, long segmentSize, int indexInterval, boolean fsync,
+                      List<Segment> segments) {
+        this.streamId = streamId;
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.indexInterval = indexInterval;
+        this.fsync = fsync;
+        this.segments = List.copyOf(segments);
+    }
+
+    /**
+     * Opens the log stored in {@code directory}, creating the directory and a first segment
+     * when they do not exist. The last segment is recovered and becomes the active one.
+     *
+     * @param streamId      the stream the log belongs to
+     * @param directory     the stream's log directory
+     * @param segmentSize   segment roll size in bytes
+     * @param indexInterval bytes between sparse index entries
+     * @param fsync         whether appends wait for durability
+     * @return the opened log
+     */
+    static StreamLog open(StreamId streamId, Path directory, long segmentSize, int indexInterval, boolean fsync) {
+        List<Path> files;
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> listing = Files.list(directory)) {
+                files = listing.filter(p -> p.getFileName().toString().endsWith(Segment.LOG_SUFFIX))
+                        .sorted()
+                        .toList();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open event log " + directory, e);
+        }
+        List<Segment> segments = new ArrayList<>(files.size() + 1);
+        for (int i = 0; i < files.size(); i++) {
+            segments.add(Segment.open(files.get(i), i == files.size() - 1, indexInterval, capacity(segmentSize)));
+        }
+        if (segments.isEmpty()) {
+            segments.add(Segment.create(directory, 0, indexInterval, capacity(segmentSize)));
+        }
+        return new StreamLog(streamId, directory, segmentSize, indexInterval, fsync, segments);
+    }
+
+    // -------------------------------------------------------------------------
+    // Writes
+    // -------------------------------------------------------------------------
+
+    /**
+     * Appends events in order, assigning consecutive offsets.
+     *
+     * @param events the events to append; all must belong to this log's stream
+     * @return the offset assigned to the last event, or {@code -1} if {@code events} is empty
+     */
+    public long append(List<DataEvent> events) {
+        if (events.isEmpty()) {
+            return -1;
+        }
+        long last;
+        appendLock.lock();
+        try {
+            for (DataEvent event : events) {
+                Segment active = active();
+                ByteBuffer record = LogRecords.encode(event, active.nextOffset());
+                if (!active.isEmpty() && active.size() + (long) record.remaining() > segmentSize) {
+                    active = roll(active);
+                }
+                active.append(record, LogRecords.toMicros(event.getTimestamp()));
+            }
+            last = active().nextOffset() - 1;
+        } finally {
+            appendLock.unlock();
+        }
+        if (fsync) {
+            awaitDurable(last);
+        }
+        return last;
+    }
+
+    /**
+     * Deletes sealed segments, oldest first, whose newest event is before {@code cutoff}.
+     * The active segment is never deleted.
+     *
+     * @param cutoff events before this instant may be dropped
+     * @return the number of segments deleted
+     */
+    public int deleteBefore(Instant cutoff) {
+        long cutoffMicros = LogRecords.toMicros(cutoff);
+        appendLock.lock();
+        try {
+            List<Segment> current = segments;
+            int expired = 0;
+            while (expired < current.size() - 1 && current.get(expired).maxTimestamp() < cutoffMicros) {
+                expired++;
+            }
+            if (expired == 0) {
+                return 0;
+            }
+            segments = List.copyOf(current.subList(expired, current.size()));
+            current.subList(0, expired).forEach(Segment::delete);
+            return expired;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Reads
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the offset of the oldest retained event.
+     *
+     * @return the log start offset
+     */
+    public long startOffset() {
+        return segments.get(0).baseOffset();
+    }
+
+    /**
+     * Returns the offset the next appended event will receive.
+     *
+     * @return the log end offset
+     */
+    public long endOffset() {
+        List<Segment> current = segments;
+        return current.get(current.size() - 1).nextOffset();
+    }
+
+    /**
+     * Reads up to {@code max} consecutive events starting at {@code fromOffset}.
+     *
+     * @param fromOffset the first offset to read; offsets before {@link #startOffset()} are skipped
+     * @param max        maximum number of events to return
+     * @return the events in offset order
+     */
+    public List<DataEvent> read(long fromOffset, int max) {
+        List<DataEvent> events = new ArrayList<>(Math.min(max, 256));
+        List<Segment> current = segments;
+        long offset = Math.max(fromOffset, current.get(0).baseOffset());
+        for (int s = segmentFor(current, offset); s < current.size() && events.size() < max; s++) {
+            Segment segment = current.get(s);
+            ByteBuffer view = segment.view();
+            int position = segment.positionOf(view, Math.max(offset, segment.baseOffset()));
+            if (position < 0) {
+                continue;
+            }
+            while (position < view.limit() && events.size() < max) {
+                events.add(LogRecords.decode(view, position, streamId));
+                position += LogRecords.HEADER_BYTES + view.getInt(position);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Passes every event whose timestamp is within {@code [from, to)} to {@code consumer}, in
+     * offset order. Segments entirely outside the range are skipped, and within a segment the
+     * sparse index skips records that are all earlier than {@code from}.
+     *
+     * @param from     inclusive lower bound; {@code null} means unbounded
+     * @param to       exclusive upper bound; {@code null} means unbounded
+     * @param consumer receives each matching event
+     */
+    public void scan(Instant from, Instant to, Consumer<DataEvent> consumer) {
+        long fromMicros = from == null ? Long.MIN_VALUE : LogRecords.toMicros(from);
+        long toMicros = to == null ? Long.MAX_VALUE : LogRecords.toMicros(to);
+        for (Segment segment : segments) {
+            if (segment.maxTimestamp() < fromMicros || segment.minTimestamp() >= toMicros) {
+                continue;
+            }
+            ByteBuffer view = segment.view();
+            int position = segment.seekTimestamp(fromMicros);
+            while (position < view.limit()) {
+                long micros = LogRecords.toMicros(LogRecords.timestamp(view, position));
+                if (micros >= fromMicros && micros < toMicros) {
+                    consumer.accept(LogRecords.decode(view, position, streamId));
+                }
+                position += LogRecords.HEADER_BYTES + view.getInt(position);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of segment files the log currently consists of.
+     *
+     * @return the segment count
+     */
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public void close() {
+        appendLock.lock();
+        try {
+            List<Segment> current = segments;
+            current.get(current.size() - 1).flush();
+            current.forEach(Segment::close);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Internals
+    // -------------------------------------------------------------------------
+
+    private static int capacity(long segmentSize) {
+        return (int) Math.min(segmentSize, Integer.MAX_VALUE);
+    }
+
+    private Segment active() {
+        List<Segment> current = segments;
+        return current.get(current.size() - 1);
+    }
+
+    /**
+     * Seals the active segment and starts a new one. Caller holds the append lock.
+     */
+    private Segment roll(Segment active) {
+        active.seal();
+        Segment next = Segment.create(directory, active.nextOffset(), indexInterval, capacity(segmentSize));
+        List<Segment> rolled = new ArrayList<>(segments);
+        rolled.add(next);
+        segments = List.copyOf(rolled);
+        return next;
+    }
+
+    /**
+     * Blocks until every record up to {@code offset} has been forced to disk, forcing the
+     * active segment itself when no other appender is already doing so. Sealed segments are
+     * forced when they roll, so forcing the active segment covers everything written so far.
+     */
+    private void awaitDurable(long offset) {
+        while (true) {
+            synchronized (syncMonitor) {
+                while (durableOffset < offset && syncing) {
+                    try {
+                        syncMonitor.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while waiting for event log fsync", e);
+                    }
+                }
+                if (durableOffset >= offset) {
+                    return;
+                }
+                syncing = true;
+            }
+            long synced = -1;
+            try {
+                Segment active = active();
+                long target = active.nextOffset() - 1;
+                active.flush();
+                synced = target;
+            } finally {
+                synchronized (syncMonitor) {
+                    durableOffset = Math.max(durableOffset, synced);
+                    syncing = false;
+                    syncMonitor.notifyAll();
+                }
+            }
+        }
+    }
+
+    private static int segmentFor(List<Segment> segments, long offset) {
+        int low = 0;
+        int high = segments.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (segments.get(mid).baseOffset() <= offset) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+}
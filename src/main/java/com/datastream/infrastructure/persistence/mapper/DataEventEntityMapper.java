@@ -1,8 +1,8 @@
 package com.datastream.infrastructure.persistence.mapper;
 
 import com.datastream.domain.model.DataEvent;
-import com.datastream.domain.valueobjects.EventPayload;
 import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.infrastructure.persistence.blob.PayloadBlobStore;
 import com.datastream.infrastructure.persistence.entity.DataEventJpaEntity;
 
 import java.util.Collections;
@@ -22,14 +22,17 @@ public final class DataEventEntityMapper {
     /**
      * Converts a {@link DataEvent} domain entity to a {@link DataEventJpaEntity}.
      *
-     * @param event the domain event to convert; must not be null
+     * @param event     the domain event to convert; must not be null
+     * @param blobStore the store receiving payloads above its threshold; must not be null
      * @return a JPA entity ready to be persisted
      */
-    public static DataEventJpaEntity toJpaEntity(DataEvent event) {
+    public static DataEventJpaEntity toJpaEntity(DataEvent event, PayloadBlobStore blobStore) {
+        PayloadBlobStore.Stored payload = blobStore.store(event.getPayload());
         return new DataEventJpaEntity(
                 event.getEventId(),
                 event.getStreamId().value(),
-                event.getPayload().value(),
+                payload.inline(),
+                payload.reference(),
                 event.getMetadata().isEmpty() ? null : event.getMetadata(),
                 event.getTimestamp()
         );
@@ -38,10 +41,11 @@ public final class DataEventEntityMapper {
     /**
      * Reconstitutes a {@link DataEvent} domain entity from a {@link DataEventJpaEntity}.
      *
-     * @param entity the JPA entity to convert; must not be null
+     * @param entity    the JPA entity to convert; must not be null
+     * @param blobStore the store resolving offloaded payloads; must not be null
      * @return the corresponding domain entity
      */
-    public static DataEvent toDomain(DataEventJpaEntity entity) {
+    public static DataEvent toDomain(DataEventJpaEntity entity, PayloadBlobStore blobStore) {
         Map<String, String> metadata = entity.getMetadata() != null
                 ? entity.getMetadata()
                 : Collections.emptyMap();
@@ -49,7 +53,7 @@ public final class DataEventEntityMapper {
         return DataEvent.reconstitute(
                 entity.getEventId(),
                 StreamId.of(entity.getStreamId()),
-                EventPayload.of(entity.getPayload()),
+                blobStore.load(entity.getPayload(), entity.getPayloadRef()),
                 metadata,
                 entity.getTimestamp()
         );
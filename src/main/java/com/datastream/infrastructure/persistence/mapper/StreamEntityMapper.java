@@ -34,7 +34,8 @@ public final class StreamEntityMapper {
                 stream.getStreamType().name(),
                 stream.getStatus().name(),
                 stream.getCreatedAt(),
-                stream.getUpdatedAt()
+                stream.getUpdatedAt(),
+                stream.getVersion()
         );
     }
 
@@ -53,7 +54,8 @@ public final class StreamEntityMapper {
                 StreamType.valueOf(entity.getStreamType()),
                 StreamStatus.valueOf(entity.getStatus()),
                 entity.getCreatedAt(),
-                entity.getUpdatedAt()
+                entity.getUpdatedAt(),
+                entity.getVersion()
         );
     }
 }
@@ -0,0 +1,232 @@
+package com.datastream.infrastructure.persistence.memory;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.model.DataEventFilter;
+import com.datastream.domain.model.Page;
+import com.datastream.domain.repository.DataEventRepository;
+import com.datastream.domain.valueobjects.StreamId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * {@link DataEventRepository} held entirely in memory, for the {@code memory} profile.
+ *
+ * <p>Each stream owns an append-only array of events sorted by timestamp. Appends take the
+ * stream's monitor and publish a new {@code (array, size)} snapshot through a volatile field,
+ * so readers never lock: they work on the snapshot they loaded, and a slot below its size is
+ * never written again. An event older than the newest stored one is inserted in place on a
+ * fresh copy of the array. Time bounds are resolved by binary search.
+ *
+ * <p>Both {@code findByStreamId} variants return events newest first, which is what the
+ * Postgres adapters return, so pages look the same whichever store is active. Nothing
+ * survives a restart. Steps aside for the off-heap store when
+ * {@code datastream.persistence.event-store=off-heap}.
+ */
+@Repository
+@Profile("memory")
+@ConditionalOnExpression("'${datastream.persistence.event-store:jpa}' != 'off-heap'")
+public class InMemoryDataEventRepository implements DataEventRepository {
+
+    private final Map<StreamId, EventArray> streams = new ConcurrentHashMap<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataEvent save(DataEvent dataEvent) {
+        Objects.requireNonNull(dataEvent, "dataEvent must not be null");
+        arrayOf(dataEvent.getStreamId()).append(List.of(dataEvent));
+        return dataEvent;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Events are grouped by stream and each group is appended under one lock acquisition.
+     */
+    @Override
+    public List<DataEvent> saveAll(List<DataEvent> dataEvents) {
+        Objects.requireNonNull(dataEvents, "dataEvents must not be null");
+        Map<StreamId, List<DataEvent>> byStream = new LinkedHashMap<>();
+        for (DataEvent event : dataEvents) {
+            byStream.computeIfAbsent(event.getStreamId(), k -> new ArrayList<>()).add(event);
+        }
+        byStream.forEach((streamId, events) -> arrayOf(streamId).append(events));
+        return dataEvents;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Events are returned newest first, matching the Postgres adapters.
+     */
+    @Override
+    public Page<DataEvent> findByStreamId(StreamId streamId, int page, int size) {
+        return findByStreamId(streamId, DataEventFilter.empty(), page, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Without a metadata filter the page is sliced straight out of the array; otherwise
+     * every event in the time range is tested so that the total is exact.
+     */
+    @Override
+    public Page<DataEvent> findByStreamId(StreamId streamId, DataEventFilter filter, int page, int size) {
+        Objects.requireNonNull(streamId, "streamId must not be null");
+        Objects.requireNonNull(filter, "filter must not be null");
+        EventArray array = streams.get(streamId);
+        if (array == null) {
+            return new Page<>(List.of(), page, size, 0);
+        }
+        Snapshot snapshot = array.snapshot;
+        int lo = snapshot.start(filter.from());
+        int hi = snapshot.end(filter.to());
+        long skip = (long) page * size;
+        List<DataEvent> content = new ArrayList<>(Math.min(size, Math.max(0, hi - lo)));
+
+        if (!filter.hasMetadata()) {
+            for (long i = hi - 1 - skip; i >= lo && content.size() < size; i--) {
+                content.add(snapshot.events[(int) i]);
+            }
+            return new Page<>(content, page, size, hi - lo);
+        }
+
+        long total = 0;
+        for (int i = hi - 1; i >= lo; i--) {
+            DataEvent event = snapshot.events[i];
+            if (matches(event, filter)) {
+                if (total >= skip && content.size() < size) {
+                    content.add(event);
+                }
+                total++;
+            }
+        }
+        return new Page<>(content, page, size, total);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Iterates the snapshot taken when the call starts; events appended meanwhile are not seen.
+     */
+    @Override
+    public void forEachByStreamId(StreamId streamId, Instant from, Instant to, Consumer<DataEvent> consumer) {
+        Objects.requireNonNull(streamId, "streamId must not be null");
+        Objects.requireNonNull(consumer, "consumer must not be null");
+        EventArray array = streams.get(streamId);
+        if (array == null) {
+            return;
+        }
+        Snapshot snapshot = array.snapshot;
+        int hi = snapshot.end(to);
+        for (int i = snapshot.start(from); i < hi; i++) {
+            consumer.accept(snapshot.events[i]);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Internals
+    // -------------------------------------------------------------------------
+
+    private EventArray arrayOf(StreamId streamId) {
+        return streams.computeIfAbsent(streamId, k -> new EventArray());
+    }
+
+    private static boolean matches(DataEvent event, DataEventFilter filter) {
+        return event.getMetadata().entrySet().containsAll(filter.metadata().entrySet());
+    }
+
+    /**
+     * The events of one stream: {@code events[0, size)} sorted by timestamp, equal
+     * timestamps in arrival order. Slots at and beyond {@code size} may be filled by a
+     * later append but are never read through this snapshot.
+     */
+    private record Snapshot(DataEvent[] events, int size) {
+
+        /** Returns the index of the first event at or after an inclusive lower bound; {@code null} means 0. */
+        int start(Instant from) {
+            return from == null ? 0 : lowerBound(from);
+        }
+
+        /** Returns the index of the first event at or after an exclusive upper bound; {@code null} means {@code size}. */
+        int end(Instant to) {
+            return to == null ? size : lowerBound(to);
+        }
+
+        private int lowerBound(Instant bound) {
+            int lo = 0;
+            int hi = size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (events[mid].getTimestamp().isBefore(bound)) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        /** Returns the index after the last event at or before {@code timestamp}. */
+        int upperBound(Instant timestamp) {
+            int lo = 0;
+            int hi = size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (events[mid].getTimestamp().isAfter(timestamp)) {
+                    hi = mid;
+                } else {
+                    lo = mid + 1;
+                }
+            }
+            return lo;
+        }
+    }
+
+    private static final class EventArray {
+
+        private static final int INITIAL_CAPACITY = 64;
+
+        private volatile Snapshot snapshot = new Snapshot(new DataEvent[INITIAL_CAPACITY], 0);
+
+        synchronized void append(List<DataEvent> batch) {
+            Snapshot current = snapshot;
+            DataEvent[] events = current.events();
+            int size = current.size();
+            boolean shared = true;
+            for (DataEvent event : batch) {
+                boolean inOrder = size == 0 || !event.getTimestamp().isBefore(events[size - 1].getTimestamp());
+                if (size == events.length || (!inOrder && shared)) {
+                    // Readers may hold the published array: rearrange only a private copy.
+                    events = Arrays.copyOf(events, size == events.length ? grow(events.length) : events.length);
+                    shared = false;
+                }
+                if (inOrder) {
+                    events[size] = event;
+                } else {
+                    int at = new Snapshot(events, size).upperBound(event.getTimestamp());
+                    System.arraycopy(events, at, events, at + 1, size - at);
+                    events[at] = event;
+                }
+                size++;
+            }
+            snapshot = new Snapshot(events, size);
+        }
+
+        private static int grow(int capacity) {
+            return capacity + (capacity >> 1);
+        }
+    }
+}
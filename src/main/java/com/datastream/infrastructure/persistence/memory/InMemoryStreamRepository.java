@@ -0,0 +1,191 @@
+package com.datastream.infrastructure.persistence.memory;
+
+import com.datastream.domain.exception.ConcurrentStreamModificationException;
+import com.datastream.domain.exception.StreamAlreadyExistsException;
+import com.datastream.domain.model.Page;
+import com.datastream.domain.model.Stream;
+import com.datastream.domain.model.StreamFilter;
+import com.datastream.domain.model.StreamStatus;
+import com.datastream.domain.model.StreamTransition;
+import com.datastream.domain.repository.StreamRepository;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.infrastructure.persistence.catalog.StreamCatalog;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link StreamRepository} held entirely in memory, for the {@code memory} profile.
+ *
+ * <p>Streams live in a {@link StreamCatalog}, which provides the owner, status and type
+ * indexes and the creation-ordered paging used by the catalog-backed adapter. A name index
+ * enforces the same uniqueness as {@code uq_streams_name}, and {@link #update} and
+ * {@link #transition} bump the version exactly like their conditional {@code UPDATE}s.
+ *
+ * <p>Reads are lock-free with respect to each other; writes are serialized on one monitor
+ * so that the name check and the catalog update happen atomically. Nothing survives a restart.
+ */
+@Repository
+@Profile("memory")
+public class InMemoryStreamRepository implements StreamRepository {
+
+    private final StreamCatalog catalog = new StreamCatalog();
+    private final Map<String, StreamId> names = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Inserts the stream or replaces the stored one, incrementing its version.
+     */
+    @Override
+    public Stream save(Stream stream) {
+        Objects.requireNonNull(stream, "stream must not be null");
+        synchronized (writeLock) {
+            Optional<Stream> existing = catalog.find(stream.getId());
+            long version = existing.map(s -> s.getVersion() + 1).orElse(stream.getVersion());
+            return store(existing.orElse(null), copyOf(stream, stream.getStatus(), stream.getUpdatedAt(), version));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if a stream with the same ID is already stored
+     */
+    @Override
+    public Stream insert(Stream stream) {
+        Objects.requireNonNull(stream, "stream must not be null");
+        synchronized (writeLock) {
+            if (catalog.find(stream.getId()).isPresent()) {
+                throw new IllegalStateException("Stream " + stream.getId().value() + " already exists");
+            }
+            return store(null, copyOf(stream, stream.getStatus(), stream.getUpdatedAt(), stream.getVersion()));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream update(Stream stream) {
+        Objects.requireNonNull(stream, "stream must not be null");
+        synchronized (writeLock) {
+            Stream existing = catalog.find(stream.getId())
+                    .filter(s -> s.getVersion() == stream.getVersion())
+                    .orElseThrow(() -> new ConcurrentStreamModificationException(stream.getId()));
+            Stream updated = Stream.reconstitute(
+                    existing.getId(),
+                    stream.getName(),
+                    stream.getDescription(),
+                    existing.getOwnerId(),
+                    existing.getStreamType(),
+                    stream.getStatus(),
+                    existing.getCreatedAt(),
+                    stream.getUpdatedAt(),
+                    existing.getVersion() + 1);
+            return store(existing, updated);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Stream> transition(StreamId streamId, StreamTransition transition) {
+        Objects.requireNonNull(streamId, "streamId must not be null");
+        Objects.requireNonNull(transition, "transition must not be null");
+        synchronized (writeLock) {
+            return catalog.find(streamId)
+                    .filter(s -> transition.isAllowedFrom(s.getStatus()))
+                    .map(s -> store(s, copyOf(s, transition.target(), Instant.now(), s.getVersion() + 1)));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Stream> findById(StreamId streamId) {
+        return catalog.find(streamId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Stream> findAllById(Collection<StreamId> streamIds) {
+        return catalog.findAll(streamIds);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Results are ordered by creation time ascending.
+     */
+    @Override
+    public Page<Stream> findAll(StreamFilter filter, int page, int size) {
+        return catalog.findAll(filter, page, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void delete(StreamId streamId) {
+        synchronized (writeLock) {
+            catalog.find(streamId).ifPresent(existing -> {
+                catalog.remove(streamId);
+                names.remove(existing.getName().value(), streamId);
+            });
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Internals
+    // -------------------------------------------------------------------------
+
+    /**
+     * Claims the name of {@code replacement} and stores it. Caller holds the write lock.
+     *
+     * @param existing    the entry being replaced, or {@code null} for a new stream
+     * @param replacement the entry to store
+     * @return the stored entry
+     * @throws StreamAlreadyExistsException if another stream already holds the name
+     */
+    private Stream store(Stream existing, Stream replacement) {
+        String name = replacement.getName().value();
+        StreamId holder = names.get(name);
+        if (holder != null && !holder.equals(replacement.getId())) {
+            throw new StreamAlreadyExistsException(replacement.getName());
+        }
+        if (existing != null) {
+            names.remove(existing.getName().value(), existing.getId());
+            // The catalog keeps the newer of two entries; this store is authoritative.
+            catalog.remove(existing.getId());
+        }
+        names.put(name, replacement.getId());
+        catalog.put(replacement);
+        return replacement;
+    }
+
+    private static Stream copyOf(Stream stream, StreamStatus status, Instant updatedAt, long version) {
+        return Stream.reconstitute(
+                stream.getId(),
+                stream.getName(),
+                stream.getDescription(),
+                stream.getOwnerId(),
+                stream.getStreamType(),
+                status,
+                stream.getCreatedAt(),
+                updatedAt,
+                version);
+    }
+}
@@ -0,0 +1,45 @@
+package com.datastream.infrastructure.persistence.memory;
+
+import com.datastream.domain.model.StreamStats;
+import com.datastream.domain.repository.StreamStatsRepository;
+import com.datastream.domain.valueobjects.StreamId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link StreamStatsRepository} held entirely in memory, for the {@code memory} profile.
+ *
+ * <p>Increments are added to the stored totals with {@link StreamStats#merge}, one atomic
+ * map update per stream. Nothing survives a restart.
+ */
+@Repository
+@Profile("memory")
+public class InMemoryStreamStatsRepository implements StreamStatsRepository {
+
+    private final Map<StreamId, StreamStats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<StreamStats> findByStreamId(StreamId streamId) {
+        return Optional.ofNullable(stats.get(streamId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void mergeAll(Collection<StreamStats> increments) {
+        Objects.requireNonNull(increments, "increments must not be null");
+        for (StreamStats increment : increments) {
+            stats.merge(increment.streamId(), increment, StreamStats::merge);
+        }
+    }
+}
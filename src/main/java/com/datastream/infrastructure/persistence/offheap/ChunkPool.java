@@ -0,0 +1,172 @@
+package com.datastream.infrastructure.persistence.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Fixed budget of equally sized direct buffers shared by every stream.
+ *
+ * <p>Chunks are allocated lazily until the budget is reached. From then on, {@link #acquire}
+ * hands out the chunk that was acquired longest ago, after bumping its generation: every
+ * {@link Lease} on the previous generation becomes stale and reads through it return
+ * {@code null}. Because each stream fills its chunks in order, this evicts a stream's oldest
+ * events first. The pool never frees a buffer, so off-heap usage is bounded by the budget and
+ * does not depend on when the garbage collector runs.
+ *
+ * <p>This class is thread-safe.
+ */
+final class ChunkPool {
+
+    private final int chunkSize;
+    private final int maxChunks;
+    private final Deque<Chunk> acquired = new ArrayDeque<>();
+    private int allocated;
+    private long recycled;
+
+    /**
+     * Creates an empty pool.
+     *
+     * @param chunkSize size of each chunk in bytes; must be > 0
+     * @param maxBytes  budget across all chunks; must hold at least two chunks
+     */
+    ChunkPool(int chunkSize, long maxBytes) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("chunkSize must be > 0");
+        if (maxBytes / chunkSize < 2) throw new IllegalArgumentException("maxBytes must hold at least two chunks");
+        this.chunkSize = chunkSize;
+        this.maxChunks = (int) Math.min(Integer.MAX_VALUE, maxBytes / chunkSize);
+    }
+
+    /**
+     * Hands out a chunk for exclusive writing, reusing the oldest one once the budget is spent.
+     *
+     * @param firstOffset the stream offset of the first record that will be written to it
+     * @return a lease on the chunk's new generation
+     */
+    synchronized Lease acquire(long firstOffset) {
+        Chunk chunk;
+        if (allocated < maxChunks) {
+            chunk = new Chunk(ByteBuffer.allocateDirect(chunkSize));
+            allocated++;
+        } else {
+            chunk = acquired.removeFirst();
+            chunk.recycle();
+            recycled++;
+        }
+        acquired.addLast(chunk);
+        return new Lease(chunk, chunk.generation, firstOffset);
+    }
+
+    /** @return the size of each chunk in bytes */
+    int chunkSize() {
+        return chunkSize;
+    }
+
+    /** @return the off-heap bytes allocated so far */
+    synchronized long allocatedBytes() {
+        return (long) allocated * chunkSize;
+    }
+
+    /** @return how many times a chunk has been taken from one owner and given to another */
+    synchronized long recycledChunks() {
+        return recycled;
+    }
+
+    // -------------------------------------------------------------------------
+    // Chunk
+    // -------------------------------------------------------------------------
+
+    /**
+     * A direct buffer plus the generation that identifies its current owner. The owner writes
+     * under the read side of {@link #lock}; recycling takes the write side, so it waits for an
+     * in-flight write and invalidates every optimistic read that overlaps it.
+     */
+    static final class Chunk {
+
+        private final ByteBuffer buffer;
+        private final StampedLock lock = new StampedLock();
+        private volatile int generation;
+
+        private Chunk(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        private void recycle() {
+            long stamp = lock.writeLock();
+            try {
+                generation++;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Lease
+    // -------------------------------------------------------------------------
+
+    /**
+     * One owner's claim on a chunk, valid until the chunk is recycled.
+     *
+     * @param chunk       the chunk
+     * @param generation  the generation this lease was issued for
+     * @param firstOffset the stream offset of the first record in the chunk
+     */
+    record Lease(Chunk chunk, int generation, long firstOffset) {
+
+        /**
+         * Returns {@code true} while the chunk has not been recycled.
+         *
+         * @return whether reads through this lease can still succeed
+         */
+        boolean live() {
+            return chunk.generation == generation;
+        }
+
+        /**
+         * Writes a record at {@code position}. Called only by the owning stream.
+         *
+         * @param position where the record starts
+         * @param record   the encoded record
+         * @return {@code false} if the chunk was recycled or the record does not fit
+         */
+        boolean write(int position, byte[] record) {
+            long stamp = chunk.lock.readLock();
+            try {
+                if (chunk.generation != generation || record.length > chunk.buffer.capacity() - position) {
+                    return false;
+                }
+                chunk.buffer.put(position, record);
+                return true;
+            } finally {
+                chunk.lock.unlockRead(stamp);
+            }
+        }
+
+        /**
+         * Copies the record at {@code position} to the heap without locking.
+         *
+         * @param position where the record starts
+         * @return the record bytes, or {@code null} if the chunk was recycled before or during the copy
+         */
+        byte[] read(int position) {
+            long stamp = chunk.lock.tryOptimisticRead();
+            if (stamp == 0 || chunk.generation != generation) {
+                return null;
+            }
+            byte[] record;
+            try {
+                int length = chunk.buffer.getInt(position);
+                record = length < 4 || length > chunk.buffer.capacity() - position ? null : new byte[length];
+                if (record != null) {
+                    chunk.buffer.get(position, record);
+                }
+            } catch (RuntimeException e) {
+                // A concurrent recycle can leave anything at position; validate() below rejects it.
+                record = null;
+            }
+            return chunk.lock.validate(stamp) ? record : null;
+        }
+    }
+}
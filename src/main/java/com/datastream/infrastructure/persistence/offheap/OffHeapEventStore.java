@@ -0,0 +1,80 @@
+package com.datastream.infrastructure.persistence.offheap;
+
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.infrastructure.config.OffHeapProperties;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of per-stream {@link OffHeapStream}s sharing one {@link ChunkPool}, so that
+ * {@code datastream.off-heap.max-bytes} bounds the events of all streams together.
+ *
+ * <p>This class is thread-safe.
+ */
+public final class OffHeapEventStore {
+
+    private final ChunkPool pool;
+    private final Map<StreamId, OffHeapStream> streams = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty store. No off-heap memory is allocated until the first append.
+     *
+     * @param properties off-heap settings; must not be null
+     */
+    public OffHeapEventStore(OffHeapProperties properties) {
+        this((int) Objects.requireNonNull(properties, "properties must not be null").chunkSize().toBytes(),
+                properties.maxBytes().toBytes());
+    }
+
+    /**
+     * Creates an empty store with explicit sizes, bypassing the limits of {@link OffHeapProperties}.
+     *
+     * @param chunkSize size of each chunk in bytes; must be > 0
+     * @param maxBytes  budget across all chunks; must hold at least two chunks
+     */
+    public OffHeapEventStore(int chunkSize, long maxBytes) {
+        this.pool = new ChunkPool(chunkSize, maxBytes);
+    }
+
+    /**
+     * Returns the events of the given stream, creating an empty entry if there is none yet.
+     *
+     * @param streamId the stream; must not be null
+     * @return the stream's events
+     */
+    public OffHeapStream forWrite(StreamId streamId) {
+        return streams.computeIfAbsent(streamId, id -> new OffHeapStream(id, pool));
+    }
+
+    /**
+     * Returns the events of the given stream, if anything was ever appended to it.
+     *
+     * @param streamId the stream; must not be null
+     * @return the stream's events, or empty
+     */
+    public Optional<OffHeapStream> forRead(StreamId streamId) {
+        return Optional.ofNullable(streams.get(streamId));
+    }
+
+    /**
+     * Returns the off-heap memory allocated so far; never more than the configured budget.
+     *
+     * @return allocated bytes
+     */
+    public long allocatedBytes() {
+        return pool.allocatedBytes();
+    }
+
+    /**
+     * Returns how many chunks have been reused after the budget was reached, each
+     * evicting the oldest events of one stream.
+     *
+     * @return recycled chunk count
+     */
+    public long evictedChunks() {
+        return pool.recycledChunks();
+    }
+}
@@ -0,0 +1,94 @@
+package com.datastream.infrastructure.persistence.offheap;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.valueobjects.EventPayload;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.infrastructure.persistence.jdbc.DataEventRowMapper;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Binary encoding of one {@link DataEvent} in an off-heap chunk.
+ *
+ * <p>Layout, big-endian:
+ * <pre>
+ *   int   recordLength    total bytes, including this field
+ *   long  epochSecond     timestamp
+ *   int   nano
+ *   long  eventId (most significant bits)
+ *   long  eventId (least significant bits)
+ *   int   payloadLength,  payload bytes
+ *   int   metadataLength, metadata as UTF-8 JSON (0 when empty)
+ * </pre>
+ * The stream ID is implied by the stream the record belongs to. Records are never read in
+ * place: readers copy them to the heap first (see {@link ChunkPool.Lease#read}).
+ */
+final class OffHeapRecords {
+
+    private static final int FIXED_BYTES = 4 + 8 + 4 + 16 + 4 + 4;
+
+    private OffHeapRecords() {
+    }
+
+    /**
+     * Encodes an event as a complete record.
+     *
+     * @param event the event to encode; must not be null
+     * @return the record bytes
+     */
+    static byte[] encode(DataEvent event) {
+        byte[] payload = event.getPayload().value();
+        String json = DataEventRowMapper.writeMetadata(event.getMetadata());
+        byte[] metadata = json == null ? new byte[0] : json.getBytes(StandardCharsets.UTF_8);
+
+        byte[] record = new byte[FIXED_BYTES + payload.length + metadata.length];
+        ByteBuffer.wrap(record)
+                .putInt(record.length)
+                .putLong(event.getTimestamp().getEpochSecond())
+                .putInt(event.getTimestamp().getNano())
+                .putLong(event.getEventId().getMostSignificantBits())
+                .putLong(event.getEventId().getLeastSignificantBits())
+                .putInt(payload.length).put(payload)
+                .putInt(metadata.length).put(metadata);
+        return record;
+    }
+
+    /**
+     * Decodes a record previously copied out of a chunk.
+     *
+     * @param record   the record bytes
+     * @param streamId the stream the record belongs to
+     * @return the decoded event
+     */
+    static DataEvent decode(byte[] record, StreamId streamId) {
+        ByteBuffer buffer = ByteBuffer.wrap(record, 4, record.length - 4);
+        Instant timestamp = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+        UUID eventId = new UUID(buffer.getLong(), buffer.getLong());
+        byte[] payload = new byte[buffer.getInt()];
+        buffer.get(payload);
+        int metadataLength = buffer.getInt();
+        String json = metadataLength == 0
+                ? null
+                : new String(record, buffer.position(), metadataLength, StandardCharsets.UTF_8);
+        return DataEvent.reconstitute(eventId, streamId, EventPayload.of(payload),
+                DataEventRowMapper.readMetadata(json), timestamp);
+    }
+
+    /**
+     * Converts a timestamp to epoch nanoseconds, the unit of the on-heap timestamp index,
+     * saturating outside the representable range (years 1677 to 2262).
+     *
+     * @param instant the timestamp
+     * @return nanoseconds since the epoch
+     */
+    static long toNanos(Instant instant) {
+        try {
+            return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+        } catch (ArithmeticException e) {
+            return instant.getEpochSecond() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.datastream.infrastructure.persistence.offheap;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.valueobjects.StreamId;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * The events of one stream, held as length-prefixed records in off-heap chunks.
+ *
+ * <p>Every event gets the next offset. Three primitive arrays indexed by offset stay on the
+ * heap: the record's address ({@code chunk sequence << 32 | position}), its timestamp in epoch
+ * nanoseconds, and the running maximum of those timestamps, which is non-decreasing and so
+ * lets a lower time bound be found by binary search even when events arrive out of order.
+ * Primitive arrays hold no references, so the collector never traces them.
+ *
+ * <p>Appends are serialized on this object and publish an immutable {@link View} through a
+ * volatile field; readers never lock. When the {@link ChunkPool} recycles one of this
+ * stream's chunks its events disappear from reads, and the next chunk acquisition drops
+ * them from the index.
+ *
+ * <p>This class is thread-safe.
+ */
+public final class OffHeapStream {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final ChunkPool.Lease[] NO_CHUNKS = new ChunkPool.Lease[0];
+
+    private final StreamId streamId;
+    private final ChunkPool pool;
+    private volatile View view;
+    private int tailPosition; // guarded by this
+
+    OffHeapStream(StreamId streamId, ChunkPool pool) {
+        this.streamId = Objects.requireNonNull(streamId, "streamId must not be null");
+        this.pool = Objects.requireNonNull(pool, "pool must not be null");
+        this.view = new View(NO_CHUNKS, 0, 0, new long[INITIAL_CAPACITY], new long[INITIAL_CAPACITY],
+                new long[INITIAL_CAPACITY], 0);
+    }
+
+    /**
+     * Appends events in order and makes them visible to readers.
+     *
+     * @param events the events to append; must all belong to this stream
+     * @throws IllegalArgumentException if an encoded event is larger than a chunk
+     */
+    public synchronized void append(List<DataEvent> events) {
+        View v = view;
+        ChunkPool.Lease[] chunks = v.chunks;
+        int firstChunkSeq = v.firstChunkSeq;
+        long base = v.base;
+        long[] addresses = v.addresses;
+        long[] nanos = v.nanos;
+        long[] maxNanos = v.maxNanos;
+        long end = v.end;
+
+        for (DataEvent event : events) {
+            byte[] record = OffHeapRecords.encode(event);
+            if (record.length > pool.chunkSize()) {
+                throw new IllegalArgumentException("Event " + event.getEventId() + " encodes to " + record.length
+                        + " bytes, more than the off-heap chunk size of " + pool.chunkSize());
+            }
+            while (chunks.length == 0 || !chunks[chunks.length - 1].write(tailPosition, record)) {
+                int live = firstLive(chunks);
+                if (live > 0) {
+                    long newBase = live < chunks.length ? chunks[live].firstOffset() : end;
+                    int from = (int) (newBase - base);
+                    int capacity = Math.max(INITIAL_CAPACITY, addresses.length - from);
+                    addresses = Arrays.copyOfRange(addresses, from, from + capacity);
+                    nanos = Arrays.copyOfRange(nanos, from, from + capacity);
+                    maxNanos = Arrays.copyOfRange(maxNanos, from, from + capacity);
+                    chunks = Arrays.copyOfRange(chunks, live, chunks.length);
+                    firstChunkSeq += live;
+                    base = newBase;
+                }
+                chunks = Arrays.copyOf(chunks, chunks.length + 1);
+                chunks[chunks.length - 1] = pool.acquire(end);
+                tailPosition = 0;
+            }
+
+            int i = (int) (end - base);
+            if (i == addresses.length) {
+                int capacity = addresses.length + (addresses.length >> 1);
+                addresses = Arrays.copyOf(addresses, capacity);
+                nanos = Arrays.copyOf(nanos, capacity);
+                maxNanos = Arrays.copyOf(maxNanos, capacity);
+            }
+            long timestamp = OffHeapRecords.toNanos(event.getTimestamp());
+            addresses[i] = ((long) (firstChunkSeq + chunks.length - 1) << 32) | tailPosition;
+            nanos[i] = timestamp;
+            maxNanos[i] = i == 0 ? timestamp : Math.max(maxNanos[i - 1], timestamp);
+            tailPosition += record.length;
+            end++;
+        }
+        view = new View(chunks, firstChunkSeq, base, addresses, nanos, maxNanos, end);
+    }
+
+    /**
+     * Returns the offset of the oldest event still held.
+     *
+     * @return the first readable offset; equal to {@link #endOffset()} when nothing is held
+     */
+    public long startOffset() {
+        return view.start();
+    }
+
+    /**
+     * Returns the offset the next appended event will get.
+     *
+     * @return one past the newest offset
+     */
+    public long endOffset() {
+        return view.end;
+    }
+
+    /**
+     * Counts the held events whose timestamp falls within {@code [from, to)}, without reading
+     * any record.
+     *
+     * @param from inclusive lower bound; {@code null} means unbounded
+     * @param to   exclusive upper bound; {@code null} means unbounded
+     * @return the number of matching events
+     */
+    public long count(Instant from, Instant to) {
+        View v = view;
+        long start = v.start();
+        if (from == null && to == null) {
+            return v.end - start;
+        }
+        long fromNanos = from == null ? Long.MIN_VALUE : OffHeapRecords.toNanos(from);
+        long toNanos = to == null ? Long.MAX_VALUE : OffHeapRecords.toNanos(to);
+        long count = 0;
+        for (int i = v.lowerBound(start, fromNanos), hi = (int) (v.end - v.base); i < hi; i++) {
+            if (v.nanos[i] >= fromNanos && v.nanos[i] < toNanos) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Visits the held events whose timestamp falls within {@code [from, to)}, newest offset first.
+     *
+     * <p>The first {@code skip} events in range are passed over using the on-heap index alone.
+     * Events evicted while the scan runs are left out.
+     *
+     * @param from    inclusive lower bound; {@code null} means unbounded
+     * @param to      exclusive upper bound; {@code null} means unbounded
+     * @param skip    number of in-range events to pass over before visiting; must be >= 0
+     * @param visitor receives each event; returning {@code false} ends the scan
+     */
+    public void scanDescending(Instant from, Instant to, long skip, Predicate<DataEvent> visitor) {
+        View v = view;
+        long fromNanos = from == null ? Long.MIN_VALUE : OffHeapRecords.toNanos(from);
+        long toNanos = to == null ? Long.MAX_VALUE : OffHeapRecords.toNanos(to);
+        int lo = v.lowerBound(v.start(), fromNanos);
+        long skipped = 0;
+        for (int i = (int) (v.end - v.base) - 1; i >= lo; i--) {
+            if (v.nanos[i] < fromNanos || v.nanos[i] >= toNanos) {
+                continue;
+            }
+            if (skipped < skip) {
+                skipped++;
+                continue;
+            }
+            DataEvent event = v.read(i, streamId);
+            if (event != null && !visitor.test(event)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Passes the held events whose timestamp falls within {@code [from, to)} to {@code consumer},
+     * oldest offset first. Events evicted while the scan runs are left out.
+     *
+     * @param from     inclusive lower bound; {@code null} means unbounded
+     * @param to       exclusive upper bound; {@code null} means unbounded
+     * @param consumer receives each event in order; must not be null
+     */
+    public void scan(Instant from, Instant to, Consumer<DataEvent> consumer) {
+        View v = view;
+        long fromNanos = from == null ? Long.MIN_VALUE : OffHeapRecords.toNanos(from);
+        long toNanos = to == null ? Long.MAX_VALUE : OffHeapRecords.toNanos(to);
+        for (int i = v.lowerBound(v.start(), fromNanos), hi = (int) (v.end - v.base); i < hi; i++) {
+            if (v.nanos[i] >= fromNanos && v.nanos[i] < toNanos) {
+                DataEvent event = v.read(i, streamId);
+                if (event != null) {
+                    consumer.accept(event);
+                }
+            }
+        }
+    }
+
+    private static int firstLive(ChunkPool.Lease[] chunks) {
+        int i = 0;
+        while (i < chunks.length && !chunks[i].live()) {
+            i++;
+        }
+        return i;
+    }
+
+    // -------------------------------------------------------------------------
+    // View
+    // -------------------------------------------------------------------------
+
+    /**
+     * Immutable state published to readers. Index slot {@code i} describes offset
+     * {@code base + i}; slots at and beyond {@code end - base} may be filled by a later append
+     * but are never read through this view.
+     */
+    private record View(
+            ChunkPool.Lease[] chunks,
+            int firstChunkSeq,
+            long base,
+            long[] addresses,
+            long[] nanos,
+            long[] maxNanos,
+            long end) {
+
+        /** Returns the first offset whose chunk has not been recycled. */
+        long start() {
+            int live = firstLive(chunks);
+            return live < chunks.length ? Math.max(base, chunks[live].firstOffset()) : end;
+        }
+
+        /** Returns the first slot at or after {@code startOffset} that can hold a timestamp >= {@code fromNanos}. */
+        int lowerBound(long startOffset, long fromNanos) {
+            int lo = (int) (startOffset - base);
+            int hi = (int) (end - base);
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (maxNanos[mid] < fromNanos) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        /** Decodes the event in slot {@code i}, or returns {@code null} if its chunk has been recycled. */
+        DataEvent read(int i, StreamId streamId) {
+            long address = addresses[i];
+            byte[] record = chunks[(int) (address >>> 32) - firstChunkSeq].read((int) address);
+            return record == null ? null : OffHeapRecords.decode(record, streamId);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.datastream.infrastructure.persistence.routing;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers when each client last committed a write, so that its reads can be kept
+ * on the primary until replicas have had time to catch up.
+ *
+ * <p>A zero window disables tracking. This class is thread-safe.
+ */
+public final class ReadYourWritesTracker {
+
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a tracker on the system monotonic clock.
+     *
+     * @param window how long after a write the client's reads stay on the primary; must not be null
+     */
+    public ReadYourWritesTracker(Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    ReadYourWritesTracker(Duration window, LongSupplier nanoClock) {
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Records that the client committed a write now.
+     *
+     * @param clientId the client; {@code null} (unknown client) is ignored
+     */
+    public void recordWrite(String clientId) {
+        if (clientId != null && windowNanos > 0) {
+            lastWriteNanos.put(clientId, nanoClock.getAsLong());
+        }
+    }
+
+    /**
+     * Returns {@code true} if the client wrote within the window.
+     *
+     * @param clientId the client; {@code null} (unknown client) never has recent writes
+     * @return whether the client's reads must go to the primary
+     */
+    public boolean wroteRecently(String clientId) {
+        if (clientId == null || windowNanos == 0) {
+            return false;
+        }
+        Long at = lastWriteNanos.get(clientId);
+        return at != null && nanoClock.getAsLong() - at < windowNanos;
+    }
+
+    /**
+     * Forgets clients whose last write is older than the window.
+     */
+    public void evictExpired() {
+        long now = nanoClock.getAsLong();
+        lastWriteNanos.values().removeIf(at -> now - at >= windowNanos);
+    }
+
+    int size() {
+        return lastWriteNanos.size();
+    }
+}
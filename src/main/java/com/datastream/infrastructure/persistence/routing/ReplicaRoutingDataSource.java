@@ -0,0 +1,199 @@
+package com.datastream.infrastructure.persistence.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * {@link DataSource} that sends read-only transactions to a pool of replicas and
+ * everything else to the primary.
+ *
+ * <p>The routing decision is made when a connection is requested, from the transaction
+ * read-only flag Spring exposes via {@link TransactionSynchronizationManager}. Because
+ * JPA acquires its connection before that flag is set, this data source must be used
+ * behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy},
+ * which defers acquisition to the first statement.
+ *
+ * <p>Replicas are picked round-robin among those currently healthy. A replica whose
+ * connection attempt fails is marked unhealthy and the next one is tried; with no
+ * healthy replica left the read falls back to the primary. {@link #checkReplicas}
+ * probes every replica periodically and brings recovered ones back.
+ *
+ * <p>When a read-write transaction commits, its client (as given by
+ * {@code clientIdSupplier}) is recorded in the {@link ReadYourWritesTracker}; that
+ * client's read-only transactions then stay on the primary for the configured window.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker readYourWrites;
+    private final Supplier<String> clientIdSupplier;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Creates the routing data source.
+     *
+     * @param primary          the read-write primary; must not be null
+     * @param replicas         the read replicas, in configuration order; must not be null
+     * @param readYourWrites   tracker deciding which clients stay on the primary; must not be null
+     * @param clientIdSupplier supplies the client of the current request, or {@code null}; must not be null
+     */
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    List<DataSource> replicas,
+                                    ReadYourWritesTracker readYourWrites,
+                                    Supplier<String> clientIdSupplier) {
+        this.primary = Objects.requireNonNull(primary, "primary must not be null");
+        this.replicas = Objects.requireNonNull(replicas, "replicas must not be null").stream()
+                .map(Replica::new)
+                .toList();
+        this.readYourWrites = Objects.requireNonNull(readYourWrites, "readYourWrites must not be null");
+        this.clientIdSupplier = Objects.requireNonNull(clientIdSupplier, "clientIdSupplier must not be null");
+    }
+
+    /**
+     * Returns a connection to a healthy replica for read-only transactions of clients
+     * outside their read-your-writes window, and to the primary otherwise.
+     *
+     * @return a connection to the selected database
+     * @throws SQLException if the primary cannot be reached
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (!readYourWrites.wroteRecently(clientIdSupplier.get())) {
+                Connection replica = replicaConnection();
+                if (replica != null) {
+                    return replica;
+                }
+            }
+            return primary.getConnection();
+        }
+        recordWriteOnCommit();
+        return primary.getConnection();
+    }
+
+    /**
+     * Returns a primary connection for explicit credentials; replicas are never used.
+     *
+     * @param username the database user
+     * @param password the user's password
+     * @return a connection to the primary
+     * @throws SQLException if the primary cannot be reached
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Probes every replica and updates its health, then drops expired read-your-writes entries.
+     *
+     * <p>Runs every {@code datastream.replicas.health-check-interval}.
+     */
+    @Scheduled(fixedDelayString = "${datastream.replicas.health-check-interval:PT5S}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean valid;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                valid = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            } catch (SQLException e) {
+                valid = false;
+            }
+            if (valid && !replica.healthy) {
+                log.info("Replica {} is healthy again", replicas.indexOf(replica));
+            } else if (!valid && replica.healthy) {
+                log.warn("Replica {} failed its health check; routing its reads elsewhere", replicas.indexOf(replica));
+            }
+            replica.healthy = valid;
+        }
+        readYourWrites.evictExpired();
+    }
+
+    /**
+     * Returns the number of replicas currently considered healthy.
+     *
+     * @return healthy replica count
+     */
+    public int healthyReplicaCount() {
+        return (int) replicas.stream().filter(r -> r.healthy).count();
+    }
+
+    /**
+     * Closes every replica data source that is closeable; the primary is left to its owner.
+     *
+     * @throws Exception if a replica fails to close
+     */
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Internals
+    // -------------------------------------------------------------------------
+
+    private Connection replicaConnection() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                replica.healthy = false;
+                log.warn("Replica {} unavailable; failing over: {}", (start + i) % size, e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    private void recordWriteOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        String clientId = clientIdSupplier.get();
+        if (clientId == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWrites.recordWrite(clientId);
+            }
+        });
+    }
+
+    private static final class Replica {
+
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.datastream.infrastructure.persistence.tiering;
+
+import com.datastream.domain.valueobjects.StreamId;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Index entry of one cold segment file, as stored in the {@code cold_segments} table.
+ *
+ * @param segmentId    unique ID of the segment
+ * @param streamId     the stream whose events the segment holds
+ * @param fileName     file name within the stream's cold directory
+ * @param eventCount   number of events in the segment
+ * @param minTimestamp timestamp of the oldest event
+ * @param maxTimestamp timestamp of the newest event
+ * @param sizeBytes    compressed file size
+ */
+public record ColdSegment(
+        UUID segmentId,
+        StreamId streamId,
+        String fileName,
+        int eventCount,
+        Instant minTimestamp,
+        Instant maxTimestamp,
+        long sizeBytes) {
+
+    /**
+     * Compact constructor — validates required fields.
+     *
+     * @param segmentId    segment ID
+     * @param streamId     owning stream
+     * @param fileName     segment file name
+     * @param eventCount   events in the segment
+     * @param minTimestamp oldest event timestamp
+     * @param maxTimestamp newest event timestamp
+     * @param sizeBytes    file size
+     */
+    public ColdSegment {
+        Objects.requireNonNull(segmentId, "segmentId must not be null");
+        Objects.requireNonNull(streamId, "streamId must not be null");
+        Objects.requireNonNull(fileName, "fileName must not be null");
+        Objects.requireNonNull(minTimestamp, "minTimestamp must not be null");
+        Objects.requireNonNull(maxTimestamp, "maxTimestamp must not be null");
+    }
+
+    /**
+     * Returns {@code true} if the segment may hold events within {@code [from, to)}.
+     *
+     * @param from inclusive lower bound; {@code null} means unbounded
+     * @param to   exclusive upper bound; {@code null} means unbounded
+     * @return whether the segment's time span intersects the range
+     */
+    public boolean overlaps(Instant from, Instant to) {
+        return (from == null || !maxTimestamp.isBefore(from)) && (to == null || minTimestamp.isBefore(to));
+    }
+
+    /**
+     * Returns {@code true} if every event of the segment lies within {@code [from, to)}.
+     *
+     * @param from inclusive lower bound; {@code null} means unbounded
+     * @param to   exclusive upper bound; {@code null} means unbounded
+     * @return whether the segment's time span is contained in the range
+     */
+    public boolean within(Instant from, Instant to) {
+        return (from == null || !minTimestamp.isBefore(from)) && (to == null || maxTimestamp.isBefore(to));
+    }
+}
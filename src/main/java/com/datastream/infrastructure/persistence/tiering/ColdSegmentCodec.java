@@ -0,0 +1,353 @@
+package com.datastream.infrastructure.persistence.tiering;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.valueobjects.EventPayload;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.infrastructure.persistence.jdbc.DataEventRowMapper;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Columnar, compressed encoding of a cold segment.
+ *
+ * <p>A segment starts with an uncompressed header ({@code int} magic, {@code byte} version,
+ * {@code int} event count, then the compressed length of each column as an {@code int})
+ * followed by the columns, each its own deflate stream:
+ * <ol>
+ *   <li>timestamps, in epoch microseconds: the first as a {@code long}, then the zig-zag
+ *       varint delta to the previous one</li>
+ *   <li>event IDs, 16 bytes each</li>
+ *   <li>payload lengths as varints</li>
+ *   <li>payload bytes, back to back</li>
+ *   <li>metadata as varint-length-prefixed UTF-8 JSON; length 0 for none</li>
+ * </ol>
+ * Grouping values by column puts similar bytes next to each other: ordered timestamps shrink to
+ * one or two bytes each and repeated metadata compresses to almost nothing. Timestamps are kept
+ * to microsecond precision, which is what {@code data_events} stores.
+ *
+ * <p>Because every column can be located from the header, a {@link Reader} inflates all of them
+ * side by side and yields one event at a time, so reading a segment never holds more than the
+ * current event in memory.
+ */
+final class ColdSegmentCodec {
+
+    private static final int MAGIC = 0x44534353; // "DSCS"
+    private static final byte VERSION = 2;
+    private static final int COLUMNS = 5;
+    private static final int HEADER_BYTES = Integer.BYTES + 1 + Integer.BYTES + COLUMNS * Integer.BYTES;
+    private static final int BUFFER_BYTES = 8 * 1024;
+
+    private ColdSegmentCodec() {
+    }
+
+    /**
+     * Encodes events, which must be ordered by timestamp ascending.
+     *
+     * @param events the events to encode; must not be empty
+     * @return the encoded segment
+     */
+    static byte[] encode(List<DataEvent> events) {
+        byte[][] columns = new byte[COLUMNS][];
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            columns[0] = column(deflater, out -> {
+                long previous = 0;
+                for (int i = 0; i < events.size(); i++) {
+                    long micros = toMicros(events.get(i).getTimestamp());
+                    if (i == 0) {
+                        out.writeLong(micros);
+                    } else {
+                        writeVarLong(out, zigZag(micros - previous));
+                    }
+                    previous = micros;
+                }
+            });
+            columns[1] = column(deflater, out -> {
+                for (DataEvent event : events) {
+                    out.writeLong(event.getEventId().getMostSignificantBits());
+                    out.writeLong(event.getEventId().getLeastSignificantBits());
+                }
+            });
+            columns[2] = column(deflater, out -> {
+                for (DataEvent event : events) {
+                    writeVarLong(out, event.getPayload().value().length);
+                }
+            });
+            columns[3] = column(deflater, out -> {
+                for (DataEvent event : events) {
+                    out.write(event.getPayload().value());
+                }
+            });
+            columns[4] = column(deflater, out -> {
+                for (DataEvent event : events) {
+                    String json = DataEventRowMapper.writeMetadata(event.getMetadata());
+                    byte[] metadata = json == null ? new byte[0] : json.getBytes(StandardCharsets.UTF_8);
+                    writeVarLong(out, metadata.length);
+                    out.write(metadata);
+                }
+            });
+        } finally {
+            deflater.end();
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(events.size());
+            for (byte[] column : columns) {
+                out.writeInt(column.length);
+            }
+            for (byte[] column : columns) {
+                out.write(column);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Opens a segment file produced by {@link #encode} for reading.
+     *
+     * @param file     the segment file
+     * @param streamId the stream the segment belongs to
+     * @return a reader positioned before the first event; the caller must close it
+     * @throws IOException           if the file cannot be read
+     * @throws IllegalStateException if the file is not a cold segment
+     */
+    static Reader open(Path file, StreamId streamId) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new Reader(channel, streamId);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Iterates the events of one segment in the order they were encoded, inflating the columns
+     * in step with each other.
+     */
+    static final class Reader implements Iterator<DataEvent>, Closeable {
+
+        private final FileChannel channel;
+        private final StreamId streamId;
+        private final int count;
+        private final Inflater[] inflaters = new Inflater[COLUMNS];
+        private final DataInputStream timestamps;
+        private final DataInputStream ids;
+        private final DataInputStream lengths;
+        private final DataInputStream payloads;
+        private final DataInputStream metadata;
+        private int position;
+        private long micros;
+
+        private Reader(FileChannel channel, StreamId streamId) throws IOException {
+            this.channel = channel;
+            this.streamId = streamId;
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            int read;
+            do {
+                read = channel.read(header, header.position());
+            } while (read > 0 && header.hasRemaining());
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC || header.get() != VERSION) {
+                throw new IllegalStateException("Not a cold segment of a supported version");
+            }
+            this.count = header.getInt();
+            DataInputStream[] columns = new DataInputStream[COLUMNS];
+            long offset = HEADER_BYTES;
+            for (int c = 0; c < COLUMNS; c++) {
+                int length = header.getInt();
+                inflaters[c] = new Inflater();
+                columns[c] = new DataInputStream(new BufferedInputStream(new InflaterInputStream(
+                        new ColumnInputStream(channel, offset, length), inflaters[c], BUFFER_BYTES), BUFFER_BYTES));
+                offset += length;
+            }
+            this.timestamps = columns[0];
+            this.ids = columns[1];
+            this.lengths = columns[2];
+            this.payloads = columns[3];
+            this.metadata = columns[4];
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext() {
+            return position < count;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public DataEvent next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                Instant timestamp = fromMicros(nextMicros());
+                UUID id = new UUID(ids.readLong(), ids.readLong());
+                byte[] payload = payloads.readNBytes((int) readVarLong(lengths));
+                byte[] json = metadata.readNBytes((int) readVarLong(metadata));
+                position++;
+                return DataEvent.reconstitute(id, streamId, EventPayload.of(payload),
+                        DataEventRowMapper.readMetadata(json.length == 0 ? null : new String(json, StandardCharsets.UTF_8)),
+                        timestamp);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Skips up to {@code n} events without materialising their payloads or metadata.
+         *
+         * @param n the number of events to skip
+         */
+        void skip(long n) {
+            try {
+                for (long i = 0; i < n && hasNext(); i++) {
+                    nextMicros();
+                    ids.skipNBytes(16);
+                    payloads.skipNBytes(readVarLong(lengths));
+                    metadata.skipNBytes(readVarLong(metadata));
+                    position++;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Releases the inflaters and closes the file.
+         */
+        @Override
+        public void close() throws IOException {
+            for (Inflater inflater : inflaters) {
+                inflater.end();
+            }
+            channel.close();
+        }
+
+        private long nextMicros() throws IOException {
+            micros = position == 0 ? timestamps.readLong() : micros + unZigZag(readVarLong(timestamps));
+            return micros;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Internals
+    // -------------------------------------------------------------------------
+
+    private static byte[] column(Deflater deflater, ColumnWriter writer) {
+        deflater.reset();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater, BUFFER_BYTES))) {
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static long toMicros(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+    }
+
+    private static Instant fromMicros(long micros) {
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint in cold segment");
+    }
+
+    @FunctionalInterface
+    private interface ColumnWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * Reads one column's compressed bytes with positional reads, so that all columns can share
+     * the segment's file channel.
+     */
+    private static final class ColumnInputStream extends InputStream {
+
+        private final FileChannel channel;
+        private final long end;
+        private long position;
+
+        ColumnInputStream(FileChannel channel, long offset, int length) {
+            this.channel = channel;
+            this.position = offset;
+            this.end = offset + length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (position >= end) {
+                return -1;
+            }
+            int read = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, end - position)), position);
+            if (read > 0) {
+                position += read;
+            }
+            return read;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.datastream.infrastructure.persistence.tiering;
+
+import com.datastream.domain.valueobjects.StreamId;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Plain-JDBC access to the {@code cold_segments} table.
+ *
+ * <p>Callers are responsible for transaction boundaries.
+ */
+public final class ColdSegmentIndex {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO cold_segments
+                (segment_id, stream_id, file_name, event_count, min_timestamp, max_timestamp, size_bytes)
+            VALUES (?, ?, ?, ?, ?, ?, ?)""";
+
+    private static final String FIND_SQL = """
+            SELECT segment_id, stream_id, file_name, event_count, min_timestamp, max_timestamp, size_bytes
+            FROM cold_segments
+            WHERE stream_id = ?
+            ORDER BY min_timestamp, segment_id""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creates the index accessor.
+     *
+     * @param jdbcTemplate JDBC access; must not be null
+     */
+    public ColdSegmentIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+    }
+
+    /**
+     * Records a segment file.
+     *
+     * @param segment the segment to index; must not be null
+     */
+    public void insert(ColdSegment segment) {
+        jdbcTemplate.update(INSERT_SQL,
+                segment.segmentId(),
+                segment.streamId().value(),
+                segment.fileName(),
+                segment.eventCount(),
+                OffsetDateTime.ofInstant(segment.minTimestamp(), ZoneOffset.UTC),
+                OffsetDateTime.ofInstant(segment.maxTimestamp(), ZoneOffset.UTC),
+                segment.sizeBytes());
+    }
+
+    /**
+     * Returns every segment of a stream, oldest first. Segments of one stream never overlap
+     * in time, because each move takes the oldest events still hot.
+     *
+     * @param streamId the stream; must not be null
+     * @return the stream's segments ordered by {@code min_timestamp} ascending
+     */
+    public List<ColdSegment> findByStreamId(StreamId streamId) {
+        return jdbcTemplate.query(FIND_SQL, (rs, rowNum) -> new ColdSegment(
+                rs.getObject("segment_id", UUID.class),
+                new StreamId(rs.getObject("stream_id", UUID.class)),
+                rs.getString("file_name"),
+                rs.getInt("event_count"),
+                rs.getObject("min_timestamp", OffsetDateTime.class).toInstant(),
+                rs.getObject("max_timestamp", OffsetDateTime.class).toInstant(),
+                rs.getLong("size_bytes")), streamId.value());
+    }
+}
@@ -0,0 +1,130 @@
+package com.datastream.infrastructure.persistence.tiering;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.valueobjects.StreamId;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Reads and writes cold segment files under a root directory, one subdirectory per stream.
+ *
+ * <p>Files are immutable once written. A segment is written to a temporary file, forced to disk
+ * and then renamed into place, so a crash never leaves a partial segment under its final name.
+ * Reads decode a segment incrementally and never load the whole file.
+ */
+public final class ColdSegmentStore {
+
+    private static final String SUFFIX = ".cold";
+
+    private final Path root;
+
+    /**
+     * Creates a store rooted at {@code root}.
+     *
+     * @param root the cold segment directory; must not be null
+     */
+    public ColdSegmentStore(Path root) {
+        this.root = Objects.requireNonNull(root, "root must not be null");
+    }
+
+    /**
+     * Writes events as a new segment file.
+     *
+     * @param streamId the stream the events belong to; must not be null
+     * @param events   the events, ordered by timestamp ascending; must not be empty
+     * @return the index entry describing the written file
+     */
+    public ColdSegment write(StreamId streamId, List<DataEvent> events) {
+        if (events.isEmpty()) {
+            throw new IllegalArgumentException("events must not be empty");
+        }
+        UUID segmentId = UUID.randomUUID();
+        String fileName = segmentId + SUFFIX;
+        Path file = directoryOf(streamId).resolve(fileName);
+        Path tmp = file.resolveSibling(fileName + ".tmp");
+        byte[] encoded = ColdSegmentCodec.encode(events);
+        try {
+            Files.createDirectories(file.getParent());
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(encoded);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write cold segment " + file, e);
+        }
+        return new ColdSegment(segmentId, streamId, fileName, events.size(),
+                events.get(0).getTimestamp(), events.get(events.size() - 1).getTimestamp(), encoded.length);
+    }
+
+    /**
+     * Streams every event of a segment to {@code consumer}, decoding one event at a time.
+     *
+     * @param segment  the segment to read; must not be null
+     * @param consumer receives the events, ordered by timestamp ascending; must not be null
+     */
+    public void forEach(ColdSegment segment, Consumer<DataEvent> consumer) {
+        Path file = directoryOf(segment.streamId()).resolve(segment.fileName());
+        try (ColdSegmentCodec.Reader reader = ColdSegmentCodec.open(file, segment.streamId())) {
+            reader.forEachRemaining(consumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read cold segment " + file, e);
+        }
+    }
+
+    /**
+     * Reads a run of consecutive events of a segment. The events before {@code first} are
+     * skipped without decoding their payloads or metadata.
+     *
+     * @param segment the segment to read; must not be null
+     * @param first   index of the first event to return, in timestamp order
+     * @param limit   maximum number of events to return
+     * @return the events, ordered by timestamp ascending
+     */
+    public List<DataEvent> read(ColdSegment segment, long first, int limit) {
+        Path file = directoryOf(segment.streamId()).resolve(segment.fileName());
+        try (ColdSegmentCodec.Reader reader = ColdSegmentCodec.open(file, segment.streamId())) {
+            reader.skip(first);
+            List<DataEvent> events = new ArrayList<>(Math.min(limit, segment.eventCount()));
+            while (events.size() < limit && reader.hasNext()) {
+                events.add(reader.next());
+            }
+            return events;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read cold segment " + file, e);
+        }
+    }
+
+    /**
+     * Deletes a segment file, e.g. when the transaction that was to index it rolled back.
+     *
+     * @param segment the segment to delete; must not be null
+     */
+    public void delete(ColdSegment segment) {
+        Path file = directoryOf(segment.streamId()).resolve(segment.fileName());
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete cold segment " + file, e);
+        }
+    }
+
+    private Path directoryOf(StreamId streamId) {
+        return root.resolve(streamId.value().toString());
+    }
+}
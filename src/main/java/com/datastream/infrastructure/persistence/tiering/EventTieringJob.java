@@ -0,0 +1,206 @@
+package com.datastream.infrastructure.persistence.tiering;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.infrastructure.config.TieringProperties;
+import com.datastream.infrastructure.persistence.blob.PayloadBlobStore;
+import com.datastream.infrastructure.persistence.jdbc.DataEventRowMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Periodically moves events older than their stream's tiering age out of {@code data_events}
+ * into cold segment files.
+ *
+ * <p>Each move handles the oldest hot events of one stream, up to {@code segment-events} events
+ * or {@code segment-size} bytes of payload and metadata, in a single transaction: the events are read, written to a new segment file, indexed in
+ * {@code cold_segments} and deleted from {@code data_events}. If the transaction rolls back
+ * the file is deleted again, so an event is always in exactly one tier.
+ */
+@Component
+@ConditionalOnProperty(prefix = "datastream.tiering", name = "enabled", havingValue = "true")
+public class EventTieringJob {
+
+    private static final Logger log = LoggerFactory.getLogger(EventTieringJob.class);
+
+    private static final String SELECT_SQL = "SELECT " + DataEventRowMapper.COLUMNS + """
+             FROM data_events
+            WHERE stream_id = ? AND timestamp < ?
+            ORDER BY timestamp, event_id
+            LIMIT ?""";
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String DELETE_SQL = """
+            DELETE FROM data_events
+            WHERE stream_id = ? AND timestamp < ? AND (timestamp, event_id) <= (?, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ColdSegmentStore store;
+    private final ColdSegmentIndex index;
+    private final TieringProperties properties;
+    private final DataEventRowMapper rowMapper;
+    private final Clock clock;
+
+    /**
+     * Creates the job with its required dependencies.
+     *
+     * @param jdbcTemplate       JDBC access; must not be null
+     * @param transactionManager transaction manager for the move transactions; must not be null
+     * @param store              cold segment file store; must not be null
+     * @param index              cold segment index; must not be null
+     * @param properties         tiering settings; must not be null
+     * @param blobStore          resolves payloads kept in the blob store; must not be null
+     */
+    @Autowired
+    public EventTieringJob(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           ColdSegmentStore store,
+                           ColdSegmentIndex index,
+                           TieringProperties properties,
+                           PayloadBlobStore blobStore) {
+        this(jdbcTemplate, transactionManager, store, index, properties, blobStore, Clock.systemUTC());
+    }
+
+    EventTieringJob(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                    ColdSegmentStore store, ColdSegmentIndex index, TieringProperties properties,
+                    PayloadBlobStore blobStore, Clock clock) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+        this.transactionTemplate = new TransactionTemplate(
+                Objects.requireNonNull(transactionManager, "transactionManager must not be null"));
+        this.store = Objects.requireNonNull(store, "store must not be null");
+        this.index = Objects.requireNonNull(index, "index must not be null");
+        this.properties = Objects.requireNonNull(properties, "properties must not be null");
+        this.rowMapper = new DataEventRowMapper(Objects.requireNonNull(blobStore, "blobStore must not be null"));
+        this.clock = Objects.requireNonNull(clock, "clock must not be null");
+    }
+
+    /**
+     * Moves every stream's expired events to cold storage.
+     */
+    @Scheduled(fixedDelayString = "${datastream.tiering.interval:PT1H}")
+    public void run() {
+        Instant now = clock.instant();
+        long moved = 0;
+        for (UUID streamId : jdbcTemplate.queryForList("SELECT id FROM streams", UUID.class)) {
+            Duration age = properties.ageFor(streamId);
+            if (!age.isZero()) {
+                moved += tier(new StreamId(streamId), now.minus(age));
+            }
+        }
+        if (moved > 0) {
+            log.info("Moved {} event(s) to cold storage", moved);
+        }
+    }
+
+    /**
+     * Moves the events of one stream with a timestamp before {@code cutoff} to cold storage.
+     *
+     * @param streamId the stream; must not be null
+     * @param cutoff   events strictly older than this are moved; must not be null
+     * @return the number of events moved
+     */
+    public long tier(StreamId streamId, Instant cutoff) {
+        long moved = 0;
+        Move move;
+        do {
+            move = moveOldest(streamId, cutoff);
+            moved += move.events();
+        } while (move.full());
+        return moved;
+    }
+
+    private Move moveOldest(StreamId streamId, Instant cutoff) {
+        OffsetDateTime cutoffTime = OffsetDateTime.ofInstant(cutoff, ZoneOffset.UTC);
+        ColdSegment[] written = new ColdSegment[1];
+        try {
+            Move move = transactionTemplate.execute(status -> {
+                List<DataEvent> events = new ArrayList<>();
+                boolean full = selectOldest(streamId, cutoffTime, events);
+                if (events.isEmpty()) {
+                    return new Move(0, false);
+                }
+                written[0] = store.write(streamId, events);
+                index.insert(written[0]);
+                DataEvent last = events.get(events.size() - 1);
+                int deleted = jdbcTemplate.update(DELETE_SQL, streamId.value(), cutoffTime,
+                        OffsetDateTime.ofInstant(last.getTimestamp(), ZoneOffset.UTC), last.getEventId());
+                if (deleted != events.size()) {
+                    throw new IllegalStateException("Expected to move " + events.size()
+                            + " event(s) of stream " + streamId.value() + " but deleted " + deleted);
+                }
+                return new Move(events.size(), full);
+            });
+            return move != null ? move : new Move(0, false);
+        } catch (RuntimeException e) {
+            if (written[0] != null) {
+                store.delete(written[0]);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the oldest events before the cutoff into {@code events} until either segment limit
+     * is reached.
+     *
+     * @return whether a limit was reached, i.e. more events may be waiting
+     */
+    private boolean selectOldest(StreamId streamId, OffsetDateTime cutoffTime, List<DataEvent> events) {
+        long maxBytes = properties.segmentSize().toBytes();
+        Boolean full = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    SELECT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setObject(1, streamId.value());
+            ps.setObject(2, cutoffTime);
+            ps.setInt(3, properties.segmentEvents());
+            return ps;
+        }, (ResultSetExtractor<Boolean>) rs -> {
+            long bytes = 0;
+            while (rs.next()) {
+                DataEvent event = rowMapper.mapRow(rs, events.size());
+                events.add(event);
+                bytes += rawSize(event);
+                if (bytes >= maxBytes) {
+                    return true;
+                }
+            }
+            return events.size() == properties.segmentEvents();
+        });
+        return Boolean.TRUE.equals(full);
+    }
+
+    private static long rawSize(DataEvent event) {
+        long size = 16 + 8 + event.getPayload().value().length;
+        for (Map.Entry<String, String> entry : event.getMetadata().entrySet()) {
+            size += entry.getKey().length() + entry.getValue().length();
+        }
+        return size;
+    }
+
+    private record Move(int events, boolean full) {
+    }
+}
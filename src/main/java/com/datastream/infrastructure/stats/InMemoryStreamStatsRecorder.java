@@ -0,0 +1,172 @@
+package com.datastream.infrastructure.stats;
+
+import com.datastream.application.port.StreamStatsRecorder;
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.model.StreamStats;
+import com.datastream.domain.repository.StreamStatsRepository;
+import com.datastream.domain.valueobjects.StreamId;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory implementation of {@link StreamStatsRecorder}.
+ *
+ * <p>Each stream has a set of {@link LongAdder}/{@link LongAccumulator} cells that
+ * {@link #record} updates without locking, so concurrent publishers to the same
+ * stream do not contend on a shared counter. {@link #flush} periodically drains
+ * every stream's cells and persists all increments with one batched upsert via
+ * {@link StreamStatsRepository#mergeAll}; if that fails the increments are added
+ * back and retried on the next flush. Drained increments stay visible through
+ * {@link #pending} until the upsert has returned, so a stats read during a flush does
+ * not briefly miss them.
+ *
+ * <p>Increments not yet flushed are lost if the process dies. Like the in-memory
+ * subscriber registry this suits single-node deployments.
+ */
+@Component
+public class InMemoryStreamStatsRecorder implements StreamStatsRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryStreamStatsRecorder.class);
+
+    private final StreamStatsRepository streamStatsRepository;
+    private final ConcurrentHashMap<StreamId, Accumulator> accumulators = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<StreamId, StreamStats> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the recorder.
+     *
+     * @param streamStatsRepository repository the increments are flushed to; must not be null
+     */
+    public InMemoryStreamStatsRecorder(StreamStatsRepository streamStatsRepository) {
+        this.streamStatsRepository = Objects.requireNonNull(
+                streamStatsRepository, "streamStatsRepository must not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void record(DataEvent event) {
+        accumulators.computeIfAbsent(event.getStreamId(), k -> new Accumulator())
+                .add(1, event.getPayload().size(), toMicros(event.getTimestamp()), toMicros(event.getTimestamp()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamStats pending(StreamId streamId) {
+        Accumulator accumulator = accumulators.get(streamId);
+        StreamStats pending = accumulator != null ? accumulator.snapshot(streamId) : StreamStats.empty(streamId);
+        StreamStats flushing = inFlight.get(streamId);
+        return flushing != null ? pending.merge(flushing) : pending;
+    }
+
+    /**
+     * Drains every stream's pending increment and persists them in one batch.
+     *
+     * <p>Runs every {@code datastream.stats.flush-interval} and once more on shutdown.
+     * Calls are serialised, so the shutdown flush never overlaps a scheduled one.
+     */
+    @Scheduled(fixedDelayString = "${datastream.stats.flush-interval:PT5S}")
+    public synchronized void flush() {
+        List<StreamStats> increments = new ArrayList<>();
+        accumulators.forEach((streamId, accumulator) -> {
+            StreamStats increment = accumulator.drain(streamId);
+            if (increment.eventCount() > 0 || increment.lastEventAt() != null) {
+                inFlight.put(streamId, increment);
+                increments.add(increment);
+            }
+        });
+        if (increments.isEmpty()) {
+            return;
+        }
+
+        try {
+            streamStatsRepository.mergeAll(increments);
+            log.debug("Flushed stream statistics for {} stream(s)", increments.size());
+        } catch (RuntimeException e) {
+            increments.forEach(this::restore);
+            log.warn("Failed to flush statistics for {} stream(s); will retry", increments.size(), e);
+        } finally {
+            increments.forEach(increment -> inFlight.remove(increment.streamId()));
+        }
+    }
+
+    /**
+     * Flushes any pending increments before the application context closes.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void restore(StreamStats increment) {
+        accumulators.computeIfAbsent(increment.streamId(), k -> new Accumulator()).add(
+                increment.eventCount(),
+                increment.totalPayloadBytes(),
+                increment.firstEventAt() != null ? toMicros(increment.firstEventAt()) : Long.MAX_VALUE,
+                increment.lastEventAt() != null ? toMicros(increment.lastEventAt()) : Long.MIN_VALUE);
+    }
+
+    private static long toMicros(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+    }
+
+    private static Instant fromMicros(long micros) {
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+    }
+
+    /**
+     * Striped counters for one stream; timestamps are kept as epoch microseconds.
+     */
+    private static final class Accumulator {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAccumulator first = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private final LongAccumulator last = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+        void add(long events, long payloadBytes, long firstMicros, long lastMicros) {
+            first.accumulate(firstMicros);
+            last.accumulate(lastMicros);
+            bytes.add(payloadBytes);
+            count.add(events);
+        }
+
+        StreamStats snapshot(StreamId streamId) {
+            return toStats(streamId, count.sum(), bytes.sum(), first.get(), last.get());
+        }
+
+        StreamStats drain(StreamId streamId) {
+            // Reverse of the order add() writes in: an event whose count is drained
+            // always has its bytes and timestamps drained with it
+            long events = count.sumThenReset();
+            long payloadBytes = bytes.sumThenReset();
+            long lastMicros = last.getThenReset();
+            long firstMicros = first.getThenReset();
+            return toStats(streamId, events, payloadBytes, firstMicros, lastMicros);
+        }
+
+        private static StreamStats toStats(StreamId streamId, long events, long payloadBytes,
+                                           long firstMicros, long lastMicros) {
+            return new StreamStats(
+                    streamId,
+                    events,
+                    payloadBytes,
+                    firstMicros != Long.MAX_VALUE ? fromMicros(firstMicros) : null,
+                    lastMicros != Long.MIN_VALUE ? fromMicros(lastMicros) : null);
+        }
+    }
+}
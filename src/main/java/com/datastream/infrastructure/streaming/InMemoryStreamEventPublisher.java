@@ -1,10 +1,19 @@
 package com.datastream.infrastructure.streaming;
 
 import com.datastream.application.dto.DataEventResponse;
+import com.datastream.application.port.EventMetrics;
 import com.datastream.application.port.StreamEventPublisher;
+import com.datastream.infrastructure.jfr.EventFannedOut;
+import com.datastream.infrastructure.jfr.SubscriberQueueOverflow;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.AbstractCollection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -14,7 +23,11 @@ import java.util.concurrent.CopyOnWriteArrayList;
  *
  * <p>Maintains a registry of subscriber queues keyed by stream ID. When an event
  * is published, it is placed into every registered queue for that stream so that
- * server-streaming gRPC subscribers can deliver it to their clients.
+ * server-streaming gRPC subscribers can deliver it to their clients. Each queue is
+ * registered as a {@link Subscription}, which can be listed and closed by operators.
+ *
+ * <p>Each stream's subscriptions are a copy-on-write list, so publishing and listing
+ * iterate a snapshot without locking; only subscribing and unsubscribing copy it.
  *
  * <p>This implementation is thread-safe and suitable for single-node deployments.
  * A distributed implementation (e.g. backed by Redis pub/sub or a message broker)
@@ -23,22 +36,56 @@ import java.util.concurrent.CopyOnWriteArrayList;
 @Component
 public class InMemoryStreamEventPublisher implements StreamEventPublisher {
 
-    private final ConcurrentHashMap<String, CopyOnWriteArrayList<BlockingQueue<DataEventResponse>>>
-            subscribers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CopyOnWriteArrayList<Subscription>> subscribers =
+            new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Subscription> subscriptionsById = new ConcurrentHashMap<>();
+    private final EventMetrics metrics;
+
+    /**
+     * Creates a publisher that records no metrics.
+     */
+    public InMemoryStreamEventPublisher() {
+        this(null);
+    }
+
+    /**
+     * Creates a publisher reporting drops and subscriber queues to {@code metrics}.
+     *
+     * @param metrics hot-path metrics; may be {@code null} if none are recorded
+     */
+    @Autowired
+    public InMemoryStreamEventPublisher(EventMetrics metrics) {
+        this.metrics = metrics;
+    }
 
     /**
      * {@inheritDoc}
      *
      * <p>Offers the event to all subscriber queues registered for
-     * {@code event.streamId()}. Queues that are full silently drop the event.
+     * {@code event.streamId()}. Queues that are full drop the event, which is
+     * counted in the metrics and recorded as a {@link SubscriberQueueOverflow}
+     * JFR event. The fan-out itself is recorded as an {@link EventFannedOut}.
      */
     @Override
     public void publish(DataEventResponse event) {
-        List<BlockingQueue<DataEventResponse>> queues = subscribers.get(event.streamId());
-        if (queues != null) {
-            for (BlockingQueue<DataEventResponse> queue : queues) {
-                queue.offer(event);
+        List<Subscription> subscriptions = subscribers.get(event.streamId());
+        if (subscriptions != null) {
+            EventFannedOut fanOut = new EventFannedOut();
+            fanOut.begin();
+            int dropped = 0;
+            for (Subscription subscription : subscriptions) {
+                BlockingQueue<DataEventResponse> queue = subscription.queue();
+                if (!queue.offer(event)) {
+                    subscription.dropped();
+                    dropped++;
+                    if (metrics != null) {
+                        metrics.dropped(event.streamId());
+                    }
+                    SubscriberQueueOverflow.record(
+                            event.streamId(), event.payload().length, queue.size() + queue.remainingCapacity());
+                }
             }
+            fanOut.commit(event.streamId(), event.payload().length, subscriptions.size(), dropped);
         }
     }
 
@@ -50,9 +97,25 @@ public class InMemoryStreamEventPublisher implements StreamEventPublisher {
      *
      * @param streamId the stream ID to subscribe to; must not be null
      * @param queue    the queue that will receive published events; must not be null
+     * @return the registered subscription
      */
-    public void subscribe(String streamId, BlockingQueue<DataEventResponse> queue) {
-        subscribers.computeIfAbsent(streamId, k -> new CopyOnWriteArrayList<>()).add(queue);
+    public Subscription subscribe(String streamId, BlockingQueue<DataEventResponse> queue) {
+        return subscribe(streamId, queue, null);
+    }
+
+    /**
+     * Registers a subscriber queue for the given stream on behalf of a remote client.
+     *
+     * @param streamId      the stream ID to subscribe to; must not be null
+     * @param queue         the queue that will receive published events; must not be null
+     * @param remoteAddress address of the subscribing client; may be {@code null} if unknown
+     * @return the registered subscription
+     */
+    public Subscription subscribe(String streamId, BlockingQueue<DataEventResponse> queue, String remoteAddress) {
+        Subscription subscription = new Subscription(streamId, queue, remoteAddress);
+        subscriptionsById.put(subscription.id(), subscription);
+        subscribers.computeIfAbsent(streamId, this::newSubscriptionList).add(subscription);
+        return subscription;
     }
 
     /**
@@ -62,9 +125,103 @@ public class InMemoryStreamEventPublisher implements StreamEventPublisher {
      * @param queue    the queue to remove; must not be null
      */
     public void unsubscribe(String streamId, BlockingQueue<DataEventResponse> queue) {
-        CopyOnWriteArrayList<BlockingQueue<DataEventResponse>> queues = subscribers.get(streamId);
-        if (queues != null) {
-            queues.remove(queue);
+        CopyOnWriteArrayList<Subscription> subscriptions = subscribers.get(streamId);
+        if (subscriptions != null) {
+            for (Subscription subscription : subscriptions) {
+                if (subscription.queue() == queue) {
+                    unsubscribe(subscription);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes a previously registered subscription. Does nothing if it was already removed.
+     *
+     * @param subscription the subscription to remove; must not be null
+     */
+    public void unsubscribe(Subscription subscription) {
+        subscriptionsById.remove(subscription.id(), subscription);
+        CopyOnWriteArrayList<Subscription> subscriptions = subscribers.get(subscription.streamId());
+        if (subscriptions != null) {
+            subscriptions.remove(subscription);
+        }
+    }
+
+    /**
+     * Removes a subscription and marks it closed, so that its subscriber stops
+     * delivering and ends its call.
+     *
+     * @param subscriptionId ID of the subscription to close; must not be null
+     * @return {@code true} if the subscription was registered
+     */
+    public boolean disconnect(String subscriptionId) {
+        Subscription subscription = subscriptionsById.get(subscriptionId);
+        if (subscription == null) {
+            return false;
+        }
+        unsubscribe(subscription);
+        subscription.close();
+        return true;
+    }
+
+    /**
+     * Returns the subscriptions currently registered, grouped by stream ID.
+     *
+     * <p>Reads a snapshot of each stream's subscriptions without blocking publishers.
+     * Streams without subscriptions are omitted.
+     *
+     * @return an immutable map from stream ID to its subscriptions, in registration order
+     */
+    public Map<String, List<Subscription>> subscriptions() {
+        Map<String, List<Subscription>> result = new TreeMap<>();
+        subscribers.forEach((streamId, subscriptions) -> {
+            List<Subscription> snapshot = List.copyOf(subscriptions);
+            if (!snapshot.isEmpty()) {
+                result.put(streamId, snapshot);
+            }
+        });
+        return Collections.unmodifiableMap(result);
+    }
+
+    private CopyOnWriteArrayList<Subscription> newSubscriptionList(String streamId) {
+        CopyOnWriteArrayList<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+        if (metrics != null) {
+            metrics.observeSubscribers(streamId, new QueueView(subscriptions));
+        }
+        return subscriptions;
+    }
+
+    /**
+     * Live view of the queues of a stream's subscriptions, for the subscriber gauges.
+     */
+    private static final class QueueView extends AbstractCollection<BlockingQueue<DataEventResponse>> {
+
+        private final List<Subscription> subscriptions;
+
+        QueueView(List<Subscription> subscriptions) {
+            this.subscriptions = subscriptions;
+        }
+
+        @Override
+        public Iterator<BlockingQueue<DataEventResponse>> iterator() {
+            Iterator<Subscription> it = subscriptions.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public BlockingQueue<DataEventResponse> next() {
+                    return it.next().queue();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return subscriptions.size();
         }
     }
 }
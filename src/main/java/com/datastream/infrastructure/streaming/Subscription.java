@@ -0,0 +1,170 @@
+package com.datastream.infrastructure.streaming;
+
+import com.datastream.application.dto.DataEventResponse;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A subscriber queue registered with {@link InMemoryStreamEventPublisher}, with the
+ * state needed to inspect and close it.
+ *
+ * <p>Drops are counted by publishing threads; deliveries are written only by the thread
+ * draining the queue. The counters are plain reads. For the
+ * {@link java.util.concurrent.LinkedBlockingQueue} used by gRPC subscribers the queue depth,
+ * {@link BlockingQueue#size()}, is lock-free too, while the lag, taken from
+ * {@link BlockingQueue#peek()}, briefly holds the queue's take lock. It contends with the
+ * subscriber's own dequeue, and with a publisher only for the moment that publisher signals a
+ * previously empty queue; it never holds the put lock that publishers enqueue under.
+ */
+public final class Subscription {
+
+    private final String id = UUID.randomUUID().toString();
+    private final String streamId;
+    private final BlockingQueue<DataEventResponse> queue;
+    private final String remoteAddress;
+    private final Instant connectedAt = Instant.now();
+    private final long connectedNanos = System.nanoTime();
+    private final LongAdder dropped = new LongAdder();
+    private volatile long delivered;
+    private volatile boolean closed;
+
+    Subscription(String streamId, BlockingQueue<DataEventResponse> queue, String remoteAddress) {
+        this.streamId = Objects.requireNonNull(streamId, "streamId must not be null");
+        this.queue = Objects.requireNonNull(queue, "queue must not be null");
+        this.remoteAddress = remoteAddress;
+    }
+
+    /**
+     * Returns the identifier of this subscription, unique within the process.
+     *
+     * @return a UUID string
+     */
+    public String id() {
+        return id;
+    }
+
+    /**
+     * Returns the stream this subscription receives events of.
+     *
+     * @return UUID string of the stream
+     */
+    public String streamId() {
+        return streamId;
+    }
+
+    /**
+     * Returns the queue published events are offered to.
+     *
+     * @return the subscriber queue
+     */
+    public BlockingQueue<DataEventResponse> queue() {
+        return queue;
+    }
+
+    /**
+     * Returns the address of the subscribing client.
+     *
+     * @return the remote address, or {@code null} if unknown
+     */
+    public String remoteAddress() {
+        return remoteAddress;
+    }
+
+    /**
+     * Returns when the subscription was registered.
+     *
+     * @return the registration time
+     */
+    public Instant connectedAt() {
+        return connectedAt;
+    }
+
+    /**
+     * Returns how long the subscription has been registered.
+     *
+     * @return the age in milliseconds
+     */
+    public long ageMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - connectedNanos);
+    }
+
+    /**
+     * Returns the number of events waiting in the queue.
+     *
+     * @return the queue depth
+     */
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Returns the capacity of the queue.
+     *
+     * @return the number of events the queue holds when full
+     */
+    public int queueCapacity() {
+        int size = queue.size();
+        return size + queue.remainingCapacity();
+    }
+
+    /**
+     * Returns the number of events sent to the subscriber.
+     *
+     * @return the delivered event count
+     */
+    public long deliveredEvents() {
+        return delivered;
+    }
+
+    /**
+     * Returns the number of events dropped because the queue was full.
+     *
+     * @return the dropped event count
+     */
+    public long droppedEvents() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns how far behind the subscriber is: how long the oldest queued event has been
+     * waiting since it was published. A subscriber that stopped reading keeps falling
+     * further behind even though nothing is delivered.
+     *
+     * <p>Briefly takes the queue's take lock to read its head, never the put lock.
+     *
+     * @return the lag in nanoseconds; 0 when the queue is empty or its head is not timed
+     */
+    public long lagNanos() {
+        DataEventResponse head = queue.peek();
+        return head != null && head.isTimed() ? System.nanoTime() - head.publishedNanos() : 0;
+    }
+
+    /**
+     * Returns whether the subscription was closed by {@link InMemoryStreamEventPublisher#disconnect}.
+     *
+     * @return {@code true} once the subscriber should stop and close its call
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Accounts for an event sent to the subscriber. Called only by the thread draining the queue.
+     */
+    public void delivered() {
+        delivered = delivered + 1;
+    }
+
+    void dropped() {
+        dropped.increment();
+    }
+
+    void close() {
+        closed = true;
+    }
+}
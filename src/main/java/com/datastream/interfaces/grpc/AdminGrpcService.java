@@ -0,0 +1,121 @@
+package com.datastream.interfaces.grpc;
+
+import com.datastream.application.handler.GetEventLatencyHandler;
+import com.datastream.application.query.GetEventLatencyQuery;
+import com.datastream.infrastructure.streaming.InMemoryStreamEventPublisher;
+import com.datastream.infrastructure.streaming.Subscription;
+import com.datastream.interfaces.grpc.proto.AdminServiceGrpc;
+import com.datastream.interfaces.grpc.proto.DisconnectSubscriptionRequest;
+import com.datastream.interfaces.grpc.proto.DisconnectSubscriptionResponse;
+import com.datastream.interfaces.grpc.proto.GetEventLatencyRequest;
+import com.datastream.interfaces.grpc.proto.GetEventLatencyResponse;
+import com.datastream.interfaces.grpc.proto.ListStreamSubscribersRequest;
+import com.datastream.interfaces.grpc.proto.ListStreamSubscribersResponse;
+import com.datastream.interfaces.grpc.proto.ListSubscriptionsRequest;
+import com.datastream.interfaces.grpc.proto.ListSubscriptionsResponse;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import net.devh.boot.grpc.server.service.GrpcService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * gRPC service adapter for the {@code AdminService} proto definition.
+ *
+ * <p>Exposes operational diagnostics of this node. Like {@link StreamGrpcService}
+ * it only translates between protobuf messages and application-layer queries, and
+ * reads live subscriptions straight from the {@link InMemoryStreamEventPublisher}
+ * registry. Reading the registry and the queue depths takes no locks; only the lag of each
+ * subscription briefly takes its queue's consumer-side lock, which publishers do not enqueue
+ * under.
+ */
+@GrpcService
+public class AdminGrpcService extends AdminServiceGrpc.AdminServiceImplBase {
+
+    private final GetEventLatencyHandler getEventLatencyHandler;
+    private final InMemoryStreamEventPublisher eventPublisher;
+
+    /**
+     * Creates the service with its handler and publisher dependencies.
+     *
+     * @param getEventLatencyHandler handler for fetching per-stage event latency
+     * @param eventPublisher         in-memory publisher holding the live subscriptions
+     */
+    public AdminGrpcService(GetEventLatencyHandler getEventLatencyHandler,
+                            InMemoryStreamEventPublisher eventPublisher) {
+        this.getEventLatencyHandler = Objects.requireNonNull(getEventLatencyHandler);
+        this.eventPublisher = Objects.requireNonNull(eventPublisher);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Validates the stream exists, then returns the latency distributions this
+     * node recorded for it.
+     */
+    @Override
+    public void getEventLatency(GetEventLatencyRequest request,
+                                StreamObserver<GetEventLatencyResponse> responseObserver) {
+        responseObserver.onNext(AdminProtoMapper.toProtoEventLatency(
+                getEventLatencyHandler.handle(new GetEventLatencyQuery(request.getStreamId(), request.getReset()))));
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Streams without subscribers are omitted.
+     */
+    @Override
+    public void listStreamSubscribers(ListStreamSubscribersRequest request,
+                                      StreamObserver<ListStreamSubscribersResponse> responseObserver) {
+        ListStreamSubscribersResponse.Builder response = ListStreamSubscribersResponse.newBuilder();
+        eventPublisher.subscriptions().forEach((streamId, subscriptions) ->
+                response.addStreams(AdminProtoMapper.toProtoStreamSubscribers(streamId, subscriptions)));
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Subscriptions are grouped by stream ID, oldest first within a stream.
+     */
+    @Override
+    public void listSubscriptions(ListSubscriptionsRequest request,
+                                  StreamObserver<ListSubscriptionsResponse> responseObserver) {
+        Map<String, List<Subscription>> subscriptions = eventPublisher.subscriptions();
+        ListSubscriptionsResponse.Builder response = ListSubscriptionsResponse.newBuilder();
+        subscriptions.forEach((streamId, streamSubscriptions) -> {
+            if (request.getStreamId().isEmpty() || request.getStreamId().equals(streamId)) {
+                streamSubscriptions.forEach(subscription ->
+                        response.addSubscriptions(AdminProtoMapper.toProtoSubscription(subscription)));
+            }
+        });
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Fails with {@code NOT_FOUND} if no open subscription has the given ID.
+     */
+    @Override
+    public void disconnectSubscription(DisconnectSubscriptionRequest request,
+                                       StreamObserver<DisconnectSubscriptionResponse> responseObserver) {
+        if (!eventPublisher.disconnect(request.getSubscriptionId())) {
+            responseObserver.onError(Status.NOT_FOUND
+                    .withDescription("Subscription not found: " + request.getSubscriptionId())
+                    .asRuntimeException());
+            return;
+        }
+        responseObserver.onNext(DisconnectSubscriptionResponse.newBuilder()
+                .setSuccess(true)
+                .setMessage("Subscription disconnected")
+                .build());
+        responseObserver.onCompleted();
+    }
+}
@@ -0,0 +1,115 @@
+package com.datastream.interfaces.grpc;
+
+import com.datastream.application.dto.EventLatencyResponse;
+import com.datastream.infrastructure.streaming.Subscription;
+import com.datastream.interfaces.grpc.proto.GetEventLatencyResponse;
+import com.datastream.interfaces.grpc.proto.LatencyStage;
+import com.datastream.interfaces.grpc.proto.StageLatency;
+import com.datastream.interfaces.grpc.proto.StreamSubscribers;
+import com.datastream.interfaces.grpc.proto.SubscriptionInfo;
+import com.google.protobuf.Timestamp;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Utility class that maps application-layer DTOs and subscriber registry state to
+ * {@code AdminService} protobuf messages.
+ *
+ * <p>All methods are static; this class is not intended to be instantiated.
+ */
+public final class AdminProtoMapper {
+
+    private AdminProtoMapper() {
+    }
+
+    /**
+     * Maps an {@link EventLatencyResponse} DTO to a {@link GetEventLatencyResponse} proto message.
+     *
+     * @param response the DTO to map; must not be null
+     * @return the corresponding proto message
+     */
+    public static GetEventLatencyResponse toProtoEventLatency(EventLatencyResponse response) {
+        GetEventLatencyResponse.Builder builder = GetEventLatencyResponse.newBuilder()
+                .setStreamId(response.streamId());
+        for (EventLatencyResponse.StageLatency stage : response.stages()) {
+            builder.addStages(StageLatency.newBuilder()
+                    .setStage(toProtoStage(stage.stage()))
+                    .setCount(stage.count())
+                    .setMeanMicros(stage.meanMicros())
+                    .setP50Micros(stage.p50Micros())
+                    .setP90Micros(stage.p90Micros())
+                    .setP99Micros(stage.p99Micros())
+                    .setP999Micros(stage.p999Micros())
+                    .setMaxMicros(stage.maxMicros()));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Summarises the open subscriptions of one stream.
+     *
+     * @param streamId      UUID string of the stream; must not be null
+     * @param subscriptions the stream's subscriptions; must not be null
+     * @return the corresponding proto message
+     */
+    public static StreamSubscribers toProtoStreamSubscribers(String streamId, List<Subscription> subscriptions) {
+        long queued = 0;
+        long dropped = 0;
+        for (Subscription subscription : subscriptions) {
+            queued += subscription.queueDepth();
+            dropped += subscription.droppedEvents();
+        }
+        return StreamSubscribers.newBuilder()
+                .setStreamId(streamId)
+                .setSubscriberCount(subscriptions.size())
+                .setQueuedEvents(queued)
+                .setDroppedEvents(dropped)
+                .build();
+    }
+
+    /**
+     * Maps the current state of a {@link Subscription} to a {@link SubscriptionInfo} proto message.
+     *
+     * @param subscription the subscription to map; must not be null
+     * @return the corresponding proto message; the remote address is empty if unknown
+     */
+    public static SubscriptionInfo toProtoSubscription(Subscription subscription) {
+        Instant connectedAt = subscription.connectedAt();
+        SubscriptionInfo.Builder builder = SubscriptionInfo.newBuilder()
+                .setSubscriptionId(subscription.id())
+                .setStreamId(subscription.streamId())
+                .setConnectedAt(Timestamp.newBuilder()
+                        .setSeconds(connectedAt.getEpochSecond())
+                        .setNanos(connectedAt.getNano()))
+                .setAgeMillis(subscription.ageMillis())
+                .setQueueDepth(subscription.queueDepth())
+                .setQueueCapacity(subscription.queueCapacity())
+                .setDeliveredEvents(subscription.deliveredEvents())
+                .setDroppedEvents(subscription.droppedEvents())
+                .setLagMicros(TimeUnit.NANOSECONDS.toMicros(subscription.lagNanos()));
+
+        if (subscription.remoteAddress() != null) {
+            builder.setRemoteAddress(subscription.remoteAddress());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Maps a latency stage to its proto enum value.
+     *
+     * @param stage the stage; must not be null
+     * @return the proto enum value
+     */
+    public static LatencyStage toProtoStage(EventLatencyResponse.Stage stage) {
+        return switch (stage) {
+            case PERSIST -> LatencyStage.LATENCY_STAGE_PERSIST;
+            case PUBLISH -> LatencyStage.LATENCY_STAGE_PUBLISH;
+            case QUEUE -> LatencyStage.LATENCY_STAGE_QUEUE;
+            case SEND -> LatencyStage.LATENCY_STAGE_SEND;
+            case END_TO_END -> LatencyStage.LATENCY_STAGE_END_TO_END;
+        };
+    }
+}
@@ -0,0 +1,115 @@
+package com.datastream.interfaces.grpc;
+
+import com.datastream.interfaces.grpc.proto.DataEvent;
+import com.datastream.interfaces.grpc.proto.ExportEventsResponse;
+import io.grpc.stub.ServerCallStreamObserver;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Accumulates exported {@link DataEvent}s into size-bounded {@link ExportEventsResponse}
+ * batches and writes them to a server-streaming call with outbound flow control.
+ *
+ * <p>Before each batch is sent the writer blocks until the transport reports
+ * {@link ServerCallStreamObserver#isReady()}, so a slow client throttles the
+ * producer (and therefore the database cursor) instead of growing gRPC's
+ * outbound buffer without bound.
+ *
+ * <p>Must be constructed on the gRPC call thread (it registers the on-ready
+ * and on-cancel handlers) and then used from a single producer thread.
+ */
+final class ExportBatchWriter {
+
+    private static final long READY_POLL_MILLIS = 500;
+
+    private final ServerCallStreamObserver<ExportEventsResponse> observer;
+    private final int maxBatchBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition readyOrCancelled = lock.newCondition();
+
+    private ExportEventsResponse.Builder batch = ExportEventsResponse.newBuilder();
+    private int batchBytes;
+
+    /**
+     * Creates a writer bound to the given call.
+     *
+     * @param observer      the server-side call observer; must not be null
+     * @param maxBatchBytes upper bound on the serialized event bytes per batch; must be > 0
+     */
+    ExportBatchWriter(ServerCallStreamObserver<ExportEventsResponse> observer, int maxBatchBytes) {
+        this.observer = observer;
+        this.maxBatchBytes = maxBatchBytes;
+        observer.setOnReadyHandler(this::signal);
+        observer.setOnCancelHandler(this::signal);
+    }
+
+    /**
+     * Adds an event to the current batch, first sending the batch if the event
+     * would push it past the size bound. A single event larger than the bound is
+     * sent as a batch of its own.
+     *
+     * @param event the event to export; must not be null
+     * @throws CancellationException if the client cancelled the call or the producer was
+     *                               interrupted while waiting for the transport
+     */
+    void write(DataEvent event) {
+        int size = event.getSerializedSize();
+        if (batchBytes > 0 && batchBytes + size > maxBatchBytes) {
+            flush();
+        }
+        batch.addEvents(event);
+        batchBytes += size;
+    }
+
+    /**
+     * Sends any buffered events and completes the call.
+     *
+     * @throws CancellationException if the client cancelled the call or the producer was
+     *                               interrupted while waiting for the transport
+     */
+    void complete() {
+        if (batchBytes > 0) {
+            flush();
+        }
+        observer.onCompleted();
+    }
+
+    private void flush() {
+        awaitReady();
+        observer.onNext(batch.build());
+        batch = ExportEventsResponse.newBuilder();
+        batchBytes = 0;
+    }
+
+    private void awaitReady() {
+        lock.lock();
+        try {
+            while (!observer.isReady()) {
+                if (observer.isCancelled()) {
+                    throw new CancellationException("Export cancelled by client");
+                }
+                readyOrCancelled.await(READY_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            }
+            if (observer.isCancelled()) {
+                throw new CancellationException("Export cancelled by client");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Export interrupted");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void signal() {
+        lock.lock();
+        try {
+            readyOrCancelled.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -8,39 +8,73 @@ import com.datastream.application.command.PublishEventCommand;
 import com.datastream.application.command.UpdateStreamCommand;
 import com.datastream.application.dto.DataEventResponse;
 import com.datastream.application.dto.PagedResponse;
+import com.datastream.application.dto.StreamBatchResponse;
 import com.datastream.application.dto.StreamResponse;
+import com.datastream.application.dto.StreamStatsResponse;
 import com.datastream.application.handler.ActivateStreamHandler;
+import com.datastream.application.handler.BatchGetStreamsHandler;
 import com.datastream.application.handler.CreateStreamHandler;
 import com.datastream.application.handler.DeactivateStreamHandler;
 import com.datastream.application.handler.DeleteStreamHandler;
+import com.datastream.application.handler.ExportEventsHandler;
 import com.datastream.application.handler.GetStreamHandler;
+import com.datastream.application.handler.GetStreamStatsHandler;
 import com.datastream.application.handler.ListStreamsHandler;
 import com.datastream.application.handler.PublishEventHandler;
+import com.datastream.application.handler.QueryEventsHandler;
 import com.datastream.application.handler.UpdateStreamHandler;
+import com.datastream.application.port.EventLatencyRecorder;
+import com.datastream.application.port.EventMetrics;
+import com.datastream.application.query.BatchGetStreamsQuery;
+import com.datastream.application.query.ExportEventsQuery;
 import com.datastream.application.query.GetStreamQuery;
+import com.datastream.application.query.GetStreamStatsQuery;
 import com.datastream.application.query.ListStreamsQuery;
+import com.datastream.application.query.QueryEventsQuery;
+import com.datastream.infrastructure.config.ExportProperties;
+import com.datastream.infrastructure.interceptor.GrpcExceptionInterceptor;
+import com.datastream.infrastructure.interceptor.RemoteAddressInterceptor;
+import com.datastream.infrastructure.jfr.EventDelivered;
+import com.datastream.infrastructure.jfr.EventReceived;
 import com.datastream.infrastructure.streaming.InMemoryStreamEventPublisher;
+import com.datastream.infrastructure.streaming.Subscription;
+import com.datastream.interfaces.grpc.proto.BatchGetStreamsRequest;
+import com.datastream.interfaces.grpc.proto.BatchGetStreamsResponse;
 import com.datastream.interfaces.grpc.proto.CreateStreamRequest;
 import com.datastream.interfaces.grpc.proto.CreateStreamResponse;
 import com.datastream.interfaces.grpc.proto.DataEvent;
 import com.datastream.interfaces.grpc.proto.DeleteStreamRequest;
 import com.datastream.interfaces.grpc.proto.DeleteStreamResponse;
+import com.datastream.interfaces.grpc.proto.ExportEventsRequest;
+import com.datastream.interfaces.grpc.proto.ExportEventsResponse;
 import com.datastream.interfaces.grpc.proto.GetStreamRequest;
 import com.datastream.interfaces.grpc.proto.GetStreamResponse;
+import com.datastream.interfaces.grpc.proto.GetStreamStatsRequest;
+import com.datastream.interfaces.grpc.proto.GetStreamStatsResponse;
 import com.datastream.interfaces.grpc.proto.ListStreamsRequest;
 import com.datastream.interfaces.grpc.proto.ListStreamsResponse;
+import com.datastream.interfaces.grpc.proto.PublishEventsRequest;
+import com.datastream.interfaces.grpc.proto.PublishEventsResponse;
 import com.datastream.interfaces.grpc.proto.PublishToStreamRequest;
 import com.datastream.interfaces.grpc.proto.PublishToStreamResponse;
+import com.datastream.interfaces.grpc.proto.QueryEventsRequest;
+import com.datastream.interfaces.grpc.proto.QueryEventsResponse;
 import com.datastream.interfaces.grpc.proto.StreamServiceGrpc;
 import com.datastream.interfaces.grpc.proto.StreamStatus;
 import com.datastream.interfaces.grpc.proto.SubscribeToStreamRequest;
 import com.datastream.interfaces.grpc.proto.UpdateStreamRequest;
 import com.datastream.interfaces.grpc.proto.UpdateStreamResponse;
+import io.grpc.Status;
 import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import net.devh.boot.grpc.server.service.GrpcService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -55,48 +89,78 @@ import java.util.concurrent.atomic.AtomicLong;
 @GrpcService
 public class StreamGrpcService extends StreamServiceGrpc.StreamServiceImplBase {
 
+    private static final Logger log = LoggerFactory.getLogger(StreamGrpcService.class);
+
     private final CreateStreamHandler createStreamHandler;
+    private final UpdateStreamHandler updateStreamHandler;
     private final ActivateStreamHandler activateStreamHandler;
     private final DeactivateStreamHandler deactivateStreamHandler;
-    private final UpdateStreamHandler updateStreamHandler;
     private final DeleteStreamHandler deleteStreamHandler;
     private final PublishEventHandler publishEventHandler;
     private final GetStreamHandler getStreamHandler;
     private final ListStreamsHandler listStreamsHandler;
+    private final ExportEventsHandler exportEventsHandler;
+    private final QueryEventsHandler queryEventsHandler;
+    private final BatchGetStreamsHandler batchGetStreamsHandler;
+    private final GetStreamStatsHandler getStreamStatsHandler;
     private final InMemoryStreamEventPublisher eventPublisher;
+    private final ExportProperties exportProperties;
+    private final EventMetrics eventMetrics;
+    private final EventLatencyRecorder latencyRecorder;
 
     /**
      * Creates the service with all required handler and publisher dependencies.
      *
      * @param createStreamHandler     handler for creating streams
-     * @param activateStreamHandler   handler for activating streams
-     * @param deactivateStreamHandler handler for deactivating streams
-     * @param updateStreamHandler     handler for updating stream config
+     * @param updateStreamHandler     handler for updating stream status and config
+     * @param activateStreamHandler   handler for status-only updates to {@code ACTIVE}
+     * @param deactivateStreamHandler handler for status-only updates to {@code INACTIVE}
      * @param deleteStreamHandler     handler for soft-deleting streams
      * @param publishEventHandler     handler for publishing data events
      * @param getStreamHandler        handler for fetching a single stream
      * @param listStreamsHandler      handler for listing streams
+     * @param exportEventsHandler     handler for bulk-exporting stream history
+     * @param queryEventsHandler      handler for metadata-filtered event queries
+     * @param batchGetStreamsHandler  handler for fetching several streams at once
+     * @param getStreamStatsHandler   handler for fetching stream statistics
      * @param eventPublisher          in-memory publisher for server-streaming subscriptions
+     * @param exportProperties        batching limits for the export RPC
+     * @param eventMetrics            hot-path metrics for events delivered to subscribers
+     * @param latencyRecorder         per-stage latency of events delivered to subscribers
      */
     public StreamGrpcService(
             CreateStreamHandler createStreamHandler,
+            UpdateStreamHandler updateStreamHandler,
             ActivateStreamHandler activateStreamHandler,
             DeactivateStreamHandler deactivateStreamHandler,
-            UpdateStreamHandler updateStreamHandler,
             DeleteStreamHandler deleteStreamHandler,
             PublishEventHandler publishEventHandler,
             GetStreamHandler getStreamHandler,
             ListStreamsHandler listStreamsHandler,
-            InMemoryStreamEventPublisher eventPublisher) {
+            ExportEventsHandler exportEventsHandler,
+            QueryEventsHandler queryEventsHandler,
+            BatchGetStreamsHandler batchGetStreamsHandler,
+            GetStreamStatsHandler getStreamStatsHandler,
+            InMemoryStreamEventPublisher eventPublisher,
+            ExportProperties exportProperties,
+            EventMetrics eventMetrics,
+            EventLatencyRecorder latencyRecorder) {
         this.createStreamHandler = Objects.requireNonNull(createStreamHandler);
+        this.updateStreamHandler = Objects.requireNonNull(updateStreamHandler);
         this.activateStreamHandler = Objects.requireNonNull(activateStreamHandler);
         this.deactivateStreamHandler = Objects.requireNonNull(deactivateStreamHandler);
-        this.updateStreamHandler = Objects.requireNonNull(updateStreamHandler);
         this.deleteStreamHandler = Objects.requireNonNull(deleteStreamHandler);
         this.publishEventHandler = Objects.requireNonNull(publishEventHandler);
         this.getStreamHandler = Objects.requireNonNull(getStreamHandler);
         this.listStreamsHandler = Objects.requireNonNull(listStreamsHandler);
+        this.exportEventsHandler = Objects.requireNonNull(exportEventsHandler);
+        this.queryEventsHandler = Objects.requireNonNull(queryEventsHandler);
+        this.batchGetStreamsHandler = Objects.requireNonNull(batchGetStreamsHandler);
+        this.getStreamStatsHandler = Objects.requireNonNull(getStreamStatsHandler);
         this.eventPublisher = Objects.requireNonNull(eventPublisher);
+        this.exportProperties = Objects.requireNonNull(exportProperties);
+        this.eventMetrics = Objects.requireNonNull(eventMetrics);
+        this.latencyRecorder = Objects.requireNonNull(latencyRecorder);
     }
 
     // -------------------------------------------------------------------------
@@ -137,6 +201,36 @@ public class StreamGrpcService extends StreamServiceGrpc.StreamServiceImplBase {
         responseObserver.onCompleted();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void batchGetStreams(BatchGetStreamsRequest request,
+                                StreamObserver<BatchGetStreamsResponse> responseObserver) {
+        StreamBatchResponse batch = batchGetStreamsHandler.handle(new BatchGetStreamsQuery(request.getIdsList()));
+
+        BatchGetStreamsResponse.Builder builder = BatchGetStreamsResponse.newBuilder()
+                .addAllMissingIds(batch.missingIds());
+        batch.streams().forEach(s -> builder.addStreams(StreamProtoMapper.toProtoStream(s)));
+
+        responseObserver.onNext(builder.build());
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void getStreamStats(GetStreamStatsRequest request,
+                               StreamObserver<GetStreamStatsResponse> responseObserver) {
+        StreamStatsResponse stats = getStreamStatsHandler.handle(new GetStreamStatsQuery(request.getStreamId()));
+
+        responseObserver.onNext(GetStreamStatsResponse.newBuilder()
+                .setStats(StreamProtoMapper.toProtoStreamStats(stats))
+                .build());
+        responseObserver.onCompleted();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -173,37 +267,61 @@ public class StreamGrpcService extends StreamServiceGrpc.StreamServiceImplBase {
         responseObserver.onCompleted();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void queryEvents(QueryEventsRequest request,
+                            StreamObserver<QueryEventsResponse> responseObserver) {
+        String streamId = request.getStreamId();
+
+        // Validate stream exists (throws StreamNotFoundException if missing)
+        getStreamHandler.handle(new GetStreamQuery(streamId));
+
+        QueryEventsQuery query = new QueryEventsQuery(
+                streamId,
+                request.getMetadataMap(),
+                request.hasFrom() ? StreamProtoMapper.toIsoInstant(request.getFrom()) : null,
+                request.hasTo() ? StreamProtoMapper.toIsoInstant(request.getTo()) : null,
+                request.getPage(),
+                request.getSize() > 0 ? request.getSize() : 20);
+
+        PagedResponse<DataEventResponse> paged = queryEventsHandler.handle(query);
+
+        QueryEventsResponse.Builder builder = QueryEventsResponse.newBuilder()
+                .setPagination(StreamProtoMapper.toProtoPagination(paged));
+        paged.content().forEach(e -> builder.addEvents(StreamProtoMapper.toProtoDataEvent(e)));
+
+        responseObserver.onNext(builder.build());
+        responseObserver.onCompleted();
+    }
+
     /**
      * {@inheritDoc}
      *
      * <p>Applies partial updates: if {@code status} is set, a lifecycle transition
-     * is performed first; if {@code name} is set, the config is updated. Both
-     * may be applied in a single call.
+     * is performed first; if {@code name} is set, the config is updated. Both are
+     * written in one versioned update, so they succeed or fail together; a
+     * concurrent modification fails the call with {@code ABORTED}. A request that only
+     * activates or deactivates the stream is applied as a single conditional update
+     * instead, without loading the stream first.
      */
     @Override
     public void updateStream(UpdateStreamRequest request,
                              StreamObserver<UpdateStreamResponse> responseObserver) {
-        String streamId = request.getId();
-
-        if (request.hasStatus()) {
-            switch (request.getStatus()) {
-                case STREAM_STATUS_ACTIVE ->
-                        activateStreamHandler.handle(new ActivateStreamCommand(streamId));
-                case STREAM_STATUS_INACTIVE ->
-                        deactivateStreamHandler.handle(new DeactivateStreamCommand(streamId));
-                case STREAM_STATUS_DELETED ->
-                        deleteStreamHandler.handle(new DeleteStreamCommand(streamId));
-                default -> throw new IllegalArgumentException(
-                        "Cannot transition to status: " + request.getStatus());
-            }
-        }
-
-        if (request.hasName()) {
-            String description = request.hasDescription() ? request.getDescription() : null;
-            updateStreamHandler.handle(new UpdateStreamCommand(streamId, request.getName(), description));
+        boolean statusOnly = request.hasStatus() && !request.hasName();
+        StreamResponse updated;
+        if (statusOnly && request.getStatus() == StreamStatus.STREAM_STATUS_ACTIVE) {
+            updated = activateStreamHandler.handle(new ActivateStreamCommand(request.getId()));
+        } else if (statusOnly && request.getStatus() == StreamStatus.STREAM_STATUS_INACTIVE) {
+            updated = deactivateStreamHandler.handle(new DeactivateStreamCommand(request.getId()));
+        } else {
+            updated = updateStreamHandler.handle(new UpdateStreamCommand(
+                    request.getId(),
+                    request.hasStatus() ? StreamProtoMapper.toDomainStreamStatusName(request.getStatus()) : null,
+                    request.hasName() ? request.getName() : null,
+                    request.hasDescription() ? request.getDescription() : null));
         }
-
-        StreamResponse updated = getStreamHandler.handle(new GetStreamQuery(streamId));
         responseObserver.onNext(UpdateStreamResponse.newBuilder()
                 .setStream(StreamProtoMapper.toProtoStream(updated))
                 .build());
@@ -225,17 +343,48 @@ public class StreamGrpcService extends StreamServiceGrpc.StreamServiceImplBase {
         responseObserver.onCompleted();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Publishes all events of the request through one repository write, which takes the
+     * bulk-load path for batches of at least {@code datastream.persistence.copy-threshold}
+     * events. Every target stream is validated first, so a rejected stream publishes nothing.
+     */
+    @Override
+    public void publishEvents(PublishEventsRequest request,
+                              StreamObserver<PublishEventsResponse> responseObserver) {
+        List<PublishEventCommand> commands = new ArrayList<>(request.getEventsCount());
+        for (PublishToStreamRequest event : request.getEventsList()) {
+            EventReceived received = new EventReceived();
+            received.begin();
+            PublishEventCommand command = new PublishEventCommand(
+                    event.getStreamId(), event.getPayload().toByteArray(), event.getMetadataMap());
+            received.commit(command.streamId(), command.payload().length);
+            commands.add(command);
+        }
+
+        List<DataEventResponse> published = publishEventHandler.handleAll(commands);
+
+        PublishEventsResponse.Builder builder = PublishEventsResponse.newBuilder()
+                .setEventsAccepted(published.size());
+        published.forEach(e -> builder.addEventIds(e.eventId()));
+        responseObserver.onNext(builder.build());
+        responseObserver.onCompleted();
+    }
+
     // -------------------------------------------------------------------------
-    // Server-streaming RPC
+    // Server-streaming RPCs
     // -------------------------------------------------------------------------
 
     /**
      * {@inheritDoc}
      *
      * <p>Subscribes the caller to live events published to the requested stream.
-     * Events are delivered in publish order on a virtual thread. The subscription
+     * Events are delivered in publish order on a virtual thread, and the time each
+     * spent queued and being sent is recorded per stream. The subscription
      * remains active until the client cancels or the server calls
-     * {@link StreamObserver#onCompleted()}.
+     * {@link StreamObserver#onCompleted()}. A subscription closed through the
+     * {@code AdminService} ends within one poll interval with {@code UNAVAILABLE}.
      */
     @Override
     public void subscribeToStream(SubscribeToStreamRequest request,
@@ -246,24 +395,101 @@ public class StreamGrpcService extends StreamServiceGrpc.StreamServiceImplBase {
         getStreamHandler.handle(new GetStreamQuery(streamId));
 
         LinkedBlockingQueue<DataEventResponse> queue = new LinkedBlockingQueue<>(1000);
-        eventPublisher.subscribe(streamId, queue);
+        Subscription subscription = eventPublisher.subscribe(
+                streamId, queue, RemoteAddressInterceptor.currentRemoteAddress());
 
         ServerCallStreamObserver<DataEvent> serverObserver =
                 (ServerCallStreamObserver<DataEvent>) responseObserver;
-        serverObserver.setOnCancelHandler(() -> eventPublisher.unsubscribe(streamId, queue));
+        serverObserver.setOnCancelHandler(() -> eventPublisher.unsubscribe(subscription));
 
         Thread.ofVirtual().name("subscribe-" + streamId).start(() -> {
             try {
-                while (!serverObserver.isCancelled()) {
+                while (!serverObserver.isCancelled() && !subscription.isClosed()) {
                     DataEventResponse event = queue.poll(500, TimeUnit.MILLISECONDS);
                     if (event != null && !serverObserver.isCancelled()) {
-                        responseObserver.onNext(StreamProtoMapper.toProtoDataEvent(event));
+                        deliver(subscription, event, responseObserver);
                     }
                 }
+                if (subscription.isClosed() && !serverObserver.isCancelled()) {
+                    responseObserver.onError(Status.UNAVAILABLE
+                            .withDescription("Subscription " + subscription.id() + " was closed by an administrator")
+                            .asRuntimeException());
+                }
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
             } finally {
-                eventPublisher.unsubscribe(streamId, queue);
+                eventPublisher.unsubscribe(subscription);
+            }
+        });
+    }
+
+    /**
+     * Sends one dequeued event to a subscriber and records its delivery.
+     *
+     * <p>Package-private so that the allocation budget tests can measure it on their own thread.
+     *
+     * @param subscription     the subscription the event was queued for
+     * @param event            the event
+     * @param responseObserver the subscriber's response stream
+     */
+    void deliver(Subscription subscription, DataEventResponse event, StreamObserver<DataEvent> responseObserver) {
+        long dequeued = System.nanoTime();
+        EventDelivered delivery = new EventDelivered();
+        delivery.begin();
+        responseObserver.onNext(StreamProtoMapper.toProtoDataEvent(event));
+        long delivered = System.nanoTime();
+        delivery.commit(subscription.streamId(), event.payload().length);
+        subscription.delivered();
+        eventMetrics.delivered(subscription.streamId(), event.payload().length);
+        latencyRecorder.delivered(event, dequeued, delivered);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Streams the stream's history, oldest first, from a single forward-only
+     * database cursor on a virtual thread. Events are grouped into batches of at
+     * most {@code datastream.export.max-batch-bytes} and each batch is only sent
+     * once the transport is ready, so memory use stays constant regardless of
+     * history size. Cancelling the call aborts the cursor.
+     *
+     * <p>The stream and the time range are checked before the export starts, so those
+     * errors are mapped like any other RPC's. A failure while streaming is translated
+     * with {@link GrpcExceptionInterceptor#toStatus}.
+     */
+    @Override
+    public void exportEvents(ExportEventsRequest request,
+                             StreamObserver<ExportEventsResponse> responseObserver) {
+        String streamId = request.getStreamId();
+
+        // Validate stream exists (throws StreamNotFoundException if missing)
+        getStreamHandler.handle(new GetStreamQuery(streamId));
+
+        ExportEventsQuery query = new ExportEventsQuery(
+                streamId,
+                request.hasFrom() ? StreamProtoMapper.toIsoInstant(request.getFrom()) : null,
+                request.hasTo() ? StreamProtoMapper.toIsoInstant(request.getTo()) : null);
+        exportEventsHandler.validate(query);
+
+        ServerCallStreamObserver<ExportEventsResponse> serverObserver =
+                (ServerCallStreamObserver<ExportEventsResponse>) responseObserver;
+        ExportBatchWriter writer = new ExportBatchWriter(serverObserver, exportProperties.maxBatchBytes());
+
+        Thread.ofVirtual().name("export-" + streamId).start(() -> {
+            try {
+                exportEventsHandler.handle(query,
+                        event -> writer.write(StreamProtoMapper.toProtoDataEvent(event)));
+                writer.complete();
+            } catch (CancellationException e) {
+                if (!serverObserver.isCancelled()) {
+                    // Interrupted, e.g. by shutdown, rather than cancelled by the client
+                    responseObserver.onError(Status.UNAVAILABLE
+                            .withDescription(e.getMessage())
+                            .asRuntimeException());
+                }
+            } catch (RuntimeException e) {
+                log.error("Export of stream {} failed", streamId, e);
+                responseObserver.onError(GrpcExceptionInterceptor.toStatus(e).asRuntimeException());
             }
         });
     }
@@ -275,9 +501,11 @@ public class StreamGrpcService extends StreamServiceGrpc.StreamServiceImplBase {
     /**
      * {@inheritDoc}
      *
-     * <p>Accepts a stream of publish requests from the client. Each request
-     * is processed by the {@link PublishEventHandler}. When the client closes
-     * the stream, the total accepted count is returned.
+     * <p>Accepts a stream of publish requests from the client. Each request is
+     * persisted and handed to subscribers as it arrives; when the client closes the
+     * stream, the total accepted count is returned. A request that fails, for an
+     * unknown or inactive stream, fails the call; the requests before it stay
+     * published.
      */
     @Override
     public StreamObserver<PublishToStreamRequest> publishToStream(
@@ -288,10 +516,14 @@ public class StreamGrpcService extends StreamServiceGrpc.StreamServiceImplBase {
         return new StreamObserver<>() {
             @Override
             public void onNext(PublishToStreamRequest request) {
-                publishEventHandler.handle(new PublishEventCommand(
+                EventReceived received = new EventReceived();
+                received.begin();
+                PublishEventCommand command = new PublishEventCommand(
                         request.getStreamId(),
                         request.getPayload().toByteArray(),
-                        request.getMetadataMap()));
+                        request.getMetadataMap());
+                received.commit(command.streamId(), command.payload().length);
+                publishEventHandler.handle(command);
                 acceptedCount.incrementAndGet();
             }
 
@@ -330,10 +562,14 @@ public class StreamGrpcService extends StreamServiceGrpc.StreamServiceImplBase {
         return new StreamObserver<>() {
             @Override
             public void onNext(DataEvent protoEvent) {
-                DataEventResponse saved = publishEventHandler.handle(new PublishEventCommand(
+                EventReceived received = new EventReceived();
+                received.begin();
+                PublishEventCommand command = new PublishEventCommand(
                         protoEvent.getStreamId(),
                         protoEvent.getPayload().toByteArray(),
-                        protoEvent.getMetadataMap()));
+                        protoEvent.getMetadataMap());
+                received.commit(command.streamId(), command.payload().length);
+                DataEventResponse saved = publishEventHandler.handle(command);
                 responseObserver.onNext(StreamProtoMapper.toProtoDataEvent(saved));
             }
 
@@ -3,9 +3,11 @@ package com.datastream.interfaces.grpc;
 import com.datastream.application.dto.DataEventResponse;
 import com.datastream.application.dto.PagedResponse;
 import com.datastream.application.dto.StreamResponse;
+import com.datastream.application.dto.StreamStatsResponse;
 import com.datastream.interfaces.grpc.proto.DataEvent;
 import com.datastream.interfaces.grpc.proto.Pagination;
 import com.datastream.interfaces.grpc.proto.Stream;
+import com.datastream.interfaces.grpc.proto.StreamStats;
 import com.datastream.interfaces.grpc.proto.StreamStatus;
 import com.datastream.interfaces.grpc.proto.StreamType;
 import com.google.protobuf.ByteString;
@@ -66,6 +68,29 @@ public final class StreamProtoMapper {
                 .build();
     }
 
+    /**
+     * Maps a {@link StreamStatsResponse} DTO to a {@link StreamStats} proto message.
+     *
+     * @param response the DTO to map; must not be null
+     * @return the corresponding proto message; first/last timestamps are unset when the stream has no events
+     */
+    public static StreamStats toProtoStreamStats(StreamStatsResponse response) {
+        StreamStats.Builder builder = StreamStats.newBuilder()
+                .setStreamId(response.streamId())
+                .setEventCount(response.eventCount())
+                .setTotalPayloadBytes(response.totalPayloadBytes())
+                .setEventsPerMinute(response.eventsPerMinute());
+
+        if (response.firstEventAt() != null) {
+            builder.setFirstEventAt(toProtoTimestamp(response.firstEventAt()));
+        }
+        if (response.lastEventAt() != null) {
+            builder.setLastEventAt(toProtoTimestamp(response.lastEventAt()));
+        }
+
+        return builder.build();
+    }
+
     /**
      * Maps a {@link PagedResponse} to a {@link Pagination} proto message.
      *
@@ -121,6 +146,17 @@ public final class StreamProtoMapper {
         };
     }
 
+    /**
+     * Converts a proto {@link Timestamp} to the ISO-8601 instant string used by
+     * the application layer (e.g. {@code "2026-03-01T12:00:00Z"}).
+     *
+     * @param timestamp the proto timestamp; must not be null
+     * @return the ISO-8601 representation
+     */
+    public static String toIsoInstant(Timestamp timestamp) {
+        return Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos()).toString();
+    }
+
     // -------------------------------------------------------------------------
     // Private helpers
     // -------------------------------------------------------------------------
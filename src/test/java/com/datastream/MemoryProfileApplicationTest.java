@@ -0,0 +1,38 @@
+package com.datastream;
+
+import com.datastream.domain.repository.DataEventRepository;
+import com.datastream.domain.repository.StreamRepository;
+import com.datastream.domain.repository.StreamStatsRepository;
+import com.datastream.infrastructure.persistence.memory.InMemoryDataEventRepository;
+import com.datastream.infrastructure.persistence.memory.InMemoryStreamRepository;
+import com.datastream.infrastructure.persistence.memory.InMemoryStreamStatsRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies the application context starts without a database under the {@code memory} profile.
+ */
+@SpringBootTest(properties = "grpc.server.port=0")
+@ActiveProfiles("memory")
+class MemoryProfileApplicationTest {
+
+    @Autowired
+    private StreamRepository streamRepository;
+
+    @Autowired
+    private DataEventRepository dataEventRepository;
+
+    @Autowired
+    private StreamStatsRepository streamStatsRepository;
+
+    @Test
+    void should_WireInMemoryRepositories_When_MemoryProfileActive() {
+        assertThat(streamRepository).isInstanceOf(InMemoryStreamRepository.class);
+        assertThat(dataEventRepository).isInstanceOf(InMemoryDataEventRepository.class);
+        assertThat(streamStatsRepository).isInstanceOf(InMemoryStreamStatsRepository.class);
+    }
+}
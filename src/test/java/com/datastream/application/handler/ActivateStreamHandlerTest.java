@@ -6,6 +6,7 @@ import com.datastream.domain.exception.InvalidStreamStateException;
 import com.datastream.domain.exception.StreamNotFoundException;
 import com.datastream.domain.model.Stream;
 import com.datastream.domain.model.StreamStatus;
+import com.datastream.domain.model.StreamTransition;
 import com.datastream.domain.model.StreamType;
 import com.datastream.domain.repository.StreamRepository;
 import com.datastream.domain.service.StreamDomainService;
@@ -19,12 +20,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,24 +49,24 @@ class ActivateStreamHandlerTest {
 
     @Test
     void should_ReturnActiveStreamResponse_When_ActivatingDraftStream() {
-        Stream draftStream = Stream.reconstitute(streamId, StreamName.of("Stream"), null,
-                UserId.of(UUID.randomUUID()), StreamType.EVENT, StreamStatus.DRAFT,
+        Stream activated = Stream.reconstitute(streamId, StreamName.of("Stream"), null,
+                UserId.of(UUID.randomUUID()), StreamType.EVENT, StreamStatus.ACTIVE,
                 Instant.now(), Instant.now());
-        when(streamDomainService.getStreamOrThrow(streamId)).thenReturn(draftStream);
-        when(streamRepository.save(any(Stream.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(streamRepository.transition(streamId, StreamTransition.ACTIVATE)).thenReturn(Optional.of(activated));
 
         StreamResponse response = handler.handle(new ActivateStreamCommand(streamId.value().toString()));
 
         assertThat(response.status()).isEqualTo("ACTIVE");
+        verify(streamRepository, never()).save(any(Stream.class));
+        verifyNoInteractions(streamDomainService);
     }
 
     @Test
     void should_ReturnActiveStreamResponse_When_ActivatingInactiveStream() {
-        Stream inactiveStream = Stream.reconstitute(streamId, StreamName.of("Stream"), null,
-                UserId.of(UUID.randomUUID()), StreamType.LOG, StreamStatus.INACTIVE,
+        Stream activated = Stream.reconstitute(streamId, StreamName.of("Stream"), null,
+                UserId.of(UUID.randomUUID()), StreamType.LOG, StreamStatus.ACTIVE,
                 Instant.now(), Instant.now());
-        when(streamDomainService.getStreamOrThrow(streamId)).thenReturn(inactiveStream);
-        when(streamRepository.save(any(Stream.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(streamRepository.transition(streamId, StreamTransition.ACTIVATE)).thenReturn(Optional.of(activated));
 
         StreamResponse response = handler.handle(new ActivateStreamCommand(streamId.value().toString()));
 
@@ -0,0 +1,116 @@
+package com.datastream.application.handler;
+
+import com.datastream.application.dto.StreamBatchResponse;
+import com.datastream.application.dto.StreamResponse;
+import com.datastream.application.query.BatchGetStreamsQuery;
+import com.datastream.domain.model.Stream;
+import com.datastream.domain.model.StreamStatus;
+import com.datastream.domain.model.StreamType;
+import com.datastream.domain.repository.StreamRepository;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.domain.valueobjects.StreamName;
+import com.datastream.domain.valueobjects.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BatchGetStreamsHandlerTest {
+
+    @Mock StreamRepository streamRepository;
+
+    private BatchGetStreamsHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new BatchGetStreamsHandler(streamRepository);
+    }
+
+    @Test
+    void should_SplitFoundAndMissing_When_SomeIdsExist() {
+        Stream first = buildStream();
+        Stream second = buildStream();
+        String missing = UUID.randomUUID().toString();
+        when(streamRepository.findAllById(any())).thenReturn(List.of(second, first));
+
+        StreamBatchResponse response = handler.handle(new BatchGetStreamsQuery(List.of(
+                id(first), missing, id(second))));
+
+        assertThat(response.streams()).extracting(StreamResponse::id).containsExactly(id(first), id(second));
+        assertThat(response.missingIds()).containsExactly(missing);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_QueryEachIdOnce_When_IdsAreDuplicated() {
+        Stream stream = buildStream();
+        when(streamRepository.findAllById(any())).thenReturn(List.of(stream));
+
+        StreamBatchResponse response = handler.handle(new BatchGetStreamsQuery(List.of(id(stream), id(stream))));
+
+        ArgumentCaptor<Collection<StreamId>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(streamRepository).findAllById(captor.capture());
+        assertThat(captor.getValue()).containsExactly(stream.getId());
+        assertThat(response.streams()).hasSize(1);
+    }
+
+    @Test
+    void should_ReturnEmptyResponseWithoutQuerying_When_NoIdsRequested() {
+        StreamBatchResponse response = handler.handle(new BatchGetStreamsQuery(List.of()));
+
+        assertThat(response.streams()).isEmpty();
+        assertThat(response.missingIds()).isEmpty();
+        verifyNoInteractions(streamRepository);
+    }
+
+    @Test
+    void should_ThrowIllegalArgumentException_When_TooManyIdsRequested() {
+        List<String> ids = IntStream.rangeClosed(0, BatchGetStreamsHandler.MAX_IDS)
+                .mapToObj(i -> UUID.randomUUID().toString())
+                .toList();
+
+        assertThatThrownBy(() -> handler.handle(new BatchGetStreamsQuery(ids)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(String.valueOf(BatchGetStreamsHandler.MAX_IDS));
+        verifyNoInteractions(streamRepository);
+    }
+
+    @Test
+    void should_ThrowIllegalArgumentException_When_IdIsMalformed() {
+        assertThatThrownBy(() -> handler.handle(new BatchGetStreamsQuery(List.of("not-a-uuid"))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_ThrowNullPointerException_When_QueryIsNull() {
+        assertThatThrownBy(() -> handler.handle(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    private static Stream buildStream() {
+        return Stream.reconstitute(
+                StreamId.generate(), StreamName.of("Test Stream"), null,
+                UserId.of(UUID.randomUUID()), StreamType.EVENT, StreamStatus.ACTIVE,
+                Instant.now(), Instant.now());
+    }
+
+    private static String id(Stream stream) {
+        return stream.getId().value().toString();
+    }
+}
@@ -7,7 +7,6 @@ import com.datastream.domain.model.Stream;
 import com.datastream.domain.model.StreamStatus;
 import com.datastream.domain.model.StreamType;
 import com.datastream.domain.repository.StreamRepository;
-import com.datastream.domain.service.StreamDomainService;
 import com.datastream.domain.valueobjects.StreamName;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,14 +20,12 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class CreateStreamHandlerTest {
 
-    @Mock StreamDomainService streamDomainService;
     @Mock StreamRepository streamRepository;
 
     private CreateStreamHandler handler;
@@ -36,13 +33,13 @@ class CreateStreamHandlerTest {
 
     @BeforeEach
     void setUp() {
-        handler = new CreateStreamHandler(streamDomainService, streamRepository);
+        handler = new CreateStreamHandler(streamRepository);
     }
 
     @Test
     void should_ReturnStreamResponse_When_ValidCommandProvided() {
         CreateStreamCommand command = new CreateStreamCommand("My Stream", "desc", ownerId, "EVENT");
-        when(streamRepository.save(any(Stream.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(streamRepository.insert(any(Stream.class))).thenAnswer(inv -> inv.getArgument(0));
 
         StreamResponse response = handler.handle(command);
 
@@ -56,12 +53,12 @@ class CreateStreamHandlerTest {
     @Test
     void should_PersistStreamWithCorrectFields_When_ValidCommandProvided() {
         CreateStreamCommand command = new CreateStreamCommand("Events", null, ownerId, "LOG");
-        when(streamRepository.save(any(Stream.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(streamRepository.insert(any(Stream.class))).thenAnswer(inv -> inv.getArgument(0));
 
         handler.handle(command);
 
         ArgumentCaptor<Stream> captor = ArgumentCaptor.forClass(Stream.class);
-        verify(streamRepository).save(captor.capture());
+        verify(streamRepository).insert(captor.capture());
         Stream saved = captor.getValue();
         assertThat(saved.getName().value()).isEqualTo("Events");
         assertThat(saved.getStreamType()).isEqualTo(StreamType.LOG);
@@ -71,8 +68,8 @@ class CreateStreamHandlerTest {
     @Test
     void should_ThrowStreamAlreadyExistsException_When_NameAlreadyExists() {
         CreateStreamCommand command = new CreateStreamCommand("Duplicate", null, ownerId, "EVENT");
-        doThrow(new StreamAlreadyExistsException(StreamName.of("Duplicate")))
-                .when(streamDomainService).validateStreamNameUnique(any(StreamName.class));
+        when(streamRepository.insert(any(Stream.class)))
+                .thenThrow(new StreamAlreadyExistsException(StreamName.of("Duplicate")));
 
         assertThatThrownBy(() -> handler.handle(command))
                 .isInstanceOf(StreamAlreadyExistsException.class)
@@ -1,10 +1,12 @@
 package com.datastream.application.handler;
 
 import com.datastream.application.command.DeactivateStreamCommand;
+import com.datastream.application.dto.StreamResponse;
 import com.datastream.domain.exception.InvalidStreamStateException;
 import com.datastream.domain.exception.StreamNotFoundException;
 import com.datastream.domain.model.Stream;
 import com.datastream.domain.model.StreamStatus;
+import com.datastream.domain.model.StreamTransition;
 import com.datastream.domain.model.StreamType;
 import com.datastream.domain.repository.StreamRepository;
 import com.datastream.domain.service.StreamDomainService;
@@ -18,13 +20,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 
-import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,16 +49,16 @@ class DeactivateStreamHandlerTest {
 
     @Test
     void should_DeactivateStream_When_StreamIsActive() {
-        Stream activeStream = Stream.reconstitute(streamId, StreamName.of("Stream"), null,
-                UserId.of(UUID.randomUUID()), StreamType.EVENT, StreamStatus.ACTIVE,
+        Stream transitioned = Stream.reconstitute(streamId, StreamName.of("Stream"), null,
+                UserId.of(UUID.randomUUID()), StreamType.EVENT, StreamStatus.INACTIVE,
                 Instant.now(), Instant.now());
-        when(streamDomainService.getStreamOrThrow(streamId)).thenReturn(activeStream);
-        when(streamRepository.save(any(Stream.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(streamRepository.transition(streamId, StreamTransition.DEACTIVATE)).thenReturn(Optional.of(transitioned));
 
-        assertThatNoException().isThrownBy(
-                () -> handler.handle(new DeactivateStreamCommand(streamId.value().toString())));
+        StreamResponse response = handler.handle(new DeactivateStreamCommand(streamId.value().toString()));
 
-        verify(streamRepository).save(activeStream);
+        assertThat(response.status()).isEqualTo("INACTIVE");
+        verify(streamRepository, never()).save(any(Stream.class));
+        verifyNoInteractions(streamDomainService);
     }
 
     @Test
@@ -5,6 +5,7 @@ import com.datastream.domain.exception.InvalidStreamStateException;
 import com.datastream.domain.exception.StreamNotFoundException;
 import com.datastream.domain.model.Stream;
 import com.datastream.domain.model.StreamStatus;
+import com.datastream.domain.model.StreamTransition;
 import com.datastream.domain.model.StreamType;
 import com.datastream.domain.repository.StreamRepository;
 import com.datastream.domain.service.StreamDomainService;
@@ -18,13 +19,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,31 +48,29 @@ class DeleteStreamHandlerTest {
 
     @Test
     void should_SoftDeleteStream_When_ValidCommandProvided() {
-        Stream activeStream = Stream.reconstitute(streamId, StreamName.of("Stream"), null,
-                UserId.of(UUID.randomUUID()), StreamType.EVENT, StreamStatus.ACTIVE,
+        Stream transitioned = Stream.reconstitute(streamId, StreamName.of("Stream"), null,
+                UserId.of(UUID.randomUUID()), StreamType.EVENT, StreamStatus.DELETED,
                 Instant.now(), Instant.now());
-        when(streamDomainService.getStreamOrThrow(streamId)).thenReturn(activeStream);
-        when(streamRepository.save(any(Stream.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(streamRepository.transition(streamId, StreamTransition.DELETE)).thenReturn(Optional.of(transitioned));
 
         assertThatNoException().isThrownBy(
                 () -> handler.handle(new DeleteStreamCommand(streamId.value().toString())));
 
-        verify(streamRepository).save(activeStream);
+        verify(streamRepository, never()).save(any(Stream.class));
+        verifyNoInteractions(streamDomainService);
     }
 
     @Test
-    void should_SetStatusToDeleted_When_SoftDeleteSucceeds() {
-        Stream draftStream = Stream.reconstitute(streamId, StreamName.of("Stream"), null,
-                UserId.of(UUID.randomUUID()), StreamType.EVENT, StreamStatus.DRAFT,
+    void should_ThrowInvalidStreamStateException_When_ConditionalDeleteMatchesNothing() {
+        Stream deletedStream = Stream.reconstitute(streamId, StreamName.of("Stream"), null,
+                UserId.of(UUID.randomUUID()), StreamType.EVENT, StreamStatus.DELETED,
                 Instant.now(), Instant.now());
-        when(streamDomainService.getStreamOrThrow(streamId)).thenReturn(draftStream);
-        when(streamRepository.save(any(Stream.class))).thenAnswer(inv -> inv.getArgument(0));
-
-        handler.handle(new DeleteStreamCommand(streamId.value().toString()));
+        when(streamRepository.transition(streamId, StreamTransition.DELETE)).thenReturn(Optional.empty());
+        when(streamDomainService.getStreamOrThrow(streamId)).thenReturn(deletedStream);
 
-        assertThatThrownBy(draftStream::softDelete)
+        assertThatThrownBy(() -> handler.handle(new DeleteStreamCommand(streamId.value().toString())))
                 .isInstanceOf(InvalidStreamStateException.class)
-                .hasMessageContaining("DELETED");
+                .hasMessage("Stream is already in DELETED status");
     }
 
     @Test
@@ -0,0 +1,98 @@
+package com.datastream.application.handler;
+
+import com.datastream.application.dto.DataEventResponse;
+import com.datastream.application.query.ExportEventsQuery;
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.repository.DataEventRepository;
+import com.datastream.domain.valueobjects.EventPayload;
+import com.datastream.domain.valueobjects.StreamId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ExportEventsHandlerTest {
+
+    @Mock DataEventRepository dataEventRepository;
+
+    private ExportEventsHandler handler;
+    private StreamId streamId;
+
+    @BeforeEach
+    void setUp() {
+        handler = new ExportEventsHandler(dataEventRepository);
+        streamId = StreamId.of(UUID.randomUUID());
+    }
+
+    @Test
+    void should_PassEveryEventToSink_When_RepositoryStreamsEvents() {
+        DataEvent e1 = DataEvent.create(streamId, EventPayload.of("a".getBytes()), Collections.emptyMap());
+        DataEvent e2 = DataEvent.create(streamId, EventPayload.of("b".getBytes()), Collections.emptyMap());
+        doAnswer(inv -> {
+            Consumer<DataEvent> consumer = inv.getArgument(3);
+            consumer.accept(e1);
+            consumer.accept(e2);
+            return null;
+        }).when(dataEventRepository).forEachByStreamId(eq(streamId), isNull(), isNull(), any());
+
+        List<DataEventResponse> received = new ArrayList<>();
+        long count = handler.handle(new ExportEventsQuery(streamId.value().toString(), null, null), received::add);
+
+        assertThat(count).isEqualTo(2L);
+        assertThat(received).extracting(DataEventResponse::eventId)
+                .containsExactly(e1.getEventId().toString(), e2.getEventId().toString());
+    }
+
+    @Test
+    void should_ParseTimeRange_When_BoundsProvided() {
+        Instant from = Instant.parse("2026-03-01T00:00:00Z");
+        Instant to = Instant.parse("2026-03-02T00:00:00Z");
+
+        long count = handler.handle(
+                new ExportEventsQuery(streamId.value().toString(), from.toString(), to.toString()), e -> { });
+
+        assertThat(count).isZero();
+        verify(dataEventRepository).forEachByStreamId(eq(streamId), eq(from), eq(to), any());
+    }
+
+    @Test
+    void should_ThrowIllegalArgumentException_When_StreamIdIsMalformed() {
+        assertThatThrownBy(() -> handler.handle(new ExportEventsQuery("not-a-uuid", null, null), e -> { }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_RejectQueryWithoutReading_When_FromIsAfterTo() {
+        ExportEventsQuery query = new ExportEventsQuery(streamId.value().toString(),
+                "2026-03-02T00:00:00Z", "2026-03-01T00:00:00Z");
+
+        assertThatThrownBy(() -> handler.validate(query))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("from must not be after to");
+        verifyNoInteractions(dataEventRepository);
+    }
+
+    @Test
+    void should_ThrowNullPointerException_When_QueryIsNull() {
+        assertThatThrownBy(() -> handler.handle(null, e -> { }))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
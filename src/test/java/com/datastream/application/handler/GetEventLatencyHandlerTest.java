@@ -0,0 +1,62 @@
+package com.datastream.application.handler;
+
+import com.datastream.application.dto.EventLatencyResponse;
+import com.datastream.application.port.EventLatencyRecorder;
+import com.datastream.application.query.GetEventLatencyQuery;
+import com.datastream.domain.exception.StreamNotFoundException;
+import com.datastream.domain.service.StreamDomainService;
+import com.datastream.domain.valueobjects.StreamId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetEventLatencyHandlerTest {
+
+    @Mock StreamDomainService streamDomainService;
+    @Mock EventLatencyRecorder latencyRecorder;
+
+    private GetEventLatencyHandler handler;
+    private StreamId streamId;
+
+    @BeforeEach
+    void setUp() {
+        handler = new GetEventLatencyHandler(streamDomainService, latencyRecorder);
+        streamId = StreamId.generate();
+    }
+
+    @Test
+    void should_ReturnRecordedLatency_When_StreamExists() {
+        String id = streamId.value().toString();
+        EventLatencyResponse latency = new EventLatencyResponse(id, List.of());
+        when(latencyRecorder.snapshot(id, true)).thenReturn(latency);
+
+        EventLatencyResponse response = handler.handle(new GetEventLatencyQuery(id, true));
+
+        assertThat(response).isSameAs(latency);
+    }
+
+    @Test
+    void should_ThrowStreamNotFoundException_When_StreamDoesNotExist() {
+        when(streamDomainService.getStreamOrThrow(streamId)).thenThrow(new StreamNotFoundException("not found"));
+
+        assertThatThrownBy(() -> handler.handle(new GetEventLatencyQuery(streamId.value().toString(), false)))
+                .isInstanceOf(StreamNotFoundException.class);
+        verifyNoInteractions(latencyRecorder);
+    }
+
+    @Test
+    void should_ThrowNullPointerException_When_QueryIsNull() {
+        assertThatThrownBy(() -> handler.handle(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
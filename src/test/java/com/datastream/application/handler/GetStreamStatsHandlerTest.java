@@ -0,0 +1,87 @@
+package com.datastream.application.handler;
+
+import com.datastream.application.dto.StreamStatsResponse;
+import com.datastream.application.port.StreamStatsRecorder;
+import com.datastream.application.query.GetStreamStatsQuery;
+import com.datastream.domain.exception.StreamNotFoundException;
+import com.datastream.domain.model.StreamStats;
+import com.datastream.domain.repository.StreamStatsRepository;
+import com.datastream.domain.service.StreamDomainService;
+import com.datastream.domain.valueobjects.StreamId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetStreamStatsHandlerTest {
+
+    private static final Instant T0 = Instant.parse("2026-03-01T12:00:00Z");
+
+    @Mock StreamDomainService streamDomainService;
+    @Mock StreamStatsRepository streamStatsRepository;
+    @Mock StreamStatsRecorder streamStatsRecorder;
+
+    private GetStreamStatsHandler handler;
+    private StreamId streamId;
+
+    @BeforeEach
+    void setUp() {
+        handler = new GetStreamStatsHandler(streamDomainService, streamStatsRepository, streamStatsRecorder);
+        streamId = StreamId.generate();
+    }
+
+    @Test
+    void should_CombinePersistedAndPendingStats_When_StreamExists() {
+        when(streamStatsRepository.findByStreamId(streamId))
+                .thenReturn(Optional.of(new StreamStats(streamId, 10, 100, T0, T0.plusSeconds(120))));
+        when(streamStatsRecorder.pending(streamId))
+                .thenReturn(new StreamStats(streamId, 2, 20, T0.plusSeconds(150), T0.plusSeconds(180)));
+
+        StreamStatsResponse response = handler.handle(new GetStreamStatsQuery(streamId.value().toString()));
+
+        assertThat(response.streamId()).isEqualTo(streamId.value().toString());
+        assertThat(response.eventCount()).isEqualTo(12);
+        assertThat(response.totalPayloadBytes()).isEqualTo(120);
+        assertThat(response.firstEventAt()).isEqualTo("2026-03-01T12:00:00Z");
+        assertThat(response.lastEventAt()).isEqualTo("2026-03-01T12:03:00Z");
+        assertThat(response.eventsPerMinute()).isEqualTo(4.0);
+    }
+
+    @Test
+    void should_ReturnZeroedStats_When_StreamHasNoEvents() {
+        when(streamStatsRepository.findByStreamId(streamId)).thenReturn(Optional.empty());
+        when(streamStatsRecorder.pending(streamId)).thenReturn(StreamStats.empty(streamId));
+
+        StreamStatsResponse response = handler.handle(new GetStreamStatsQuery(streamId.value().toString()));
+
+        assertThat(response.eventCount()).isZero();
+        assertThat(response.firstEventAt()).isNull();
+        assertThat(response.lastEventAt()).isNull();
+        assertThat(response.eventsPerMinute()).isZero();
+    }
+
+    @Test
+    void should_ThrowStreamNotFoundException_When_StreamDoesNotExist() {
+        when(streamDomainService.getStreamOrThrow(streamId)).thenThrow(new StreamNotFoundException("not found"));
+
+        assertThatThrownBy(() -> handler.handle(new GetStreamStatsQuery(streamId.value().toString())))
+                .isInstanceOf(StreamNotFoundException.class);
+        verifyNoInteractions(streamStatsRepository, streamStatsRecorder);
+    }
+
+    @Test
+    void should_ThrowNullPointerException_When_QueryIsNull() {
+        assertThatThrownBy(() -> handler.handle(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -2,7 +2,11 @@ package com.datastream.application.handler;
 
 import com.datastream.application.command.PublishEventCommand;
 import com.datastream.application.dto.DataEventResponse;
+import com.datastream.application.port.EventLatencyRecorder;
+import com.datastream.application.port.EventMetrics;
+import com.datastream.application.port.EventTracer;
 import com.datastream.application.port.StreamEventPublisher;
+import com.datastream.application.port.StreamStatsRecorder;
 import com.datastream.domain.exception.InvalidStreamStateException;
 import com.datastream.domain.exception.StreamNotFoundException;
 import com.datastream.domain.model.DataEvent;
@@ -17,14 +21,21 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -34,6 +45,11 @@ class PublishEventHandlerTest {
     @Mock StreamDomainService streamDomainService;
     @Mock DataEventRepository dataEventRepository;
     @Mock StreamEventPublisher eventPublisher;
+    @Mock StreamStatsRecorder statsRecorder;
+    @Mock EventMetrics metrics;
+    @Mock EventLatencyRecorder latencyRecorder;
+    @Mock EventTracer tracer;
+    @Mock EventTracer.Span span;
 
     private PublishEventHandler handler;
     private PublishEventHandler handlerWithoutPublisher;
@@ -41,8 +57,12 @@ class PublishEventHandlerTest {
 
     @BeforeEach
     void setUp() {
-        handler = new PublishEventHandler(streamDomainService, dataEventRepository, eventPublisher);
-        handlerWithoutPublisher = new PublishEventHandler(streamDomainService, dataEventRepository, null);
+        handler = new PublishEventHandler(streamDomainService, dataEventRepository, eventPublisher,
+                statsRecorder, metrics, latencyRecorder, tracer);
+        lenient().when(tracer.validating(any(), anyInt())).thenReturn(EventTracer.Span.NONE);
+        lenient().when(tracer.persisting(any(), anyInt(), anyLong())).thenReturn(EventTracer.Span.NONE);
+        handlerWithoutPublisher = new PublishEventHandler(
+                streamDomainService, dataEventRepository, null, null, null, null, null);
         streamIdStr = UUID.randomUUID().toString();
     }
 
@@ -93,6 +113,65 @@ class PublishEventHandlerTest {
         verify(eventPublisher, never()).publish(any());
     }
 
+    @Test
+    void should_RecordStats_When_EventIsPersisted() {
+        when(dataEventRepository.save(any(DataEvent.class))).thenAnswer(inv -> inv.getArgument(0));
+        PublishEventCommand command = new PublishEventCommand(streamIdStr, "data".getBytes(), Collections.emptyMap());
+
+        handler.handle(command);
+
+        ArgumentCaptor<DataEvent> captor = ArgumentCaptor.forClass(DataEvent.class);
+        verify(statsRecorder).record(captor.capture());
+        assertThat(captor.getValue().getPayload().size()).isEqualTo(4);
+    }
+
+    @Test
+    void should_RecordWriteAndPublishedEvent_When_EventIsPersisted() {
+        when(dataEventRepository.save(any(DataEvent.class))).thenAnswer(inv -> inv.getArgument(0));
+        PublishEventCommand command = new PublishEventCommand(streamIdStr, "data".getBytes(), Collections.emptyMap());
+
+        handler.handle(command);
+
+        verify(metrics).persisted(eq(1), anyLong());
+        verify(metrics).published(streamIdStr, 4);
+    }
+
+    @Test
+    void should_StampStagesInOrder_When_EventIsPublished() {
+        when(dataEventRepository.save(any(DataEvent.class))).thenAnswer(inv -> inv.getArgument(0));
+        PublishEventCommand command = new PublishEventCommand(streamIdStr, "data".getBytes(), Collections.emptyMap());
+
+        DataEventResponse response = handler.handle(command);
+
+        assertThat(response.isTimed()).isTrue();
+        assertThat(response.receivedNanos()).isEqualTo(command.receivedNanos());
+        assertThat(response.persistedNanos() - response.receivedNanos()).isNotNegative();
+        assertThat(response.publishedNanos() - response.persistedNanos()).isNotNegative();
+        verify(latencyRecorder).published(response);
+    }
+
+    @Test
+    void should_CommitValidateAndPersistSpans_When_EventIsPublished() {
+        when(dataEventRepository.save(any(DataEvent.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(tracer.validating(streamIdStr, 4)).thenReturn(span);
+        when(tracer.persisting(streamIdStr, 1, 4)).thenReturn(span);
+
+        handler.handle(new PublishEventCommand(streamIdStr, "data".getBytes(), Collections.emptyMap()));
+
+        verify(span, times(2)).commit();
+    }
+
+    @Test
+    void should_NotRecordStats_When_StreamIsInactive() {
+        doThrow(new InvalidStreamStateException("Stream is not ACTIVE"))
+                .when(streamDomainService).validateStreamIsActive(any(StreamId.class));
+        PublishEventCommand command = new PublishEventCommand(streamIdStr, "data".getBytes(), Collections.emptyMap());
+
+        assertThatThrownBy(() -> handler.handle(command)).isInstanceOf(InvalidStreamStateException.class);
+
+        verify(statsRecorder, never()).record(any());
+    }
+
     @Test
     void should_ThrowInvalidStreamStateException_When_StreamIsInactive() {
         doThrow(new InvalidStreamStateException("Stream is not ACTIVE"))
@@ -114,6 +193,60 @@ class PublishEventHandlerTest {
                 .isInstanceOf(StreamNotFoundException.class);
     }
 
+    // -------------------------------------------------------------------------
+    // handleAll
+    // -------------------------------------------------------------------------
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_PersistInOneCallAndValidateEachStreamOnce_When_HandleAllCalled() {
+        when(dataEventRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
+        List<PublishEventCommand> commands = List.of(
+                new PublishEventCommand(streamIdStr, "a".getBytes(), Map.of()),
+                new PublishEventCommand(streamIdStr, "b".getBytes(), Map.of()),
+                new PublishEventCommand(streamIdStr, "c".getBytes(), Map.of()));
+
+        List<DataEventResponse> responses = handler.handleAll(commands);
+
+        assertThat(responses).extracting(r -> new String(r.payload())).containsExactly("a", "b", "c");
+        verify(streamDomainService, times(1)).validateStreamIsActive(any(StreamId.class));
+        ArgumentCaptor<List<DataEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(dataEventRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(3);
+        verify(dataEventRepository, never()).save(any());
+        verify(statsRecorder, times(3)).record(any());
+        verify(eventPublisher, times(3)).publish(any());
+        verify(metrics).persisted(eq(3), anyLong());
+        verify(metrics, times(3)).published(streamIdStr, 1);
+    }
+
+    @Test
+    void should_PersistNothing_When_AnyStreamOfBatchIsInactive() {
+        String inactiveId = UUID.randomUUID().toString();
+        StreamId inactive = StreamId.of(UUID.fromString(inactiveId));
+        doAnswer(inv -> {
+            if (inactive.equals(inv.getArgument(0))) {
+                throw new InvalidStreamStateException("Stream is not ACTIVE");
+            }
+            return null;
+        }).when(streamDomainService).validateStreamIsActive(any(StreamId.class));
+        List<PublishEventCommand> commands = List.of(
+                new PublishEventCommand(streamIdStr, "a".getBytes(), Map.of()),
+                new PublishEventCommand(inactiveId, "b".getBytes(), Map.of()));
+
+        assertThatThrownBy(() -> handler.handleAll(commands)).isInstanceOf(InvalidStreamStateException.class);
+
+        verify(dataEventRepository, never()).saveAll(any());
+        verify(eventPublisher, never()).publish(any());
+    }
+
+    @Test
+    void should_ReturnEmptyList_When_HandleAllCalledWithNoCommands() {
+        assertThat(handler.handleAll(List.of())).isEmpty();
+
+        verify(dataEventRepository, never()).saveAll(any());
+    }
+
     @Test
     void should_ThrowNullPointerException_When_CommandIsNull() {
         assertThatThrownBy(() -> handler.handle(null))
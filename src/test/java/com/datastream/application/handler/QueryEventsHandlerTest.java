@@ -0,0 +1,98 @@
+package com.datastream.application.handler;
+
+import com.datastream.application.dto.DataEventResponse;
+import com.datastream.application.dto.PagedResponse;
+import com.datastream.application.query.QueryEventsQuery;
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.model.DataEventFilter;
+import com.datastream.domain.model.Page;
+import com.datastream.domain.repository.DataEventRepository;
+import com.datastream.domain.valueobjects.EventPayload;
+import com.datastream.domain.valueobjects.StreamId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QueryEventsHandlerTest {
+
+    @Mock DataEventRepository dataEventRepository;
+
+    private QueryEventsHandler handler;
+    private StreamId streamId;
+
+    @BeforeEach
+    void setUp() {
+        handler = new QueryEventsHandler(dataEventRepository);
+        streamId = StreamId.of(UUID.randomUUID());
+    }
+
+    @Test
+    void should_ReturnPagedResponse_When_EventsMatch() {
+        DataEvent event = DataEvent.create(streamId, EventPayload.of("a".getBytes()), Map.of("region", "eu"));
+        when(dataEventRepository.findByStreamId(eq(streamId), any(DataEventFilter.class), anyInt(), anyInt()))
+                .thenReturn(new Page<>(List.of(event), 0, 10, 1L));
+
+        PagedResponse<DataEventResponse> response = handler.handle(new QueryEventsQuery(
+                streamId.value().toString(), Map.of("region", "eu"), null, null, 0, 10));
+
+        assertThat(response.content()).extracting(DataEventResponse::eventId)
+                .containsExactly(event.getEventId().toString());
+        assertThat(response.totalElements()).isEqualTo(1L);
+        assertThat(response.totalPages()).isEqualTo(1);
+    }
+
+    @Test
+    void should_PassFilterToRepository_When_CriteriaProvided() {
+        Instant from = Instant.parse("2026-03-01T00:00:00Z");
+        Instant to = Instant.parse("2026-03-02T00:00:00Z");
+        when(dataEventRepository.findByStreamId(eq(streamId), any(DataEventFilter.class), anyInt(), anyInt()))
+                .thenReturn(new Page<>(Collections.emptyList(), 2, 5, 0L));
+
+        handler.handle(new QueryEventsQuery(
+                streamId.value().toString(), Map.of("source", "sensor-01"), from.toString(), to.toString(), 2, 5));
+
+        ArgumentCaptor<DataEventFilter> captor = ArgumentCaptor.forClass(DataEventFilter.class);
+        verify(dataEventRepository).findByStreamId(eq(streamId), captor.capture(), eq(2), eq(5));
+        assertThat(captor.getValue()).isEqualTo(new DataEventFilter(Map.of("source", "sensor-01"), from, to));
+    }
+
+    @Test
+    void should_PassEmptyFilter_When_NoCriteriaProvided() {
+        when(dataEventRepository.findByStreamId(eq(streamId), any(DataEventFilter.class), anyInt(), anyInt()))
+                .thenReturn(new Page<>(Collections.emptyList(), 0, 10, 0L));
+
+        handler.handle(new QueryEventsQuery(streamId.value().toString(), null, null, null, 0, 10));
+
+        verify(dataEventRepository).findByStreamId(streamId, DataEventFilter.empty(), 0, 10);
+    }
+
+    @Test
+    void should_ThrowIllegalArgumentException_When_StreamIdIsMalformed() {
+        assertThatThrownBy(() -> handler.handle(new QueryEventsQuery("not-a-uuid", null, null, null, 0, 10)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_ThrowNullPointerException_When_QueryIsNull() {
+        assertThatThrownBy(() -> handler.handle(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
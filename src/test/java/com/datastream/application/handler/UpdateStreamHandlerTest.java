@@ -2,7 +2,9 @@ package com.datastream.application.handler;
 
 import com.datastream.application.command.UpdateStreamCommand;
 import com.datastream.application.dto.StreamResponse;
+import com.datastream.domain.exception.ConcurrentStreamModificationException;
 import com.datastream.domain.exception.InvalidStreamOperationException;
+import com.datastream.domain.exception.InvalidStreamStateException;
 import com.datastream.domain.exception.StreamNotFoundException;
 import com.datastream.domain.model.Stream;
 import com.datastream.domain.model.StreamStatus;
@@ -25,6 +27,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,7 +55,7 @@ class UpdateStreamHandlerTest {
     void should_ReturnUpdatedStreamResponse_When_ValidCommandProvided() {
         UpdateStreamCommand command = new UpdateStreamCommand(streamId.value().toString(), "New Name", "new desc");
         when(streamDomainService.getStreamOrThrow(streamId)).thenReturn(draftStream);
-        when(streamRepository.save(any(Stream.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(streamRepository.update(any(Stream.class))).thenAnswer(inv -> inv.getArgument(0));
 
         StreamResponse response = handler.handle(command);
 
@@ -62,7 +67,7 @@ class UpdateStreamHandlerTest {
     void should_AllowNullDescription_When_UpdateCommandHasNullDescription() {
         UpdateStreamCommand command = new UpdateStreamCommand(streamId.value().toString(), "New Name", null);
         when(streamDomainService.getStreamOrThrow(streamId)).thenReturn(draftStream);
-        when(streamRepository.save(any(Stream.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(streamRepository.update(any(Stream.class))).thenAnswer(inv -> inv.getArgument(0));
 
         StreamResponse response = handler.handle(command);
 
@@ -92,6 +97,75 @@ class UpdateStreamHandlerTest {
                 .hasMessageContaining("DELETED");
     }
 
+    @Test
+    void should_ApplyStatusAndConfigInOneWrite_When_BothRequested() {
+        UpdateStreamCommand command = new UpdateStreamCommand(
+                streamId.value().toString(), "ACTIVE", "New Name", "new desc");
+        when(streamDomainService.getStreamOrThrow(streamId)).thenReturn(draftStream);
+        when(streamRepository.update(any(Stream.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        StreamResponse response = handler.handle(command);
+
+        assertThat(response.status()).isEqualTo("ACTIVE");
+        assertThat(response.name()).isEqualTo("New Name");
+        verify(streamRepository).update(draftStream);
+        verify(streamRepository, never()).save(any(Stream.class));
+    }
+
+    @Test
+    void should_WriteNothing_When_StatusTransitionNotAllowed() {
+        UpdateStreamCommand command = new UpdateStreamCommand(
+                streamId.value().toString(), "INACTIVE", "New Name", null);
+        when(streamDomainService.getStreamOrThrow(streamId)).thenReturn(draftStream);
+
+        assertThatThrownBy(() -> handler.handle(command))
+                .isInstanceOf(InvalidStreamStateException.class);
+        verifyNoInteractions(streamRepository);
+    }
+
+    @Test
+    void should_WriteNothing_When_DeletingAndRenamingTogether() {
+        UpdateStreamCommand command = new UpdateStreamCommand(
+                streamId.value().toString(), "DELETED", "New Name", null);
+        when(streamDomainService.getStreamOrThrow(streamId)).thenReturn(draftStream);
+
+        assertThatThrownBy(() -> handler.handle(command))
+                .isInstanceOf(InvalidStreamOperationException.class);
+        verifyNoInteractions(streamRepository);
+    }
+
+    @Test
+    void should_ThrowIllegalArgumentException_When_TargetStatusIsDraft() {
+        UpdateStreamCommand command = new UpdateStreamCommand(streamId.value().toString(), "DRAFT", null, null);
+        when(streamDomainService.getStreamOrThrow(streamId)).thenReturn(draftStream);
+
+        assertThatThrownBy(() -> handler.handle(command))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("DRAFT");
+    }
+
+    @Test
+    void should_ReturnCurrentStateWithoutWriting_When_NothingRequested() {
+        UpdateStreamCommand command = new UpdateStreamCommand(streamId.value().toString(), null, null, null);
+        when(streamDomainService.getStreamOrThrow(streamId)).thenReturn(draftStream);
+
+        StreamResponse response = handler.handle(command);
+
+        assertThat(response.name()).isEqualTo("Old Name");
+        verifyNoInteractions(streamRepository);
+    }
+
+    @Test
+    void should_PropagateConflict_When_StreamChangedSinceLoaded() {
+        UpdateStreamCommand command = new UpdateStreamCommand(streamId.value().toString(), "New Name", null);
+        when(streamDomainService.getStreamOrThrow(streamId)).thenReturn(draftStream);
+        when(streamRepository.update(any(Stream.class)))
+                .thenThrow(new ConcurrentStreamModificationException(streamId));
+
+        assertThatThrownBy(() -> handler.handle(command))
+                .isInstanceOf(ConcurrentStreamModificationException.class);
+    }
+
     @Test
     void should_ThrowNullPointerException_When_CommandIsNull() {
         assertThatThrownBy(() -> handler.handle(null))
@@ -0,0 +1,53 @@
+package com.datastream.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DataEventFilterTest {
+
+    @Test
+    void should_HaveNoCriteria_When_EmptyCalled() {
+        DataEventFilter filter = DataEventFilter.empty();
+
+        assertThat(filter.metadata()).isEmpty();
+        assertThat(filter.hasMetadata()).isFalse();
+        assertThat(filter.from()).isNull();
+        assertThat(filter.to()).isNull();
+    }
+
+    @Test
+    void should_TreatNullMetadataAsEmpty_When_Constructed() {
+        assertThat(new DataEventFilter(null, null, null)).isEqualTo(DataEventFilter.empty());
+    }
+
+    @Test
+    void should_CopyMetadata_When_Constructed() {
+        Map<String, String> metadata = new HashMap<>(Map.of("region", "eu"));
+        DataEventFilter filter = new DataEventFilter(metadata, null, null);
+        metadata.put("source", "sensor-01");
+
+        assertThat(filter.hasMetadata()).isTrue();
+        assertThat(filter.metadata()).containsOnlyKeys("region");
+    }
+
+    @Test
+    void should_ThrowIllegalArgumentException_When_FromIsAfterTo() {
+        Instant now = Instant.now();
+
+        assertThatThrownBy(() -> new DataEventFilter(Map.of(), now.plusSeconds(1), now))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_AcceptEqualBounds_When_FromEqualsTo() {
+        Instant now = Instant.now();
+
+        assertThat(new DataEventFilter(Map.of(), now, now).from()).isEqualTo(now);
+    }
+}
@@ -0,0 +1,84 @@
+package com.datastream.domain.model;
+
+import com.datastream.domain.valueobjects.StreamId;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamStatsTest {
+
+    private static final Instant T0 = Instant.parse("2026-03-01T12:00:00Z");
+
+    private final StreamId streamId = StreamId.generate();
+
+    @Test
+    void should_HaveZeroCountsAndNoTimestamps_When_EmptyCalled() {
+        StreamStats stats = StreamStats.empty(streamId);
+
+        assertThat(stats.eventCount()).isZero();
+        assertThat(stats.totalPayloadBytes()).isZero();
+        assertThat(stats.firstEventAt()).isNull();
+        assertThat(stats.lastEventAt()).isNull();
+        assertThat(stats.eventsPerMinute()).isZero();
+    }
+
+    @Test
+    void should_ThrowNullPointerException_When_StreamIdIsNull() {
+        assertThatThrownBy(() -> new StreamStats(null, 0, 0, null, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_ThrowIllegalArgumentException_When_CountsAreNegative() {
+        assertThatThrownBy(() -> new StreamStats(streamId, -1, 0, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new StreamStats(streamId, 0, -1, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_SumCountsAndWidenTimeRange_When_Merged() {
+        StreamStats a = new StreamStats(streamId, 3, 30, T0.plusSeconds(60), T0.plusSeconds(120));
+        StreamStats b = new StreamStats(streamId, 2, 20, T0, T0.plusSeconds(90));
+
+        StreamStats merged = a.merge(b);
+
+        assertThat(merged.eventCount()).isEqualTo(5);
+        assertThat(merged.totalPayloadBytes()).isEqualTo(50);
+        assertThat(merged.firstEventAt()).isEqualTo(T0);
+        assertThat(merged.lastEventAt()).isEqualTo(T0.plusSeconds(120));
+    }
+
+    @Test
+    void should_KeepTimestamps_When_MergedWithEmpty() {
+        StreamStats stats = new StreamStats(streamId, 1, 10, T0, T0);
+
+        assertThat(stats.merge(StreamStats.empty(streamId))).isEqualTo(stats);
+        assertThat(StreamStats.empty(streamId).merge(stats)).isEqualTo(stats);
+    }
+
+    @Test
+    void should_ThrowIllegalArgumentException_When_MergingDifferentStreams() {
+        StreamStats other = StreamStats.empty(StreamId.generate());
+
+        assertThatThrownBy(() -> StreamStats.empty(streamId).merge(other))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_AverageOverSpan_When_EventsSpanSeveralMinutes() {
+        StreamStats stats = new StreamStats(streamId, 12, 0, T0, T0.plusSeconds(240));
+
+        assertThat(stats.eventsPerMinute()).isEqualTo(3.0);
+    }
+
+    @Test
+    void should_TreatSpanAsOneMinute_When_EventsArriveInABurst() {
+        StreamStats stats = new StreamStats(streamId, 7, 0, T0, T0.plusMillis(10));
+
+        assertThat(stats.eventsPerMinute()).isEqualTo(7.0);
+    }
+}
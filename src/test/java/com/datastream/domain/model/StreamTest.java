@@ -35,6 +35,20 @@ class StreamTest {
         assertThat(stream.getStatus()).isEqualTo(StreamStatus.DRAFT);
     }
 
+    @Test
+    void should_StartAtVersionZero_When_CreateCalled() {
+        Stream stream = Stream.create(name, "desc", ownerId, StreamType.EVENT);
+        assertThat(stream.getVersion()).isZero();
+    }
+
+    @Test
+    void should_KeepPersistedVersion_When_Reconstituted() {
+        Instant now = Instant.now();
+        Stream stream = Stream.reconstitute(StreamId.generate(), name, null, ownerId, StreamType.EVENT,
+                StreamStatus.ACTIVE, now, now, 7);
+        assertThat(stream.getVersion()).isEqualTo(7);
+    }
+
     @Test
     void should_AssignGeneratedId_When_CreateCalled() {
         Stream stream = Stream.create(name, "desc", ownerId, StreamType.LOG);
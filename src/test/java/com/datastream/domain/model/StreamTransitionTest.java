@@ -0,0 +1,78 @@
+package com.datastream.domain.model;
+
+import com.datastream.domain.exception.InvalidStreamStateException;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.domain.valueobjects.StreamName;
+import com.datastream.domain.valueobjects.UserId;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamTransitionTest {
+
+    @Test
+    void should_DeclareDocumentedSourceStatuses_When_Queried() {
+        assertThat(StreamTransition.ACTIVATE.allowedFrom())
+                .containsExactly(StreamStatus.DRAFT, StreamStatus.INACTIVE);
+        assertThat(StreamTransition.DEACTIVATE.allowedFrom())
+                .containsExactly(StreamStatus.ACTIVE);
+        assertThat(StreamTransition.DELETE.allowedFrom())
+                .containsExactly(StreamStatus.DRAFT, StreamStatus.ACTIVE, StreamStatus.INACTIVE);
+    }
+
+    @Test
+    void should_AgreeWithAggregate_When_AppliedFromEveryStatus() {
+        for (StreamTransition transition : StreamTransition.values()) {
+            for (StreamStatus status : StreamStatus.values()) {
+                Stream stream = streamIn(status);
+                if (transition.isAllowedFrom(status)) {
+                    stream.apply(transition);
+                    assertThat(stream.getStatus()).isEqualTo(transition.target());
+                } else {
+                    assertThatThrownBy(() -> stream.apply(transition))
+                            .isInstanceOf(InvalidStreamStateException.class);
+                    assertThat(stream.getStatus()).isEqualTo(status);
+                }
+            }
+        }
+    }
+
+    @Test
+    void should_NameCurrentStatus_When_RejectionCreated() {
+        assertThat(StreamTransition.ACTIVATE.rejection(StreamStatus.DELETED))
+                .hasMessage("Cannot activate stream from status DELETED. Allowed from: DRAFT, INACTIVE");
+        assertThat(StreamTransition.DEACTIVATE.rejection(StreamStatus.DRAFT))
+                .hasMessage("Cannot deactivate stream from status DRAFT. Allowed from: ACTIVE");
+        assertThat(StreamTransition.DELETE.rejection(StreamStatus.DELETED))
+                .hasMessage("Stream is already in DELETED status");
+    }
+
+    @Test
+    void should_FindTransitionByTarget_When_TargetReachable() {
+        assertThat(StreamTransition.to(StreamStatus.ACTIVE)).isEqualTo(StreamTransition.ACTIVATE);
+        assertThat(StreamTransition.to(StreamStatus.INACTIVE)).isEqualTo(StreamTransition.DEACTIVATE);
+        assertThat(StreamTransition.to(StreamStatus.DELETED)).isEqualTo(StreamTransition.DELETE);
+    }
+
+    @Test
+    void should_ThrowIllegalArgumentException_When_TargetIsDraft() {
+        assertThatThrownBy(() -> StreamTransition.to(StreamStatus.DRAFT))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cannot transition to status: DRAFT");
+    }
+
+    @Test
+    void should_ThrowNullPointerException_When_ApplyingNullTransition() {
+        assertThatThrownBy(() -> streamIn(StreamStatus.DRAFT).apply(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    private static Stream streamIn(StreamStatus status) {
+        return Stream.reconstitute(StreamId.generate(), StreamName.of("transition"), null,
+                UserId.of(UUID.randomUUID()), StreamType.EVENT, status, Instant.EPOCH, Instant.EPOCH);
+    }
+}
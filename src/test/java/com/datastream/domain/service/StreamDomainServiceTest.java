@@ -1,7 +1,6 @@
 package com.datastream.domain.service;
 
 import com.datastream.domain.exception.InvalidStreamStateException;
-import com.datastream.domain.exception.StreamAlreadyExistsException;
 import com.datastream.domain.exception.StreamNotFoundException;
 import com.datastream.domain.model.Stream;
 import com.datastream.domain.model.StreamStatus;
@@ -54,32 +53,6 @@ class StreamDomainServiceTest {
                 .hasMessageContaining("streamRepository");
     }
 
-    // -------------------------------------------------------------------------
-    // validateStreamNameUnique
-    // -------------------------------------------------------------------------
-
-    @Test
-    void should_NotThrow_When_StreamNameDoesNotExist() {
-        when(streamRepository.existsByName(streamName)).thenReturn(false);
-        // should not throw
-        streamDomainService.validateStreamNameUnique(streamName);
-    }
-
-    @Test
-    void should_ThrowStreamAlreadyExistsException_When_StreamNameAlreadyExists() {
-        when(streamRepository.existsByName(streamName)).thenReturn(true);
-        assertThatThrownBy(() -> streamDomainService.validateStreamNameUnique(streamName))
-                .isInstanceOf(StreamAlreadyExistsException.class)
-                .hasMessageContaining("My Stream");
-    }
-
-    @Test
-    void should_ThrowNullPointerException_When_StreamNameIsNull() {
-        assertThatThrownBy(() -> streamDomainService.validateStreamNameUnique(null))
-                .isInstanceOf(NullPointerException.class)
-                .hasMessageContaining("streamName");
-    }
-
     // -------------------------------------------------------------------------
     // validateStreamIsActive
     // -------------------------------------------------------------------------
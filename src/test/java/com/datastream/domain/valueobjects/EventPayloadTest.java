@@ -20,6 +20,11 @@ class EventPayloadTest {
         assertThat(payload.value()).isEmpty();
     }
 
+    @Test
+    void should_ReportByteCount_When_SizeCalled() {
+        assertThat(EventPayload.of(new byte[]{1, 2, 3}).size()).isEqualTo(3);
+    }
+
     @Test
     void should_ThrowNullPointerException_When_NullBytesProvided() {
         assertThatThrownBy(() -> EventPayload.of(null))
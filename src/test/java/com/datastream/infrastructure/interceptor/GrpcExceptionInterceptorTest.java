@@ -0,0 +1,44 @@
+package com.datastream.infrastructure.interceptor;
+
+import com.datastream.domain.exception.StreamNotFoundException;
+import io.grpc.Status;
+import org.junit.jupiter.api.Test;
+
+import java.time.DateTimeException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link GrpcExceptionInterceptor}.
+ */
+class GrpcExceptionInterceptorTest {
+
+    private final GrpcExceptionInterceptor interceptor = new GrpcExceptionInterceptor();
+
+    @Test
+    void should_MapLikeTheHandlers_When_TranslatingDomainAndArgumentErrors() {
+        StreamNotFoundException notFound = new StreamNotFoundException("Stream not found: x");
+
+        assertThat(GrpcExceptionInterceptor.toStatus(notFound).getCode()).isEqualTo(Status.Code.NOT_FOUND);
+        assertThat(interceptor.handleStreamNotFound(notFound).getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND);
+        assertThat(GrpcExceptionInterceptor.toStatus(new IllegalArgumentException("bad id")).getCode())
+                .isEqualTo(Status.Code.INVALID_ARGUMENT);
+        assertThat(GrpcExceptionInterceptor.toStatus(new DateTimeException("out of range")).getCode())
+                .isEqualTo(Status.Code.INVALID_ARGUMENT);
+    }
+
+    @Test
+    void should_KeepStatus_When_ExceptionAlreadyCarriesOne() {
+        Status status = GrpcExceptionInterceptor.toStatus(Status.RESOURCE_EXHAUSTED.asRuntimeException());
+
+        assertThat(status.getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED);
+    }
+
+    @Test
+    void should_HideMessage_When_ExceptionIsUnexpected() {
+        Status status = GrpcExceptionInterceptor.toStatus(new IllegalStateException("connection to db-7 refused"));
+
+        assertThat(status.getCode()).isEqualTo(Status.Code.INTERNAL);
+        assertThat(status.getDescription()).doesNotContain("db-7");
+    }
+}
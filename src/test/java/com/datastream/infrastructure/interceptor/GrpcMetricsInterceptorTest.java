@@ -0,0 +1,160 @@
+package com.datastream.infrastructure.interceptor;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.health.v1.HealthCheckRequest;
+import io.grpc.health.v1.HealthCheckResponse;
+import io.grpc.health.v1.HealthGrpc;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.protobuf.services.HealthStatusManager;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link GrpcMetricsInterceptor}.
+ */
+class GrpcMetricsInterceptorTest {
+
+    private static final String CHECK = "grpc.health.v1.Health/Check";
+    private static final String WATCH = "grpc.health.v1.Health/Watch";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(ServerInterceptors.intercept(
+                        new HealthStatusManager().getHealthService(), new GrpcMetricsInterceptor(registry)))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    void should_TimeCallsPerStatus_When_UnaryCallsComplete() {
+        HealthGrpc.HealthBlockingStub stub = HealthGrpc.newBlockingStub(channel);
+
+        stub.check(HealthCheckRequest.getDefaultInstance());
+        stub.check(HealthCheckRequest.getDefaultInstance());
+        assertThatThrownBy(() -> stub.check(HealthCheckRequest.newBuilder().setService("unknown").build()))
+                .isInstanceOf(StatusRuntimeException.class);
+
+        assertThat(calls(CHECK, Status.Code.OK)).isEqualTo(2);
+        assertThat(calls(CHECK, Status.Code.NOT_FOUND)).isEqualTo(1);
+        assertThat(registry.get("datastream.grpc.server.messages.received").tag("method", CHECK).counter().count())
+                .isEqualTo(3);
+        assertThat(registry.get("datastream.grpc.server.messages.sent").tag("method", CHECK).counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void should_RecordCancelled_When_ClientCancelsStreamingCall() {
+        AtomicReference<ClientCallStreamObserver<HealthCheckRequest>> call = new AtomicReference<>();
+        HealthGrpc.newStub(channel).watch(HealthCheckRequest.getDefaultInstance(),
+                new ClientResponseObserver<HealthCheckRequest, HealthCheckResponse>() {
+                    @Override
+                    public void beforeStart(ClientCallStreamObserver<HealthCheckRequest> requestStream) {
+                        call.set(requestStream);
+                    }
+
+                    @Override
+                    public void onNext(HealthCheckResponse value) {
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                    }
+                });
+
+        call.get().cancel("done", null);
+
+        assertThat(calls(WATCH, Status.Code.CANCELLED)).isEqualTo(1);
+        assertThat(registry.get("datastream.grpc.server.messages.sent").tag("method", WATCH).counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_RecordOnce_When_CloseRacesWithCancel() throws Exception {
+        GrpcMetricsInterceptor interceptor = new GrpcMetricsInterceptor(registry);
+        ServerCall<HealthCheckRequest, HealthCheckResponse> call = mock(ServerCall.class);
+        when(call.getMethodDescriptor()).thenReturn(HealthGrpc.getCheckMethod());
+        AtomicReference<ServerCall<HealthCheckRequest, HealthCheckResponse>> timed = new AtomicReference<>();
+        ServerCallHandler<HealthCheckRequest, HealthCheckResponse> handler = (c, headers) -> {
+            timed.set(c);
+            return new ServerCall.Listener<>() {
+            };
+        };
+        int rounds = 500;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            for (int i = 0; i < rounds; i++) {
+                ServerCall.Listener<HealthCheckRequest> listener = interceptor.interceptCall(call, new Metadata(), handler);
+                CyclicBarrier barrier = new CyclicBarrier(2);
+                Future<?> close = executor.submit(() -> {
+                    barrier.await();
+                    timed.get().close(Status.OK, new Metadata());
+                    return null;
+                });
+                Future<?> cancel = executor.submit(() -> {
+                    barrier.await();
+                    listener.onCancel();
+                    return null;
+                });
+                close.get();
+                cancel.get();
+            }
+        }
+
+        long recorded = registry.find("datastream.grpc.server.calls").tag("method", CHECK).timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+        assertThat(recorded).isEqualTo(rounds);
+    }
+
+    private long calls(String method, Status.Code status) {
+        return registry.get("datastream.grpc.server.calls")
+                .tag("method", method)
+                .tag("status", status.name())
+                .timer()
+                .count();
+    }
+}
@@ -0,0 +1,80 @@
+package com.datastream.infrastructure.jfr;
+
+import com.datastream.application.port.EventTracer;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link JfrEventTracer}.
+ */
+class JfrEventTracerTest {
+
+    private static final String STREAM_ID = "3f2c9a4e-0000-4000-8000-000000000001";
+
+    private final JfrEventTracer tracer = new JfrEventTracer();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void should_RecordSpansWithFields_When_RecordingEnablesThem() throws IOException {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("datastream.EventValidated").withThreshold(Duration.ZERO);
+            recording.enable("datastream.EventPersisted").withThreshold(Duration.ZERO);
+            recording.start();
+
+            tracer.validating(STREAM_ID, 16).commit();
+            tracer.persisting(null, 3, 48).commit();
+
+            recording.stop();
+            events = dump(recording);
+        }
+
+        assertThat(events).extracting(event -> event.getEventType().getName())
+                .containsExactly("datastream.EventValidated", "datastream.EventPersisted");
+        assertThat(events.get(0).getString("streamId")).isEqualTo(STREAM_ID);
+        assertThat(events.get(0).getInt("payloadBytes")).isEqualTo(16);
+        assertThat(events.get(1).getString("streamId")).isNull();
+        assertThat(events.get(1).getInt("events")).isEqualTo(3);
+        assertThat(events.get(1).getLong("payloadBytes")).isEqualTo(48);
+    }
+
+    @Test
+    void should_KeepOnlySlowSpans_When_ThresholdApplies() throws IOException {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("datastream.EventValidated").withThreshold(Duration.ofMinutes(1));
+            recording.start();
+
+            tracer.validating(STREAM_ID, 16).commit();
+
+            recording.stop();
+            events = dump(recording);
+        }
+
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void should_ReturnNoOpSpan_When_NoRecordingIsRunning() {
+        assertThat(tracer.validating(STREAM_ID, 16)).isSameAs(EventTracer.Span.NONE);
+        assertThat(tracer.persisting(STREAM_ID, 1, 16)).isSameAs(EventTracer.Span.NONE);
+    }
+
+    private List<RecordedEvent> dump(Recording recording) throws IOException {
+        Path file = dir.resolve("recording.jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file);
+    }
+}
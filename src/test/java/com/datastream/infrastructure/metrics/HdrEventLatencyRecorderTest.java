@@ -0,0 +1,77 @@
+package com.datastream.infrastructure.metrics;
+
+import com.datastream.application.dto.DataEventResponse;
+import com.datastream.application.dto.EventLatencyResponse;
+import com.datastream.application.dto.EventLatencyResponse.Stage;
+import com.datastream.application.dto.EventLatencyResponse.StageLatency;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+/**
+ * Unit tests for {@link HdrEventLatencyRecorder}.
+ *
+ * <p>Values above 255µs are only resolved to two significant digits.
+ */
+class HdrEventLatencyRecorderTest {
+
+    private static final String STREAM_ID = "3f2c9a4e-0000-4000-8000-000000000001";
+    private static final long MICRO = 1_000;
+
+    private final HdrEventLatencyRecorder recorder = new HdrEventLatencyRecorder();
+
+    @Test
+    void should_RecordEachStage_When_EventIsPublishedAndDelivered() {
+        // persisted 400µs and published 100µs after receipt
+        DataEventResponse event = event(MICRO, 401 * MICRO, 501 * MICRO);
+
+        recorder.published(event);
+        recorder.delivered(event, 801 * MICRO, 901 * MICRO);
+        recorder.delivered(event, 1_001 * MICRO, 1_101 * MICRO);
+
+        EventLatencyResponse response = recorder.snapshot(STREAM_ID, false);
+
+        assertThat(response.streamId()).isEqualTo(STREAM_ID);
+        assertThat(response.stages()).extracting(StageLatency::stage).containsExactly(Stage.values());
+        assertThat(stage(response, Stage.PERSIST).count()).isEqualTo(1);
+        assertThat(stage(response, Stage.PERSIST).maxMicros()).isCloseTo(400L, withinPercentage(1));
+        assertThat(stage(response, Stage.PUBLISH).p50Micros()).isEqualTo(100);
+        assertThat(stage(response, Stage.QUEUE).count()).isEqualTo(2);
+        assertThat(stage(response, Stage.QUEUE).maxMicros()).isCloseTo(500L, withinPercentage(1));
+        assertThat(stage(response, Stage.SEND).meanMicros()).isEqualTo(100);
+        assertThat(stage(response, Stage.END_TO_END).maxMicros()).isCloseTo(1_100L, withinPercentage(1));
+    }
+
+    @Test
+    void should_KeepTotalsUntilReset_When_SnapshotRequestsReset() {
+        DataEventResponse event = event(MICRO, 2 * MICRO, 3 * MICRO);
+        recorder.published(event);
+
+        assertThat(stage(recorder.snapshot(STREAM_ID, false), Stage.PERSIST).count()).isEqualTo(1);
+        recorder.published(event);
+        assertThat(stage(recorder.snapshot(STREAM_ID, true), Stage.PERSIST).count()).isEqualTo(2);
+        assertThat(stage(recorder.snapshot(STREAM_ID, false), Stage.PERSIST).count()).isZero();
+    }
+
+    @Test
+    void should_IgnoreEvent_When_ItCarriesNoStamps() {
+        recorder.published(new DataEventResponse("e", STREAM_ID, new byte[0], Map.of(), "2026-01-01T00:00:00Z"));
+
+        EventLatencyResponse response = recorder.snapshot(STREAM_ID, false);
+
+        assertThat(response.stages()).hasSize(Stage.values().length);
+        assertThat(response.stages()).allSatisfy(stage -> assertThat(stage.count()).isZero());
+    }
+
+    private static DataEventResponse event(long receivedNanos, long persistedNanos, long publishedNanos) {
+        return new DataEventResponse("e", STREAM_ID, new byte[0], Map.of(), "2026-01-01T00:00:00Z",
+                receivedNanos, persistedNanos, publishedNanos);
+    }
+
+    private static StageLatency stage(EventLatencyResponse response, Stage stage) {
+        return response.stages().get(stage.ordinal());
+    }
+}
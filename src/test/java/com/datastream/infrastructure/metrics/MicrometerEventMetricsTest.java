@@ -0,0 +1,85 @@
+package com.datastream.infrastructure.metrics;
+
+import com.datastream.application.dto.DataEventResponse;
+import com.datastream.infrastructure.streaming.InMemoryStreamEventPublisher;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link MicrometerEventMetrics}.
+ */
+class MicrometerEventMetricsTest {
+
+    private static final String STREAM_ID = "3f2c9a4e-0000-4000-8000-000000000001";
+
+    private SimpleMeterRegistry registry;
+    private MicrometerEventMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new MicrometerEventMetrics(registry);
+    }
+
+    @Test
+    void should_CountEventsAndBytesPerStream_When_PublishedAndDelivered() {
+        metrics.published(STREAM_ID, 10);
+        metrics.published(STREAM_ID, 30);
+        metrics.delivered(STREAM_ID, 10);
+        metrics.published("other", 5);
+
+        assertThat(counter("datastream.events.published")).isEqualTo(2);
+        assertThat(counter("datastream.events.published.bytes")).isEqualTo(40);
+        assertThat(counter("datastream.events.delivered")).isEqualTo(1);
+        assertThat(counter("datastream.events.delivered.bytes")).isEqualTo(10);
+    }
+
+    @Test
+    void should_RecordWriteDurationAndSize_When_Persisted() {
+        metrics.persisted(500, TimeUnit.MILLISECONDS.toNanos(20));
+
+        Timer timer = registry.get("datastream.persistence.write").timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(20);
+        assertThat(registry.get("datastream.persistence.write.events").summary().totalAmount()).isEqualTo(500);
+    }
+
+    @Test
+    void should_CountDropsAndGaugeQueues_When_SubscriberQueueIsFull() {
+        InMemoryStreamEventPublisher publisher = new InMemoryStreamEventPublisher(metrics);
+        ArrayBlockingQueue<DataEventResponse> small = new ArrayBlockingQueue<>(2);
+        ArrayBlockingQueue<DataEventResponse> large = new ArrayBlockingQueue<>(10);
+        publisher.subscribe(STREAM_ID, small);
+        publisher.subscribe(STREAM_ID, large);
+
+        for (int i = 0; i < 3; i++) {
+            publisher.publish(new DataEventResponse("e" + i, STREAM_ID, new byte[0], Map.of(), "2026-01-01T00:00:00Z"));
+        }
+
+        assertThat(counter("datastream.events.dropped")).isEqualTo(1);
+        assertThat(gauge("datastream.subscribers")).isEqualTo(2);
+        assertThat(gauge("datastream.subscriber.queue.size")).isEqualTo(5);
+        assertThat(gauge("datastream.subscriber.queue.fill")).isEqualTo(1.0);
+
+        publisher.unsubscribe(STREAM_ID, small);
+
+        assertThat(gauge("datastream.subscribers")).isEqualTo(1);
+        assertThat(gauge("datastream.subscriber.queue.fill")).isEqualTo(0.3);
+    }
+
+    private double counter(String name) {
+        return registry.get(name).tag("stream", STREAM_ID).counter().count();
+    }
+
+    private double gauge(String name) {
+        return registry.get(name).tag("stream", STREAM_ID).gauge().value();
+    }
+}
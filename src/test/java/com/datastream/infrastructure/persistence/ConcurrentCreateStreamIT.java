@@ -0,0 +1,111 @@
+package com.datastream.infrastructure.persistence;
+
+import com.datastream.application.command.CreateStreamCommand;
+import com.datastream.application.dto.StreamResponse;
+import com.datastream.application.handler.CreateStreamHandler;
+import com.datastream.domain.exception.StreamAlreadyExistsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies that stream-name uniqueness is enforced by the {@code uq_streams_name}
+ * constraint alone: creates race without a pre-check and exactly one wins.
+ *
+ * <p>Runs without the inherited test transaction, since every create must commit
+ * independently for the constraint to arbitrate; rows are removed after each test.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.datastream.infrastructure.persistence.CountingStatementInspector")
+class ConcurrentCreateStreamIT extends AbstractIntegrationTest {
+
+    private static final int CONTENDERS = 8;
+
+    @Autowired
+    CreateStreamHandler createStreamHandler;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final String name = "concurrent-" + UUID.randomUUID();
+    private final String ownerId = UUID.randomUUID().toString();
+
+    @BeforeEach
+    void setUp() {
+        CountingStatementInspector.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM streams WHERE name = ?", name);
+    }
+
+    @Test
+    void should_IssueOnlyTheInsert_When_StreamCreated() {
+        createStreamHandler.handle(new CreateStreamCommand(name, null, ownerId, "EVENT"));
+
+        assertThat(CountingStatementInspector.statements("select")).isEmpty();
+        assertThat(CountingStatementInspector.statements("insert")).hasSize(1);
+    }
+
+    @Test
+    void should_ThrowStreamAlreadyExistsException_When_NameTaken() {
+        createStreamHandler.handle(new CreateStreamCommand(name, null, ownerId, "EVENT"));
+
+        assertThatThrownBy(() -> createStreamHandler.handle(new CreateStreamCommand(name, null, ownerId, "LOG")))
+                .isInstanceOf(StreamAlreadyExistsException.class)
+                .hasMessageContaining(name);
+    }
+
+    @Test
+    void should_HaveExactlyOneWinner_When_SameNameCreatedConcurrently() throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<StreamResponse>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONTENDERS)) {
+            for (int i = 0; i < CONTENDERS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return createStreamHandler.handle(new CreateStreamCommand(name, null, ownerId, "EVENT"));
+                }));
+            }
+            start.countDown();
+        }
+
+        int winners = 0;
+        int duplicates = 0;
+        for (Future<StreamResponse> result : results) {
+            try {
+                result.get();
+                winners++;
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(StreamAlreadyExistsException.class);
+                duplicates++;
+            }
+        }
+
+        assertThat(winners).isEqualTo(1);
+        assertThat(duplicates).isEqualTo(CONTENDERS - 1);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM streams WHERE name = ?", Long.class, name))
+                .isEqualTo(1L);
+        assertThat(CountingStatementInspector.statements("select")).isEmpty();
+    }
+}
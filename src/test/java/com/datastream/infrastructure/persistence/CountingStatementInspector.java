@@ -0,0 +1,40 @@
+package com.datastream.infrastructure.persistence;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Hibernate {@link StatementInspector} that records every SQL statement Hibernate prepares,
+ * so tests can assert how many round trips an operation costs.
+ *
+ * <p>Hibernate instantiates the inspector reflectively, so recorded statements are kept
+ * in a static list; call {@link #reset()} before the operation under test.
+ */
+public class CountingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql.toLowerCase(Locale.ROOT));
+        return sql;
+    }
+
+    /** Clears all recorded statements. */
+    public static void reset() {
+        STATEMENTS.clear();
+    }
+
+    /**
+     * Returns the recorded statements that start with the given SQL verb.
+     *
+     * @param verb e.g. {@code "select"} or {@code "insert"}
+     * @return matching statements, lower-cased, in execution order
+     */
+    public static List<String> statements(String verb) {
+        return STATEMENTS.stream().filter(sql -> sql.stripLeading().startsWith(verb)).toList();
+    }
+}
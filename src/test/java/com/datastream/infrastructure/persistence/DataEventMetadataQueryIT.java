@@ -0,0 +1,98 @@
+package com.datastream.infrastructure.persistence;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.model.DataEventFilter;
+import com.datastream.domain.model.Page;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.infrastructure.persistence.adapter.DataEventRepositoryAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark-style integration test for metadata-filtered event queries on a large
+ * synthetic dataset.
+ *
+ * <p>Loads {@value #TOTAL_EVENTS} events spread over {@value #STREAMS} streams, refreshes
+ * planner statistics and asserts that a selective metadata containment query is served by
+ * the {@code idx_data_events_metadata} GIN index rather than a sequential scan. Query
+ * latencies are logged for comparison across changes; no timing threshold is asserted.
+ */
+class DataEventMetadataQueryIT extends AbstractIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DataEventMetadataQueryIT.class);
+
+    private static final int TOTAL_EVENTS = 200_000;
+    private static final int STREAMS = 20;
+    private static final int DEVICES = 1_000;
+    private static final int ITERATIONS = 50;
+
+    @Autowired
+    DataEventRepositoryAdapter dataEventRepositoryAdapter;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private StreamId streamId;
+
+    @BeforeEach
+    void setUp() {
+        streamId = StreamId.of(UUID.randomUUID());
+        // Every STREAMS-th row belongs to the stream under test; the rest are spread over other streams.
+        // Device ids cycle over DEVICES values, so one device matches TOTAL_EVENTS / DEVICES rows.
+        jdbcTemplate.update("""
+                INSERT INTO data_events (event_id, stream_id, payload, metadata, timestamp)
+                SELECT gen_random_uuid(),
+                       CASE WHEN g % ? = 0 THEN ? ELSE gen_random_uuid() END,
+                       decode('00', 'hex'),
+                       jsonb_build_object('device', 'd-' || (g % ?),
+                                          'region', (ARRAY['eu', 'us', 'ap'])[1 + g % 3]),
+                       now() - g * interval '1 second'
+                FROM generate_series(1, ?) AS g
+                """, STREAMS, streamId.value(), DEVICES, TOTAL_EVENTS);
+        jdbcTemplate.execute("ANALYZE data_events");
+    }
+
+    @Test
+    void should_UseGinIndex_When_FilteringBySelectiveMetadata() {
+        List<String> plan = jdbcTemplate.queryForList("""
+                EXPLAIN SELECT event_id FROM data_events
+                WHERE stream_id = ? AND metadata @> ?::jsonb
+                ORDER BY timestamp DESC LIMIT 20
+                """, String.class, streamId.value(), "{\"device\":\"d-40\"}");
+        log.info("Metadata query plan:\n{}", String.join("\n", plan));
+
+        assertThat(plan).anyMatch(line -> line.contains("idx_data_events_metadata"));
+        assertThat(plan).noneMatch(line -> line.contains("Seq Scan on data_events"));
+    }
+
+    @Test
+    void should_ReturnOnlyMatchingEvents_When_QueryingLargeDataset() {
+        DataEventFilter filter = new DataEventFilter(Map.of("device", "d-40"), null, null);
+
+        long[] nanos = new long[ITERATIONS];
+        Page<DataEvent> page = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            page = dataEventRepositoryAdapter.findByStreamId(streamId, filter, 0, 20);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        log.info("Metadata query over {} events: p50={}µs p99={}µs",
+                TOTAL_EVENTS, nanos[ITERATIONS / 2] / 1_000, nanos[ITERATIONS * 99 / 100] / 1_000);
+
+        assertThat(page.totalElements()).isEqualTo(TOTAL_EVENTS / DEVICES);
+        assertThat(page.content()).hasSize(20)
+                .allSatisfy(e -> assertThat(e.getMetadata()).containsEntry("device", "d-40"));
+    }
+}
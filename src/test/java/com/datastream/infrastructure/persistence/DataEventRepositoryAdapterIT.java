@@ -1,6 +1,7 @@
 package com.datastream.infrastructure.persistence;
 
 import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.model.DataEventFilter;
 import com.datastream.domain.model.Page;
 import com.datastream.domain.model.Stream;
 import com.datastream.domain.model.StreamType;
@@ -14,7 +15,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -93,6 +97,37 @@ class DataEventRepositoryAdapterIT extends AbstractIntegrationTest {
         assertThat(reloaded.getTimestamp()).isNotNull();
     }
 
+    @Test
+    void should_PersistEveryEvent_When_SaveAllCalled() {
+        List<DataEvent> events = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            events.add(DataEvent.create(streamId, EventPayload.of(("e" + i).getBytes()), Map.of("i", "" + i)));
+        }
+
+        List<DataEvent> saved = dataEventRepositoryAdapter.saveAll(events);
+
+        assertThat(saved).extracting(DataEvent::getEventId)
+                .containsExactlyElementsOf(events.stream().map(DataEvent::getEventId).toList());
+        assertThat(dataEventRepositoryAdapter.findByStreamId(streamId, 0, 10).totalElements()).isEqualTo(3L);
+    }
+
+    @Test
+    void should_LoadWithCopy_When_SaveAllReachesCopyThreshold() {
+        dataEventRepositoryAdapter.save(DataEvent.create(streamId, EventPayload.of("first".getBytes()), Map.of()));
+        List<DataEvent> events = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            events.add(DataEvent.create(streamId, EventPayload.of(("e" + i).getBytes()), Map.of("i", "" + i)));
+        }
+
+        dataEventRepositoryAdapter.saveAll(events);
+
+        assertThat(dataEventRepositoryAdapter.findByStreamId(streamId, 0, 10).totalElements()).isEqualTo(1_001L);
+        assertThat(dataEventRepositoryAdapter.findByStreamId(
+                streamId, new DataEventFilter(Map.of("i", "999"), null, null), 0, 10).content())
+                .extracting(DataEvent::getEventId)
+                .containsExactly(events.get(999).getEventId());
+    }
+
     // -------------------------------------------------------------------------
     // findByStreamId
     // -------------------------------------------------------------------------
@@ -174,4 +209,111 @@ class DataEventRepositoryAdapterIT extends AbstractIntegrationTest {
         assertThat(firstPage.totalElements()).isEqualTo(5L);
         assertThat(firstPage.totalPages()).isEqualTo(3);
     }
+
+    // -------------------------------------------------------------------------
+    // findByStreamId (filtered)
+    // -------------------------------------------------------------------------
+
+    @Test
+    void should_ReturnOnlyContainingEvents_When_MetadataFilterProvided() {
+        DataEvent eu = dataEventRepositoryAdapter.save(DataEvent.create(
+                streamId, EventPayload.of("eu".getBytes()), Map.of("region", "eu", "source", "s1")));
+        dataEventRepositoryAdapter.save(DataEvent.create(
+                streamId, EventPayload.of("us".getBytes()), Map.of("region", "us", "source", "s1")));
+        dataEventRepositoryAdapter.save(DataEvent.create(
+                streamId, EventPayload.of("none".getBytes()), Collections.emptyMap()));
+
+        Page<DataEvent> page = dataEventRepositoryAdapter.findByStreamId(
+                streamId, new DataEventFilter(Map.of("region", "eu"), null, null), 0, 10);
+
+        assertThat(page.totalElements()).isEqualTo(1L);
+        assertThat(page.content()).extracting(DataEvent::getEventId).containsExactly(eu.getEventId());
+        assertThat(page.content().get(0).getMetadata()).containsEntry("source", "s1");
+    }
+
+    @Test
+    void should_RequireEveryEntry_When_MetadataFilterHasSeveralEntries() {
+        dataEventRepositoryAdapter.save(DataEvent.create(
+                streamId, EventPayload.of("a".getBytes()), Map.of("region", "eu", "source", "s1")));
+        dataEventRepositoryAdapter.save(DataEvent.create(
+                streamId, EventPayload.of("b".getBytes()), Map.of("region", "eu", "source", "s2")));
+
+        Page<DataEvent> page = dataEventRepositoryAdapter.findByStreamId(
+                streamId, new DataEventFilter(Map.of("region", "eu", "source", "s2"), null, null), 0, 10);
+
+        assertThat(page.content()).extracting(e -> e.getMetadata().get("source")).containsExactly("s2");
+    }
+
+    @Test
+    void should_CombineMetadataAndTimeRange_When_BothProvided() throws InterruptedException {
+        dataEventRepositoryAdapter.save(DataEvent.create(
+                streamId, EventPayload.of("old".getBytes()), Map.of("region", "eu")));
+        Thread.sleep(5);
+        Instant from = Instant.now();
+        Thread.sleep(5);
+        DataEvent recent = dataEventRepositoryAdapter.save(DataEvent.create(
+                streamId, EventPayload.of("recent".getBytes()), Map.of("region", "eu")));
+
+        Page<DataEvent> page = dataEventRepositoryAdapter.findByStreamId(
+                streamId, new DataEventFilter(Map.of("region", "eu"), from, null), 0, 10);
+
+        assertThat(page.content()).extracting(DataEvent::getEventId).containsExactly(recent.getEventId());
+    }
+
+    @Test
+    void should_ApplyPaginationNewestFirst_When_FilterMatchesManyEvents() throws InterruptedException {
+        for (int i = 0; i < 5; i++) {
+            dataEventRepositoryAdapter.save(DataEvent.create(
+                    streamId, EventPayload.of(("event-" + i).getBytes()), Map.of("seq", String.valueOf(i), "k", "v")));
+            Thread.sleep(5);
+        }
+
+        Page<DataEvent> firstPage = dataEventRepositoryAdapter.findByStreamId(
+                streamId, new DataEventFilter(Map.of("k", "v"), null, null), 0, 2);
+
+        assertThat(firstPage.totalElements()).isEqualTo(5L);
+        assertThat(firstPage.totalPages()).isEqualTo(3);
+        assertThat(firstPage.content()).extracting(e -> e.getMetadata().get("seq")).containsExactly("4", "3");
+    }
+
+    // -------------------------------------------------------------------------
+    // forEachByStreamId
+    // -------------------------------------------------------------------------
+
+    @Test
+    void should_StreamEventsOldestFirst_When_ForEachByStreamIdCalled() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            dataEventRepositoryAdapter.save(DataEvent.create(
+                    streamId, EventPayload.of(("event-" + i).getBytes()), Map.of("seq", String.valueOf(i))));
+            Thread.sleep(5);
+        }
+
+        List<DataEvent> exported = new ArrayList<>();
+        dataEventRepositoryAdapter.forEachByStreamId(streamId, null, null, exported::add);
+
+        assertThat(exported).hasSize(3);
+        assertThat(exported).extracting(e -> e.getMetadata().get("seq")).containsExactly("0", "1", "2");
+        assertThat(exported.get(0).getPayload().value()).isEqualTo("event-0".getBytes());
+    }
+
+    @Test
+    void should_RestrictToTimeRange_When_BoundsProvided() throws InterruptedException {
+        DataEvent before = DataEvent.create(streamId, EventPayload.of("before".getBytes()), Collections.emptyMap());
+        dataEventRepositoryAdapter.save(before);
+        Thread.sleep(5);
+        Instant from = Instant.now();
+        Thread.sleep(5);
+        DataEvent inside = DataEvent.create(streamId, EventPayload.of("inside".getBytes()), Collections.emptyMap());
+        dataEventRepositoryAdapter.save(inside);
+        Thread.sleep(5);
+        Instant to = Instant.now();
+        Thread.sleep(5);
+        dataEventRepositoryAdapter.save(
+                DataEvent.create(streamId, EventPayload.of("after".getBytes()), Collections.emptyMap()));
+
+        List<DataEvent> exported = new ArrayList<>();
+        dataEventRepositoryAdapter.forEachByStreamId(streamId, from, to, exported::add);
+
+        assertThat(exported).extracting(DataEvent::getEventId).containsExactly(inside.getEventId());
+    }
 }
@@ -0,0 +1,141 @@
+package com.datastream.infrastructure.persistence;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.model.Stream;
+import com.datastream.domain.model.StreamType;
+import com.datastream.domain.repository.DataEventRepository;
+import com.datastream.domain.valueobjects.EventPayload;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.domain.valueobjects.StreamName;
+import com.datastream.domain.valueobjects.UserId;
+import com.datastream.infrastructure.config.ExportProperties;
+import com.datastream.infrastructure.config.PersistenceProperties;
+import com.datastream.infrastructure.persistence.adapter.DataEventRepositoryAdapter;
+import com.datastream.infrastructure.persistence.adapter.JdbcDataEventRepositoryAdapter;
+import com.datastream.infrastructure.persistence.adapter.StreamRepositoryAdapter;
+import com.datastream.infrastructure.persistence.blob.PayloadBlobStore;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark-style integration test comparing the Hibernate-backed
+ * {@link DataEventRepositoryAdapter} with the plain-JDBC {@link JdbcDataEventRepositoryAdapter},
+ * with and without the binary {@code COPY} bulk-load path.
+ *
+ * <p>Each implementation writes {@value #EVENTS} events one at a time and again through
+ * {@code saveAll} in chunks of {@value #CHUNK}, then reads them back page by page. The JPA
+ * persistence context is flushed and cleared after every chunk, as a real transaction
+ * boundary would. Throughput is logged for comparison across changes; no timing
+ * threshold is asserted.
+ */
+class DataEventRepositoryBenchmarkIT extends AbstractIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DataEventRepositoryBenchmarkIT.class);
+
+    private static final int EVENTS = 20_000;
+    private static final int CHUNK = 500;
+    private static final int PAGE_SIZE = 100;
+
+    @Autowired
+    DataEventRepositoryAdapter jpaAdapter;
+
+    @Autowired
+    StreamRepositoryAdapter streamRepositoryAdapter;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Test
+    void should_PersistAndReadAllEvents_When_ComparingImplementations() {
+        JdbcDataEventRepositoryAdapter jdbcAdapter = new JdbcDataEventRepositoryAdapter(
+                jdbcTemplate, new ExportProperties(1000, 1 << 20), new PersistenceProperties("jdbc", CHUNK, Integer.MAX_VALUE), PayloadBlobStore.INLINE);
+        JdbcDataEventRepositoryAdapter copyAdapter = new JdbcDataEventRepositoryAdapter(
+                jdbcTemplate, new ExportProperties(1000, 1 << 20), new PersistenceProperties("jdbc", CHUNK, CHUNK), PayloadBlobStore.INLINE);
+
+        for (int round = 0; round < 2; round++) {   // first round warms up the JIT and statement caches
+            boolean report = round == 1;
+            run("jpa", jpaAdapter, report);
+            run("jdbc", jdbcAdapter, report);
+            run("jdbc-copy", copyAdapter, report);
+        }
+    }
+
+    private void run(String name, DataEventRepository repository, boolean report) {
+        StreamId single = newStream();
+        long singleNanos = time(() -> {
+            for (int i = 0; i < EVENTS; i++) {
+                repository.save(event(single, i));
+                if ((i + 1) % CHUNK == 0) {
+                    flushAndClear();
+                }
+            }
+        });
+
+        StreamId batched = newStream();
+        long batchNanos = time(() -> {
+            for (int i = 0; i < EVENTS; i += CHUNK) {
+                List<DataEvent> chunk = new ArrayList<>(CHUNK);
+                for (int j = i; j < i + CHUNK; j++) {
+                    chunk.add(event(batched, j));
+                }
+                repository.saveAll(chunk);
+                flushAndClear();
+            }
+        });
+
+        long[] read = new long[1];
+        long readNanos = time(() -> {
+            for (int page = 0; page * PAGE_SIZE < EVENTS; page++) {
+                read[0] += repository.findByStreamId(batched, page, PAGE_SIZE).content().size();
+            }
+        });
+
+        assertThat(read[0]).isEqualTo(EVENTS);
+        if (report) {
+            log.info("{}: save {} ev/s, saveAll {} ev/s, page read {} ev/s",
+                    name, rate(singleNanos), rate(batchNanos), rate(readNanos));
+        }
+    }
+
+    private StreamId newStream() {
+        Stream stream = Stream.create(StreamName.of("bench-" + UUID.randomUUID()), null,
+                UserId.of(UUID.randomUUID()), StreamType.EVENT);
+        StreamId id = streamRepositoryAdapter.insert(stream).getId();
+        flushAndClear();
+        return id;
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static DataEvent event(StreamId streamId, int i) {
+        return DataEvent.create(streamId, EventPayload.of(new byte[256]), Map.of("device", "d-" + (i % 100)));
+    }
+
+    private static long time(Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        return System.nanoTime() - start;
+    }
+
+    private static long rate(long nanos) {
+        return EVENTS * TimeUnit.SECONDS.toNanos(1) / Math.max(1, nanos);
+    }
+}
@@ -0,0 +1,164 @@
+package com.datastream.infrastructure.persistence;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.model.Page;
+import com.datastream.domain.model.Stream;
+import com.datastream.domain.model.StreamType;
+import com.datastream.domain.valueobjects.EventPayload;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.domain.valueobjects.StreamName;
+import com.datastream.domain.valueobjects.UserId;
+import com.datastream.infrastructure.config.BlobStoreProperties;
+import com.datastream.infrastructure.config.ExportProperties;
+import com.datastream.infrastructure.config.PersistenceProperties;
+import com.datastream.infrastructure.config.TieringProperties;
+import com.datastream.infrastructure.persistence.adapter.JdbcDataEventRepositoryAdapter;
+import com.datastream.infrastructure.persistence.adapter.StreamRepositoryAdapter;
+import com.datastream.infrastructure.persistence.adapter.TieredDataEventRepositoryAdapter;
+import com.datastream.infrastructure.persistence.blob.PayloadBlobStore;
+import com.datastream.infrastructure.persistence.blob.PayloadBlobSweeper;
+import com.datastream.infrastructure.persistence.tiering.ColdSegmentIndex;
+import com.datastream.infrastructure.persistence.tiering.ColdSegmentStore;
+import com.datastream.infrastructure.persistence.tiering.EventTieringJob;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link EventTieringJob} and {@link TieredDataEventRepositoryAdapter}
+ * against a real PostgreSQL instance.
+ *
+ * <p>Tiering is not enabled in the default context, so the components are constructed directly;
+ * the move transactions join the inherited, rolled-back test transaction.
+ */
+class EventTieringIT extends AbstractIntegrationTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    StreamRepositoryAdapter streamRepositoryAdapter;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @TempDir
+    Path dir;
+
+    private JdbcDataEventRepositoryAdapter hot;
+    private TieredDataEventRepositoryAdapter tiered;
+    private EventTieringJob job;
+    private StreamId streamId;
+
+    @BeforeEach
+    void setUp() {
+        hot = new JdbcDataEventRepositoryAdapter(
+                jdbcTemplate, new ExportProperties(100, 1024), new PersistenceProperties("jdbc", 100, 1000), PayloadBlobStore.INLINE);
+        ColdSegmentStore store = new ColdSegmentStore(dir);
+        ColdSegmentIndex index = new ColdSegmentIndex(jdbcTemplate);
+        tiered = new TieredDataEventRepositoryAdapter(hot, index, store);
+        job = new EventTieringJob(jdbcTemplate, transactionManager, store, index,
+                new TieringProperties(true, dir, Duration.ZERO, Map.of(), 4, DataSize.ofMegabytes(1), Duration.ofHours(1)),
+                PayloadBlobStore.INLINE);
+
+        Stream stream = Stream.create(
+                StreamName.of("tiered-stream-" + UUID.randomUUID()), null,
+                UserId.of(UUID.randomUUID()), StreamType.EVENT);
+        stream.activate();
+        streamId = streamRepositoryAdapter.insert(stream).getId();
+        entityManager.flush();
+
+        hot.saveAll(IntStream.range(0, 10)
+                .mapToObj(i -> DataEvent.reconstitute(UUID.randomUUID(), streamId,
+                        EventPayload.of(new byte[]{(byte) i}), Map.of("i", String.valueOf(i)), T0.plusSeconds(i)))
+                .toList());
+    }
+
+    @Test
+    void should_MoveOnlyEventsBeforeCutoff_When_Tiered() {
+        long moved = job.tier(streamId, T0.plusSeconds(7));
+
+        assertThat(moved).isEqualTo(7);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM data_events WHERE stream_id = ?", Long.class, streamId.value())).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT sum(event_count) FROM cold_segments WHERE stream_id = ?", Long.class, streamId.value()))
+                .isEqualTo(7);
+    }
+
+    @Test
+    void should_ReadBothTiersNewestFirst_When_Paging() {
+        job.tier(streamId, T0.plusSeconds(7));
+
+        Page<DataEvent> page = tiered.findByStreamId(streamId, 1, 4);
+
+        assertThat(page.totalElements()).isEqualTo(10);
+        assertThat(page.content()).extracting(DataEvent::getTimestamp)
+                .containsExactly(T0.plusSeconds(5), T0.plusSeconds(4), T0.plusSeconds(3), T0.plusSeconds(2));
+    }
+
+    @Test
+    void should_ExportBothTiersInOrder_When_Scanned() {
+        job.tier(streamId, T0.plusSeconds(7));
+
+        List<Instant> seen = new ArrayList<>();
+        tiered.forEachByStreamId(streamId, null, null, e -> seen.add(e.getTimestamp().truncatedTo(ChronoUnit.SECONDS)));
+
+        assertThat(seen).containsExactlyElementsOf(IntStream.range(0, 10).mapToObj(T0::plusSeconds).toList());
+    }
+
+    @Test
+    void should_DeleteBlobsOfTieredEvents_When_Swept() throws IOException {
+        Path blobs = dir.resolve("blobs");
+        PayloadBlobStore blobStore = new PayloadBlobStore(blobs, 0);
+        JdbcDataEventRepositoryAdapter offloading = new JdbcDataEventRepositoryAdapter(
+                jdbcTemplate, new ExportProperties(100, 1024), new PersistenceProperties("jdbc", 100, 1000), blobStore);
+        offloading.saveAll(List.of(
+                DataEvent.reconstitute(UUID.randomUUID(), streamId, EventPayload.of("old".getBytes()), Map.of(), T0.minusSeconds(2)),
+                DataEvent.reconstitute(UUID.randomUUID(), streamId, EventPayload.of("new".getBytes()), Map.of(), T0.plusSeconds(20))));
+        new EventTieringJob(jdbcTemplate, transactionManager, new ColdSegmentStore(dir.resolve("segments")),
+                new ColdSegmentIndex(jdbcTemplate),
+                new TieringProperties(true, dir, Duration.ZERO, Map.of(), 4, DataSize.ofMegabytes(1), Duration.ofHours(1)),
+                blobStore).tier(streamId, T0);
+        String remaining = jdbcTemplate.queryForObject(
+                "SELECT payload_ref FROM data_events WHERE stream_id = ? AND payload_ref IS NOT NULL",
+                String.class, streamId.value());
+        try (java.util.stream.Stream<Path> files = Files.walk(blobs)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+            }
+        }
+        PayloadBlobSweeper sweeper = new PayloadBlobSweeper(jdbcTemplate, blobStore,
+                new BlobStoreProperties(true, blobs, DataSize.ofKilobytes(1), Duration.ofHours(1), Duration.ofHours(1)));
+
+        int deleted = sweeper.run();
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(blobStore.get(remaining)).isEqualTo("new".getBytes());
+    }
+}
@@ -0,0 +1,93 @@
+package com.datastream.infrastructure.persistence;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.model.Stream;
+import com.datastream.domain.model.StreamStatus;
+import com.datastream.domain.model.StreamType;
+import com.datastream.domain.valueobjects.EventPayload;
+import com.datastream.domain.valueobjects.StreamName;
+import com.datastream.domain.valueobjects.UserId;
+import com.datastream.infrastructure.persistence.adapter.DataEventRepositoryAdapter;
+import com.datastream.infrastructure.persistence.adapter.StreamRepositoryAdapter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that creating streams and publishing events cost exactly one {@code INSERT}
+ * each, with no {@code SELECT} by primary key beforehand.
+ */
+@TestPropertySource(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.datastream.infrastructure.persistence.CountingStatementInspector")
+class InsertStatementCountIT extends AbstractIntegrationTest {
+
+    @Autowired
+    StreamRepositoryAdapter streamRepositoryAdapter;
+
+    @Autowired
+    DataEventRepositoryAdapter dataEventRepositoryAdapter;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        CountingStatementInspector.reset();
+    }
+
+    @Test
+    void should_IssueSingleInsert_When_StreamInserted() {
+        streamRepositoryAdapter.insert(newStream());
+        entityManager.flush();
+
+        assertThat(CountingStatementInspector.statements("select")).isEmpty();
+        assertThat(CountingStatementInspector.statements("insert")).hasSize(1);
+    }
+
+    @Test
+    void should_IssueSingleInsert_When_DataEventSaved() {
+        Stream stream = streamRepositoryAdapter.insert(newStream());
+        entityManager.flush();
+        CountingStatementInspector.reset();
+
+        dataEventRepositoryAdapter.save(DataEvent.create(
+                stream.getId(), EventPayload.of("hello".getBytes()), Map.of("k", "v")));
+        entityManager.flush();
+
+        assertThat(CountingStatementInspector.statements("select")).isEmpty();
+        assertThat(CountingStatementInspector.statements("insert")).hasSize(1);
+    }
+
+    @Test
+    void should_UpdateExistingRow_When_InsertedStreamSavedAgain() {
+        Stream stream = streamRepositoryAdapter.insert(newStream());
+        entityManager.flush();
+        entityManager.clear();
+
+        stream.activate();
+        streamRepositoryAdapter.save(stream);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(streamRepositoryAdapter.findById(stream.getId()))
+                .map(Stream::getStatus)
+                .contains(StreamStatus.ACTIVE);
+        assertThat(CountingStatementInspector.statements("insert")).hasSize(1);
+    }
+
+    private static Stream newStream() {
+        return Stream.create(
+                StreamName.of("insert-count-" + UUID.randomUUID()),
+                null,
+                UserId.of(UUID.randomUUID()),
+                StreamType.EVENT);
+    }
+}
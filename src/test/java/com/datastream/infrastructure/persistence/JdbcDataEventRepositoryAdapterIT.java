@@ -0,0 +1,176 @@
+package com.datastream.infrastructure.persistence;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.model.DataEventFilter;
+import com.datastream.domain.model.Page;
+import com.datastream.domain.model.Stream;
+import com.datastream.domain.model.StreamType;
+import com.datastream.domain.valueobjects.EventPayload;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.domain.valueobjects.StreamName;
+import com.datastream.domain.valueobjects.UserId;
+import com.datastream.infrastructure.config.ExportProperties;
+import com.datastream.infrastructure.config.PersistenceProperties;
+import com.datastream.infrastructure.persistence.adapter.JdbcDataEventRepositoryAdapter;
+import com.datastream.infrastructure.persistence.adapter.StreamRepositoryAdapter;
+import com.datastream.infrastructure.persistence.blob.PayloadBlobStore;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link JdbcDataEventRepositoryAdapter} against a real PostgreSQL instance.
+ *
+ * <p>The adapter is not active in the default context, so it is constructed directly on the
+ * shared {@link JdbcTemplate}; its statements join the inherited, rolled-back test transaction.
+ */
+class JdbcDataEventRepositoryAdapterIT extends AbstractIntegrationTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    StreamRepositoryAdapter streamRepositoryAdapter;
+
+    @Autowired
+    EntityManager entityManager;
+
+    private JdbcDataEventRepositoryAdapter adapter;
+    private StreamId streamId;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new JdbcDataEventRepositoryAdapter(
+                jdbcTemplate, new ExportProperties(100, 1024), new PersistenceProperties("jdbc", 2, 10), PayloadBlobStore.INLINE);
+        Stream stream = Stream.create(
+                StreamName.of("jdbc-stream-" + UUID.randomUUID()), null,
+                UserId.of(UUID.randomUUID()), StreamType.EVENT);
+        stream.activate();
+        streamId = streamRepositoryAdapter.insert(stream).getId();
+        entityManager.flush();
+    }
+
+    @Test
+    void should_PreserveAllFields_When_RoundTripThroughPersistence() {
+        DataEvent original = DataEvent.create(streamId, EventPayload.of(new byte[]{1, 2, 3}), Map.of("key", "value"));
+
+        adapter.save(original);
+        DataEvent reloaded = adapter.findByStreamId(streamId, 0, 10).content().get(0);
+
+        assertThat(reloaded.getEventId()).isEqualTo(original.getEventId());
+        assertThat(reloaded.getStreamId()).isEqualTo(streamId);
+        assertThat(reloaded.getPayload().value()).isEqualTo(new byte[]{1, 2, 3});
+        assertThat(reloaded.getMetadata()).containsExactlyEntriesOf(Map.of("key", "value"));
+        assertThat(reloaded.getTimestamp()).isEqualTo(original.getTimestamp().truncatedTo(ChronoUnit.MICROS));
+    }
+
+    @Test
+    void should_StoreNullMetadata_When_EventHasNoMetadata() {
+        adapter.save(DataEvent.create(streamId, EventPayload.of("x".getBytes()), Map.of()));
+
+        Long withNull = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM data_events WHERE stream_id = ? AND metadata IS NULL", Long.class, streamId.value());
+        assertThat(withNull).isEqualTo(1L);
+        assertThat(adapter.findByStreamId(streamId, 0, 1).content().get(0).getMetadata()).isEmpty();
+    }
+
+    @Test
+    void should_PersistAcrossSeveralBatches_When_SaveAllCalled() {
+        List<DataEvent> events = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            events.add(DataEvent.create(streamId, EventPayload.of(("e" + i).getBytes()), Map.of("i", "" + i)));
+        }
+
+        assertThat(adapter.saveAll(events)).isSameAs(events);
+        assertThat(adapter.saveAll(List.of())).isEmpty();
+
+        Page<DataEvent> page = adapter.findByStreamId(streamId, 0, 2);
+        assertThat(page.totalElements()).isEqualTo(5L);
+        assertThat(page.content()).hasSize(2);
+    }
+
+    @Test
+    void should_LoadWithCopy_When_SaveAllReachesCopyThreshold() {
+        Instant base = Instant.parse("2026-03-01T12:00:00.123456Z");
+        List<DataEvent> events = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            events.add(DataEvent.reconstitute(UUID.randomUUID(), streamId, EventPayload.of(new byte[]{(byte) i}),
+                    i % 2 == 0 ? Map.of("i", "" + i) : Map.of(), base.plusSeconds(i)));
+        }
+
+        adapter.saveAll(events);
+
+        Page<DataEvent> page = adapter.findByStreamId(streamId, 0, 30);
+        assertThat(page.totalElements()).isEqualTo(25L);
+        DataEvent newest = page.content().get(0);
+        assertThat(newest.getEventId()).isEqualTo(events.get(24).getEventId());
+        assertThat(newest.getTimestamp()).isEqualTo(base.plusSeconds(24));
+        assertThat(newest.getPayload().value()).containsExactly(24);
+        assertThat(newest.getMetadata()).containsExactlyEntriesOf(Map.of("i", "24"));
+        assertThat(page.content().get(1).getMetadata()).isEmpty();
+        assertThat(adapter.findByStreamId(streamId, new DataEventFilter(Map.of("i", "4"), null, null), 0, 10)
+                .content()).hasSize(1);
+    }
+
+    @Test
+    void should_ApplyMetadataAndTimeFilter_When_FilteredQuery() {
+        Instant now = Instant.now();
+        adapter.save(DataEvent.reconstitute(UUID.randomUUID(), streamId, EventPayload.of("a".getBytes()),
+                Map.of("region", "eu"), now.minusSeconds(60)));
+        DataEvent match = DataEvent.reconstitute(UUID.randomUUID(), streamId, EventPayload.of("b".getBytes()),
+                Map.of("region", "eu"), now);
+        adapter.save(match);
+        adapter.save(DataEvent.reconstitute(UUID.randomUUID(), streamId, EventPayload.of("c".getBytes()),
+                Map.of("region", "us"), now));
+
+        Page<DataEvent> page = adapter.findByStreamId(
+                streamId, new DataEventFilter(Map.of("region", "eu"), now.minusSeconds(1), null), 0, 10);
+
+        assertThat(page.content()).extracting(DataEvent::getEventId).containsExactly(match.getEventId());
+    }
+
+    @Test
+    void should_StreamEventsOldestFirst_When_ForEachCalled() {
+        Instant now = Instant.now();
+        for (int i = 0; i < 3; i++) {
+            adapter.save(DataEvent.reconstitute(UUID.randomUUID(), streamId, EventPayload.of(new byte[]{(byte) i}),
+                    Map.of(), now.plusSeconds(i)));
+        }
+
+        List<Byte> seen = new ArrayList<>();
+        adapter.forEachByStreamId(streamId, null, null, e -> seen.add(e.getPayload().value()[0]));
+
+        assertThat(seen).containsExactly((byte) 0, (byte) 1, (byte) 2);
+    }
+
+    @Test
+    void should_StoreLargePayloadByReference_When_AboveBlobThreshold(@TempDir Path dir) {
+        JdbcDataEventRepositoryAdapter offloading = new JdbcDataEventRepositoryAdapter(jdbcTemplate,
+                new ExportProperties(100, 1024), new PersistenceProperties("jdbc", 2, 10), new PayloadBlobStore(dir, 4));
+        byte[] large = "0123456789".getBytes();
+        offloading.saveAll(List.of(
+                DataEvent.create(streamId, EventPayload.of(large), Map.of()),
+                DataEvent.create(streamId, EventPayload.of(large), Map.of()),
+                DataEvent.create(streamId, EventPayload.of("tiny".getBytes()), Map.of())));
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(DISTINCT payload_ref) FROM data_events WHERE stream_id = ? AND payload IS NULL",
+                Long.class, streamId.value())).isEqualTo(1);
+        assertThat(offloading.findByStreamId(streamId, 0, 10).content())
+                .extracting(e -> new String(e.getPayload().value()))
+                .containsExactlyInAnyOrder("0123456789", "0123456789", "tiny");
+    }
+}
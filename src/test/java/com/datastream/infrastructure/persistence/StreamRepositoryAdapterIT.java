@@ -1,9 +1,11 @@
 package com.datastream.infrastructure.persistence;
 
+import com.datastream.domain.exception.ConcurrentStreamModificationException;
 import com.datastream.domain.model.Page;
 import com.datastream.domain.model.Stream;
 import com.datastream.domain.model.StreamFilter;
 import com.datastream.domain.model.StreamStatus;
+import com.datastream.domain.model.StreamTransition;
 import com.datastream.domain.model.StreamType;
 import com.datastream.domain.valueobjects.StreamId;
 import com.datastream.domain.valueobjects.StreamName;
@@ -12,10 +14,12 @@ import com.datastream.infrastructure.persistence.adapter.StreamRepositoryAdapter
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Integration tests for {@link StreamRepositoryAdapter} against a real PostgreSQL instance
@@ -57,6 +61,75 @@ class StreamRepositoryAdapterIT extends AbstractIntegrationTest {
         assertThat(updated.getStatus()).isEqualTo(StreamStatus.ACTIVE);
     }
 
+    // -------------------------------------------------------------------------
+    // update
+    // -------------------------------------------------------------------------
+
+    @Test
+    void should_WriteChangesAndBumpVersion_When_VersionMatches() {
+        Stream stream = streamRepositoryAdapter.insert(
+                Stream.create(StreamName.of("versioned"), null, ownerId, StreamType.EVENT));
+        Stream loaded = streamRepositoryAdapter.findById(stream.getId()).orElseThrow();
+
+        loaded.activate();
+        loaded.updateConfig(StreamName.of("versioned-renamed"), "d");
+        Stream saved = streamRepositoryAdapter.update(loaded);
+
+        assertThat(saved.getVersion()).isEqualTo(loaded.getVersion() + 1);
+        assertThat(saved.getStatus()).isEqualTo(StreamStatus.ACTIVE);
+        assertThat(saved.getName().value()).isEqualTo("versioned-renamed");
+    }
+
+    @Test
+    void should_ThrowConflict_When_StreamChangedSinceLoaded() {
+        Stream stream = streamRepositoryAdapter.insert(
+                Stream.create(StreamName.of("contended"), null, ownerId, StreamType.EVENT));
+        Stream first = streamRepositoryAdapter.findById(stream.getId()).orElseThrow();
+        Stream second = streamRepositoryAdapter.findById(stream.getId()).orElseThrow();
+
+        first.activate();
+        streamRepositoryAdapter.update(first);
+        second.updateConfig(StreamName.of("contended-renamed"), null);
+
+        assertThatThrownBy(() -> streamRepositoryAdapter.update(second))
+                .isInstanceOf(ConcurrentStreamModificationException.class);
+    }
+
+    // -------------------------------------------------------------------------
+    // transition
+    // -------------------------------------------------------------------------
+
+    @Test
+    void should_ApplyTransition_When_CurrentStatusAllowsIt() {
+        Stream stream = Stream.create(StreamName.of("to-activate"), null, ownerId, StreamType.EVENT);
+        streamRepositoryAdapter.insert(stream);
+
+        Optional<Stream> activated = streamRepositoryAdapter.transition(stream.getId(), StreamTransition.ACTIVATE);
+
+        assertThat(activated).hasValueSatisfying(s -> {
+            assertThat(s.getStatus()).isEqualTo(StreamStatus.ACTIVE);
+            assertThat(s.getName().value()).isEqualTo("to-activate");
+            assertThat(s.getUpdatedAt()).isAfterOrEqualTo(s.getCreatedAt());
+        });
+    }
+
+    @Test
+    void should_ReturnEmptyAndLeaveRowUnchanged_When_CurrentStatusForbidsTransition() {
+        Stream stream = Stream.create(StreamName.of("still-draft"), null, ownerId, StreamType.EVENT);
+        streamRepositoryAdapter.insert(stream);
+
+        Optional<Stream> result = streamRepositoryAdapter.transition(stream.getId(), StreamTransition.DEACTIVATE);
+
+        assertThat(result).isEmpty();
+        assertThat(streamRepositoryAdapter.findById(stream.getId()))
+                .hasValueSatisfying(s -> assertThat(s.getStatus()).isEqualTo(StreamStatus.DRAFT));
+    }
+
+    @Test
+    void should_ReturnEmpty_When_TransitioningNonExistentStream() {
+        assertThat(streamRepositoryAdapter.transition(StreamId.generate(), StreamTransition.DELETE)).isEmpty();
+    }
+
     // -------------------------------------------------------------------------
     // findById
     // -------------------------------------------------------------------------
@@ -113,19 +186,26 @@ class StreamRepositoryAdapterIT extends AbstractIntegrationTest {
     }
 
     // -------------------------------------------------------------------------
-    // existsByName
+    // findAllById
     // -------------------------------------------------------------------------
 
     @Test
-    void should_ReturnTrue_When_StreamWithNameExists() {
-        streamRepositoryAdapter.save(Stream.create(StreamName.of("taken-name"), null, ownerId, StreamType.EVENT));
+    void should_ReturnOnlyExistingStreams_When_FindAllByIdCalled() {
+        Stream first = streamRepositoryAdapter.save(
+                Stream.create(StreamName.of("batch-1"), null, ownerId, StreamType.EVENT));
+        Stream second = streamRepositoryAdapter.save(
+                Stream.create(StreamName.of("batch-2"), null, ownerId, StreamType.LOG));
+
+        List<Stream> found = streamRepositoryAdapter.findAllById(
+                List.of(first.getId(), StreamId.generate(), second.getId(), first.getId()));
 
-        assertThat(streamRepositoryAdapter.existsByName(StreamName.of("taken-name"))).isTrue();
+        assertThat(found).extracting(Stream::getId)
+                .containsExactlyInAnyOrder(first.getId(), second.getId());
     }
 
     @Test
-    void should_ReturnFalse_When_StreamWithNameDoesNotExist() {
-        assertThat(streamRepositoryAdapter.existsByName(StreamName.of("no-such-stream"))).isFalse();
+    void should_ReturnEmptyList_When_FindAllByIdCalledWithNoIds() {
+        assertThat(streamRepositoryAdapter.findAllById(List.of())).isEmpty();
     }
 
     // -------------------------------------------------------------------------
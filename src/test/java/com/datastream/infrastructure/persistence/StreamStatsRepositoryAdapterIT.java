@@ -0,0 +1,55 @@
+package com.datastream.infrastructure.persistence;
+
+import com.datastream.domain.model.StreamStats;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.infrastructure.persistence.adapter.StreamStatsRepositoryAdapter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link StreamStatsRepositoryAdapter} against a real PostgreSQL instance.
+ * Each test rolls back via the inherited {@code @Transactional}.
+ */
+class StreamStatsRepositoryAdapterIT extends AbstractIntegrationTest {
+
+    private static final Instant T0 = Instant.parse("2026-03-01T12:00:00Z");
+
+    @Autowired
+    StreamStatsRepositoryAdapter streamStatsRepositoryAdapter;
+
+    @Test
+    void should_ReturnEmpty_When_StreamHasNoStats() {
+        assertThat(streamStatsRepositoryAdapter.findByStreamId(StreamId.generate())).isEmpty();
+    }
+
+    @Test
+    void should_InsertStats_When_FirstIncrementMerged() {
+        StreamId streamId = StreamId.generate();
+        StreamStats increment = new StreamStats(streamId, 3, 30, T0, T0.plusSeconds(60));
+
+        streamStatsRepositoryAdapter.mergeAll(List.of(increment));
+
+        assertThat(streamStatsRepositoryAdapter.findByStreamId(streamId)).contains(increment);
+    }
+
+    @Test
+    void should_AddToStoredStats_When_FurtherIncrementsMerged() {
+        StreamId a = StreamId.generate();
+        StreamId b = StreamId.generate();
+        streamStatsRepositoryAdapter.mergeAll(List.of(new StreamStats(a, 3, 30, T0.plusSeconds(10), T0.plusSeconds(60))));
+
+        streamStatsRepositoryAdapter.mergeAll(List.of(
+                new StreamStats(a, 2, 20, T0, T0.plusSeconds(30)),
+                new StreamStats(b, 1, 5, T0, T0)));
+
+        assertThat(streamStatsRepositoryAdapter.findByStreamId(a))
+                .contains(new StreamStats(a, 5, 50, T0, T0.plusSeconds(60)));
+        assertThat(streamStatsRepositoryAdapter.findByStreamId(b))
+                .contains(new StreamStats(b, 1, 5, T0, T0));
+    }
+}
@@ -0,0 +1,137 @@
+package com.datastream.infrastructure.persistence.adapter;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.model.DataEventFilter;
+import com.datastream.domain.model.Page;
+import com.datastream.domain.valueobjects.EventPayload;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.infrastructure.config.EventLogProperties;
+import com.datastream.infrastructure.persistence.log.EventLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link LogDataEventRepositoryAdapter}.
+ */
+class LogDataEventRepositoryAdapterTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+    @TempDir
+    Path dir;
+
+    private LogDataEventRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        EventLogProperties properties = new EventLogProperties(dir, DataSize.ofKilobytes(1), DataSize.ofBytes(128),
+                false, Duration.ofHours(1), Duration.ofMinutes(1));
+        adapter = new LogDataEventRepositoryAdapter(new EventLog(properties), properties.retention(),
+                Clock.fixed(T0.plus(Duration.ofHours(1)).plusSeconds(25), ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.close();
+    }
+
+    @Test
+    void should_ReturnEmptyPage_When_StreamHasNoLog() {
+        Page<DataEvent> page = adapter.findByStreamId(StreamId.generate(), 0, 10);
+
+        assertThat(page.content()).isEmpty();
+        assertThat(page.totalElements()).isZero();
+    }
+
+    @Test
+    void should_PageNewestFirst_When_Unfiltered() {
+        StreamId streamId = StreamId.generate();
+        List<DataEvent> events = events(streamId, 25);
+        adapter.saveAll(events);
+
+        Page<DataEvent> first = adapter.findByStreamId(streamId, 0, 10);
+        Page<DataEvent> last = adapter.findByStreamId(streamId, 2, 10);
+
+        assertThat(last.totalElements()).isEqualTo(25);
+        assertThat(first.content()).extracting(DataEvent::getEventId)
+                .containsExactlyElementsOf(eventIds(events.subList(15, 25).reversed()));
+        assertThat(last.content()).extracting(DataEvent::getEventId)
+                .containsExactlyElementsOf(eventIds(events.subList(0, 5).reversed()));
+        assertThat(adapter.findByStreamId(streamId, 3, 10).content()).isEmpty();
+    }
+
+    @Test
+    void should_PageDescendingByTimestamp_When_Filtered() {
+        StreamId streamId = StreamId.generate();
+        List<DataEvent> events = events(streamId, 40);
+        adapter.saveAll(events);
+        DataEventFilter filter = new DataEventFilter(Map.of("parity", "even"), T0.plusSeconds(10), null);
+
+        Page<DataEvent> page = adapter.findByStreamId(streamId, filter, 1, 4);
+
+        assertThat(page.totalElements()).isEqualTo(15);
+        assertThat(page.content()).extracting(DataEvent::getTimestamp)
+                .containsExactly(T0.plusSeconds(30), T0.plusSeconds(28), T0.plusSeconds(26), T0.plusSeconds(24));
+    }
+
+    @Test
+    void should_KeepStreamsApart_When_SavingMixedBatch() {
+        StreamId first = StreamId.generate();
+        StreamId second = StreamId.generate();
+        adapter.saveAll(List.of(events(first, 3).get(0), events(second, 3).get(1), events(first, 3).get(2)));
+
+        assertThat(adapter.findByStreamId(first, 0, 10).totalElements()).isEqualTo(2);
+        assertThat(adapter.findByStreamId(second, 0, 10).totalElements()).isEqualTo(1);
+    }
+
+    @Test
+    void should_StreamRangeInOrder_When_ForEachIsCalled() {
+        StreamId streamId = StreamId.generate();
+        adapter.saveAll(events(streamId, 20));
+
+        List<Instant> seen = new ArrayList<>();
+        adapter.forEachByStreamId(streamId, T0.plusSeconds(5), T0.plusSeconds(8), e -> seen.add(e.getTimestamp()));
+
+        assertThat(seen).containsExactly(T0.plusSeconds(5), T0.plusSeconds(6), T0.plusSeconds(7));
+    }
+
+    @Test
+    void should_DropExpiredSegments_When_RetentionRuns() {
+        StreamId streamId = StreamId.generate();
+        adapter.saveAll(events(streamId, 60));
+
+        adapter.applyRetention();
+
+        Page<DataEvent> page = adapter.findByStreamId(streamId, 0, 100);
+        assertThat(page.totalElements()).isLessThan(60);
+        assertThat(page.content().get(0).getTimestamp()).isEqualTo(T0.plusSeconds(59));
+        assertThat(page.content().get(page.content().size() - 1).getTimestamp()).isBeforeOrEqualTo(T0.plusSeconds(25));
+    }
+
+    private static List<UUID> eventIds(List<DataEvent> events) {
+        return events.stream().map(DataEvent::getEventId).toList();
+    }
+
+    private static List<DataEvent> events(StreamId streamId, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> DataEvent.reconstitute(UUID.randomUUID(), streamId, EventPayload.of(new byte[]{(byte) i}),
+                        Map.of("parity", i % 2 == 0 ? "even" : "odd"), T0.plusSeconds(i)))
+                .toList();
+    }
+}
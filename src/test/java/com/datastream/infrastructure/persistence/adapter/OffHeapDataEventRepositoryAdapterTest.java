@@ -0,0 +1,98 @@
+package com.datastream.infrastructure.persistence.adapter;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.model.DataEventFilter;
+import com.datastream.domain.model.Page;
+import com.datastream.domain.valueobjects.EventPayload;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.infrastructure.persistence.offheap.OffHeapEventStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link OffHeapDataEventRepositoryAdapter}.
+ */
+class OffHeapDataEventRepositoryAdapterTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+    private OffHeapDataEventRepositoryAdapter adapter;
+    private final StreamId streamId = StreamId.generate();
+
+    @BeforeEach
+    void setUp() {
+        adapter = new OffHeapDataEventRepositoryAdapter(new OffHeapEventStore(64 * 1024, 16L * 64 * 1024));
+    }
+
+    @Test
+    void should_ReturnEmptyPage_When_StreamHasNoEvents() {
+        Page<DataEvent> page = adapter.findByStreamId(StreamId.generate(), 0, 10);
+
+        assertThat(page.content()).isEmpty();
+        assertThat(page.totalElements()).isZero();
+    }
+
+    @Test
+    void should_PageNewestFirst_When_NoFilterGiven() {
+        adapter.saveAll(events(0, 100));
+
+        Page<DataEvent> page = adapter.findByStreamId(streamId, 2, 10);
+
+        assertThat(page.totalElements()).isEqualTo(100);
+        assertThat(page.content()).hasSize(10);
+        assertThat(page.content().get(0).getTimestamp()).isEqualTo(T0.plusSeconds(79));
+        assertThat(page.content().get(9).getTimestamp()).isEqualTo(T0.plusSeconds(70));
+    }
+
+    @Test
+    void should_CountFromIndex_When_OnlyTimeRangeGiven() {
+        adapter.saveAll(events(0, 100));
+        DataEventFilter filter = new DataEventFilter(Map.of(), T0.plusSeconds(10), T0.plusSeconds(40));
+
+        Page<DataEvent> page = adapter.findByStreamId(streamId, filter, 1, 20);
+
+        assertThat(page.totalElements()).isEqualTo(30);
+        assertThat(page.content()).extracting(DataEvent::getTimestamp)
+                .containsExactly(IntStream.iterate(19, i -> i >= 10, i -> i - 1)
+                        .mapToObj(T0::plusSeconds).toArray(Instant[]::new));
+    }
+
+    @Test
+    void should_MatchMetadata_When_FilterHasMetadata() {
+        adapter.saveAll(events(0, 100));
+        DataEventFilter filter = new DataEventFilter(Map.of("parity", "odd"), null, T0.plusSeconds(10));
+
+        Page<DataEvent> page = adapter.findByStreamId(streamId, filter, 0, 2);
+
+        assertThat(page.totalElements()).isEqualTo(5);
+        assertThat(page.content()).extracting(DataEvent::getTimestamp)
+                .containsExactly(T0.plusSeconds(9), T0.plusSeconds(7));
+    }
+
+    @Test
+    void should_StreamAscending_When_ForEachCalled() {
+        adapter.save(events(0, 1).get(0));
+        adapter.saveAll(events(1, 5));
+
+        List<Instant> seen = new ArrayList<>();
+        adapter.forEachByStreamId(streamId, T0.plusSeconds(1), null, e -> seen.add(e.getTimestamp()));
+
+        assertThat(seen).containsExactly(T0.plusSeconds(1), T0.plusSeconds(2), T0.plusSeconds(3), T0.plusSeconds(4));
+    }
+
+    private List<DataEvent> events(int fromSecond, int toSecond) {
+        return IntStream.range(fromSecond, toSecond)
+                .mapToObj(i -> DataEvent.reconstitute(UUID.randomUUID(), streamId, EventPayload.of(new byte[]{(byte) i}),
+                        Map.of("parity", i % 2 == 0 ? "even" : "odd"), T0.plusSeconds(i)))
+                .toList();
+    }
+}
@@ -0,0 +1,151 @@
+package com.datastream.infrastructure.persistence.adapter;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.model.DataEventFilter;
+import com.datastream.domain.model.Page;
+import com.datastream.domain.repository.DataEventRepository;
+import com.datastream.domain.valueobjects.EventPayload;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.infrastructure.persistence.tiering.ColdSegment;
+import com.datastream.infrastructure.persistence.tiering.ColdSegmentIndex;
+import com.datastream.infrastructure.persistence.tiering.ColdSegmentStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link TieredDataEventRepositoryAdapter}.
+ */
+@ExtendWith(MockitoExtension.class)
+class TieredDataEventRepositoryAdapterTest {
+
+    private static final StreamId STREAM = StreamId.generate();
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    DataEventRepository delegate;
+
+    @Mock
+    ColdSegmentIndex index;
+
+    @TempDir
+    Path dir;
+
+    private ColdSegmentStore store;
+    private TieredDataEventRepositoryAdapter adapter;
+
+    /** Events 0..9 are cold (two segments), 10..14 are hot. */
+    private List<DataEvent> events;
+
+    @BeforeEach
+    void setUp() {
+        store = new ColdSegmentStore(dir);
+        adapter = new TieredDataEventRepositoryAdapter(delegate, index, store);
+        events = IntStream.range(0, 15)
+                .mapToObj(i -> DataEvent.reconstitute(UUID.randomUUID(), STREAM, EventPayload.of(new byte[]{(byte) i}),
+                        Map.of("parity", i % 2 == 0 ? "even" : "odd"), T0.plusSeconds(i)))
+                .toList();
+    }
+
+    @Test
+    void should_ReturnHotPage_When_StreamHasNoColdSegments() {
+        Page<DataEvent> hot = new Page<>(events.subList(10, 12), 0, 2, 5);
+        when(delegate.findByStreamId(STREAM, 0, 2)).thenReturn(hot);
+        when(index.findByStreamId(STREAM)).thenReturn(List.of());
+
+        assertThat(adapter.findByStreamId(STREAM, 0, 2)).isSameAs(hot);
+    }
+
+    @Test
+    void should_ContinueWithNewestColdEvents_When_HotPageRunsOut() {
+        coldSegments();
+        when(delegate.findByStreamId(STREAM, 1, 4)).thenReturn(new Page<>(List.of(events.get(10)), 1, 4, 5));
+
+        Page<DataEvent> page = adapter.findByStreamId(STREAM, 1, 4);
+
+        assertThat(page.totalElements()).isEqualTo(15);
+        assertThat(page.content()).extracting(DataEvent::getEventId).containsExactly(
+                idOf(10), idOf(9), idOf(8), idOf(7));
+    }
+
+    @Test
+    void should_PageWithinColdTier_When_OffsetIsPastHotEvents() {
+        coldSegments();
+        when(delegate.findByStreamId(STREAM, 3, 4)).thenReturn(new Page<>(List.of(), 3, 4, 5));
+
+        Page<DataEvent> page = adapter.findByStreamId(STREAM, 3, 4);
+
+        assertThat(page.totalElements()).isEqualTo(15);
+        assertThat(page.content()).extracting(DataEvent::getEventId).containsExactly(idOf(2), idOf(1), idOf(0));
+    }
+
+    @Test
+    void should_ReadAcrossColdSegments_When_PageSpansTwoSegments() {
+        coldSegments();
+        when(delegate.findByStreamId(STREAM, 2, 4)).thenReturn(new Page<>(List.of(), 2, 4, 5));
+
+        Page<DataEvent> page = adapter.findByStreamId(STREAM, 2, 4);
+
+        assertThat(page.content()).extracting(DataEvent::getEventId).containsExactly(
+                idOf(6), idOf(5), idOf(4), idOf(3));
+    }
+
+    @Test
+    void should_ApplyFilterToColdEvents_When_Filtered() {
+        coldSegments();
+        DataEventFilter filter = new DataEventFilter(Map.of("parity", "even"), T0.plusSeconds(3), null);
+        when(delegate.findByStreamId(STREAM, filter, 0, 10))
+                .thenReturn(new Page<>(List.of(events.get(14), events.get(12), events.get(10)), 0, 10, 3));
+
+        Page<DataEvent> page = adapter.findByStreamId(STREAM, filter, 0, 10);
+
+        assertThat(page.totalElements()).isEqualTo(6);
+        assertThat(page.content()).extracting(DataEvent::getTimestamp).containsExactly(
+                T0.plusSeconds(14), T0.plusSeconds(12), T0.plusSeconds(10),
+                T0.plusSeconds(8), T0.plusSeconds(6), T0.plusSeconds(4));
+    }
+
+    @Test
+    void should_StreamColdBeforeHot_When_ForEachIsCalled() {
+        coldSegments();
+        doAnswer(inv -> {
+            Consumer<DataEvent> consumer = inv.getArgument(3);
+            events.subList(10, 12).forEach(consumer);
+            return null;
+        }).when(delegate).forEachByStreamId(eq(STREAM), eq(T0.plusSeconds(4)), eq(T0.plusSeconds(12)), any());
+
+        List<DataEvent> seen = new ArrayList<>();
+        adapter.forEachByStreamId(STREAM, T0.plusSeconds(4), T0.plusSeconds(12), seen::add);
+
+        assertThat(seen).extracting(DataEvent::getEventId)
+                .containsExactlyElementsOf(IntStream.range(4, 12).mapToObj(this::idOf).toList());
+    }
+
+    private UUID idOf(int i) {
+        return events.get(i).getEventId();
+    }
+
+    private void coldSegments() {
+        ColdSegment first = store.write(STREAM, events.subList(0, 5));
+        ColdSegment second = store.write(STREAM, events.subList(5, 10));
+        when(index.findByStreamId(STREAM)).thenReturn(List.of(first, second));
+    }
+}
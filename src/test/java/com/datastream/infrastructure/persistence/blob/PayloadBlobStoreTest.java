@@ -0,0 +1,115 @@
+package com.datastream.infrastructure.persistence.blob;
+
+import com.datastream.domain.valueobjects.EventPayload;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link PayloadBlobStore}.
+ */
+class PayloadBlobStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void should_KeepPayloadInline_When_AtOrBelowThreshold() {
+        PayloadBlobStore store = new PayloadBlobStore(dir, 3);
+
+        PayloadBlobStore.Stored stored = store.store(EventPayload.of(new byte[]{1, 2, 3}));
+
+        assertThat(stored.inline()).containsExactly(1, 2, 3);
+        assertThat(stored.reference()).isNull();
+    }
+
+    @Test
+    void should_StoreBySha256_When_AboveThreshold() {
+        PayloadBlobStore store = new PayloadBlobStore(dir, 3);
+
+        PayloadBlobStore.Stored stored = store.store(EventPayload.of("abcd".getBytes()));
+
+        assertThat(stored.inline()).isNull();
+        assertThat(stored.reference()).isEqualTo("88d4266fd4e6338d13b845fcf289579d209c897823b9217da3e161936f031589");
+        assertThat(store.load(null, stored.reference()).value()).isEqualTo("abcd".getBytes());
+    }
+
+    @Test
+    void should_WriteOneFile_When_SamePayloadIsStoredTwice() throws IOException {
+        PayloadBlobStore store = new PayloadBlobStore(dir, 0);
+
+        String first = store.put("same".getBytes());
+        String second = store.put("same".getBytes());
+
+        assertThat(first).isEqualTo(second);
+        try (Stream<Path> files = Files.walk(dir)) {
+            assertThat(files.filter(Files::isRegularFile)).hasSize(1);
+        }
+    }
+
+    @Test
+    void should_Fail_When_ReferenceIsMissingOrMalformed() {
+        PayloadBlobStore store = new PayloadBlobStore(dir, 0);
+
+        assertThatThrownBy(() -> store.get("0".repeat(64))).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> store.get("../../etc/passwd")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PayloadBlobStore.INLINE.get("0".repeat(64))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void should_DeleteOnlyUnreferencedBlobs_When_OlderThanGrace() throws IOException {
+        PayloadBlobStore store = new PayloadBlobStore(dir, 0);
+        String kept = store.put("kept".getBytes());
+        String orphan = store.put("orphan".getBytes());
+        Path stray = Files.writeString(dir.resolve(orphan.substring(0, 2)).resolve(orphan + ".x.tmp"), "partial");
+        List<List<String>> asked = new ArrayList<>();
+
+        int deleted = store.deleteUnreferenced(Instant.now().plusSeconds(60), references -> {
+            asked.add(references);
+            return Set.of(kept);
+        });
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(asked).hasSize(1);
+        assertThat(asked.get(0)).containsExactlyInAnyOrder(kept, orphan);
+        assertThat(store.get(kept)).isEqualTo("kept".getBytes());
+        assertThatThrownBy(() -> store.get(orphan)).isInstanceOf(IllegalStateException.class);
+        assertThat(stray).doesNotExist();
+    }
+
+    @Test
+    void should_KeepBlob_When_WrittenOrReusedWithinGrace() throws IOException {
+        PayloadBlobStore store = new PayloadBlobStore(dir, 0);
+        String recent = store.put("recent".getBytes());
+        String reused = store.put("reused".getBytes());
+        Path reusedFile = dir.resolve(reused.substring(0, 2)).resolve(reused);
+        Files.setLastModifiedTime(reusedFile, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+
+        store.put("reused".getBytes());
+        int deleted = store.deleteUnreferenced(Instant.now().minus(Duration.ofHours(1)), references -> Set.of());
+
+        assertThat(deleted).isZero();
+        assertThat(store.get(recent)).isEqualTo("recent".getBytes());
+        assertThat(store.get(reused)).isEqualTo("reused".getBytes());
+    }
+
+    @Test
+    void should_DeleteNothing_When_StoreIsInlineOrEmpty() {
+        assertThat(PayloadBlobStore.INLINE.deleteUnreferenced(Instant.now(), references -> Set.of())).isZero();
+        assertThat(new PayloadBlobStore(dir.resolve("missing"), 0).deleteUnreferenced(Instant.now(), references -> Set.of()))
+                .isZero();
+    }
+}
@@ -0,0 +1,190 @@
+package com.datastream.infrastructure.persistence.catalog;
+
+import com.datastream.domain.model.Page;
+import com.datastream.domain.model.Stream;
+import com.datastream.domain.model.StreamFilter;
+import com.datastream.domain.model.StreamStatus;
+import com.datastream.domain.model.StreamTransition;
+import com.datastream.domain.model.StreamType;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.domain.valueobjects.StreamName;
+import com.datastream.domain.valueobjects.UserId;
+import com.datastream.infrastructure.persistence.adapter.StreamRepositoryAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link StreamCatalogRepositoryAdapter}.
+ */
+@ExtendWith(MockitoExtension.class)
+class StreamCatalogRepositoryAdapterTest {
+
+    @Mock StreamRepositoryAdapter delegate;
+
+    private StreamCatalogRepositoryAdapter adapter;
+    private Stream stream;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new StreamCatalogRepositoryAdapter(delegate);
+        stream = Stream.create(StreamName.of("catalog-test"), null, UserId.of(UUID.randomUUID()), StreamType.EVENT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void should_ReadFromDatabase_When_CatalogNotLoaded() {
+        when(delegate.findById(stream.getId())).thenReturn(Optional.of(stream));
+
+        assertThat(adapter.findById(stream.getId())).contains(stream);
+        verify(delegate).findById(stream.getId());
+    }
+
+    @Test
+    void should_ServeReadsFromCatalog_When_Loaded() {
+        when(delegate.loadAll()).thenReturn(List.of(stream));
+        adapter.load();
+
+        Optional<Stream> found = adapter.findById(stream.getId());
+        Page<Stream> page = adapter.findAll(StreamFilter.empty(), 0, 10);
+
+        assertThat(found).map(Stream::getId).contains(stream.getId());
+        assertThat(page.totalElements()).isEqualTo(1L);
+        verify(delegate, never()).findById(any());
+        verify(delegate, never()).findAll(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void should_ReturnEmpty_When_LoadedCatalogHasNoSuchStream() {
+        when(delegate.loadAll()).thenReturn(List.of());
+        adapter.load();
+
+        assertThat(adapter.findById(StreamId.generate())).isEmpty();
+    }
+
+    @Test
+    void should_WriteThroughImmediately_When_NoTransactionActive() {
+        when(delegate.loadAll()).thenReturn(List.of());
+        adapter.load();
+        when(delegate.save(stream)).thenReturn(stream);
+
+        adapter.save(stream);
+        stream.activate();
+
+        assertThat(adapter.findById(stream.getId())).map(Stream::getStatus).contains(StreamStatus.DRAFT);
+    }
+
+    @Test
+    void should_AddToCatalog_When_StreamInserted() {
+        when(delegate.loadAll()).thenReturn(List.of());
+        adapter.load();
+        when(delegate.insert(stream)).thenReturn(stream);
+
+        adapter.insert(stream);
+
+        assertThat(adapter.findById(stream.getId())).isPresent();
+        verify(delegate, never()).save(any());
+    }
+
+    @Test
+    void should_DeferWriteUntilCommit_When_TransactionActive() {
+        when(delegate.loadAll()).thenReturn(List.of());
+        adapter.load();
+        when(delegate.save(stream)).thenReturn(stream);
+        TransactionSynchronizationManager.initSynchronization();
+
+        adapter.save(stream);
+        List<TransactionSynchronization> pending = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(adapter.findById(stream.getId())).isEmpty();
+        pending.forEach(TransactionSynchronization::afterCommit);
+        assertThat(adapter.findById(stream.getId())).isPresent();
+    }
+
+    @Test
+    void should_ReadFromDatabase_When_InsideActualTransaction() {
+        when(delegate.loadAll()).thenReturn(List.of(stream));
+        adapter.load();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        when(delegate.findById(stream.getId())).thenReturn(Optional.empty());
+
+        assertThat(adapter.findById(stream.getId())).isEmpty();
+    }
+
+    @Test
+    void should_RemoveFromCatalog_When_DeleteCalled() {
+        when(delegate.loadAll()).thenReturn(List.of(stream));
+        adapter.load();
+
+        adapter.delete(stream.getId());
+
+        verify(delegate).delete(stream.getId());
+        assertThat(adapter.findById(stream.getId())).isEmpty();
+    }
+
+    @Test
+    void should_PutNewVersionInCatalog_When_StreamUpdated() {
+        when(delegate.loadAll()).thenReturn(List.of(stream));
+        adapter.load();
+        Stream saved = Stream.reconstitute(stream.getId(), StreamName.of("renamed"), null, stream.getOwnerId(),
+                stream.getStreamType(), stream.getStatus(), stream.getCreatedAt(), stream.getUpdatedAt(), 1);
+        when(delegate.update(stream)).thenReturn(saved);
+
+        adapter.update(stream);
+
+        assertThat(adapter.findById(stream.getId())).hasValueSatisfying(s -> {
+            assertThat(s.getName().value()).isEqualTo("renamed");
+            assertThat(s.getVersion()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void should_UpdateCatalog_When_TransitionApplied() {
+        when(delegate.loadAll()).thenReturn(List.of(stream));
+        adapter.load();
+        Stream activated = StreamCatalog.copyOf(stream);
+        activated.activate();
+        when(delegate.transition(stream.getId(), StreamTransition.ACTIVATE)).thenReturn(Optional.of(activated));
+
+        assertThat(adapter.transition(stream.getId(), StreamTransition.ACTIVATE)).contains(activated);
+
+        assertThat(adapter.findById(stream.getId()))
+                .hasValueSatisfying(s -> assertThat(s.getStatus()).isEqualTo(StreamStatus.ACTIVE));
+    }
+
+    @Test
+    void should_LeaveCatalogUnchanged_When_TransitionRejected() {
+        when(delegate.loadAll()).thenReturn(List.of(stream));
+        adapter.load();
+        when(delegate.transition(stream.getId(), StreamTransition.DEACTIVATE)).thenReturn(Optional.empty());
+
+        assertThat(adapter.transition(stream.getId(), StreamTransition.DEACTIVATE)).isEmpty();
+
+        assertThat(adapter.findById(stream.getId()))
+                .hasValueSatisfying(s -> assertThat(s.getStatus()).isEqualTo(StreamStatus.DRAFT));
+    }
+}
@@ -0,0 +1,181 @@
+package com.datastream.infrastructure.persistence.catalog;
+
+import com.datastream.domain.model.Page;
+import com.datastream.domain.model.Stream;
+import com.datastream.domain.model.StreamFilter;
+import com.datastream.domain.model.StreamStatus;
+import com.datastream.domain.model.StreamType;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.domain.valueobjects.StreamName;
+import com.datastream.domain.valueobjects.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link StreamCatalog}.
+ */
+class StreamCatalogTest {
+
+    private static final Instant BASE = Instant.parse("2026-03-01T00:00:00Z");
+
+    private StreamCatalog catalog;
+    private final UserId owner = UserId.of(UUID.randomUUID());
+    private final UserId otherOwner = UserId.of(UUID.randomUUID());
+
+    @BeforeEach
+    void setUp() {
+        catalog = new StreamCatalog();
+    }
+
+    // -------------------------------------------------------------------------
+    // put / find / remove
+    // -------------------------------------------------------------------------
+
+    @Test
+    void should_ReturnStoredStream_When_FindCalledWithKnownId() {
+        Stream stream = stream("a", owner, StreamType.EVENT, StreamStatus.ACTIVE, 0);
+        catalog.put(stream);
+
+        Stream found = catalog.find(stream.getId()).orElseThrow();
+
+        assertThat(found.getName()).isEqualTo(stream.getName());
+        assertThat(found.getStatus()).isEqualTo(StreamStatus.ACTIVE);
+    }
+
+    @Test
+    void should_ReturnEmpty_When_FindCalledWithUnknownId() {
+        assertThat(catalog.find(StreamId.generate())).isEmpty();
+    }
+
+    @Test
+    void should_IsolateEntries_When_CallerMutatesStoredOrReturnedStream() {
+        Stream stream = stream("a", owner, StreamType.EVENT, StreamStatus.DRAFT, 0);
+        catalog.put(stream);
+
+        stream.activate();
+        catalog.find(stream.getId()).orElseThrow().softDelete();
+
+        assertThat(catalog.find(stream.getId()).orElseThrow().getStatus()).isEqualTo(StreamStatus.DRAFT);
+    }
+
+    @Test
+    void should_ReindexEntry_When_StreamReplacedWithNewStatus() {
+        Stream draft = stream("a", owner, StreamType.EVENT, StreamStatus.DRAFT, 0);
+        catalog.put(draft);
+        catalog.put(withStatus(draft, StreamStatus.ACTIVE, 10));
+
+        assertThat(catalog.findAll(filter(null, StreamStatus.DRAFT, null), 0, 10).totalElements()).isZero();
+        assertThat(catalog.findAll(filter(null, StreamStatus.ACTIVE, null), 0, 10).totalElements()).isEqualTo(1L);
+        assertThat(catalog.size()).isEqualTo(1);
+    }
+
+    @Test
+    void should_IgnoreStaleSnapshot_When_OlderUpdateArrivesAfterNewer() {
+        Stream draft = stream("a", owner, StreamType.EVENT, StreamStatus.DRAFT, 0);
+        catalog.put(withStatus(draft, StreamStatus.ACTIVE, 10));
+        catalog.put(draft);
+
+        assertThat(catalog.find(draft.getId()).orElseThrow().getStatus()).isEqualTo(StreamStatus.ACTIVE);
+    }
+
+    @Test
+    void should_RemoveFromAllIndexes_When_RemoveCalled() {
+        Stream stream = stream("a", owner, StreamType.LOG, StreamStatus.ACTIVE, 0);
+        catalog.put(stream);
+
+        catalog.remove(stream.getId());
+
+        assertThat(catalog.find(stream.getId())).isEmpty();
+        assertThat(catalog.findAll(filter(owner, null, null), 0, 10).content()).isEmpty();
+        assertThat(catalog.findAll(filter(null, null, StreamType.LOG), 0, 10).content()).isEmpty();
+        assertThat(catalog.size()).isZero();
+    }
+
+    @Test
+    void should_ReturnOnlyKnownStreamsOnce_When_FindAllByIdsCalled() {
+        Stream a = stream("a", owner, StreamType.EVENT, StreamStatus.ACTIVE, 0);
+        Stream b = stream("b", owner, StreamType.EVENT, StreamStatus.ACTIVE, 1);
+        catalog.put(a);
+        catalog.put(b);
+
+        assertThat(catalog.findAll(List.of(b.getId(), StreamId.generate(), a.getId(), b.getId())))
+                .extracting(Stream::getId).containsExactly(b.getId(), a.getId());
+    }
+
+    // -------------------------------------------------------------------------
+    // findAll
+    // -------------------------------------------------------------------------
+
+    @Test
+    void should_ApplyEveryCriterion_When_CombinedFilterProvided() {
+        Stream match = stream("match", owner, StreamType.EVENT, StreamStatus.ACTIVE, 0);
+        catalog.put(match);
+        catalog.put(stream("wrong-owner", otherOwner, StreamType.EVENT, StreamStatus.ACTIVE, 1));
+        catalog.put(stream("wrong-status", owner, StreamType.EVENT, StreamStatus.DRAFT, 2));
+        catalog.put(stream("wrong-type", owner, StreamType.METRIC, StreamStatus.ACTIVE, 3));
+
+        Page<Stream> page = catalog.findAll(filter(owner, StreamStatus.ACTIVE, StreamType.EVENT), 0, 10);
+
+        assertThat(page.content()).extracting(Stream::getId).containsExactly(match.getId());
+        assertThat(page.totalElements()).isEqualTo(1L);
+    }
+
+    @Test
+    void should_ReturnEmptyPage_When_NoStreamHasFilteredOwner() {
+        catalog.put(stream("a", owner, StreamType.EVENT, StreamStatus.ACTIVE, 0));
+
+        Page<Stream> page = catalog.findAll(filter(otherOwner, null, null), 0, 10);
+
+        assertThat(page.content()).isEmpty();
+        assertThat(page.totalElements()).isZero();
+    }
+
+    @Test
+    void should_PageInCreationOrder_When_ManyStreamsMatch() {
+        for (int i = 4; i >= 0; i--) {
+            catalog.put(stream("s" + i, owner, StreamType.EVENT, StreamStatus.ACTIVE, i));
+        }
+
+        Page<Stream> first = catalog.findAll(StreamFilter.empty(), 0, 2);
+        Page<Stream> last = catalog.findAll(StreamFilter.empty(), 2, 2);
+
+        assertThat(first.content()).extracting(s -> s.getName().value()).containsExactly("s0", "s1");
+        assertThat(last.content()).extracting(s -> s.getName().value()).containsExactly("s4");
+        assertThat(first.totalElements()).isEqualTo(5L);
+        assertThat(first.totalPages()).isEqualTo(3);
+    }
+
+    @Test
+    void should_IncludeDeletedStreams_When_NoStatusFilterProvided() {
+        catalog.put(stream("live", owner, StreamType.EVENT, StreamStatus.ACTIVE, 0));
+        catalog.put(stream("gone", owner, StreamType.EVENT, StreamStatus.DELETED, 1));
+
+        assertThat(catalog.findAll(StreamFilter.empty(), 0, 10).totalElements()).isEqualTo(2L);
+        assertThat(catalog.findAll(filter(null, StreamStatus.DELETED, null), 0, 10).content())
+                .extracting(s -> s.getName().value()).containsExactly("gone");
+    }
+
+    // -------------------------------------------------------------------------
+    // Helpers
+    // -------------------------------------------------------------------------
+
+    private static Stream stream(String name, UserId ownerId, StreamType type, StreamStatus status, int offsetSeconds) {
+        Instant at = BASE.plusSeconds(offsetSeconds);
+        return Stream.reconstitute(StreamId.generate(), StreamName.of(name), null, ownerId, type, status, at, at);
+    }
+
+    private static Stream withStatus(Stream stream, StreamStatus status, int updatedOffsetSeconds) {
+        return Stream.reconstitute(stream.getId(), stream.getName(), stream.getDescription(), stream.getOwnerId(),
+                stream.getStreamType(), status, stream.getCreatedAt(), BASE.plusSeconds(updatedOffsetSeconds));
+    }
+
+    private static StreamFilter filter(UserId ownerId, StreamStatus status, StreamType type) {
+        return new StreamFilter(ownerId, status, type);
+    }
+}
@@ -0,0 +1,52 @@
+package com.datastream.infrastructure.persistence.diagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link SqlNormalizer}.
+ */
+class SqlNormalizerTest {
+
+    @Test
+    void should_ReplaceLiterals_When_StatementInlinesValues() {
+        String sql = "select * from data_events where stream_id = '3f2c''9a' and sequence > 42 and ratio < 0.5";
+
+        assertThat(SqlNormalizer.normalize(sql))
+                .isEqualTo("select * from data_events where stream_id = ? and sequence > ? and ratio < ?");
+    }
+
+    @Test
+    void should_KeepIdentifiers_When_TheyContainDigits() {
+        String sql = "select de1_0.id, \"col 2\" from data_events de1_0 where de1_0.stream_id=$1";
+
+        assertThat(SqlNormalizer.normalize(sql))
+                .isEqualTo("select de1_0.id, \"col 2\" from data_events de1_0 where de1_0.stream_id=$1");
+    }
+
+    @Test
+    void should_CollapseWhitespaceAndDropComments_When_StatementIsFormatted() {
+        String sql = "/* load stream */\n  select id\n    from streams -- by id\n   where id = ?  ;";
+
+        assertThat(SqlNormalizer.normalize(sql)).isEqualTo("select id from streams where id = ?");
+    }
+
+    @Test
+    void should_FoldParameterLists_When_InListOrRowsVary() {
+        assertThat(SqlNormalizer.normalize("select id from streams where id in (?, ?, ?)"))
+                .isEqualTo("select id from streams where id in (?)");
+        assertThat(SqlNormalizer.normalize("insert into data_events (id, payload) values (?, ?), (?, ?), (?, ?)"))
+                .isEqualTo("insert into data_events (id, payload) values (?)");
+    }
+
+    @Test
+    void should_ReturnVerb_When_OperationRequested() {
+        assertThat(SqlNormalizer.operation("  SELECT 1")).isEqualTo("select");
+        assertThat(SqlNormalizer.operation("insert into streams values (?)")).isEqualTo("insert");
+        assertThat(SqlNormalizer.operation("update streams set name = ?")).isEqualTo("update");
+        assertThat(SqlNormalizer.operation("delete from streams")).isEqualTo("delete");
+        assertThat(SqlNormalizer.operation("with moved as (delete from data_events) select 1")).isEqualTo("other");
+        assertThat(SqlNormalizer.operation(null)).isEqualTo("other");
+    }
+}
@@ -0,0 +1,95 @@
+package com.datastream.infrastructure.persistence.diagnostics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link SqlStatementDiagnostics}.
+ */
+class SqlStatementDiagnosticsTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(300);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicReference<Double> random = new AtomicReference<>(0.99);
+
+    @Test
+    void should_TimeEveryStatementPerOperation_When_Recorded() {
+        SqlStatementDiagnostics diagnostics = diagnostics(0.0, 10);
+
+        diagnostics.record("select id from streams where id = ?", FAST);
+        diagnostics.record("SELECT 1", FAST);
+        diagnostics.record("insert into data_events values (?)", FAST);
+        diagnostics.record(null, FAST);
+
+        assertThat(operation("select").count()).isEqualTo(2);
+        assertThat(operation("insert").count()).isEqualTo(1);
+        assertThat(operation("other").count()).isEqualTo(1);
+        assertThat(registry.find("datastream.sql.statement").timers()).isEmpty();
+    }
+
+    @Test
+    void should_TimeNormalizedStatement_When_Slow() {
+        SqlStatementDiagnostics diagnostics = diagnostics(0.0, 10);
+
+        diagnostics.record("select id from streams where name = 'a'", SLOW);
+        diagnostics.record("select id from streams where name = 'b'", SLOW);
+
+        Timer slow = statement("select id from streams where name = ?", "slow");
+        assertThat(slow.count()).isEqualTo(2);
+        assertThat(slow.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(600);
+    }
+
+    @Test
+    void should_TimeStatementRegardlessOfDuration_When_Sampled() {
+        SqlStatementDiagnostics diagnostics = diagnostics(0.1, 10);
+
+        diagnostics.record("select id from streams", FAST);
+        random.set(0.05);
+        diagnostics.record("select id from streams", FAST);
+        diagnostics.record("select id from streams", SLOW);
+
+        assertThat(statement("select id from streams", "sampled").count()).isEqualTo(2);
+        assertThat(statement("select id from streams", "slow").count()).isEqualTo(1);
+        assertThat(operation("select").count()).isEqualTo(3);
+    }
+
+    @Test
+    void should_RecordUnderOther_When_MaxStatementsReached() {
+        SqlStatementDiagnostics diagnostics = diagnostics(0.0, 1);
+
+        diagnostics.record("select id from streams", SLOW);
+        diagnostics.record("select id from data_events", SLOW);
+        diagnostics.record("select id from streams", SLOW);
+
+        assertThat(statement("select id from streams", "slow").count()).isEqualTo(2);
+        assertThat(statement("other", "slow").count()).isEqualTo(1);
+    }
+
+    @Test
+    void should_Throw_When_SampleRateOutOfRange() {
+        assertThatThrownBy(() -> new SqlStatementDiagnostics(registry, Duration.ZERO, 1.5, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private SqlStatementDiagnostics diagnostics(double sampleRate, int maxStatements) {
+        return new SqlStatementDiagnostics(registry, Duration.ofMillis(200), sampleRate, maxStatements, random::get);
+    }
+
+    private Timer operation(String operation) {
+        return registry.get("datastream.sql.statements").tag("operation", operation).timer();
+    }
+
+    private Timer statement(String statement, String reason) {
+        return registry.get("datastream.sql.statement").tag("statement", statement).tag("reason", reason).timer();
+    }
+}
@@ -0,0 +1,110 @@
+package com.datastream.infrastructure.persistence.diagnostics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link StatementTimingDataSource}.
+ */
+@ExtendWith(MockitoExtension.class)
+class StatementTimingDataSourceTest {
+
+    @Mock DataSource target;
+    @Mock Connection connection;
+    @Mock PreparedStatement preparedStatement;
+    @Mock Statement statement;
+    @Mock CallableStatement callableStatement;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private StatementTimingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        dataSource = new StatementTimingDataSource(
+                target, new SqlStatementDiagnostics(registry, Duration.ZERO, 0.0, 10));
+    }
+
+    @Test
+    void should_TimePreparedSql_When_PreparedStatementExecutes() throws SQLException {
+        String sql = "insert into data_events (id) values (?)";
+        when(connection.prepareStatement(sql)).thenReturn(preparedStatement);
+        when(preparedStatement.executeBatch()).thenReturn(new int[] {1, 1});
+
+        try (Connection timed = dataSource.getConnection();
+             PreparedStatement insert = timed.prepareStatement(sql)) {
+            insert.setLong(1, 7);
+            insert.addBatch();
+            assertThat(insert.executeBatch()).containsExactly(1, 1);
+        }
+
+        verify(preparedStatement).setLong(1, 7);
+        verify(connection).close();
+        assertThat(registry.get("datastream.sql.statements").tag("operation", "insert").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get("datastream.sql.statement").tag("statement", sql).tag("reason", "slow").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void should_TimeExecutedSql_When_PlainStatementFails() throws SQLException {
+        SQLException failure = new SQLException("relation does not exist");
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeUpdate("delete from missing")).thenThrow(failure);
+
+        Statement timed = dataSource.getConnection().createStatement();
+
+        assertThatThrownBy(() -> timed.executeUpdate("delete from missing")).isSameAs(failure);
+        assertThat(registry.get("datastream.sql.statements").tag("operation", "delete").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void should_ReturnTimedConnection_When_StatementIsAskedForItsConnection() throws SQLException {
+        when(connection.createStatement()).thenReturn(statement);
+
+        Connection timed = dataSource.getConnection();
+
+        assertThat(timed.createStatement().getConnection()).isSameAs(timed);
+    }
+
+    @Test
+    void should_PassSettersStraightThrough_When_CallableStatementExecutes() throws SQLException {
+        String sql = "{call refresh_stats(?)}";
+        when(connection.prepareCall(sql)).thenReturn(callableStatement);
+        when(callableStatement.execute()).thenReturn(false);
+
+        CallableStatement call = dataSource.getConnection().prepareCall(sql);
+        call.setString(1, "stream");
+        call.execute();
+
+        assertThat(Proxy.isProxyClass(call.getClass())).isFalse();
+        verify(callableStatement).setString(1, "stream");
+        assertThat(registry.get("datastream.sql.statement").tag("statement", sql).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void should_ReachDriverObjects_When_Unwrapped() throws SQLException {
+        when(connection.unwrap(Connection.class)).thenReturn(connection);
+
+        assertThat(dataSource.getConnection().unwrap(Connection.class)).isSameAs(connection);
+    }
+}
@@ -0,0 +1,113 @@
+package com.datastream.infrastructure.persistence.jdbc;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.valueobjects.EventPayload;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.infrastructure.persistence.blob.PayloadBlobStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the binary row encoding of {@link DataEventCopyLoader}.
+ */
+class DataEventCopyLoaderTest {
+
+    private static final byte[] SIGNATURE = "PGCOPY\n\u00ff\r\n\0".getBytes(StandardCharsets.ISO_8859_1);
+
+    @Test
+    void should_WriteHeaderAndTrailerOnly_When_NoEvents() {
+        ByteBuffer buf = ByteBuffer.wrap(DataEventCopyLoader.encode(List.of(), PayloadBlobStore.INLINE));
+
+        assertSignatureAndHeader(buf);
+        assertThat(buf.getShort()).isEqualTo((short) -1);
+        assertThat(buf.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void should_EncodeEveryColumn_When_EventHasMetadata() {
+        UUID eventId = UUID.randomUUID();
+        StreamId streamId = StreamId.generate();
+        Instant timestamp = Instant.parse("2000-01-01T00:00:01.000002Z");
+        DataEvent event = DataEvent.reconstitute(
+                eventId, streamId, EventPayload.of(new byte[]{7, 8, 9}), Map.of("k", "v"), timestamp);
+
+        ByteBuffer buf = ByteBuffer.wrap(DataEventCopyLoader.encode(List.of(event), PayloadBlobStore.INLINE));
+
+        assertSignatureAndHeader(buf);
+        assertThat(buf.getShort()).isEqualTo((short) 6);
+        assertThat(buf.getInt()).isEqualTo(16);
+        assertThat(new UUID(buf.getLong(), buf.getLong())).isEqualTo(eventId);
+        assertThat(buf.getInt()).isEqualTo(16);
+        assertThat(new UUID(buf.getLong(), buf.getLong())).isEqualTo(streamId.value());
+        assertThat(buf.getInt()).isEqualTo(3);
+        assertThat(new byte[]{buf.get(), buf.get(), buf.get()}).containsExactly(7, 8, 9);
+
+        byte[] json = "{\"k\":\"v\"}".getBytes(StandardCharsets.UTF_8);
+        assertThat(buf.getInt()).isEqualTo(json.length + 1);
+        assertThat(buf.get()).isEqualTo((byte) 1);
+        byte[] actualJson = new byte[json.length];
+        buf.get(actualJson);
+        assertThat(actualJson).isEqualTo(json);
+
+        assertThat(buf.getInt()).isEqualTo(8);
+        assertThat(buf.getLong()).isEqualTo(1_000_002L);
+        assertThat(buf.getInt()).isEqualTo(-1);
+        assertThat(buf.getShort()).isEqualTo((short) -1);
+        assertThat(buf.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void should_EncodeNullMetadata_When_EventHasNoMetadata() {
+        DataEvent event = DataEvent.reconstitute(
+                UUID.randomUUID(), StreamId.generate(), EventPayload.of(new byte[0]), Map.of(), Instant.now());
+
+        ByteBuffer buf = ByteBuffer.wrap(DataEventCopyLoader.encode(List.of(event), PayloadBlobStore.INLINE));
+        buf.position(SIGNATURE.length + 8 + 2 + 2 * (4 + 16) + 4);
+
+        assertThat(buf.getInt()).isEqualTo(-1);
+    }
+
+    @Test
+    void should_CopyReferenceInsteadOfPayload_When_PayloadIsAboveThreshold(@TempDir Path dir) {
+        PayloadBlobStore blobStore = new PayloadBlobStore(dir, 2);
+        DataEvent event = DataEvent.reconstitute(
+                UUID.randomUUID(), StreamId.generate(), EventPayload.of(new byte[]{1, 2, 3}), Map.of(), Instant.now());
+
+        ByteBuffer buf = ByteBuffer.wrap(DataEventCopyLoader.encode(List.of(event), blobStore));
+        buf.position(SIGNATURE.length + 8 + 2 + 2 * (4 + 16));
+
+        assertThat(buf.getInt()).isEqualTo(-1);
+        assertThat(buf.getInt()).isEqualTo(-1);
+        buf.position(buf.position() + 4 + 8);
+        byte[] reference = new byte[buf.getInt()];
+        buf.get(reference);
+        assertThat(blobStore.get(new String(reference, StandardCharsets.US_ASCII))).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void should_CountFromPostgresEpoch_When_ConvertingTimestamps() {
+        assertThat(DataEventCopyLoader.toPgMicros(Instant.parse("2000-01-01T00:00:00Z"))).isZero();
+        assertThat(DataEventCopyLoader.toPgMicros(Instant.parse("1999-12-31T23:59:59Z"))).isEqualTo(-1_000_000L);
+        assertThat(DataEventCopyLoader.toPgMicros(Instant.parse("2026-03-01T12:00:00.123456789Z")))
+                .isEqualTo((Instant.parse("2026-03-01T12:00:00Z").getEpochSecond() - 946_684_800L) * 1_000_000L
+                        + 123_456L);
+    }
+
+    private static void assertSignatureAndHeader(ByteBuffer buf) {
+        byte[] signature = new byte[SIGNATURE.length];
+        buf.get(signature);
+        assertThat(signature).isEqualTo(SIGNATURE);
+        assertThat(buf.getInt()).isZero();
+        assertThat(buf.getInt()).isZero();
+    }
+}
@@ -0,0 +1,195 @@
+package com.datastream.infrastructure.persistence.log;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.valueobjects.EventPayload;
+import com.datastream.domain.valueobjects.StreamId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link StreamLog} and its {@link Segment} files.
+ */
+class StreamLogTest {
+
+    private static final StreamId STREAM = new StreamId(UUID.fromString("00000000-0000-0000-0000-000000000001"));
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void should_ReadBackEventsInOrder_When_Appended() {
+        try (StreamLog log = open(1 << 20)) {
+            List<DataEvent> events = events(0, 5);
+            log.append(events);
+
+            assertThat(log.startOffset()).isZero();
+            assertThat(log.endOffset()).isEqualTo(5);
+            assertThat(log.read(0, 10)).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(events);
+            assertThat(log.read(3, 10)).extracting(DataEvent::getEventId)
+                    .containsExactly(events.get(3).getEventId(), events.get(4).getEventId());
+        }
+    }
+
+    @Test
+    void should_RollSegments_When_SegmentSizeIsExceeded() {
+        try (StreamLog log = open(1024)) {
+            List<DataEvent> events = events(0, 50);
+            log.append(events);
+
+            assertThat(log.segmentCount()).isGreaterThan(1);
+            assertThat(log.read(0, 100)).extracting(DataEvent::getEventId)
+                    .containsExactlyElementsOf(events.stream().map(DataEvent::getEventId).toList());
+            assertThat(log.read(37, 1)).extracting(DataEvent::getEventId).containsExactly(events.get(37).getEventId());
+        }
+    }
+
+    @Test
+    void should_SeeEachAppend_When_TailIsReadBetweenAppends() {
+        try (StreamLog log = open(1 << 20)) {
+            for (int i = 0; i < 20; i++) {
+                DataEvent event = events(i, 1).get(0);
+                log.append(List.of(event));
+
+                assertThat(log.read(i, 10)).extracting(DataEvent::getEventId).containsExactly(event.getEventId());
+            }
+        }
+    }
+
+    @Test
+    void should_GrowActiveSegment_When_RecordExceedsSegmentSize() throws IOException {
+        DataEvent large = DataEvent.reconstitute(UUID.randomUUID(), STREAM, EventPayload.of(new byte[4096]),
+                Map.of(), T0);
+        try (StreamLog log = open(1024)) {
+            log.append(List.of(large));
+
+            assertThat(log.read(0, 1)).extracting(DataEvent::getEventId).containsExactly(large.getEventId());
+            log.append(events(1, 1));
+            assertThat(log.segmentCount()).isEqualTo(2);
+        }
+        assertThat(Files.size(dir.resolve(Segment.fileName(0)))).isBetween(4096L, 8192L);
+    }
+
+    @Test
+    void should_ReopenSealedAndActiveSegments_When_LogIsReopened() {
+        List<DataEvent> events = events(0, 50);
+        try (StreamLog log = open(1024)) {
+            log.append(events);
+        }
+
+        try (StreamLog log = open(1024)) {
+            assertThat(log.endOffset()).isEqualTo(50);
+            assertThat(log.read(0, 100)).hasSize(50);
+            log.append(events(50, 1));
+            assertThat(log.endOffset()).isEqualTo(51);
+        }
+    }
+
+    @Test
+    void should_TruncateTornRecord_When_ActiveSegmentIsRecovered() throws IOException {
+        try (StreamLog log = open(1 << 20)) {
+            log.append(events(0, 3));
+        }
+        Path segment = dir.resolve(Segment.fileName(0));
+        long intactSize = Files.size(segment);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 100, 1, 2, 3}));
+        }
+
+        try (StreamLog log = open(1 << 20)) {
+            assertThat(log.endOffset()).isEqualTo(3);
+        }
+        assertThat(Files.size(segment)).isEqualTo(intactSize);
+
+        try (StreamLog log = open(1 << 20)) {
+            log.append(events(3, 1));
+            assertThat(log.read(0, 10)).hasSize(4);
+        }
+    }
+
+    @Test
+    void should_ScanOnlyEventsInRange_When_TimeBoundsAreGiven() {
+        try (StreamLog log = open(1024)) {
+            log.append(events(0, 50));
+
+            List<DataEvent> scanned = new ArrayList<>();
+            log.scan(T0.plusSeconds(10), T0.plusSeconds(20), scanned::add);
+
+            assertThat(scanned).extracting(DataEvent::getTimestamp)
+                    .containsExactlyElementsOf(IntStream.range(10, 20).mapToObj(T0::plusSeconds).toList());
+        }
+    }
+
+    @Test
+    void should_DeleteOnlyExpiredSealedSegments_When_RetentionApplies() {
+        try (StreamLog log = open(1024)) {
+            log.append(events(0, 50));
+            int before = log.segmentCount();
+
+            int deleted = log.deleteBefore(T0.plusSeconds(25));
+
+            assertThat(deleted).isPositive();
+            assertThat(log.segmentCount()).isEqualTo(before - deleted);
+            assertThat(log.startOffset()).isPositive().isLessThanOrEqualTo(25);
+            assertThat(log.read(0, 100).get(0).getTimestamp()).isEqualTo(T0.plusSeconds(log.startOffset()));
+
+            log.deleteBefore(T0.plusSeconds(1000));
+            assertThat(log.segmentCount()).isEqualTo(1);
+            assertThat(log.endOffset()).isEqualTo(50);
+        }
+    }
+
+    @Test
+    void should_AssignDistinctOffsets_When_AppendingConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (StreamLog log = StreamLog.open(STREAM, dir, 4096, 256, true)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 25; i++) {
+                        log.append(events(thread * 25 + i, 1));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            assertThat(log.endOffset()).isEqualTo(100);
+            assertThat(log.read(0, 200)).extracting(DataEvent::getEventId).doesNotHaveDuplicates().hasSize(100);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private StreamLog open(long segmentSize) {
+        return StreamLog.open(STREAM, dir, segmentSize, 128, false);
+    }
+
+    private static List<DataEvent> events(int first, int count) {
+        return IntStream.range(first, first + count)
+                .mapToObj(i -> DataEvent.reconstitute(UUID.randomUUID(), STREAM,
+                        EventPayload.of(("payload-" + i).getBytes()), Map.of("n", String.valueOf(i)),
+                        T0.plusSeconds(i)))
+                .toList();
+    }
+}
@@ -0,0 +1,133 @@
+package com.datastream.infrastructure.persistence.memory;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.model.DataEventFilter;
+import com.datastream.domain.model.Page;
+import com.datastream.domain.valueobjects.EventPayload;
+import com.datastream.domain.valueobjects.StreamId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link InMemoryDataEventRepository}.
+ */
+class InMemoryDataEventRepositoryTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+    private InMemoryDataEventRepository repository;
+    private final StreamId streamId = StreamId.generate();
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryDataEventRepository();
+    }
+
+    @Test
+    void should_ReturnEmptyPage_When_StreamHasNoEvents() {
+        Page<DataEvent> page = repository.findByStreamId(StreamId.generate(), 0, 10);
+
+        assertThat(page.content()).isEmpty();
+        assertThat(page.totalElements()).isZero();
+    }
+
+    @Test
+    void should_PageNewestFirst_When_NoFilterGiven() {
+        List<DataEvent> events = events(0, 100);
+        repository.saveAll(events);
+
+        Page<DataEvent> second = repository.findByStreamId(streamId, 1, 10);
+
+        assertThat(second.totalElements()).isEqualTo(100);
+        assertThat(second.content()).hasSize(10);
+        assertThat(second.content().get(0).getTimestamp()).isEqualTo(T0.plusSeconds(89));
+        assertThat(second.content().get(9).getTimestamp()).isEqualTo(T0.plusSeconds(80));
+    }
+
+    @Test
+    void should_ApplyTimeRangeAndMetadata_When_FilterGiven() {
+        repository.saveAll(events(0, 100));
+        DataEventFilter filter = new DataEventFilter(Map.of("parity", "even"), T0.plusSeconds(10), T0.plusSeconds(20));
+
+        Page<DataEvent> page = repository.findByStreamId(streamId, filter, 0, 3);
+
+        assertThat(page.totalElements()).isEqualTo(5);
+        assertThat(page.content()).extracting(DataEvent::getTimestamp)
+                .containsExactly(T0.plusSeconds(18), T0.plusSeconds(16), T0.plusSeconds(14));
+    }
+
+    @Test
+    void should_KeepTimestampOrder_When_EventsArriveOutOfOrder() {
+        repository.saveAll(events(10, 20));
+        repository.save(event(5));
+        repository.saveAll(List.of(event(15), event(25), event(0)));
+
+        List<Instant> seen = new ArrayList<>();
+        repository.forEachByStreamId(streamId, null, null, e -> seen.add(e.getTimestamp()));
+
+        assertThat(seen).hasSize(14).isSorted();
+        assertThat(seen.get(0)).isEqualTo(T0);
+        assertThat(seen.get(seen.size() - 1)).isEqualTo(T0.plusSeconds(25));
+    }
+
+    @Test
+    void should_StreamRangeAscending_When_ForEachCalledWithBounds() {
+        repository.saveAll(events(0, 50));
+
+        List<Instant> seen = new ArrayList<>();
+        repository.forEachByStreamId(streamId, T0.plusSeconds(40), T0.plusSeconds(43), e -> seen.add(e.getTimestamp()));
+
+        assertThat(seen).containsExactly(T0.plusSeconds(40), T0.plusSeconds(41), T0.plusSeconds(42));
+    }
+
+    @Test
+    void should_KeepEveryEvent_When_AppendedConcurrently() throws Exception {
+        int threads = 8;
+        int perThread = 2_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    repository.save(event(i));
+                    repository.findByStreamId(streamId, 0, 5);
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        List<Instant> seen = new ArrayList<>();
+        repository.forEachByStreamId(streamId, null, null, e -> seen.add(e.getTimestamp()));
+        assertThat(seen).hasSize(threads * perThread).isSorted();
+    }
+
+    private List<DataEvent> events(int fromSecond, int toSecond) {
+        return IntStream.range(fromSecond, toSecond).mapToObj(this::event).toList();
+    }
+
+    private DataEvent event(int second) {
+        return DataEvent.reconstitute(UUID.randomUUID(), streamId, EventPayload.of(new byte[]{(byte) second}),
+                Map.of("parity", second % 2 == 0 ? "even" : "odd"), T0.plusSeconds(second));
+    }
+}
@@ -0,0 +1,112 @@
+package com.datastream.infrastructure.persistence.memory;
+
+import com.datastream.domain.exception.ConcurrentStreamModificationException;
+import com.datastream.domain.exception.StreamAlreadyExistsException;
+import com.datastream.domain.model.Stream;
+import com.datastream.domain.model.StreamFilter;
+import com.datastream.domain.model.StreamStatus;
+import com.datastream.domain.model.StreamTransition;
+import com.datastream.domain.model.StreamType;
+import com.datastream.domain.valueobjects.StreamId;
+import com.datastream.domain.valueobjects.StreamName;
+import com.datastream.domain.valueobjects.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link InMemoryStreamRepository}.
+ */
+class InMemoryStreamRepositoryTest {
+
+    private static final Instant BASE = Instant.parse("2026-03-01T00:00:00Z");
+
+    private InMemoryStreamRepository repository;
+    private final UserId owner = UserId.of(UUID.randomUUID());
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryStreamRepository();
+    }
+
+    @Test
+    void should_RejectDuplicateName_When_InsertingSecondStreamWithSameName() {
+        repository.insert(stream("orders", 0));
+
+        assertThatThrownBy(() -> repository.insert(stream("orders", 1)))
+                .isInstanceOf(StreamAlreadyExistsException.class);
+    }
+
+    @Test
+    void should_ReleaseOldName_When_UpdateRenamesStream() {
+        Stream inserted = repository.insert(stream("orders", 0));
+        inserted.updateConfig(StreamName.of("payments"), "renamed");
+
+        Stream updated = repository.update(inserted);
+
+        assertThat(updated.getVersion()).isEqualTo(inserted.getVersion() + 1);
+        repository.insert(stream("orders", 1));
+        assertThatThrownBy(() -> repository.insert(stream("payments", 2)))
+                .isInstanceOf(StreamAlreadyExistsException.class);
+    }
+
+    @Test
+    void should_Throw_When_UpdateCarriesStaleVersion() {
+        Stream inserted = repository.insert(stream("orders", 0));
+        Stream stale = repository.findById(inserted.getId()).orElseThrow();
+        inserted.updateConfig(StreamName.of("orders"), "first");
+        repository.update(inserted);
+
+        stale.updateConfig(StreamName.of("orders"), "second");
+
+        assertThatThrownBy(() -> repository.update(stale))
+                .isInstanceOf(ConcurrentStreamModificationException.class);
+        assertThat(repository.findById(inserted.getId()).orElseThrow().getDescription()).isEqualTo("first");
+    }
+
+    @Test
+    void should_ApplyTransitionOnlyFromAllowedStatus() {
+        Stream inserted = repository.insert(stream("orders", 0));
+
+        Stream active = repository.transition(inserted.getId(), StreamTransition.ACTIVATE).orElseThrow();
+
+        assertThat(active.getStatus()).isEqualTo(StreamStatus.ACTIVE);
+        assertThat(active.getVersion()).isEqualTo(inserted.getVersion() + 1);
+        assertThat(repository.transition(inserted.getId(), StreamTransition.ACTIVATE)).isEmpty();
+        assertThat(repository.transition(StreamId.generate(), StreamTransition.DELETE)).isEmpty();
+    }
+
+    @Test
+    void should_FilterAndPageInCreationOrder_When_FindAllCalled() {
+        repository.insert(stream("c", 2));
+        repository.insert(stream("a", 0));
+        Stream b = repository.insert(stream("b", 1));
+        repository.transition(b.getId(), StreamTransition.ACTIVATE);
+
+        assertThat(repository.findAll(new StreamFilter(owner, null, null), 0, 2).content())
+                .extracting(s -> s.getName().value()).containsExactly("a", "b");
+        assertThat(repository.findAll(new StreamFilter(null, StreamStatus.DRAFT, null), 0, 10).totalElements())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void should_FreeName_When_StreamDeleted() {
+        Stream inserted = repository.insert(stream("orders", 0));
+
+        repository.delete(inserted.getId());
+
+        assertThat(repository.findById(inserted.getId())).isEmpty();
+        repository.insert(stream("orders", 1));
+    }
+
+    private Stream stream(String name, int offsetSeconds) {
+        Instant at = BASE.plusSeconds(offsetSeconds);
+        return Stream.reconstitute(StreamId.generate(), StreamName.of(name), null, owner, StreamType.EVENT,
+                StreamStatus.DRAFT, at, at);
+    }
+}
@@ -0,0 +1,154 @@
+package com.datastream.infrastructure.persistence.offheap;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.valueobjects.EventPayload;
+import com.datastream.domain.valueobjects.StreamId;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link OffHeapStream} and {@link OffHeapEventStore}.
+ */
+class OffHeapStreamTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+    private static final int CHUNK = 4096;
+
+    private final StreamId streamId = StreamId.generate();
+
+    @Test
+    void should_RoundTripEvents_When_AppendedAndScanned() {
+        OffHeapStream stream = new OffHeapEventStore(CHUNK, 64L * CHUNK).forWrite(streamId);
+        List<DataEvent> events = events(streamId, 0, 200);
+
+        stream.append(events);
+
+        List<DataEvent> read = new ArrayList<>();
+        stream.scan(null, null, read::add);
+        assertThat(read).extracting(DataEvent::getEventId)
+                .containsExactlyElementsOf(events.stream().map(DataEvent::getEventId).toList());
+        assertThat(read.get(7).getPayload().value()).isEqualTo(events.get(7).getPayload().value());
+        assertThat(read.get(7).getMetadata()).isEqualTo(Map.of("parity", "odd"));
+        assertThat(read.get(7).getStreamId()).isEqualTo(streamId);
+        assertThat(stream.endOffset()).isEqualTo(200);
+    }
+
+    @Test
+    void should_ApplyTimeBounds_When_EventsArriveOutOfOrder() {
+        OffHeapStream stream = new OffHeapEventStore(CHUNK, 64L * CHUNK).forWrite(streamId);
+        stream.append(events(streamId, 10, 20));
+        stream.append(events(streamId, 0, 5));
+
+        List<Instant> seen = new ArrayList<>();
+        stream.scan(T0.plusSeconds(3), T0.plusSeconds(12), e -> seen.add(e.getTimestamp()));
+
+        assertThat(seen).containsExactly(T0.plusSeconds(10), T0.plusSeconds(11), T0.plusSeconds(3), T0.plusSeconds(4));
+        assertThat(stream.count(T0.plusSeconds(3), T0.plusSeconds(12))).isEqualTo(4);
+    }
+
+    @Test
+    void should_SkipFromIndexAndStop_When_ScanningDescending() {
+        OffHeapStream stream = new OffHeapEventStore(CHUNK, 64L * CHUNK).forWrite(streamId);
+        stream.append(events(streamId, 0, 100));
+
+        List<Instant> seen = new ArrayList<>();
+        stream.scanDescending(null, T0.plusSeconds(50), 5, e -> seen.add(e.getTimestamp()) && seen.size() < 3);
+
+        assertThat(seen).containsExactly(T0.plusSeconds(44), T0.plusSeconds(43), T0.plusSeconds(42));
+    }
+
+    @Test
+    void should_EvictOldestEventsAndStayWithinBudget_When_BudgetExceeded() {
+        OffHeapEventStore store = new OffHeapEventStore(CHUNK, 4L * CHUNK);
+        OffHeapStream stream = store.forWrite(streamId);
+
+        stream.append(events(streamId, 0, 2_000));
+
+        assertThat(store.allocatedBytes()).isEqualTo(4L * CHUNK);
+        assertThat(store.evictedChunks()).isPositive();
+        assertThat(stream.startOffset()).isPositive();
+        List<DataEvent> read = new ArrayList<>();
+        stream.scan(null, null, read::add);
+        assertThat(read).hasSize((int) (stream.endOffset() - stream.startOffset()));
+        assertThat(read.get(read.size() - 1).getTimestamp()).isEqualTo(T0.plusSeconds(1_999));
+        assertThat(stream.count(null, null)).isEqualTo(read.size());
+    }
+
+    @Test
+    void should_EvictAcrossStreamsInAcquisitionOrder_When_BudgetShared() {
+        OffHeapEventStore store = new OffHeapEventStore(CHUNK, 2L * CHUNK);
+        StreamId otherId = StreamId.generate();
+        OffHeapStream first = store.forWrite(streamId);
+        OffHeapStream second = store.forWrite(otherId);
+
+        first.append(events(streamId, 0, 10));
+        second.append(events(otherId, 0, 10));
+        second.append(events(otherId, 10, 400));
+
+        assertThat(first.count(null, null)).isZero();
+        assertThat(first.startOffset()).isEqualTo(first.endOffset());
+        first.append(events(streamId, 10, 11));
+        assertThat(first.count(null, null)).isEqualTo(1);
+    }
+
+    @Test
+    void should_Reject_When_EventLargerThanChunk() {
+        OffHeapStream stream = new OffHeapEventStore(CHUNK, 4L * CHUNK).forWrite(streamId);
+        DataEvent large = DataEvent.reconstitute(UUID.randomUUID(), streamId, EventPayload.of(new byte[CHUNK]),
+                Map.of(), T0);
+
+        assertThatThrownBy(() -> stream.append(List.of(large))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_NeverReturnCorruptEvents_When_ReadingWhileChunksAreRecycled() throws Exception {
+        OffHeapEventStore store = new OffHeapEventStore(CHUNK, 3L * CHUNK);
+        OffHeapStream stream = store.forWrite(streamId);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        pool.execute(() -> {
+            for (int i = 0; i < 200; i++) {
+                stream.append(events(streamId, i * 50, (i + 1) * 50));
+            }
+            done.countDown();
+        });
+        pool.execute(() -> {
+            try {
+                while (done.getCount() > 0) {
+                    stream.scan(null, null, e -> {
+                        int second = (int) (e.getTimestamp().getEpochSecond() - T0.getEpochSecond());
+                        assertThat(e.getPayload().value()).containsExactly((byte) second);
+                    });
+                }
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        pool.shutdown();
+        assertThat(pool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(failure.get()).isNull();
+    }
+
+    private static List<DataEvent> events(StreamId streamId, int fromSecond, int toSecond) {
+        return IntStream.range(fromSecond, toSecond)
+                .mapToObj(i -> DataEvent.reconstitute(UUID.randomUUID(), streamId, EventPayload.of(new byte[]{(byte) i}),
+                        Map.of("parity", i % 2 == 0 ? "even" : "odd"), T0.plusSeconds(i)))
+                .toList();
+    }
+}
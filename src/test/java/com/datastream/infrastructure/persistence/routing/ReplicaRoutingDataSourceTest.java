@@ -0,0 +1,216 @@
+package com.datastream.infrastructure.persistence.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ReplicaRoutingDataSource} and {@link ReadYourWritesTracker}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock DataSource primary;
+    @Mock DataSource replicaA;
+    @Mock DataSource replicaB;
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaAConnection = mock(Connection.class);
+    private final Connection replicaBConnection = mock(Connection.class);
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicReference<String> clientId = new AtomicReference<>("client-1");
+
+    private ReadYourWritesTracker tracker;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ReadYourWritesTracker(Duration.ofSeconds(1), clock::get);
+        routing = new ReplicaRoutingDataSource(primary, List.of(replicaA, replicaB), tracker, clientId::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    // -------------------------------------------------------------------------
+    // Routing
+    // -------------------------------------------------------------------------
+
+    @Test
+    void should_UsePrimary_When_NoReadOnlyTransaction() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        verify(replicaA, never()).getConnection();
+    }
+
+    @Test
+    void should_RoundRobinReplicas_When_ReadOnlyTransaction() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaA.getConnection()).thenReturn(replicaAConnection);
+        when(replicaB.getConnection()).thenReturn(replicaBConnection);
+
+        assertThat(routing.getConnection()).isSameAs(replicaAConnection);
+        assertThat(routing.getConnection()).isSameAs(replicaBConnection);
+        assertThat(routing.getConnection()).isSameAs(replicaAConnection);
+    }
+
+    @Test
+    void should_FailOverToNextReplica_When_ReplicaUnreachable() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaA.getConnection()).thenThrow(new SQLException("down"));
+        when(replicaB.getConnection()).thenReturn(replicaBConnection);
+
+        assertThat(routing.getConnection()).isSameAs(replicaBConnection);
+        assertThat(routing.getConnection()).isSameAs(replicaBConnection);
+        assertThat(routing.healthyReplicaCount()).isEqualTo(1);
+    }
+
+    @Test
+    void should_FallBackToPrimary_When_NoReplicaHealthy() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaA.getConnection()).thenThrow(new SQLException("down"));
+        when(replicaB.getConnection()).thenThrow(new SQLException("down"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(routing.healthyReplicaCount()).isZero();
+    }
+
+    // -------------------------------------------------------------------------
+    // checkReplicas
+    // -------------------------------------------------------------------------
+
+    @Test
+    void should_RestoreReplica_When_HealthCheckSucceeds() throws SQLException {
+        when(replicaA.getConnection())
+                .thenThrow(new SQLException("down"))
+                .thenReturn(replicaAConnection);
+        when(replicaB.getConnection()).thenReturn(replicaBConnection);
+        when(replicaAConnection.isValid(anyInt())).thenReturn(true);
+        when(replicaBConnection.isValid(anyInt())).thenReturn(true);
+
+        routing.checkReplicas();
+        assertThat(routing.healthyReplicaCount()).isEqualTo(1);
+
+        routing.checkReplicas();
+        assertThat(routing.healthyReplicaCount()).isEqualTo(2);
+        verify(replicaAConnection).close();
+    }
+
+    @Test
+    void should_MarkReplicaDown_When_ConnectionInvalid() throws SQLException {
+        when(replicaA.getConnection()).thenReturn(replicaAConnection);
+        when(replicaB.getConnection()).thenReturn(replicaBConnection);
+        when(replicaAConnection.isValid(anyInt())).thenReturn(false);
+        when(replicaBConnection.isValid(anyInt())).thenReturn(true);
+
+        routing.checkReplicas();
+
+        assertThat(routing.healthyReplicaCount()).isEqualTo(1);
+    }
+
+    // -------------------------------------------------------------------------
+    // Read-your-writes
+    // -------------------------------------------------------------------------
+
+    @Test
+    void should_ReadFromPrimary_When_ClientCommittedWithinWindow() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replicaA.getConnection()).thenReturn(replicaAConnection);
+
+        commitWriteTransaction();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(routing.getConnection()).isSameAs(replicaAConnection);
+    }
+
+    @Test
+    void should_ReadFromReplica_When_OtherClientWrote() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replicaA.getConnection()).thenReturn(replicaAConnection);
+
+        commitWriteTransaction();
+
+        clientId.set("client-2");
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.getConnection()).isSameAs(replicaAConnection);
+    }
+
+    @Test
+    void should_NotTrackWrite_When_TransactionNotCommitted() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        routing.getConnection();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(tracker.wroteRecently("client-1")).isFalse();
+    }
+
+    @Test
+    void should_EvictExpiredClients_When_HealthCheckRuns() throws SQLException {
+        when(replicaA.getConnection()).thenReturn(replicaAConnection);
+        when(replicaB.getConnection()).thenReturn(replicaBConnection);
+        tracker.recordWrite("client-1");
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+
+        routing.checkReplicas();
+
+        assertThat(tracker.size()).isZero();
+    }
+
+    @Test
+    void should_IgnoreWrites_When_WindowIsZero() {
+        ReadYourWritesTracker disabled = new ReadYourWritesTracker(Duration.ZERO, clock::get);
+
+        disabled.recordWrite("client-1");
+
+        assertThat(disabled.wroteRecently("client-1")).isFalse();
+        assertThat(disabled.size()).isZero();
+    }
+
+    // -------------------------------------------------------------------------
+    // Helpers
+    // -------------------------------------------------------------------------
+
+    private void commitWriteTransaction() throws SQLException {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        routing.getConnection();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+}
@@ -0,0 +1,92 @@
+package com.datastream.infrastructure.persistence.tiering;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.valueobjects.EventPayload;
+import com.datastream.domain.valueobjects.StreamId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link ColdSegmentCodec}.
+ */
+class ColdSegmentCodecTest {
+
+    private static final StreamId STREAM = StreamId.generate();
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00.123456Z");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void should_PreserveAllFields_When_RoundTripped() throws IOException {
+        List<DataEvent> events = List.of(
+                event(T0, new byte[]{1, 2, 3}, Map.of("k", "v")),
+                event(T0.plusMillis(5), new byte[0], Map.of()),
+                event(T0.minusSeconds(1), "x".getBytes(StandardCharsets.UTF_8), Map.of("a", "b", "c", "d")));
+
+        List<DataEvent> decoded = new ArrayList<>();
+        try (ColdSegmentCodec.Reader reader = open(ColdSegmentCodec.encode(events))) {
+            reader.forEachRemaining(decoded::add);
+        }
+
+        assertThat(decoded).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(events);
+    }
+
+    @Test
+    void should_ContinueAfterSkippedEvents_When_Skipping() throws IOException {
+        List<DataEvent> events = IntStream.range(0, 100)
+                .mapToObj(i -> event(T0.plusMillis(i), new byte[i], Map.of("i", String.valueOf(i))))
+                .toList();
+
+        try (ColdSegmentCodec.Reader reader = open(ColdSegmentCodec.encode(events))) {
+            reader.skip(97);
+
+            assertThat(reader.next()).usingRecursiveComparison().isEqualTo(events.get(97));
+            reader.skip(10);
+            assertThat(reader.hasNext()).isFalse();
+        }
+    }
+
+    @Test
+    void should_CompressWellBelowRawSize_When_EventsAreSimilar() {
+        List<DataEvent> events = IntStream.range(0, 1000)
+                .mapToObj(i -> event(T0.plusMillis(i * 10L),
+                        ("{\"sensor\":\"s-1\",\"reading\":" + (i % 50) + "}").getBytes(StandardCharsets.UTF_8),
+                        Map.of("source", "sensor", "region", "eu-west")))
+                .toList();
+        int raw = events.stream().mapToInt(e -> e.getPayload().value().length + 16 + 8 + 40).sum();
+
+        byte[] encoded = ColdSegmentCodec.encode(events);
+
+        assertThat(encoded.length).isLessThan(raw / 2);
+    }
+
+    @Test
+    void should_Reject_When_BytesAreNotASegment() {
+        assertThatThrownBy(() -> open(new byte[]{0, 1, 2, 3, 4, 5, 6, 7, 8}))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private ColdSegmentCodec.Reader open(byte[] segment) throws IOException {
+        Path file = Files.write(dir.resolve("segment.cold"), segment);
+        return ColdSegmentCodec.open(file, STREAM);
+    }
+
+    private static DataEvent event(Instant timestamp, byte[] payload, Map<String, String> metadata) {
+        return DataEvent.reconstitute(UUID.randomUUID(), STREAM, EventPayload.of(payload), metadata, timestamp);
+    }
+}
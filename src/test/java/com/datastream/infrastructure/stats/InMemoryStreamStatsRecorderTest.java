@@ -0,0 +1,155 @@
+package com.datastream.infrastructure.stats;
+
+import com.datastream.domain.model.DataEvent;
+import com.datastream.domain.model.StreamStats;
+import com.datastream.domain.repository.StreamStatsRepository;
+import com.datastream.domain.valueobjects.EventPayload;
+import com.datastream.domain.valueobjects.StreamId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link InMemoryStreamStatsRecorder}.
+ */
+@ExtendWith(MockitoExtension.class)
+class InMemoryStreamStatsRecorderTest {
+
+    private static final Instant T0 = Instant.parse("2026-03-01T12:00:00.123456Z");
+
+    @Mock StreamStatsRepository streamStatsRepository;
+
+    private InMemoryStreamStatsRecorder recorder;
+    private StreamId streamA;
+    private StreamId streamB;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new InMemoryStreamStatsRecorder(streamStatsRepository);
+        streamA = StreamId.generate();
+        streamB = StreamId.generate();
+    }
+
+    // -------------------------------------------------------------------------
+    // record / pending
+    // -------------------------------------------------------------------------
+
+    @Test
+    void should_AccumulatePendingStats_When_EventsRecorded() {
+        recorder.record(eventFor(streamA, 10, T0.plusSeconds(30)));
+        recorder.record(eventFor(streamA, 5, T0));
+
+        StreamStats pending = recorder.pending(streamA);
+
+        assertThat(pending.eventCount()).isEqualTo(2);
+        assertThat(pending.totalPayloadBytes()).isEqualTo(15);
+        assertThat(pending.firstEventAt()).isEqualTo(T0);
+        assertThat(pending.lastEventAt()).isEqualTo(T0.plusSeconds(30));
+    }
+
+    @Test
+    void should_ReturnEmptyPending_When_NothingRecorded() {
+        assertThat(recorder.pending(streamA)).isEqualTo(StreamStats.empty(streamA));
+    }
+
+    @Test
+    void should_CountEveryEvent_When_RecordedConcurrently() throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8_000; i++) {
+            pool.execute(() -> recorder.record(eventFor(streamA, 3, T0)));
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(recorder.pending(streamA).eventCount()).isEqualTo(8_000);
+        assertThat(recorder.pending(streamA).totalPayloadBytes()).isEqualTo(24_000);
+    }
+
+    // -------------------------------------------------------------------------
+    // flush
+    // -------------------------------------------------------------------------
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_PersistAllStreamsInOneBatch_When_Flushed() {
+        recorder.record(eventFor(streamA, 10, T0));
+        recorder.record(eventFor(streamB, 20, T0));
+
+        recorder.flush();
+
+        ArgumentCaptor<Collection<StreamStats>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(streamStatsRepository).mergeAll(captor.capture());
+        assertThat(captor.getValue()).extracting(StreamStats::streamId).containsExactlyInAnyOrder(streamA, streamB);
+        assertThat(recorder.pending(streamA)).isEqualTo(StreamStats.empty(streamA));
+    }
+
+    @Test
+    void should_KeepIncrementPending_When_ReadDuringFlush() {
+        recorder.record(eventFor(streamA, 10, T0));
+        StreamStats[] duringFlush = new StreamStats[1];
+        doAnswer(inv -> {
+            duringFlush[0] = recorder.pending(streamA);
+            return null;
+        }).when(streamStatsRepository).mergeAll(anyCollection());
+
+        recorder.flush();
+
+        assertThat(duringFlush[0].eventCount()).isEqualTo(1);
+        assertThat(duringFlush[0].totalPayloadBytes()).isEqualTo(10);
+        assertThat(recorder.pending(streamA)).isEqualTo(StreamStats.empty(streamA));
+    }
+
+    @Test
+    void should_NotCallRepository_When_NothingPending() {
+        recorder.flush();
+
+        verify(streamStatsRepository, never()).mergeAll(anyCollection());
+    }
+
+    @Test
+    void should_RestorePendingStats_When_FlushFails() {
+        recorder.record(eventFor(streamA, 10, T0));
+        doThrow(new IllegalStateException("db down")).when(streamStatsRepository).mergeAll(anyCollection());
+
+        recorder.flush();
+
+        StreamStats pending = recorder.pending(streamA);
+        assertThat(pending.eventCount()).isEqualTo(1);
+        assertThat(pending.totalPayloadBytes()).isEqualTo(10);
+        assertThat(pending.firstEventAt()).isEqualTo(T0);
+    }
+
+    @Test
+    void should_FlushPendingStats_When_ShutDown() {
+        recorder.record(eventFor(streamA, 10, T0));
+
+        recorder.shutdown();
+        recorder.shutdown();
+
+        verify(streamStatsRepository, times(1)).mergeAll(anyCollection());
+    }
+
+    private static DataEvent eventFor(StreamId streamId, int payloadBytes, Instant timestamp) {
+        return DataEvent.reconstitute(UUID.randomUUID(), streamId, EventPayload.of(new byte[payloadBytes]),
+                Map.of(), timestamp);
+    }
+}
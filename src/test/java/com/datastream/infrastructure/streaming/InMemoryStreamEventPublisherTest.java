@@ -1,10 +1,20 @@
 package com.datastream.infrastructure.streaming;
 
 import com.datastream.application.dto.DataEventResponse;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 
@@ -134,6 +144,110 @@ class InMemoryStreamEventPublisherTest {
         assertThat(queue.poll(100, TimeUnit.MILLISECONDS)).isEqualTo(e3);
     }
 
+    // -------------------------------------------------------------------------
+    // Subscription registry
+    // -------------------------------------------------------------------------
+
+    @Test
+    void should_CountDropsPerSubscription_When_QueueIsFull() {
+        Subscription small = publisher.subscribe(STREAM_ID, new ArrayBlockingQueue<>(1), "10.0.0.1:5000");
+        Subscription large = publisher.subscribe(STREAM_ID, new LinkedBlockingQueue<>());
+
+        publisher.publish(eventFor(STREAM_ID));
+        publisher.publish(eventFor(STREAM_ID));
+
+        assertThat(small.droppedEvents()).isEqualTo(1);
+        assertThat(small.queueDepth()).isEqualTo(1);
+        assertThat(small.queueCapacity()).isEqualTo(1);
+        assertThat(small.remoteAddress()).isEqualTo("10.0.0.1:5000");
+        assertThat(large.droppedEvents()).isZero();
+        assertThat(large.queueDepth()).isEqualTo(2);
+    }
+
+    @Test
+    void should_ListSubscriptionsByStream_When_StreamsHaveSubscribers() {
+        Subscription first = publisher.subscribe(STREAM_ID, new LinkedBlockingQueue<>());
+        Subscription second = publisher.subscribe(STREAM_ID, new LinkedBlockingQueue<>());
+        Subscription other = publisher.subscribe(OTHER_STREAM_ID, new LinkedBlockingQueue<>());
+        publisher.unsubscribe(other);
+
+        assertThat(publisher.subscriptions()).containsOnlyKeys(STREAM_ID);
+        assertThat(publisher.subscriptions().get(STREAM_ID)).containsExactly(first, second);
+    }
+
+    @Test
+    void should_RemoveAndCloseSubscription_When_Disconnected() {
+        LinkedBlockingQueue<DataEventResponse> queue = new LinkedBlockingQueue<>();
+        Subscription subscription = publisher.subscribe(STREAM_ID, queue);
+
+        assertThat(publisher.disconnect(subscription.id())).isTrue();
+        publisher.publish(eventFor(STREAM_ID));
+
+        assertThat(subscription.isClosed()).isTrue();
+        assertThat(queue).isEmpty();
+        assertThat(publisher.subscriptions()).isEmpty();
+        assertThat(publisher.disconnect(subscription.id())).isFalse();
+    }
+
+    @Test
+    void should_TrackDeliveries_When_EventDelivered() {
+        Subscription subscription = publisher.subscribe(STREAM_ID, new LinkedBlockingQueue<>());
+
+        subscription.delivered();
+
+        assertThat(subscription.deliveredEvents()).isEqualTo(1);
+    }
+
+    @Test
+    void should_ReportLagOfOldestQueuedEvent_When_SubscriberFallsBehind() {
+        BlockingQueue<DataEventResponse> queue = new LinkedBlockingQueue<>();
+        Subscription subscription = publisher.subscribe(STREAM_ID, queue);
+        long publishedNanos = System.nanoTime() - 5_000_000;
+        queue.add(new DataEventResponse("e", STREAM_ID, new byte[0], Collections.emptyMap(),
+                "2026-01-01T00:00:00Z", publishedNanos - 200, publishedNanos - 100, publishedNanos));
+        queue.add(eventFor(STREAM_ID));
+
+        assertThat(subscription.lagNanos()).isGreaterThanOrEqualTo(5_000_000);
+
+        queue.poll();
+        assertThat(subscription.lagNanos()).isZero();
+        queue.poll();
+        assertThat(subscription.lagNanos()).isZero();
+    }
+
+    // -------------------------------------------------------------------------
+    // JFR events
+    // -------------------------------------------------------------------------
+
+    @Test
+    void should_RecordFanOutAndOverflow_When_QueueIsFull(@TempDir Path dir) throws IOException {
+        publisher.subscribe(STREAM_ID, new ArrayBlockingQueue<>(1));
+        publisher.subscribe(STREAM_ID, new LinkedBlockingQueue<>());
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("datastream.EventFannedOut").withThreshold(Duration.ZERO);
+            recording.enable("datastream.SubscriberQueueOverflow");
+            recording.start();
+
+            publisher.publish(eventFor(STREAM_ID));
+            publisher.publish(eventFor(STREAM_ID));
+
+            recording.stop();
+            Path file = dir.resolve("recording.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        assertThat(events).extracting(event -> event.getEventType().getName()).containsExactly(
+                "datastream.EventFannedOut", "datastream.SubscriberQueueOverflow", "datastream.EventFannedOut");
+        assertThat(events.get(1).getString("streamId")).isEqualTo(STREAM_ID);
+        assertThat(events.get(1).getInt("payloadBytes")).isEqualTo(3);
+        assertThat(events.get(1).getInt("capacity")).isEqualTo(1);
+        assertThat(events.get(2).getInt("subscribers")).isEqualTo(2);
+        assertThat(events.get(2).getInt("dropped")).isEqualTo(1);
+    }
+
     // -------------------------------------------------------------------------
     // Helpers
     // -------------------------------------------------------------------------
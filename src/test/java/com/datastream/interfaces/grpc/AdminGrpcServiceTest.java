@@ -0,0 +1,250 @@
+package com.datastream.interfaces.grpc;
+
+import com.datastream.application.dto.DataEventResponse;
+import com.datastream.application.dto.EventLatencyResponse;
+import com.datastream.application.handler.ActivateStreamHandler;
+import com.datastream.application.handler.BatchGetStreamsHandler;
+import com.datastream.application.handler.CreateStreamHandler;
+import com.datastream.application.handler.DeactivateStreamHandler;
+import com.datastream.application.handler.DeleteStreamHandler;
+import com.datastream.application.handler.ExportEventsHandler;
+import com.datastream.application.handler.GetEventLatencyHandler;
+import com.datastream.application.handler.GetStreamHandler;
+import com.datastream.application.handler.GetStreamStatsHandler;
+import com.datastream.application.handler.ListStreamsHandler;
+import com.datastream.application.handler.PublishEventHandler;
+import com.datastream.application.handler.QueryEventsHandler;
+import com.datastream.application.handler.UpdateStreamHandler;
+import com.datastream.application.port.EventLatencyRecorder;
+import com.datastream.application.port.EventMetrics;
+import com.datastream.application.query.GetEventLatencyQuery;
+import com.datastream.infrastructure.config.ExportProperties;
+import com.datastream.infrastructure.interceptor.RemoteAddressInterceptor;
+import com.datastream.infrastructure.streaming.InMemoryStreamEventPublisher;
+import com.datastream.interfaces.grpc.proto.AdminServiceGrpc;
+import com.datastream.interfaces.grpc.proto.DataEvent;
+import com.datastream.interfaces.grpc.proto.DisconnectSubscriptionRequest;
+import com.datastream.interfaces.grpc.proto.GetEventLatencyRequest;
+import com.datastream.interfaces.grpc.proto.GetEventLatencyResponse;
+import com.datastream.interfaces.grpc.proto.LatencyStage;
+import com.datastream.interfaces.grpc.proto.ListStreamSubscribersRequest;
+import com.datastream.interfaces.grpc.proto.ListStreamSubscribersResponse;
+import com.datastream.interfaces.grpc.proto.ListSubscriptionsRequest;
+import com.datastream.interfaces.grpc.proto.ListSubscriptionsResponse;
+import com.datastream.interfaces.grpc.proto.StreamServiceGrpc;
+import com.datastream.interfaces.grpc.proto.SubscribeToStreamRequest;
+import com.datastream.interfaces.grpc.proto.SubscriptionInfo;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link AdminGrpcService} using an in-process gRPC server.
+ *
+ * <p>Subscriptions are opened through a {@link StreamGrpcService} sharing the same
+ * {@link InMemoryStreamEventPublisher}, with all application-layer handlers mocked.
+ * The server runs on a direct executor, so a subscription is registered by the time
+ * {@code subscribeToStream} returns.
+ */
+@ExtendWith(MockitoExtension.class)
+class AdminGrpcServiceTest {
+
+    @Mock CreateStreamHandler createStreamHandler;
+    @Mock UpdateStreamHandler updateStreamHandler;
+    @Mock ActivateStreamHandler activateStreamHandler;
+    @Mock DeactivateStreamHandler deactivateStreamHandler;
+    @Mock DeleteStreamHandler deleteStreamHandler;
+    @Mock PublishEventHandler publishEventHandler;
+    @Mock GetStreamHandler getStreamHandler;
+    @Mock ListStreamsHandler listStreamsHandler;
+    @Mock ExportEventsHandler exportEventsHandler;
+    @Mock QueryEventsHandler queryEventsHandler;
+    @Mock BatchGetStreamsHandler batchGetStreamsHandler;
+    @Mock GetStreamStatsHandler getStreamStatsHandler;
+    @Mock GetEventLatencyHandler getEventLatencyHandler;
+    @Mock EventMetrics eventMetrics;
+    @Mock EventLatencyRecorder latencyRecorder;
+
+    private final InMemoryStreamEventPublisher eventPublisher = new InMemoryStreamEventPublisher();
+    private final String streamId = UUID.randomUUID().toString();
+
+    private Server server;
+    private ManagedChannel channel;
+    private AdminServiceGrpc.AdminServiceBlockingStub adminStub;
+    private StreamServiceGrpc.StreamServiceStub streamStub;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        StreamGrpcService streamService = new StreamGrpcService(
+                createStreamHandler, updateStreamHandler, activateStreamHandler, deactivateStreamHandler,
+                deleteStreamHandler, publishEventHandler,
+                getStreamHandler, listStreamsHandler, exportEventsHandler, queryEventsHandler,
+                batchGetStreamsHandler, getStreamStatsHandler, eventPublisher,
+                new ExportProperties(100, 64), eventMetrics, latencyRecorder);
+        AdminGrpcService adminService = new AdminGrpcService(getEventLatencyHandler, eventPublisher);
+
+        String serverName = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(serverName)
+                .directExecutor()
+                .addService(ServerInterceptors.intercept(streamService, new RemoteAddressInterceptor()))
+                .addService(adminService)
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+
+        adminStub = AdminServiceGrpc.newBlockingStub(channel);
+        streamStub = StreamServiceGrpc.newStub(channel);
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    // -------------------------------------------------------------------------
+    // GetEventLatency
+    // -------------------------------------------------------------------------
+
+    @Test
+    void should_ReturnStageLatencies_When_GetEventLatencyCalled() {
+        when(getEventLatencyHandler.handle(new GetEventLatencyQuery(streamId, true)))
+                .thenReturn(new EventLatencyResponse(streamId, List.of(new EventLatencyResponse.StageLatency(
+                        EventLatencyResponse.Stage.END_TO_END, 3, 150.0, 100, 200, 300, 300, 300))));
+
+        GetEventLatencyResponse response = adminStub.getEventLatency(
+                GetEventLatencyRequest.newBuilder().setStreamId(streamId).setReset(true).build());
+
+        assertThat(response.getStreamId()).isEqualTo(streamId);
+        assertThat(response.getStages(0).getStage()).isEqualTo(LatencyStage.LATENCY_STAGE_END_TO_END);
+        assertThat(response.getStages(0).getP99Micros()).isEqualTo(300);
+    }
+
+    // -------------------------------------------------------------------------
+    // ListStreamSubscribers / ListSubscriptions
+    // -------------------------------------------------------------------------
+
+    @Test
+    void should_SummariseSubscribersPerStream_When_ListStreamSubscribersCalled() {
+        String otherStreamId = UUID.randomUUID().toString();
+        eventPublisher.subscribe(streamId, new ArrayBlockingQueue<>(1));
+        eventPublisher.subscribe(streamId, new LinkedBlockingQueue<>());
+        eventPublisher.subscribe(otherStreamId, new LinkedBlockingQueue<>());
+        eventPublisher.publish(eventFor(streamId));
+        eventPublisher.publish(eventFor(streamId));
+
+        ListStreamSubscribersResponse response =
+                adminStub.listStreamSubscribers(ListStreamSubscribersRequest.getDefaultInstance());
+
+        assertThat(response.getStreamsList()).hasSize(2);
+        assertThat(response.getStreamsList())
+                .filteredOn(stream -> stream.getStreamId().equals(streamId))
+                .singleElement()
+                .satisfies(stream -> {
+                    assertThat(stream.getSubscriberCount()).isEqualTo(2);
+                    assertThat(stream.getQueuedEvents()).isEqualTo(3);
+                    assertThat(stream.getDroppedEvents()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    void should_ReportSubscriptionState_When_ClientIsSubscribed() {
+        subscribe(new CompletableFuture<>());
+
+        ListSubscriptionsResponse response = adminStub.listSubscriptions(
+                ListSubscriptionsRequest.newBuilder().setStreamId(streamId).build());
+
+        assertThat(response.getSubscriptionsList()).singleElement().satisfies(subscription -> {
+            assertThat(subscription.getStreamId()).isEqualTo(streamId);
+            assertThat(subscription.getSubscriptionId()).isNotEmpty();
+            assertThat(subscription.getRemoteAddress()).isNotEmpty();
+            assertThat(subscription.getQueueCapacity()).isEqualTo(1000);
+            assertThat(subscription.getAgeMillis()).isNotNegative();
+        });
+        assertThat(adminStub.listSubscriptions(ListSubscriptionsRequest.newBuilder()
+                .setStreamId(UUID.randomUUID().toString()).build()).getSubscriptionsCount()).isZero();
+    }
+
+    // -------------------------------------------------------------------------
+    // DisconnectSubscription
+    // -------------------------------------------------------------------------
+
+    @Test
+    void should_EndSubscribeCallWithUnavailable_When_SubscriptionDisconnected() throws Exception {
+        CompletableFuture<Throwable> closed = new CompletableFuture<>();
+        subscribe(closed);
+        SubscriptionInfo subscription = adminStub.listSubscriptions(ListSubscriptionsRequest.getDefaultInstance())
+                .getSubscriptions(0);
+
+        adminStub.disconnectSubscription(DisconnectSubscriptionRequest.newBuilder()
+                .setSubscriptionId(subscription.getSubscriptionId())
+                .build());
+
+        assertThat(Status.fromThrowable(closed.get(5, TimeUnit.SECONDS)).getCode())
+                .isEqualTo(Status.Code.UNAVAILABLE);
+        assertThat(eventPublisher.subscriptions()).isEmpty();
+    }
+
+    @Test
+    void should_ThrowNotFound_When_SubscriptionDoesNotExist() {
+        assertThatThrownBy(() -> adminStub.disconnectSubscription(DisconnectSubscriptionRequest.newBuilder()
+                .setSubscriptionId(UUID.randomUUID().toString())
+                .build()))
+                .isInstanceOf(StatusRuntimeException.class)
+                .extracting(e -> ((StatusRuntimeException) e).getStatus().getCode())
+                .isEqualTo(Status.Code.NOT_FOUND);
+    }
+
+    // -------------------------------------------------------------------------
+    // Helpers
+    // -------------------------------------------------------------------------
+
+    private void subscribe(CompletableFuture<Throwable> closed) {
+        streamStub.subscribeToStream(SubscribeToStreamRequest.newBuilder().setStreamId(streamId).build(),
+                new StreamObserver<>() {
+                    @Override
+                    public void onNext(DataEvent value) {
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        closed.complete(t);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        closed.complete(null);
+                    }
+                });
+    }
+
+    private static DataEventResponse eventFor(String streamId) {
+        return new DataEventResponse(UUID.randomUUID().toString(), streamId, new byte[0], Map.of(),
+                Instant.now().toString());
+    }
+}
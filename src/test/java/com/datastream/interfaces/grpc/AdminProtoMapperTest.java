@@ -0,0 +1,48 @@
+package com.datastream.interfaces.grpc;
+
+import com.datastream.application.dto.EventLatencyResponse;
+import com.datastream.application.dto.EventLatencyResponse.Stage;
+import com.datastream.interfaces.grpc.proto.GetEventLatencyResponse;
+import com.datastream.interfaces.grpc.proto.LatencyStage;
+import com.datastream.interfaces.grpc.proto.StageLatency;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link AdminProtoMapper}.
+ */
+class AdminProtoMapperTest {
+
+    private static final String STREAM_ID = "aaaaaaaa-bbbb-cccc-dddd-eeeeeeeeeeee";
+
+    @Test
+    void should_MapAllFields_When_EventLatencyMapped() {
+        EventLatencyResponse response = new EventLatencyResponse(STREAM_ID, List.of(
+                new EventLatencyResponse.StageLatency(Stage.QUEUE, 10, 12.5, 10, 20, 30, 40, 50)));
+
+        GetEventLatencyResponse proto = AdminProtoMapper.toProtoEventLatency(response);
+
+        assertThat(proto.getStreamId()).isEqualTo(STREAM_ID);
+        assertThat(proto.getStagesCount()).isEqualTo(1);
+        StageLatency stage = proto.getStages(0);
+        assertThat(stage.getStage()).isEqualTo(LatencyStage.LATENCY_STAGE_QUEUE);
+        assertThat(stage.getCount()).isEqualTo(10);
+        assertThat(stage.getMeanMicros()).isEqualTo(12.5);
+        assertThat(stage.getP50Micros()).isEqualTo(10);
+        assertThat(stage.getP90Micros()).isEqualTo(20);
+        assertThat(stage.getP99Micros()).isEqualTo(30);
+        assertThat(stage.getP999Micros()).isEqualTo(40);
+        assertThat(stage.getMaxMicros()).isEqualTo(50);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Stage.class)
+    void should_MapToNamedProtoStage_When_StageMapped(Stage stage) {
+        assertThat(AdminProtoMapper.toProtoStage(stage).name()).isEqualTo("LATENCY_STAGE_" + stage.name());
+    }
+}
@@ -8,62 +8,102 @@ import com.datastream.application.command.PublishEventCommand;
 import com.datastream.application.command.UpdateStreamCommand;
 import com.datastream.application.dto.DataEventResponse;
 import com.datastream.application.dto.PagedResponse;
+import com.datastream.application.dto.StreamBatchResponse;
 import com.datastream.application.dto.StreamResponse;
+import com.datastream.application.dto.StreamStatsResponse;
 import com.datastream.application.handler.ActivateStreamHandler;
+import com.datastream.application.handler.BatchGetStreamsHandler;
 import com.datastream.application.handler.CreateStreamHandler;
 import com.datastream.application.handler.DeactivateStreamHandler;
 import com.datastream.application.handler.DeleteStreamHandler;
+import com.datastream.application.handler.ExportEventsHandler;
 import com.datastream.application.handler.GetStreamHandler;
+import com.datastream.application.handler.GetStreamStatsHandler;
 import com.datastream.application.handler.ListStreamsHandler;
 import com.datastream.application.handler.PublishEventHandler;
+import com.datastream.application.handler.QueryEventsHandler;
 import com.datastream.application.handler.UpdateStreamHandler;
+import com.datastream.application.port.EventLatencyRecorder;
+import com.datastream.application.port.EventMetrics;
+import com.datastream.application.query.BatchGetStreamsQuery;
+import com.datastream.application.query.ExportEventsQuery;
 import com.datastream.application.query.GetStreamQuery;
+import com.datastream.application.query.GetStreamStatsQuery;
 import com.datastream.application.query.ListStreamsQuery;
+import com.datastream.application.query.QueryEventsQuery;
+import com.datastream.domain.exception.ConcurrentStreamModificationException;
 import com.datastream.domain.exception.StreamAlreadyExistsException;
 import com.datastream.domain.exception.StreamNotFoundException;
+import com.datastream.domain.valueobjects.StreamId;
 import com.datastream.domain.valueobjects.StreamName;
+import com.datastream.infrastructure.config.ExportProperties;
+import com.datastream.infrastructure.interceptor.GrpcExceptionInterceptor;
 import com.datastream.infrastructure.streaming.InMemoryStreamEventPublisher;
+import com.datastream.interfaces.grpc.proto.BatchGetStreamsRequest;
+import com.datastream.interfaces.grpc.proto.BatchGetStreamsResponse;
 import com.datastream.interfaces.grpc.proto.CreateStreamRequest;
 import com.datastream.interfaces.grpc.proto.CreateStreamResponse;
 import com.datastream.interfaces.grpc.proto.DataEvent;
 import com.datastream.interfaces.grpc.proto.DeleteStreamRequest;
 import com.datastream.interfaces.grpc.proto.DeleteStreamResponse;
+import com.datastream.interfaces.grpc.proto.ExportEventsRequest;
+import com.datastream.interfaces.grpc.proto.ExportEventsResponse;
 import com.datastream.interfaces.grpc.proto.GetStreamRequest;
 import com.datastream.interfaces.grpc.proto.GetStreamResponse;
+import com.datastream.interfaces.grpc.proto.GetStreamStatsRequest;
+import com.datastream.interfaces.grpc.proto.GetStreamStatsResponse;
 import com.datastream.interfaces.grpc.proto.ListStreamsRequest;
 import com.datastream.interfaces.grpc.proto.ListStreamsResponse;
+import com.datastream.interfaces.grpc.proto.PublishEventsRequest;
+import com.datastream.interfaces.grpc.proto.PublishEventsResponse;
 import com.datastream.interfaces.grpc.proto.PublishToStreamRequest;
 import com.datastream.interfaces.grpc.proto.PublishToStreamResponse;
+import com.datastream.interfaces.grpc.proto.QueryEventsRequest;
+import com.datastream.interfaces.grpc.proto.QueryEventsResponse;
 import com.datastream.interfaces.grpc.proto.StreamServiceGrpc;
 import com.datastream.interfaces.grpc.proto.StreamStatus;
 import com.datastream.interfaces.grpc.proto.StreamType;
 import com.datastream.interfaces.grpc.proto.UpdateStreamRequest;
 import com.datastream.interfaces.grpc.proto.UpdateStreamResponse;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.Timestamp;
+import io.grpc.ForwardingServerCallListener;
 import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.inprocess.InProcessChannelBuilder;
 import io.grpc.inprocess.InProcessServerBuilder;
-import io.grpc.testing.GrpcCleanupRule;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.junit.jupiter.api.extension.RegisterExtension;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
-
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -71,23 +111,30 @@ import static org.mockito.Mockito.when;
  *
  * <p>All application-layer handlers are mocked so these tests focus on the
  * translation between protobuf messages and application commands/queries,
- * without requiring a database or full Spring context.
+ * without requiring a database or full Spring context. Without Spring the
+ * {@code @GrpcAdvice} is not registered, so {@link ExceptionAdvice} applies the
+ * same mapping to exceptions thrown by the service.
  */
 @ExtendWith(MockitoExtension.class)
 class StreamGrpcServiceIT {
 
-    @RegisterExtension
-    final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
-
     @Mock CreateStreamHandler createStreamHandler;
+    @Mock UpdateStreamHandler updateStreamHandler;
     @Mock ActivateStreamHandler activateStreamHandler;
     @Mock DeactivateStreamHandler deactivateStreamHandler;
-    @Mock UpdateStreamHandler updateStreamHandler;
     @Mock DeleteStreamHandler deleteStreamHandler;
     @Mock PublishEventHandler publishEventHandler;
     @Mock GetStreamHandler getStreamHandler;
     @Mock ListStreamsHandler listStreamsHandler;
-
+    @Mock ExportEventsHandler exportEventsHandler;
+    @Mock QueryEventsHandler queryEventsHandler;
+    @Mock BatchGetStreamsHandler batchGetStreamsHandler;
+    @Mock GetStreamStatsHandler getStreamStatsHandler;
+    @Mock EventMetrics eventMetrics;
+    @Mock EventLatencyRecorder latencyRecorder;
+
+    private Server server;
+    private ManagedChannel channel;
     private StreamServiceGrpc.StreamServiceBlockingStub blockingStub;
     private StreamServiceGrpc.StreamServiceStub asyncStub;
 
@@ -99,25 +146,30 @@ class StreamGrpcServiceIT {
         InMemoryStreamEventPublisher eventPublisher = new InMemoryStreamEventPublisher();
 
         StreamGrpcService service = new StreamGrpcService(
-                createStreamHandler, activateStreamHandler, deactivateStreamHandler,
-                updateStreamHandler, deleteStreamHandler, publishEventHandler,
-                getStreamHandler, listStreamsHandler, eventPublisher);
+                createStreamHandler, updateStreamHandler, activateStreamHandler, deactivateStreamHandler,
+                deleteStreamHandler, publishEventHandler,
+                getStreamHandler, listStreamsHandler, exportEventsHandler, queryEventsHandler,
+                batchGetStreamsHandler, getStreamStatsHandler, eventPublisher,
+                new ExportProperties(100, 64), eventMetrics, latencyRecorder);
 
         String serverName = InProcessServerBuilder.generateName();
-        grpcCleanup.register(
-                InProcessServerBuilder.forName(serverName)
-                        .directExecutor()
-                        .addService(service)
-                        .build()
-                        .start());
-
-        ManagedChannel channel = grpcCleanup.register(
-                InProcessChannelBuilder.forName(serverName).directExecutor().build());
+        server = InProcessServerBuilder.forName(serverName)
+                .directExecutor()
+                .addService(ServerInterceptors.intercept(service, new ExceptionAdvice()))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
 
         blockingStub = StreamServiceGrpc.newBlockingStub(channel);
         asyncStub    = StreamServiceGrpc.newStub(channel);
     }
 
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
     // -------------------------------------------------------------------------
     // CreateStream
     // -------------------------------------------------------------------------
@@ -202,6 +254,70 @@ class StreamGrpcServiceIT {
                         .isEqualTo(Status.NOT_FOUND.getCode()));
     }
 
+    // -------------------------------------------------------------------------
+    // BatchGetStreams
+    // -------------------------------------------------------------------------
+
+    @Test
+    void should_ReturnFoundStreamsAndMissingIds_When_BatchGetStreamsCalled() {
+        String missingId = UUID.randomUUID().toString();
+        when(batchGetStreamsHandler.handle(any(BatchGetStreamsQuery.class)))
+                .thenReturn(new StreamBatchResponse(
+                        List.of(streamResponseFixture("found", "ACTIVE")), List.of(missingId)));
+
+        BatchGetStreamsResponse response = blockingStub.batchGetStreams(BatchGetStreamsRequest.newBuilder()
+                .addIds(streamId)
+                .addIds(missingId)
+                .build());
+
+        assertThat(response.getStreamsList()).extracting(s -> s.getName()).containsExactly("found");
+        assertThat(response.getMissingIdsList()).containsExactly(missingId);
+        verify(batchGetStreamsHandler).handle(new BatchGetStreamsQuery(List.of(streamId, missingId)));
+    }
+
+    @Test
+    void should_ThrowInvalidArgument_When_BatchGetStreamsCalledWithTooManyIds() {
+        when(batchGetStreamsHandler.handle(any(BatchGetStreamsQuery.class)))
+                .thenThrow(new IllegalArgumentException("too many"));
+
+        assertThatThrownBy(() -> blockingStub.batchGetStreams(
+                BatchGetStreamsRequest.newBuilder().addIds(streamId).build()))
+                .isInstanceOf(StatusRuntimeException.class)
+                .satisfies(e -> assertThat(((StatusRuntimeException) e).getStatus().getCode())
+                        .isEqualTo(Status.INVALID_ARGUMENT.getCode()));
+    }
+
+    // -------------------------------------------------------------------------
+    // GetStreamStats
+    // -------------------------------------------------------------------------
+
+    @Test
+    void should_ReturnStats_When_GetStreamStatsCalled() {
+        when(getStreamStatsHandler.handle(new GetStreamStatsQuery(streamId)))
+                .thenReturn(new StreamStatsResponse(streamId, 12L, 480L,
+                        "2026-03-01T12:00:00Z", "2026-03-01T12:04:00Z", 3.0));
+
+        GetStreamStatsResponse response = blockingStub.getStreamStats(
+                GetStreamStatsRequest.newBuilder().setStreamId(streamId).build());
+
+        assertThat(response.getStats().getEventCount()).isEqualTo(12L);
+        assertThat(response.getStats().getTotalPayloadBytes()).isEqualTo(480L);
+        assertThat(response.getStats().hasFirstEventAt()).isTrue();
+        assertThat(response.getStats().getEventsPerMinute()).isEqualTo(3.0);
+    }
+
+    @Test
+    void should_OmitTimestamps_When_StreamHasNoEvents() {
+        when(getStreamStatsHandler.handle(new GetStreamStatsQuery(streamId)))
+                .thenReturn(new StreamStatsResponse(streamId, 0L, 0L, null, null, 0.0));
+
+        GetStreamStatsResponse response = blockingStub.getStreamStats(
+                GetStreamStatsRequest.newBuilder().setStreamId(streamId).build());
+
+        assertThat(response.getStats().hasFirstEventAt()).isFalse();
+        assertThat(response.getStats().hasLastEventAt()).isFalse();
+    }
+
     // -------------------------------------------------------------------------
     // ListStreams
     // -------------------------------------------------------------------------
@@ -223,13 +339,51 @@ class StreamGrpcServiceIT {
     }
 
     // -------------------------------------------------------------------------
-    // UpdateStream
+    // QueryEvents
     // -------------------------------------------------------------------------
 
     @Test
-    void should_ActivateStream_When_UpdateStreamCalledWithActiveStatus() {
+    void should_ReturnMatchingEvents_When_QueryEventsCalledWithMetadata() {
         when(getStreamHandler.handle(any(GetStreamQuery.class)))
                 .thenReturn(streamResponseFixture("s", "ACTIVE"));
+        DataEventResponse event = new DataEventResponse(
+                UUID.randomUUID().toString(), streamId, "x".getBytes(),
+                Map.of("region", "eu"), Instant.now().toString());
+        when(queryEventsHandler.handle(any(QueryEventsQuery.class)))
+                .thenReturn(new PagedResponse<>(List.of(event), 0, 20, 1L, 1));
+
+        QueryEventsResponse response = blockingStub.queryEvents(QueryEventsRequest.newBuilder()
+                .setStreamId(streamId)
+                .putMetadata("region", "eu")
+                .build());
+
+        assertThat(response.getEventsList()).hasSize(1);
+        assertThat(response.getEvents(0).getMetadataMap()).containsEntry("region", "eu");
+        assertThat(response.getPagination().getTotalElements()).isEqualTo(1L);
+        verify(queryEventsHandler).handle(
+                eq(new QueryEventsQuery(streamId, Map.of("region", "eu"), null, null, 0, 20)));
+    }
+
+    @Test
+    void should_ThrowNotFound_When_QueryEventsCalledWithNonExistentStream() {
+        when(getStreamHandler.handle(any(GetStreamQuery.class)))
+                .thenThrow(new StreamNotFoundException("not found"));
+
+        assertThatThrownBy(() -> blockingStub.queryEvents(
+                QueryEventsRequest.newBuilder().setStreamId(streamId).build()))
+                .isInstanceOf(StatusRuntimeException.class)
+                .satisfies(e -> assertThat(((StatusRuntimeException) e).getStatus().getCode())
+                        .isEqualTo(Status.NOT_FOUND.getCode()));
+    }
+
+    // -------------------------------------------------------------------------
+    // UpdateStream
+    // -------------------------------------------------------------------------
+
+    @Test
+    void should_ActivateWithoutLoading_When_UpdateStreamCalledWithActiveStatusOnly() {
+        when(activateStreamHandler.handle(new ActivateStreamCommand(streamId)))
+                .thenReturn(streamResponseFixture("s", "ACTIVE"));
 
         UpdateStreamResponse response = blockingStub.updateStream(
                 UpdateStreamRequest.newBuilder()
@@ -237,30 +391,46 @@ class StreamGrpcServiceIT {
                         .setStatus(StreamStatus.STREAM_STATUS_ACTIVE)
                         .build());
 
-        verify(activateStreamHandler).handle(any(ActivateStreamCommand.class));
         assertThat(response.getStream().getStatus()).isEqualTo(StreamStatus.STREAM_STATUS_ACTIVE);
+        verifyNoInteractions(updateStreamHandler, getStreamHandler);
     }
 
     @Test
-    void should_DeactivateStream_When_UpdateStreamCalledWithInactiveStatus() {
-        when(getStreamHandler.handle(any(GetStreamQuery.class)))
+    void should_DeactivateWithoutLoading_When_UpdateStreamCalledWithInactiveStatusOnly() {
+        when(deactivateStreamHandler.handle(new DeactivateStreamCommand(streamId)))
                 .thenReturn(streamResponseFixture("s", "INACTIVE"));
 
-        blockingStub.updateStream(
+        UpdateStreamResponse response = blockingStub.updateStream(
                 UpdateStreamRequest.newBuilder()
                         .setId(streamId)
                         .setStatus(StreamStatus.STREAM_STATUS_INACTIVE)
                         .build());
 
-        verify(deactivateStreamHandler).handle(any(DeactivateStreamCommand.class));
+        assertThat(response.getStream().getStatus()).isEqualTo(StreamStatus.STREAM_STATUS_INACTIVE);
+        verifyNoInteractions(updateStreamHandler);
+    }
+
+    @Test
+    void should_PassStatusAndConfigTogether_When_UpdateStreamCalledWithBoth() {
+        when(updateStreamHandler.handle(new UpdateStreamCommand(streamId, "INACTIVE", "renamed", "d")))
+                .thenReturn(streamResponseFixture("renamed", "INACTIVE"));
+
+        UpdateStreamResponse response = blockingStub.updateStream(
+                UpdateStreamRequest.newBuilder()
+                        .setId(streamId)
+                        .setStatus(StreamStatus.STREAM_STATUS_INACTIVE)
+                        .setName("renamed")
+                        .setDescription("d")
+                        .build());
+
+        assertThat(response.getStream().getName()).isEqualTo("renamed");
+        assertThat(response.getStream().getStatus()).isEqualTo(StreamStatus.STREAM_STATUS_INACTIVE);
     }
 
     @Test
     void should_UpdateConfig_When_UpdateStreamCalledWithName() {
         when(updateStreamHandler.handle(any(UpdateStreamCommand.class)))
                 .thenReturn(streamResponseFixture("renamed", "ACTIVE"));
-        when(getStreamHandler.handle(any(GetStreamQuery.class)))
-                .thenReturn(streamResponseFixture("renamed", "ACTIVE"));
 
         UpdateStreamResponse response = blockingStub.updateStream(
                 UpdateStreamRequest.newBuilder()
@@ -272,6 +442,18 @@ class StreamGrpcServiceIT {
         assertThat(response.getStream().getName()).isEqualTo("renamed");
     }
 
+    @Test
+    void should_ReturnAborted_When_UpdateConflictsWithConcurrentWrite() {
+        when(updateStreamHandler.handle(any(UpdateStreamCommand.class)))
+                .thenThrow(new ConcurrentStreamModificationException(StreamId.of(UUID.fromString(streamId))));
+
+        assertThatThrownBy(() -> blockingStub.updateStream(
+                UpdateStreamRequest.newBuilder().setId(streamId).setName("renamed").build()))
+                .isInstanceOf(StatusRuntimeException.class)
+                .satisfies(e -> assertThat(((StatusRuntimeException) e).getStatus().getCode())
+                        .isEqualTo(Status.ABORTED.getCode()));
+    }
+
     // -------------------------------------------------------------------------
     // DeleteStream
     // -------------------------------------------------------------------------
@@ -288,7 +470,7 @@ class StreamGrpcServiceIT {
 
     @Test
     void should_ThrowNotFound_When_DeleteStreamCalledWithNonExistentId() {
-        org.mockito.Mockito.doThrow(new StreamNotFoundException("not found"))
+        doThrow(new StreamNotFoundException("not found"))
                 .when(deleteStreamHandler).handle(any(DeleteStreamCommand.class));
 
         assertThatThrownBy(() -> blockingStub.deleteStream(
@@ -331,6 +513,142 @@ class StreamGrpcServiceIT {
 
         assertThat(latch.await(2, java.util.concurrent.TimeUnit.SECONDS)).isTrue();
         assertThat(responseHolder.get().getEventsAccepted()).isEqualTo(2L);
+        verify(publishEventHandler, times(2)).handle(any(PublishEventCommand.class));
+    }
+
+    // -------------------------------------------------------------------------
+    // PublishEvents (unary bulk publish)
+    // -------------------------------------------------------------------------
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_PublishWholeBatchInOneCall_When_PublishEventsCalled() {
+        String first = UUID.randomUUID().toString();
+        String second = UUID.randomUUID().toString();
+        when(publishEventHandler.handleAll(any())).thenReturn(List.of(
+                new DataEventResponse(first, streamId, "a".getBytes(), Collections.emptyMap(), Instant.now().toString()),
+                new DataEventResponse(second, streamId, "b".getBytes(), Collections.emptyMap(), Instant.now().toString())));
+
+        PublishEventsResponse response = blockingStub.publishEvents(PublishEventsRequest.newBuilder()
+                .addEvents(PublishToStreamRequest.newBuilder()
+                        .setStreamId(streamId).setPayload(ByteString.copyFromUtf8("a")).putMetadata("k", "v"))
+                .addEvents(PublishToStreamRequest.newBuilder()
+                        .setStreamId(streamId).setPayload(ByteString.copyFromUtf8("b")))
+                .build());
+
+        assertThat(response.getEventsAccepted()).isEqualTo(2L);
+        assertThat(response.getEventIdsList()).containsExactly(first, second);
+        var captor = org.mockito.ArgumentCaptor.forClass(List.class);
+        verify(publishEventHandler).handleAll(captor.capture());
+        List<PublishEventCommand> commands = captor.getValue();
+        assertThat(commands).extracting(PublishEventCommand::streamId).containsExactly(streamId, streamId);
+        assertThat(commands.get(0).metadata()).containsEntry("k", "v");
+        verify(publishEventHandler, times(0)).handle(any(PublishEventCommand.class));
+    }
+
+    @Test
+    void should_ThrowNotFound_When_PublishEventsTargetsNonExistentStream() {
+        when(publishEventHandler.handleAll(any()))
+                .thenThrow(new StreamNotFoundException("not found"));
+
+        assertThatThrownBy(() -> blockingStub.publishEvents(PublishEventsRequest.newBuilder()
+                        .addEvents(PublishToStreamRequest.newBuilder().setStreamId(streamId))
+                        .build()))
+                .isInstanceOf(StatusRuntimeException.class)
+                .satisfies(e -> assertThat(((StatusRuntimeException) e).getStatus().getCode())
+                        .isEqualTo(Status.NOT_FOUND.getCode()));
+    }
+
+    // -------------------------------------------------------------------------
+    // ExportEvents (server-streaming)
+    // -------------------------------------------------------------------------
+
+    @Test
+    void should_StreamEventsInSizeBoundedBatches_When_ExportEventsCalled() {
+        when(getStreamHandler.handle(any(GetStreamQuery.class)))
+                .thenReturn(streamResponseFixture("s", "ACTIVE"));
+        when(exportEventsHandler.handle(any(ExportEventsQuery.class), any())).thenAnswer(inv -> {
+            Consumer<DataEventResponse> sink = inv.getArgument(1);
+            for (int i = 0; i < 5; i++) {
+                sink.accept(new DataEventResponse(
+                        UUID.randomUUID().toString(), streamId, new byte[20],
+                        Collections.emptyMap(), Instant.now().toString()));
+            }
+            return 5L;
+        });
+
+        Iterator<ExportEventsResponse> responses = blockingStub.exportEvents(
+                ExportEventsRequest.newBuilder().setStreamId(streamId).build());
+
+        List<ExportEventsResponse> batches = new ArrayList<>();
+        responses.forEachRemaining(batches::add);
+
+        assertThat(batches).hasSizeGreaterThan(1);
+        assertThat(batches).allSatisfy(b -> assertThat(b.getEventsCount()).isGreaterThanOrEqualTo(1));
+        assertThat(batches.stream().mapToInt(ExportEventsResponse::getEventsCount).sum()).isEqualTo(5);
+    }
+
+    @Test
+    void should_PassTimeRangeToHandler_When_ExportEventsCalledWithBounds() {
+        when(getStreamHandler.handle(any(GetStreamQuery.class)))
+                .thenReturn(streamResponseFixture("s", "ACTIVE"));
+
+        blockingStub.exportEvents(ExportEventsRequest.newBuilder()
+                        .setStreamId(streamId)
+                        .setFrom(Timestamp.newBuilder().setSeconds(1_700_000_000L).build())
+                        .setTo(Timestamp.newBuilder().setSeconds(1_700_000_060L).build())
+                        .build())
+                .forEachRemaining(r -> { });
+
+        verify(exportEventsHandler).handle(
+                eq(new ExportEventsQuery(streamId, "2023-11-14T22:13:20Z", "2023-11-14T22:14:20Z")), any());
+    }
+
+    @Test
+    void should_ThrowNotFound_When_ExportEventsCalledWithNonExistentStream() {
+        when(getStreamHandler.handle(any(GetStreamQuery.class)))
+                .thenThrow(new StreamNotFoundException("not found"));
+
+        assertThatThrownBy(() -> blockingStub.exportEvents(
+                        ExportEventsRequest.newBuilder().setStreamId(streamId).build())
+                .forEachRemaining(r -> { }))
+                .isInstanceOf(StatusRuntimeException.class)
+                .satisfies(e -> assertThat(((StatusRuntimeException) e).getStatus().getCode())
+                        .isEqualTo(Status.NOT_FOUND.getCode()));
+    }
+
+    @Test
+    void should_ThrowInvalidArgument_When_ExportEventsRangeIsRejected() {
+        when(getStreamHandler.handle(any(GetStreamQuery.class)))
+                .thenReturn(streamResponseFixture("s", "ACTIVE"));
+        doThrow(new IllegalArgumentException("from must not be after to"))
+                .when(exportEventsHandler).validate(any(ExportEventsQuery.class));
+
+        assertThatThrownBy(() -> blockingStub.exportEvents(
+                        ExportEventsRequest.newBuilder().setStreamId(streamId).build())
+                .forEachRemaining(r -> { }))
+                .isInstanceOf(StatusRuntimeException.class)
+                .satisfies(e -> assertThat(((StatusRuntimeException) e).getStatus().getCode())
+                        .isEqualTo(Status.INVALID_ARGUMENT.getCode()));
+        verify(exportEventsHandler, times(0)).handle(any(), any());
+    }
+
+    @Test
+    void should_ThrowInternalWithoutCause_When_ExportFailsWhileStreaming() {
+        when(getStreamHandler.handle(any(GetStreamQuery.class)))
+                .thenReturn(streamResponseFixture("s", "ACTIVE"));
+        when(exportEventsHandler.handle(any(ExportEventsQuery.class), any()))
+                .thenThrow(new IllegalStateException("cursor on db-7 closed"));
+
+        assertThatThrownBy(() -> blockingStub.exportEvents(
+                        ExportEventsRequest.newBuilder().setStreamId(streamId).build())
+                .forEachRemaining(r -> { }))
+                .isInstanceOf(StatusRuntimeException.class)
+                .satisfies(e -> {
+                    Status status = ((StatusRuntimeException) e).getStatus();
+                    assertThat(status.getCode()).isEqualTo(Status.INTERNAL.getCode());
+                    assertThat(status.getDescription()).doesNotContain("db-7");
+                });
     }
 
     // -------------------------------------------------------------------------
@@ -341,4 +659,35 @@ class StreamGrpcServiceIT {
         String now = Instant.now().toString();
         return new StreamResponse(streamId, name, null, ownerId, "EVENT", status, now, now);
     }
+
+    /**
+     * Closes a call whose service method threw with the status
+     * {@link GrpcExceptionInterceptor} maps the exception to.
+     */
+    private static final class ExceptionAdvice implements ServerInterceptor {
+
+        @Override
+        public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call, Metadata headers,
+                                                           ServerCallHandler<Q, R> next) {
+            return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(next.startCall(call, headers)) {
+                @Override
+                public void onMessage(Q message) {
+                    try {
+                        super.onMessage(message);
+                    } catch (RuntimeException e) {
+                        call.close(GrpcExceptionInterceptor.toStatus(e), new Metadata());
+                    }
+                }
+
+                @Override
+                public void onHalfClose() {
+                    try {
+                        super.onHalfClose();
+                    } catch (RuntimeException e) {
+                        call.close(GrpcExceptionInterceptor.toStatus(e), new Metadata());
+                    }
+                }
+            };
+        }
+    }
 }